@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Consumes;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
+import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of a declarative client method over the same request made with the low-level client,
+ * against a server on the loopback interface.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeclarativeClientBenchmark {
+
+    private static final String SPEC_NAME = "DeclarativeClientBenchmark";
+
+    EmbeddedServer server;
+    DeclarativeClient declarativeClient;
+    BlockingHttpClient lowLevelClient;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spec.name", SPEC_NAME);
+        properties.put("micronaut.server.port", -1);
+        server = ApplicationContext.run(EmbeddedServer.class, properties);
+        declarativeClient = server.getApplicationContext().getBean(DeclarativeClient.class);
+        lowLevelClient = server.getApplicationContext().createBean(HttpClient.class, server.getURL()).toBlocking();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public String lowLevel() {
+        return lowLevelClient.retrieve(HttpRequest.GET("/declarative/name?count=1")
+                .header("X-Value", "value")
+                .accept(MediaType.TEXT_PLAIN_TYPE));
+    }
+
+    @Benchmark
+    public String declarative() {
+        return declarativeClient.get("name", 1, "value");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + DeclarativeClientBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .addProfiler("gc")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Requires(property = "spec.name", value = SPEC_NAME)
+    @Client("/declarative")
+    @Consumes(MediaType.TEXT_PLAIN)
+    public interface DeclarativeClient {
+        @Get("/{name}")
+        String get(String name, @QueryValue int count, @Header("X-Value") String value);
+    }
+
+    @Requires(property = "spec.name", value = SPEC_NAME)
+    @Controller("/declarative")
+    public static class DeclarativeController {
+        @Get(value = "/{name}", produces = MediaType.TEXT_PLAIN)
+        String get(String name, @QueryValue int count, @Header("X-Value") String value) {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.Publisher;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency distribution (including p99) of a server that proxies each request to a
+ * backend with the HTTP client, with and without event loop affine connection pools.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProxyBenchmark {
+
+    private static final String ROLE = "proxy-benchmark.role";
+
+    @Param({"false", "true"})
+    boolean eventLoopAffinity;
+
+    EmbeddedServer backend;
+    EmbeddedServer proxy;
+    ApplicationContext loadContext;
+    BlockingHttpClient loadClient;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> backendProperties = new HashMap<>();
+        backendProperties.put(ROLE, "backend");
+        backendProperties.put("micronaut.server.port", -1);
+        backend = ApplicationContext.run(EmbeddedServer.class, backendProperties);
+
+        Map<String, Object> proxyProperties = new HashMap<>();
+        proxyProperties.put(ROLE, "proxy");
+        proxyProperties.put("micronaut.server.port", -1);
+        proxyProperties.put("micronaut.http.services.backend.url", backend.getURL().toString());
+        proxyProperties.put("micronaut.http.services.backend.pool.event-loop-affinity", eventLoopAffinity);
+        proxy = ApplicationContext.run(EmbeddedServer.class, proxyProperties);
+
+        loadContext = ApplicationContext.run();
+        loadClient = loadContext.createBean(HttpClient.class, proxy.getURL()).toBlocking();
+    }
+
+    @TearDown
+    public void tearDown() {
+        loadContext.close();
+        proxy.close();
+        backend.close();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String proxy() {
+        return loadClient.retrieve("/proxy");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + ProxyBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Controller("/backend")
+    @Requires(property = ROLE, value = "backend")
+    public static class BackendController {
+        @Get
+        String index() {
+            return "ok";
+        }
+    }
+
+    @Controller("/proxy")
+    @Requires(property = ROLE, value = "proxy")
+    public static class ProxyController {
+        private final HttpClient backendClient;
+
+        ProxyController(@Client(id = "backend") HttpClient backendClient) {
+            this.backendClient = backendClient;
+        }
+
+        @Get
+        Publisher<String> index() {
+            // runs on the server event loop, which the client shares
+            return backendClient.retrieve("/backend");
+        }
+    }
+}
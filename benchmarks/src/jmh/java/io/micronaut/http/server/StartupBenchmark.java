@@ -30,8 +30,17 @@ public class StartupBenchmark {
 
     @Benchmark
     public void startup(Blackhole blackhole) {
-        ApplicationContext context = ApplicationContext.run();
-        final TestController controller = context.getBean(TestController.class);
-        blackhole.consume(controller);
+        try (ApplicationContext context = ApplicationContext.run()) {
+            final TestController controller = context.getBean(TestController.class);
+            blackhole.consume(controller);
+        }
+    }
+
+    @Benchmark
+    public void parallelStartup(Blackhole blackhole) {
+        try (ApplicationContext context = ApplicationContext.builder().parallelStartup(true).start()) {
+            final TestController controller = context.getBean(TestController.class);
+            blackhole.consume(controller);
+        }
     }
 }
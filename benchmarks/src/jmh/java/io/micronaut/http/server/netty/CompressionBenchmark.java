@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the response compression codecs on a JSON payload. The uncompressed and compressed
+ * bytes of each iteration are reported as the {@code inputBytes} and {@code outputBytes} secondary results, their
+ * quotient is the compression ratio. Brotli needs the brotli4j native library of the platform on the classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CompressionBenchmark {
+
+    @Param({"gzip-1", "gzip-6", "br-1", "br-4", "zstd-1", "zstd-3"})
+    String codec;
+
+    @Param({"262144"})
+    int payloadSize;
+
+    byte[] payload;
+    String encoding;
+    CompressionOptions options;
+    HttpCompressionStrategy strategy;
+
+    @Setup
+    public void setup() {
+        String[] parts = codec.split("-");
+        encoding = parts[0];
+        int level = Integer.parseInt(parts[1]);
+        options = switch (encoding) {
+            case "gzip" -> StandardCompressionOptions.gzip(level, 15, 8);
+            case "br" -> {
+                if (!Brotli.isAvailable()) {
+                    throw new IllegalStateException("brotli4j native library not available", Brotli.cause());
+                }
+                yield StandardCompressionOptions.brotli(new Encoder.Parameters().setQuality(level).setWindow(22));
+            }
+            case "zstd" -> {
+                if (!Zstd.isAvailable()) {
+                    throw new IllegalStateException("zstd-jni not available", Zstd.cause());
+                }
+                yield StandardCompressionOptions.zstd(level, 64 * 1024, 32 * 1024 * 1024);
+            }
+            default -> throw new IllegalArgumentException(codec);
+        };
+        strategy = new DefaultHttpCompressionStrategy(1024, level);
+        payload = jsonPayload(payloadSize);
+    }
+
+    @Benchmark
+    public long compress(ByteCounters counters) {
+        EmbeddedChannel channel = new EmbeddedChannel(new SmartHttpContentCompressor(strategy, options));
+        channel.config().setOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+        DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+        request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, encoding);
+        channel.writeInbound(request);
+        ReferenceCountUtil.release(channel.readInbound());
+
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                channel.alloc().buffer(payload.length).writeBytes(payload));
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, "application/json");
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, payload.length);
+        channel.writeOutbound(response);
+
+        long size = 0;
+        Object msg;
+        while ((msg = channel.readOutbound()) != null) {
+            if (msg instanceof ByteBufHolder holder) {
+                size += holder.content().readableBytes();
+            } else if (msg instanceof ByteBuf buf) {
+                size += buf.readableBytes();
+            }
+            ReferenceCountUtil.release(msg);
+        }
+        channel.finishAndReleaseAll();
+        counters.inputBytes += payload.length;
+        counters.outputBytes += size;
+        return size;
+    }
+
+    private static byte[] jsonPayload(int size) {
+        Random random = new Random(42);
+        String[] names = {"alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel"};
+        StringBuilder builder = new StringBuilder(size + 256).append('[');
+        int id = 0;
+        while (builder.length() < size) {
+            if (id > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(id++)
+                .append(",\"name\":\"").append(names[random.nextInt(names.length)]).append('-').append(random.nextInt(10_000))
+                .append("\",\"price\":").append(random.nextInt(100_000) / 100.0)
+                .append(",\"active\":").append(random.nextBoolean())
+                .append(",\"tags\":[\"").append(names[random.nextInt(names.length)]).append("\",\"")
+                .append(names[random.nextInt(names.length)]).append("\"]}");
+        }
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The uncompressed and compressed bytes of an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ByteCounters {
+        public long inputBytes;
+        public long outputBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            inputBytes = 0;
+            outputBytes = 0;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + CompressionBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
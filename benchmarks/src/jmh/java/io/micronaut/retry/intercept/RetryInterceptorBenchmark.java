@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the overhead of the retry interceptor on calls that succeed.
+ */
+@State(Scope.Benchmark)
+public class RetryInterceptorBenchmark {
+
+    ApplicationContext applicationContext;
+    RetryService retryService;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        retryService = applicationContext.getBean(RetryService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public int baseline() {
+        return retryService.plain(1);
+    }
+
+    @Benchmark
+    public int retryable() {
+        return retryService.retryable(1);
+    }
+
+    @Benchmark
+    public int circuitBreaker() {
+        return retryService.circuitBreaker(1);
+    }
+
+    @Benchmark
+    public int slidingWindowCircuitBreaker() {
+        return retryService.slidingWindowCircuitBreaker(1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + RetryInterceptorBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .addProfiler("gc")
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.retry.annotation.CircuitBreaker;
+import io.micronaut.retry.annotation.Retryable;
+import io.micronaut.retry.annotation.SlidingWindowType;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class RetryService {
+
+    public int plain(int value) {
+        return value + 1;
+    }
+
+    @Retryable
+    public int retryable(int value) {
+        return value + 1;
+    }
+
+    @CircuitBreaker
+    public int circuitBreaker(int value) {
+        return value + 1;
+    }
+
+    @CircuitBreaker(slidingWindowType = SlidingWindowType.COUNT_BASED)
+    public int slidingWindowCircuitBreaker(int value) {
+        return value + 1;
+    }
+}
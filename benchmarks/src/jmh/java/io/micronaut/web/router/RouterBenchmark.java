@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.server.binding.TestController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class RouterBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int routeCount;
+
+    ApplicationContext applicationContext;
+    Router router;
+    HttpRequest<?> staticRequest;
+    HttpRequest<?> variableRequest;
+    HttpRequest<?> constrainedRequest;
+    HttpRequest<?> missRequest;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        DefaultRouteBuilder builder = new DefaultRouteBuilder(applicationContext) { };
+        for (int i = 0; i < routeCount; i++) {
+            switch (i % 3) {
+                case 0:
+                    builder.GET("/api/v" + (i % 5) + "/resource" + i, TestController.class, "show", String.class, int.class);
+                    break;
+                case 1:
+                    builder.GET("/api/v1/resource" + i + "/{name}/{age}", TestController.class, "show", String.class, int.class);
+                    break;
+                default:
+                    builder.GET("/api/v1/resource" + i + "/{name}/{age:[0-9]+}/items", TestController.class, "show", String.class, int.class);
+            }
+        }
+        router = new DefaultRouter(builder);
+        int middle = routeCount / 2;
+        staticRequest = HttpRequest.GET("/api/v" + (indexOf(middle, 0) % 5) + "/resource" + indexOf(middle, 0));
+        variableRequest = HttpRequest.GET("/api/v1/resource" + indexOf(middle, 1) + "/fred/10");
+        constrainedRequest = HttpRequest.GET("/api/v1/resource" + indexOf(middle, 2) + "/fred/10/items");
+        missRequest = HttpRequest.GET("/api/v2/unknown/fred/10");
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public void staticRoute(Blackhole blackhole) {
+        blackhole.consume(router.findAllClosest(staticRequest));
+    }
+
+    @Benchmark
+    public void variableRoute(Blackhole blackhole) {
+        blackhole.consume(router.findAllClosest(variableRequest));
+    }
+
+    @Benchmark
+    public void constrainedRoute(Blackhole blackhole) {
+        blackhole.consume(router.findAllClosest(constrainedRequest));
+    }
+
+    @Benchmark
+    public void miss(Blackhole blackhole) {
+        blackhole.consume(router.findAllClosest(missRequest));
+    }
+
+    private static int indexOf(int near, int kind) {
+        return near - (near % 3) + kind;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + RouterBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
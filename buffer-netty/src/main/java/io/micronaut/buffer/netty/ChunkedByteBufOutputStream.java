@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.buffer.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} that writes into pooled buffers of the given allocator. Unlike a
+ * {@link io.netty.buffer.ByteBufOutputStream}, the output does not live in a single buffer that is reallocated and
+ * copied as it grows. Once a chunk is full, a new chunk is allocated and the chunks are joined into a
+ * {@link CompositeByteBuf} at the end. Small outputs that fit a single chunk are returned as a plain buffer.
+ *
+ * @since 4.0.0
+ */
+@Internal
+public final class ChunkedByteBufOutputStream extends OutputStream {
+
+    /**
+     * The default maximum size of a chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private static final int MIN_CHUNK_SIZE = 256;
+
+    private final ByteBufAllocator allocator;
+    private final int chunkSize;
+    @Nullable
+    private ByteBuf current;
+    @Nullable
+    private CompositeByteBuf composite;
+
+    /**
+     * @param allocator The allocator to take the chunks from
+     */
+    public ChunkedByteBufOutputStream(@NonNull ByteBufAllocator allocator) {
+        this(allocator, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param allocator The allocator to take the chunks from
+     * @param chunkSize The maximum size of a chunk
+     */
+    public ChunkedByteBufOutputStream(@NonNull ByteBufAllocator allocator, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.allocator = allocator;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureWritable(1).writeByte(b);
+    }
+
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) {
+        while (len > 0) {
+            ByteBuf chunk = ensureWritable(len);
+            int n = Math.min(len, chunk.writableBytes());
+            chunk.writeBytes(b, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Hands the written bytes over to the caller. The stream must not be used afterwards.
+     *
+     * @return The written bytes, the caller is responsible for releasing the buffer
+     */
+    @NonNull
+    public ByteBuf toByteBuf() {
+        ByteBuf last = current;
+        CompositeByteBuf joined = composite;
+        current = null;
+        composite = null;
+        if (joined == null) {
+            return last == null ? allocator.buffer(0) : last;
+        }
+        if (last != null) {
+            joined.addComponent(true, last);
+        }
+        return joined;
+    }
+
+    /**
+     * Releases the bytes written so far, e.g. when encoding failed.
+     */
+    public void release() {
+        if (current != null) {
+            current.release();
+            current = null;
+        }
+        if (composite != null) {
+            composite.release();
+            composite = null;
+        }
+    }
+
+    private ByteBuf ensureWritable(int len) {
+        ByteBuf chunk = current;
+        if (chunk != null) {
+            if (chunk.isWritable()) {
+                return chunk;
+            }
+            if (chunk.capacity() < chunkSize / 2) {
+                // growing a small chunk is cheaper than adding many tiny components
+                chunk.ensureWritable(Math.min(len, chunk.maxWritableBytes()));
+                return chunk;
+            }
+            if (composite == null) {
+                composite = allocator.compositeBuffer(Integer.MAX_VALUE);
+            }
+            composite.addComponent(true, chunk);
+        }
+        chunk = allocator.ioBuffer(Math.min(Math.max(len, MIN_CHUNK_SIZE), chunkSize), chunkSize);
+        current = chunk;
+        return chunk;
+    }
+}
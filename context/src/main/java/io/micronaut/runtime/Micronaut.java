@@ -191,6 +191,11 @@ public class Micronaut extends DefaultApplicationContextBuilder implements Appli
         return (Micronaut) super.banner(isEnabled);
     }
 
+    @Override
+    public @NonNull Micronaut parallelStartup(boolean isEnabled) {
+        return (Micronaut) super.parallelStartup(isEnabled);
+    }
+
     /**
      * Add classes to be included in the initialization of the application.
      *
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.context.scope.refresh;
+
+import io.micronaut.context.scope.CreatedBean;
+import io.micronaut.core.annotation.Internal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * A generation of a refreshable bean, that is one instance created by the {@link RefreshScope}. A refresh retires
+ * the generation, and it is destroyed once the calls in flight on it have completed.
+ *
+ * <p>Calls on the current generation are counted on striped counters, indexed by thread, so that concurrent calls
+ * neither take a lock nor contend on a shared counter. A call that reaches a generation after it was retired, because
+ * it resolved the bean just before the refresh, is counted on a single counter instead. It may still use the bean
+ * until the bean is destroyed.</p>
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class RefreshGeneration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RefreshGeneration.class);
+
+    /**
+     * Counters are spread over cache lines, so that the threads of different stripes do not share one.
+     */
+    private static final int PADDING = 8;
+    private static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+    private static final int DESTROYED = -1;
+    private static final int LATE_CALL = -1;
+
+    private final CreatedBean<?> createdBean;
+    private final Consumer<RefreshGeneration> onDestroyed;
+    private final AtomicLongArray calls = new AtomicLongArray(STRIPES * PADDING);
+    private final AtomicInteger lateCalls = new AtomicInteger();
+    private volatile boolean retired;
+
+    /**
+     * @param createdBean The bean of this generation
+     * @param onDestroyed Called once the bean has been destroyed
+     */
+    RefreshGeneration(CreatedBean<?> createdBean, Consumer<RefreshGeneration> onDestroyed) {
+        this.createdBean = createdBean;
+        this.onDestroyed = onDestroyed;
+    }
+
+    /**
+     * @return The bean of this generation
+     */
+    Object bean() {
+        return createdBean.bean();
+    }
+
+    /**
+     * Registers a call on the bean.
+     *
+     * @return The ticket to pass to {@link #exit(int)}
+     * @throws IllegalStateException if the bean has already been destroyed
+     */
+    int enter() {
+        int stripe = (int) (Thread.currentThread().getId() & (STRIPES - 1)) * PADDING;
+        calls.incrementAndGet(stripe);
+        if (!retired) {
+            return stripe;
+        }
+        // the retirement may not have seen this call, it must not be counted as in flight
+        calls.decrementAndGet(stripe);
+        int count;
+        do {
+            count = lateCalls.get();
+            if (count == DESTROYED) {
+                throw new IllegalStateException("Refreshable bean has been destroyed: " + createdBean.definition());
+            }
+        } while (!lateCalls.compareAndSet(count, count + 1));
+        return LATE_CALL;
+    }
+
+    /**
+     * Ends a call on the bean. Destroys the bean if it was the last call on a retired generation.
+     *
+     * @param ticket The ticket returned by {@link #enter()}
+     */
+    void exit(int ticket) {
+        if (ticket == LATE_CALL) {
+            lateCalls.decrementAndGet();
+        } else {
+            calls.decrementAndGet(ticket);
+        }
+        if (retired) {
+            try {
+                destroyIfIdle();
+            } catch (Exception e) {
+                // the call itself succeeded
+                LOG.error("Error destroying refreshable bean {}: {}", createdBean.definition(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Retires the generation, and destroys the bean right away if no call is in flight.
+     */
+    void retire() {
+        retired = true;
+        destroyIfIdle();
+    }
+
+    private void destroyIfIdle() {
+        for (int i = 0; i < calls.length(); i += PADDING) {
+            if (calls.get(i) != 0) {
+                return;
+            }
+        }
+        if (lateCalls.compareAndSet(0, DESTROYED)) {
+            try {
+                createdBean.close();
+            } finally {
+                onDestroyed.accept(this);
+            }
+        }
+    }
+
+    private static int stripes(int processors) {
+        int stripes = 1;
+        while (stripes < processors) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+}
@@ -22,11 +22,9 @@ import io.micronaut.context.env.Environment;
 import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Singleton;
 
-import java.util.concurrent.locks.Lock;
-
 /**
- * <p>A {@link MethodInterceptor} that will lock the bean preventing it from being destroyed by a
- * {@link RefreshEvent} until the method completes.</p>
+ * <p>A {@link MethodInterceptor} that prevents the bean from being destroyed by a {@link RefreshEvent} until the
+ * method completes. No lock is taken, a refresh defers the destruction of the bean instead.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -47,13 +45,12 @@ public class RefreshInterceptor implements MethodInterceptor {
     @Nullable
     @Override
     public Object intercept(MethodInvocationContext context) {
-        Object target = context.getTarget();
-        Lock lock = refreshScope.getLock(target).readLock();
+        RefreshGeneration generation = refreshScope.getGeneration(context.getTarget());
+        int ticket = generation.enter();
         try {
-            lock.lock();
             return context.proceed();
         } finally {
-            lock.unlock();
+            generation.exit(ticket);
         }
     }
 }
@@ -41,9 +41,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Implementation of {@link Refreshable}.
@@ -60,7 +57,7 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
     public static final int POSITION = RefreshEventListener.DEFAULT_POSITION - 100;
 
     private final Map<BeanIdentifier, CreatedBean<?>> refreshableBeans = new ConcurrentHashMap<>(10);
-    private final ConcurrentMap<Object, ReadWriteLock> locks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, RefreshGeneration> generations = new ConcurrentHashMap<>();
     private final BeanContext beanContext;
 
     /**
@@ -86,7 +83,7 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
         final BeanIdentifier id = creationContext.id();
         CreatedBean<?> created = refreshableBeans.computeIfAbsent(id, key -> {
             CreatedBean<T> createdBean = creationContext.create();
-            locks.putIfAbsent(createdBean.bean(), new ReentrantReadWriteLock());
+            generations.putIfAbsent(createdBean.bean(), new RefreshGeneration(createdBean, this::generationDestroyed));
             return createdBean;
         });
         return (T) created.bean();
@@ -95,7 +92,6 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
     @Override
     public RefreshScope stop() {
         disposeOfAllBeans();
-        locks.clear();
         return this;
     }
 
@@ -160,14 +156,18 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
 
     /**
      * @param object The bean
-     * @return The lock on the object
+     * @return The generation of the bean
      */
-    protected ReadWriteLock getLock(Object object) {
-        ReadWriteLock readWriteLock = locks.get(object);
-        if (readWriteLock == null) {
-            throw new IllegalStateException("No lock present for object: " + object);
+    RefreshGeneration getGeneration(Object object) {
+        RefreshGeneration generation = generations.get(object);
+        if (generation == null) {
+            throw new IllegalStateException("No generation present for object: " + object);
         }
-        return readWriteLock;
+        return generation;
+    }
+
+    private void generationDestroyed(RefreshGeneration generation) {
+        generations.remove(generation.bean(), generation);
     }
 
     private void refreshSubsetOfConfigurationProperties(Set<String> keySet) {
@@ -220,14 +220,12 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
     private void disposeOfBean(BeanIdentifier key) {
         CreatedBean<?> createdBean = refreshableBeans.remove(key);
         if (createdBean != null) {
-            Object bean = createdBean.bean();
-            Lock lock = getLock(bean).writeLock();
-            try {
-                lock.lock();
+            // new calls resolve a new bean, the retired one is destroyed once the calls in flight have completed
+            RefreshGeneration generation = generations.get(createdBean.bean());
+            if (generation != null) {
+                generation.retire();
+            } else {
                 createdBean.close();
-                locks.remove(bean);
-            } finally {
-                lock.unlock();
             }
         }
     }
@@ -42,6 +42,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Writes the bean definition class file to disk.
@@ -84,6 +85,7 @@ public class BeanDefinitionReferenceWriter extends AbstractAnnotationMetadataWri
     private final Map<String, ClassElement> typeParameters;
     private final boolean proxiedBean;
     private final boolean proxyTarget;
+    private final Set<String> candidateTypeNames;
     private boolean contextScope = false;
     private boolean requiresMethodProcessing;
 
@@ -107,6 +109,7 @@ public class BeanDefinitionReferenceWriter extends AbstractAnnotationMetadataWri
         this.interceptedType = visitor.getInterceptedType().orElse(null);
         this.proxiedBean = visitor.isProxiedBean();
         this.proxyTarget = visitor.isProxyTarget();
+        this.candidateTypeNames = visitor.getCandidateTypeNames();
     }
 
     /**
@@ -277,6 +280,19 @@ public class BeanDefinitionReferenceWriter extends AbstractAnnotationMetadataWri
             getGenericType.visitMaxs(2, 1);
         }
 
+        if (candidateTypeNames != null) {
+            // start method: String[] getCandidateTypeNames()
+            GeneratorAdapter getCandidateTypeNames = startPublicMethodZeroArgs(classWriter, String[].class, "getCandidateTypeNames");
+            int size = candidateTypeNames.size();
+            pushNewArray(getCandidateTypeNames, String.class, size);
+            int index = 0;
+            for (String candidateTypeName : candidateTypeNames) {
+                pushStoreStringInArray(getCandidateTypeNames, index++, size, candidateTypeName);
+            }
+            getCandidateTypeNames.returnValue();
+            getCandidateTypeNames.visitMaxs(4, 1);
+        }
+
         writeAnnotationMetadataStaticInitializer(classWriter);
 
         if (interceptedType != null) {
@@ -35,6 +35,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Interface for {@link BeanDefinitionVisitor} implementations such as {@link BeanDefinitionWriter}.
@@ -464,4 +465,16 @@ public interface BeanDefinitionVisitor extends OriginatingElements, Toggleable {
      */
     boolean isProxyTarget();
 
+    /**
+     * The names of the types the bean can be looked up by: the bean type, its super types and its interfaces.
+     *
+     * @return The names of the candidate types, or {@code null} if they are not known at compilation time
+     * @see io.micronaut.inject.BeanDefinitionReference#getCandidateTypeNames()
+     * @since 4.0.0
+     */
+    @Nullable
+    default Set<String> getCandidateTypeNames() {
+        return null;
+    }
+
 }
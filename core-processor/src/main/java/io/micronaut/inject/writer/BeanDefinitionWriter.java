@@ -4548,6 +4548,42 @@ public class BeanDefinitionWriter extends AbstractClassFileWriter implements Bea
         return proxiedBean;
     }
 
+    @Override
+    @Nullable
+    public Set<String> getCandidateTypeNames() {
+        if (interceptedType != null || isPrimitiveBean || isContainerType() || beanTypeElement.isProxy()) {
+            // proxies implement types that are not in the hierarchy of the bean type
+            return null;
+        }
+        Set<String> candidateTypeNames = new TreeSet<>();
+        candidateTypeNames.add(Object.class.getName());
+        if (!collectCandidateTypeNames(beanTypeElement, candidateTypeNames)) {
+            return null;
+        }
+        return candidateTypeNames;
+    }
+
+    private static boolean collectCandidateTypeNames(ClassElement type, Set<String> candidateTypeNames) {
+        String name = type.getName();
+        if (name.startsWith("kotlin.")) {
+            // Kotlin types can be mapped to different JVM types
+            return false;
+        }
+        if (!candidateTypeNames.add(name)) {
+            return true;
+        }
+        ClassElement superType = type.getSuperType().orElse(null);
+        if (superType != null && !collectCandidateTypeNames(superType, candidateTypeNames)) {
+            return false;
+        }
+        for (ClassElement interfaceType : type.getInterfaces()) {
+            if (!collectCandidateTypeNames(interfaceType, candidateTypeNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Internal
     private static final class AnnotationVisitData {
         final TypedElement memberBeanType;
@@ -74,6 +74,28 @@ public class DefaultHttpClientConfiguration extends HttpClientConfiguration {
         }
     }
 
+    /**
+     * Uses the default hedging configuration.
+     *
+     * @param hedgingConfiguration The hedging configuration
+     * @since 4.0.0
+     */
+    @Inject
+    public void setDefaultHedgingConfiguration(@Nullable DefaultHedgingConfiguration hedgingConfiguration) {
+        setHedgingConfiguration(hedgingConfiguration);
+    }
+
+    /**
+     * Uses the default DNS resolver configuration.
+     *
+     * @param dnsResolverConfiguration The DNS resolver configuration
+     * @since 4.0.0
+     */
+    @Inject
+    public void setDefaultDnsResolverConfiguration(@Nullable DefaultDnsResolverConfiguration dnsResolverConfiguration) {
+        setDnsResolverConfiguration(dnsResolverConfiguration);
+    }
+
     /**
      * The default connection pool configuration.
      */
@@ -82,4 +104,26 @@ public class DefaultHttpClientConfiguration extends HttpClientConfiguration {
     @Primary
     public static class DefaultConnectionPoolConfiguration extends ConnectionPoolConfiguration {
     }
+
+    /**
+     * The default hedging configuration.
+     *
+     * @since 4.0.0
+     */
+    @ConfigurationProperties(HedgingConfiguration.PREFIX)
+    @BootstrapContextCompatible
+    @Primary
+    public static class DefaultHedgingConfiguration extends HedgingConfiguration {
+    }
+
+    /**
+     * The default DNS resolver configuration.
+     *
+     * @since 4.0.0
+     */
+    @ConfigurationProperties(DnsResolverConfiguration.PREFIX)
+    @BootstrapContextCompatible
+    @Primary
+    public static class DefaultDnsResolverConfiguration extends DnsResolverConfiguration {
+    }
 }
@@ -21,6 +21,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.format.ReadableBytes;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.Toggleable;
+import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpVersion;
 import io.micronaut.http.ssl.ClientSslConfiguration;
 import io.micronaut.http.ssl.SslConfiguration;
@@ -144,6 +145,10 @@ public abstract class HttpClientConfiguration {
 
     private SslConfiguration sslConfiguration = new ClientSslConfiguration();
 
+    private HedgingConfiguration hedgingConfiguration = new HedgingConfiguration();
+
+    private DnsResolverConfiguration dnsResolverConfiguration = new DnsResolverConfiguration();
+
     private String loggerName;
 
     private String eventLoopGroup = "default";
@@ -207,6 +212,8 @@ public abstract class HttpClientConfiguration {
             this.sslConfiguration = copy.sslConfiguration;
             this.threadFactory = copy.threadFactory;
             this.httpVersion = copy.httpVersion;
+            this.hedgingConfiguration = copy.hedgingConfiguration;
+            this.dnsResolverConfiguration = copy.dnsResolverConfiguration;
         }
     }
 
@@ -274,6 +281,50 @@ public abstract class HttpClientConfiguration {
      */
     public abstract ConnectionPoolConfiguration getConnectionPoolConfiguration();
 
+    /**
+     * Obtains the configuration of the hedged requests.
+     *
+     * @return The hedging configuration
+     * @since 4.0.0
+     */
+    public HedgingConfiguration getHedgingConfiguration() {
+        return hedgingConfiguration;
+    }
+
+    /**
+     * Sets the configuration of the hedged requests.
+     *
+     * @param hedgingConfiguration The hedging configuration
+     * @since 4.0.0
+     */
+    public void setHedgingConfiguration(HedgingConfiguration hedgingConfiguration) {
+        if (hedgingConfiguration != null) {
+            this.hedgingConfiguration = hedgingConfiguration;
+        }
+    }
+
+    /**
+     * Obtains the configuration of the DNS resolver.
+     *
+     * @return The DNS resolver configuration
+     * @since 4.0.0
+     */
+    public DnsResolverConfiguration getDnsResolverConfiguration() {
+        return dnsResolverConfiguration;
+    }
+
+    /**
+     * Sets the configuration of the DNS resolver.
+     *
+     * @param dnsResolverConfiguration The DNS resolver configuration
+     * @since 4.0.0
+     */
+    public void setDnsResolverConfiguration(DnsResolverConfiguration dnsResolverConfiguration) {
+        if (dnsResolverConfiguration != null) {
+            this.dnsResolverConfiguration = dnsResolverConfiguration;
+        }
+    }
+
     /**
      * @return The {@link SslConfiguration} for the client
      */
@@ -736,6 +787,8 @@ public abstract class HttpClientConfiguration {
 
         private boolean enabled = DEFAULT_ENABLED;
 
+        private boolean eventLoopAffinity = false;
+
         /**
          * Whether connection pooling is enabled.
          *
@@ -874,6 +927,371 @@ public abstract class HttpClientConfiguration {
         public void setMaxConcurrentHttp2Connections(int maxConcurrentHttp2Connections) {
             this.maxConcurrentHttp2Connections = maxConcurrentHttp2Connections;
         }
+
+        /**
+         * Whether requests issued on an event loop of the client use a separate pool for that
+         * event loop. Connections of such a pool are registered with the event loop the request
+         * was issued on, which avoids handing the request over to another thread. The connection
+         * limits apply to each of the pools.
+         *
+         * @return Whether the pool is split by event loop
+         * @since 4.0.0
+         */
+        public boolean isEventLoopAffinity() {
+            return eventLoopAffinity;
+        }
+
+        /**
+         * Whether requests issued on an event loop of the client use a separate pool for that
+         * event loop. Default value (false).
+         *
+         * @param eventLoopAffinity Whether the pool is split by event loop
+         * @since 4.0.0
+         */
+        public void setEventLoopAffinity(boolean eventLoopAffinity) {
+            this.eventLoopAffinity = eventLoopAffinity;
+        }
+    }
+
+    /**
+     * Configuration of the hedged requests of a client. When the response to a request takes longer than the hedging
+     * delay, a duplicate of the request is sent to another instance of the {@link LoadBalancer}, and the first
+     * successful response wins while the other request is cancelled. Only the requests with a relative URI, resolved
+     * by the load balancer, are hedged.
+     *
+     * @since 4.0.0
+     */
+    public static class HedgingConfiguration implements Toggleable {
+        /**
+         * The prefix to use for configuration.
+         */
+        public static final String PREFIX = "hedging";
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        /**
+         * The default budget, as a percentage of the requests.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_BUDGET_PERCENT = 10;
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private Duration delay;
+
+        private Double percentile;
+
+        private int budgetPercent = DEFAULT_BUDGET_PERCENT;
+
+        private List<HttpMethod> methods = Arrays.asList(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+        /**
+         * Whether requests are hedged.
+         *
+         * @return True if requests are hedged
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether requests are hedged. Default value ({@value io.micronaut.http.client.HttpClientConfiguration.HedgingConfiguration#DEFAULT_ENABLED}).
+         *
+         * @param enabled True if requests are hedged
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * The fixed delay after which a duplicate request is sent.
+         *
+         * @return The delay
+         */
+        public Optional<Duration> getDelay() {
+            return Optional.ofNullable(delay);
+        }
+
+        /**
+         * Sets the fixed delay after which a duplicate request is sent. If a {@link #setPercentile(Double) percentile}
+         * is set, the delay only applies until enough response times have been observed.
+         *
+         * @param delay The delay
+         */
+        public void setDelay(@Nullable Duration delay) {
+            this.delay = delay;
+        }
+
+        /**
+         * The percentile of the observed response times after which a duplicate request is sent.
+         *
+         * @return The percentile
+         */
+        public Optional<Double> getPercentile() {
+            return Optional.ofNullable(percentile);
+        }
+
+        /**
+         * Sets the percentile of the observed response times after which a duplicate request is sent, such as 95 to
+         * hedge the requests slower than the 95th percentile.
+         *
+         * @param percentile The percentile, between 0 and 100
+         */
+        public void setPercentile(@Nullable Double percentile) {
+            this.percentile = percentile;
+        }
+
+        /**
+         * The maximum number of duplicate requests, as a percentage of the requests.
+         *
+         * @return The budget
+         */
+        public int getBudgetPercent() {
+            return budgetPercent;
+        }
+
+        /**
+         * Sets the maximum number of duplicate requests, as a percentage of the requests, so that hedging cannot
+         * amplify an overload of the service. Default value ({@value io.micronaut.http.client.HttpClientConfiguration.HedgingConfiguration#DEFAULT_BUDGET_PERCENT}).
+         *
+         * @param budgetPercent The budget
+         */
+        public void setBudgetPercent(int budgetPercent) {
+            this.budgetPercent = budgetPercent;
+        }
+
+        /**
+         * The methods of the requests that are hedged.
+         *
+         * @return The methods
+         */
+        public List<HttpMethod> getMethods() {
+            return methods;
+        }
+
+        /**
+         * Sets the methods of the requests that are hedged. Only requests without side effects should be hedged.
+         * Default value (GET, HEAD, OPTIONS).
+         *
+         * @param methods The methods
+         */
+        public void setMethods(@NonNull List<HttpMethod> methods) {
+            this.methods = Objects.requireNonNull(methods, "methods");
+        }
     }
 
+    /**
+     * Configuration of the asynchronous DNS resolver of a client. When enabled, the host names are resolved on the
+     * event loops by sending DNS queries, instead of blocking them with the JVM lookups. The answers are cached for
+     * their time to live, the failures for the negative time to live, and the entries that are still used are
+     * refreshed before they expire.
+     *
+     * @since 4.0.0
+     */
+    public static class DnsResolverConfiguration implements Toggleable {
+        /**
+         * The prefix to use for configuration.
+         */
+        public static final String PREFIX = "dns-resolver";
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        /**
+         * The default query timeout in seconds.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_QUERY_TIMEOUT_SECONDS = 5;
+
+        /**
+         * The default negative time to live in seconds.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_NEGATIVE_TTL_SECONDS = 5;
+
+        /**
+         * The default prefetch value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_PREFETCH = true;
+
+        /**
+         * The default round-robin value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ROUND_ROBIN = true;
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private List<String> nameServers = Collections.emptyList();
+
+        private Duration queryTimeout = Duration.ofSeconds(DEFAULT_QUERY_TIMEOUT_SECONDS);
+
+        private Duration minTtl;
+
+        private Duration maxTtl;
+
+        private Duration negativeTtl = Duration.ofSeconds(DEFAULT_NEGATIVE_TTL_SECONDS);
+
+        private boolean prefetch = DEFAULT_PREFETCH;
+
+        private boolean roundRobin = DEFAULT_ROUND_ROBIN;
+
+        /**
+         * Whether the asynchronous DNS resolver is used.
+         *
+         * @return True if the asynchronous DNS resolver is used
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the asynchronous DNS resolver is used. Default value ({@value io.micronaut.http.client.HttpClientConfiguration.DnsResolverConfiguration#DEFAULT_ENABLED}).
+         *
+         * @param enabled True if the asynchronous DNS resolver is used
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * The DNS servers to query.
+         *
+         * @return The DNS servers
+         */
+        public List<String> getNameServers() {
+            return nameServers;
+        }
+
+        /**
+         * Sets the DNS servers to query, as {@code host} or {@code host:port}. By default, the DNS servers of the
+         * system are queried.
+         *
+         * @param nameServers The DNS servers
+         */
+        public void setNameServers(@NonNull List<String> nameServers) {
+            this.nameServers = Objects.requireNonNull(nameServers, "nameServers");
+        }
+
+        /**
+         * The timeout of a DNS query.
+         *
+         * @return The query timeout
+         */
+        public Duration getQueryTimeout() {
+            return queryTimeout;
+        }
+
+        /**
+         * Sets the timeout of a DNS query. Default value ({@value io.micronaut.http.client.HttpClientConfiguration.DnsResolverConfiguration#DEFAULT_QUERY_TIMEOUT_SECONDS} seconds).
+         *
+         * @param queryTimeout The query timeout
+         */
+        public void setQueryTimeout(@NonNull Duration queryTimeout) {
+            this.queryTimeout = Objects.requireNonNull(queryTimeout, "queryTimeout");
+        }
+
+        /**
+         * The minimum time an answer is cached.
+         *
+         * @return The minimum time to live
+         */
+        public Optional<Duration> getMinTtl() {
+            return Optional.ofNullable(minTtl);
+        }
+
+        /**
+         * Sets the minimum time an answer is cached, even if its time to live is shorter.
+         *
+         * @param minTtl The minimum time to live
+         */
+        public void setMinTtl(@Nullable Duration minTtl) {
+            this.minTtl = minTtl;
+        }
+
+        /**
+         * The maximum time an answer is cached.
+         *
+         * @return The maximum time to live
+         */
+        public Optional<Duration> getMaxTtl() {
+            return Optional.ofNullable(maxTtl);
+        }
+
+        /**
+         * Sets the maximum time an answer is cached, even if its time to live is longer.
+         *
+         * @param maxTtl The maximum time to live
+         */
+        public void setMaxTtl(@Nullable Duration maxTtl) {
+            this.maxTtl = maxTtl;
+        }
+
+        /**
+         * The time a failed resolution is cached.
+         *
+         * @return The negative time to live
+         */
+        public Duration getNegativeTtl() {
+            return negativeTtl;
+        }
+
+        /**
+         * Sets the time a failed resolution is cached, so that an unknown host name is not queried on every
+         * connection attempt. Default value ({@value io.micronaut.http.client.HttpClientConfiguration.DnsResolverConfiguration#DEFAULT_NEGATIVE_TTL_SECONDS} seconds).
+         *
+         * @param negativeTtl The negative time to live
+         */
+        public void setNegativeTtl(@NonNull Duration negativeTtl) {
+            this.negativeTtl = Objects.requireNonNull(negativeTtl, "negativeTtl");
+        }
+
+        /**
+         * Whether the cached answers that are still used are refreshed before they expire.
+         *
+         * @return True if the answers are prefetched
+         */
+        public boolean isPrefetch() {
+            return prefetch;
+        }
+
+        /**
+         * Sets whether the cached answers that are still used are refreshed before they expire, so that the
+         * connections do not wait for a DNS query when an answer expires. Default value ({@value io.micronaut.http.client.HttpClientConfiguration.DnsResolverConfiguration#DEFAULT_PREFETCH}).
+         *
+         * @param prefetch True if the answers are prefetched
+         */
+        public void setPrefetch(boolean prefetch) {
+            this.prefetch = prefetch;
+        }
+
+        /**
+         * Whether the connections are spread across all the addresses of a host name.
+         *
+         * @return True if the addresses are used in turn
+         */
+        public boolean isRoundRobin() {
+            return roundRobin;
+        }
+
+        /**
+         * Sets whether the connections are spread across all the addresses (A and AAAA records) of a host name,
+         * instead of always using the first one. Default value ({@value io.micronaut.http.client.HttpClientConfiguration.DnsResolverConfiguration#DEFAULT_ROUND_ROBIN}).
+         *
+         * @param roundRobin True if the addresses are used in turn
+         */
+        public void setRoundRobin(boolean roundRobin) {
+            this.roundRobin = roundRobin;
+        }
+    }
 }
@@ -20,6 +20,7 @@ import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.http.client.loadbalance.LoadBalancingStrategy;
 import io.micronaut.http.context.ClientContextPathProvider;
 import io.micronaut.http.ssl.AbstractClientSslConfiguration;
 import io.micronaut.http.ssl.SslConfiguration;
@@ -73,6 +74,7 @@ public class ServiceHttpClientConfiguration extends HttpClientConfiguration impl
     private boolean healthCheck = DEFAULT_HEALTHCHECK;
     private Duration healthCheckInterval = Duration.ofSeconds(DEFAULT_HEALTHCHECKINTERVAL_SECONDS);
     private String path;
+    private LoadBalancingStrategy loadBalancingStrategy = LoadBalancingStrategy.ROUND_ROBIN;
 
     /**
      * Creates a new client configuration for the given service ID.
@@ -243,11 +245,55 @@ public class ServiceHttpClientConfiguration extends HttpClientConfiguration impl
         }
     }
 
+    /**
+     * The strategy of the load balancer of the service.
+     *
+     * @return The load balancing strategy
+     * @since 4.0.0
+     */
+    public LoadBalancingStrategy getLoadBalancingStrategy() {
+        return loadBalancingStrategy;
+    }
+
+    /**
+     * Sets the strategy of the load balancer of the service. Default value (round-robin).
+     *
+     * @param loadBalancingStrategy The load balancing strategy
+     * @since 4.0.0
+     */
+    public void setLoadBalancingStrategy(LoadBalancingStrategy loadBalancingStrategy) {
+        if (loadBalancingStrategy != null) {
+            this.loadBalancingStrategy = loadBalancingStrategy;
+        }
+    }
+
     @Override
     public ConnectionPoolConfiguration getConnectionPoolConfiguration() {
         return connectionPoolConfiguration;
     }
 
+    /**
+     * Uses the hedging configuration of the service.
+     *
+     * @param hedgingConfiguration The hedging configuration
+     * @since 4.0.0
+     */
+    @Inject
+    public void setServiceHedgingConfiguration(@Nullable ServiceHedgingConfiguration hedgingConfiguration) {
+        setHedgingConfiguration(hedgingConfiguration);
+    }
+
+    /**
+     * Uses the DNS resolver configuration of the service.
+     *
+     * @param dnsResolverConfiguration The DNS resolver configuration
+     * @since 4.0.0
+     */
+    @Inject
+    public void setServiceDnsResolverConfiguration(@Nullable ServiceDnsResolverConfiguration dnsResolverConfiguration) {
+        setDnsResolverConfiguration(dnsResolverConfiguration);
+    }
+
     /**
      * The default connection pool configuration.
      */
@@ -255,6 +301,24 @@ public class ServiceHttpClientConfiguration extends HttpClientConfiguration impl
     public static class ServiceConnectionPoolConfiguration extends ConnectionPoolConfiguration {
     }
 
+    /**
+     * The hedging configuration of the service.
+     *
+     * @since 4.0.0
+     */
+    @ConfigurationProperties(HedgingConfiguration.PREFIX)
+    public static class ServiceHedgingConfiguration extends HedgingConfiguration {
+    }
+
+    /**
+     * The DNS resolver configuration of the service.
+     *
+     * @since 4.0.0
+     */
+    @ConfigurationProperties(DnsResolverConfiguration.PREFIX)
+    public static class ServiceDnsResolverConfiguration extends DnsResolverConfiguration {
+    }
+
     /**
      * The default connection pool configuration.
      */
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.interceptor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.bind.AnnotatedClientRequestBinder;
+import io.micronaut.http.client.bind.ClientArgumentRequestBinder;
+import io.micronaut.http.uri.UriMatchTemplate;
+
+import java.util.List;
+
+/**
+ * The request settings of a declarative client method, resolved from its annotation metadata on the first call.
+ *
+ * @param httpMethod           The HTTP method, or {@code null} if the method is not mapped to a request
+ * @param httpMethodName       The name of the HTTP method, for custom methods
+ * @param uriTemplate          The URI template of the method
+ * @param uriVariables         The variables of the URI template
+ * @param uriTemplateAttribute The URI template set as request attribute, with the path of the client
+ * @param methodBinders        The binders of the method annotations
+ * @param arguments            The binding of each argument of the method
+ * @param contentType          The content type of a request with a body
+ * @param acceptTypes          The accepted media types, unless set by a binder
+ * @param errorType            The error type of the client
+ * @since 4.0.0
+ */
+@Internal
+record ClientMethodPlan(
+        @Nullable HttpMethod httpMethod,
+        String httpMethodName,
+        UriMatchTemplate uriTemplate,
+        List<String> uriVariables,
+        String uriTemplateAttribute,
+        List<AnnotatedClientRequestBinder<?>> methodBinders,
+        ArgumentPlan[] arguments,
+        MediaType contentType,
+        MediaType[] acceptTypes,
+        Argument<?> errorType) {
+
+    /**
+     * The plan of a method that is not mapped to a request.
+     */
+    static final ClientMethodPlan NOT_MAPPED = new ClientMethodPlan(null, null, null, null, null, null, null, null, null, null);
+
+    /**
+     * The binding of a method argument.
+     *
+     * @param argument     The argument
+     * @param binder       The binder of the argument, or {@code null} if it is a path variable or part of the body
+     * @param pathVariable The name of the path variable bound to the argument, or {@code null} if it is part of the body
+     * @param formatted    Whether the path variable is converted with the format of the argument
+     * @param defaultValue The default value of the argument
+     */
+    record ArgumentPlan(
+            Argument<Object> argument,
+            @Nullable ClientArgumentRequestBinder<Object> binder,
+            @Nullable String pathVariable,
+            boolean formatted,
+            @Nullable String defaultValue) {
+    }
+}
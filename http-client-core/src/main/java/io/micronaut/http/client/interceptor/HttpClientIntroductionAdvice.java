@@ -36,10 +36,8 @@ import io.micronaut.core.convert.exceptions.ConversionErrorException;
 import io.micronaut.core.convert.format.Format;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.type.Argument;
-import io.micronaut.core.type.MutableArgumentValue;
 import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.ArrayUtils;
-import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.version.annotation.Version;
 import io.micronaut.http.HttpAttributes;
@@ -60,6 +58,7 @@ import io.micronaut.http.client.HttpClientRegistry;
 import io.micronaut.http.client.ReactiveClientResultTransformer;
 import io.micronaut.http.client.StreamingHttpClient;
 import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.bind.AnnotatedClientRequestBinder;
 import io.micronaut.http.client.bind.ClientArgumentRequestBinder;
 import io.micronaut.http.client.bind.ClientRequestUriContext;
 import io.micronaut.http.client.bind.HttpClientBinderRegistry;
@@ -68,6 +67,7 @@ import io.micronaut.http.client.sse.SseClient;
 import io.micronaut.http.sse.Event;
 import io.micronaut.http.uri.UriBuilder;
 import io.micronaut.http.uri.UriMatchTemplate;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.json.codec.JsonMediaTypeCodec;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
@@ -88,6 +88,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -114,6 +115,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     private final JsonMediaTypeCodec jsonMediaTypeCodec;
     private final HttpClientRegistry<?> clientFactory;
     private final ConversionService conversionService;
+    private final Map<ExecutableMethod<?, ?>, ClientMethodPlan> clientMethodPlans = new ConcurrentHashMap<>();
 
     /**
      * Constructor for advice class to setup things like Headers, Cookies, Parameters for Clients.
@@ -158,92 +160,63 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             return null;
         }
 
-        Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
-        HttpClient httpClient = clientFactory.getClient(annotationMetadata);
-        if (httpMethodMapping.isPresent() && context.hasStereotype(HttpMethodMapping.class) && httpClient != null) {
-            AnnotationValue<HttpMethodMapping> mapping = context.getAnnotation(HttpMethodMapping.class);
-            String uri = mapping.getRequiredValue(String.class);
-            if (StringUtils.isEmpty(uri)) {
-                uri = "/" + context.getMethodName();
-            }
-
-            Class<? extends Annotation> annotationType = httpMethodMapping.get();
-            HttpMethod httpMethod = HttpMethod.parse(annotationType.getSimpleName().toUpperCase(Locale.ENGLISH));
-            String httpMethodName = context.stringValue(CustomHttpMethod.class, "method").orElse(httpMethod.name());
-
-            MutableHttpRequest<?> request = HttpRequest.create(httpMethod, "", httpMethodName);
-
-            UriMatchTemplate uriTemplate = UriMatchTemplate.of("");
-            if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
-                uriTemplate = uriTemplate.nest(uri);
-            }
+        ClientMethodPlan plan = clientMethodPlan(context);
+        HttpMethod httpMethod = plan.httpMethod();
+        HttpClient httpClient = httpMethod != null ? clientFactory.getClient(annotationMetadata) : null;
+        if (httpClient != null) {
+            MutableHttpRequest<?> request = HttpRequest.create(httpMethod, "", plan.httpMethodName());
 
+            UriMatchTemplate uriTemplate = plan.uriTemplate();
             Map<String, Object> pathParams = new HashMap<>();
             Map<String, List<String>> queryParams = new LinkedHashMap<>();
             ClientRequestUriContext uriContext = new ClientRequestUriContext(uriTemplate, pathParams, queryParams);
-            List<Argument> bodyArguments = new ArrayList<>();
+            List<String> uriVariables = plan.uriVariables();
 
-            List<String> uriVariables = uriTemplate.getVariableNames();
-            Map<String, MutableArgumentValue<?>> parameters = context.getParameters();
+            // Apply all the method binders
+            for (AnnotatedClientRequestBinder<?> binder : plan.methodBinders()) {
+                binder.bind(context, uriContext, request);
+            }
+
+            InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
 
-            ClientArgumentRequestBinder<Object> defaultBinder = (ctx, uriCtx, value, req) -> {
-                Argument<?> argument = ctx.getArgument();
-                if (uriCtx.getUriTemplate().getVariableNames().contains(argument.getName())) {
-                    String name = argument.getAnnotationMetadata().stringValue(Bindable.class)
-                            .orElse(argument.getName());
+            // Apply all the argument binders
+            ClientMethodPlan.ArgumentPlan[] arguments = plan.arguments();
+            Object[] parameterValues = context.getParameterValues();
+            Map<String, Object> bodyMap = null;
+            for (int i = 0; i < arguments.length; i++) {
+                ClientMethodPlan.ArgumentPlan argumentPlan = arguments[i];
+                Object definedValue = getValue(argumentPlan, context, parameterValues[i]);
+                if (definedValue == null) {
+                    continue;
+                }
+                Argument<Object> argument = argumentPlan.argument();
+                ClientArgumentRequestBinder<Object> binder = argumentPlan.binder();
+                if (binder != null) {
+                    ArgumentConversionContext<Object> conversionContext = ConversionContext.of(argument);
+                    binder.bind(conversionContext, uriContext, definedValue, request);
+                    if (conversionContext.hasErrors()) {
+                        return interceptedMethod.handleException(new ConversionErrorException(argument, conversionContext.getLastError().get()));
+                    }
+                } else if (argumentPlan.pathVariable() != null) {
+                    String name = argumentPlan.pathVariable();
                     // Convert and put as path param
-                    if (argument.getAnnotationMetadata().hasStereotype(Format.class)) {
-                        conversionService.convert(value,
+                    if (argumentPlan.formatted()) {
+                        conversionService.convert(definedValue,
                                 ConversionContext.STRING.with(argument.getAnnotationMetadata()))
                                 .ifPresent(v -> pathParams.put(name, v));
                     } else {
-                        pathParams.put(name, value);
+                        pathParams.put(name, definedValue);
                     }
                 } else {
-                    bodyArguments.add(ctx.getArgument());
-                }
-            };
-
-            // Apply all the method binders
-            List<Class<? extends Annotation>> methodBinderTypes = context.getAnnotationTypesByStereotype(Bindable.class);
-            // @Version is not a bindable, so it needs to looked for separately
-            methodBinderTypes.addAll(context.getAnnotationTypesByStereotype(Version.class));
-            if (!CollectionUtils.isEmpty(methodBinderTypes)) {
-                for (Class<? extends Annotation> binderType : methodBinderTypes) {
-                    binderRegistry.findAnnotatedBinder(binderType).ifPresent(b -> b.bind(context, uriContext, request));
-                }
-            }
-
-            InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
-
-            // Apply all the argument binders
-            Argument[] arguments = context.getArguments();
-            if (arguments.length > 0) {
-                for (Argument argument : arguments) {
-                    Object definedValue = getValue(argument, context, parameters);
-
-                    if (definedValue != null) {
-                        final ClientArgumentRequestBinder<Object> binder = (ClientArgumentRequestBinder<Object>) binderRegistry
-                                .findArgumentBinder((Argument<Object>) argument)
-                                .orElse(defaultBinder);
-                        ArgumentConversionContext conversionContext = ConversionContext.of(argument);
-                        binder.bind(conversionContext, uriContext, definedValue, request);
-                        if (conversionContext.hasErrors()) {
-                            return interceptedMethod.handleException(new ConversionErrorException(argument, conversionContext.getLastError().get()));
-                        }
+                    if (bodyMap == null) {
+                        bodyMap = new LinkedHashMap<>();
                     }
+                    bodyMap.put(argument.getName(), parameterValues[i]);
                 }
             }
 
             Object body = request.getBody().orElse(null);
-            if (body == null && !bodyArguments.isEmpty()) {
-                Map<String, Object> bodyMap = new LinkedHashMap<>();
-
-                for (Argument bodyArgument : bodyArguments) {
-                    String argumentName = bodyArgument.getName();
-                    MutableArgumentValue<?> value = parameters.get(argumentName);
-                    bodyMap.put(argumentName, value.getValue());
-                }
+            if (body == null && bodyMap != null) {
                 body = bodyMap;
                 request.body(body);
             }
@@ -276,7 +249,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                 body = null;
             }
 
-            uri = uriTemplate.expand(pathParams);
+            String uri = uriTemplate.expand(pathParams);
             // Remove all the pathParams that have already been used.
             // Other path parameters are added to query
             uriVariables.forEach(pathParams::remove);
@@ -286,30 +259,18 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             request.uri(URI.create(appendQuery(uri, uriContext.getQueryParameters())));
 
             if (body != null && !request.getContentType().isPresent()) {
-                MediaType[] contentTypes = MediaType.of(context.stringValues(Produces.class));
-                if (ArrayUtils.isEmpty(contentTypes)) {
-                    contentTypes = DEFAULT_ACCEPT_TYPES;
-                }
-                if (ArrayUtils.isNotEmpty(contentTypes)) {
-                    request.contentType(contentTypes[0]);
-                }
+                request.contentType(plan.contentType());
             }
 
             request.setAttribute(HttpAttributes.INVOCATION_CONTEXT, context);
             // Set the URI template used to make the request for tracing purposes
-            request.setAttribute(HttpAttributes.URI_TEMPLATE, resolveTemplate(annotationMetadata, uriTemplate.toString()));
-            Argument<?> errorType = annotationMetadata.classValue(Client.class, "errorType")
-                    .map((Function<Class, Argument>) Argument::of).orElse(HttpClient.DEFAULT_ERROR_TYPE);
+            request.setAttribute(HttpAttributes.URI_TEMPLATE, plan.uriTemplateAttribute());
+            Argument<?> errorType = plan.errorType();
 
             final MediaType[] acceptTypes;
             Collection<MediaType> accept = request.accept();
             if (accept.isEmpty()) {
-                String[] consumesMediaType = context.stringValues(Consumes.class);
-                if (ArrayUtils.isEmpty(consumesMediaType)) {
-                    acceptTypes = DEFAULT_ACCEPT_TYPES;
-                } else {
-                    acceptTypes = MediaType.of(consumesMediaType);
-                }
+                acceptTypes = plan.acceptTypes();
                 request.accept(acceptTypes);
             } else {
                 acceptTypes = accept.toArray(MediaType.EMPTY_ARRAY);
@@ -476,18 +437,16 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         }
     }
 
-    private Object getValue(Argument argument,
+    private Object getValue(ClientMethodPlan.ArgumentPlan argumentPlan,
                             MethodInvocationContext<?, ?> context,
-                            Map<String, MutableArgumentValue<?>> parameters) {
-        String argumentName = argument.getName();
-        MutableArgumentValue<?> value = parameters.get(argumentName);
-
-        Object definedValue = value.getValue();
+                            @Nullable Object value) {
+        Object definedValue = value;
 
         if (definedValue == null) {
-            definedValue = argument.getAnnotationMetadata().stringValue(Bindable.class, "defaultValue").orElse(null);
+            definedValue = argumentPlan.defaultValue();
         }
 
+        Argument<Object> argument = argumentPlan.argument();
         if (definedValue == null && !argument.isNullable()) {
             throw new IllegalArgumentException(
                     String.format("Argument [%s] is null. Null values are not allowed to be passed to client methods (%s). Add a supported Nullable annotation type if that is the desired behaviour", argument.getName(), context.getExecutableMethod().toString())
@@ -501,6 +460,88 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         }
     }
 
+    private ClientMethodPlan clientMethodPlan(MethodInvocationContext<Object, Object> context) {
+        ExecutableMethod<Object, Object> method = context.getExecutableMethod();
+        ClientMethodPlan plan = clientMethodPlans.get(method);
+        if (plan == null) {
+            plan = clientMethodPlans.computeIfAbsent(method, m -> newClientMethodPlan(context));
+        }
+        return plan;
+    }
+
+    private ClientMethodPlan newClientMethodPlan(MethodInvocationContext<Object, Object> context) {
+        Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
+        if (!httpMethodMapping.isPresent() || !context.hasStereotype(HttpMethodMapping.class)) {
+            return ClientMethodPlan.NOT_MAPPED;
+        }
+        AnnotationValue<HttpMethodMapping> mapping = context.getAnnotation(HttpMethodMapping.class);
+        String uri = mapping.getRequiredValue(String.class);
+        if (StringUtils.isEmpty(uri)) {
+            uri = "/" + context.getMethodName();
+        }
+
+        Class<? extends Annotation> annotationType = httpMethodMapping.get();
+        HttpMethod httpMethod = HttpMethod.parse(annotationType.getSimpleName().toUpperCase(Locale.ENGLISH));
+        String httpMethodName = context.stringValue(CustomHttpMethod.class, "method").orElse(httpMethod.name());
+
+        UriMatchTemplate uriTemplate = UriMatchTemplate.of("");
+        if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
+            uriTemplate = uriTemplate.nest(uri);
+        }
+        List<String> uriVariables = Collections.unmodifiableList(uriTemplate.getVariableNames());
+
+        List<AnnotatedClientRequestBinder<?>> methodBinders = new ArrayList<>();
+        List<Class<? extends Annotation>> methodBinderTypes = context.getAnnotationTypesByStereotype(Bindable.class);
+        // @Version is not a bindable, so it needs to looked for separately
+        methodBinderTypes.addAll(context.getAnnotationTypesByStereotype(Version.class));
+        for (Class<? extends Annotation> binderType : methodBinderTypes) {
+            binderRegistry.findAnnotatedBinder(binderType).ifPresent(methodBinders::add);
+        }
+
+        Argument[] arguments = context.getArguments();
+        ClientMethodPlan.ArgumentPlan[] argumentPlans = new ClientMethodPlan.ArgumentPlan[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            Argument<Object> argument = arguments[i];
+            AnnotationMetadata argumentMetadata = argument.getAnnotationMetadata();
+            ClientArgumentRequestBinder<Object> binder = (ClientArgumentRequestBinder<Object>) binderRegistry
+                    .findArgumentBinder(argument)
+                    .orElse(null);
+            String pathVariable = null;
+            if (binder == null && uriVariables.contains(argument.getName())) {
+                pathVariable = argumentMetadata.stringValue(Bindable.class).orElse(argument.getName());
+            }
+            argumentPlans[i] = new ClientMethodPlan.ArgumentPlan(
+                    argument,
+                    binder,
+                    pathVariable,
+                    argumentMetadata.hasStereotype(Format.class),
+                    argumentMetadata.stringValue(Bindable.class, "defaultValue").orElse(null)
+            );
+        }
+
+        MediaType[] contentTypes = MediaType.of(context.stringValues(Produces.class));
+        if (ArrayUtils.isEmpty(contentTypes)) {
+            contentTypes = DEFAULT_ACCEPT_TYPES;
+        }
+        String[] consumesMediaType = context.stringValues(Consumes.class);
+        MediaType[] acceptTypes = ArrayUtils.isEmpty(consumesMediaType) ? DEFAULT_ACCEPT_TYPES : MediaType.of(consumesMediaType);
+
+        AnnotationMetadata annotationMetadata = context.getAnnotationMetadata();
+        return new ClientMethodPlan(
+                httpMethod,
+                httpMethodName,
+                uriTemplate,
+                uriVariables,
+                resolveTemplate(annotationMetadata, uriTemplate.toString()),
+                Collections.unmodifiableList(methodBinders),
+                argumentPlans,
+                contentTypes[0],
+                acceptTypes,
+                annotationMetadata.classValue(Client.class, "errorType")
+                        .map((Function<Class, Argument>) Argument::of).orElse(HttpClient.DEFAULT_ERROR_TYPE)
+        );
+    }
+
     private Object handleBlockingCall(Class returnType, Supplier<Object> supplier) {
         try {
             if (void.class == returnType) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.exceptions.NoAvailableServiceException;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.http.client.LoadBalancer;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link LoadBalancer} that picks two random available servers and selects the least loaded one. Unlike picking
+ * the least loaded server of all, this avoids sending all new requests to the same server between two updates of the
+ * load, while still steering them away from the busy or slow servers. The load is computed from the
+ * {@link ServerLoadStatistics} the HTTP client provides; until it does, the servers are picked at random.
+ *
+ * @since 4.0.0
+ */
+public abstract class AbstractPowerOfTwoChoicesLoadBalancer implements LoadBalancer {
+
+    private final String serviceID;
+    private final Supplier<Publisher<List<ServiceInstance>>> instances;
+    private final String contextPath;
+    private volatile ServerLoadStatistics serverLoadStatistics = ServerLoadStatistics.NONE;
+
+    /**
+     * @param serviceID   The service ID
+     * @param instances   Supplies the instances of the service on every selection
+     * @param contextPath The context path of the service
+     */
+    protected AbstractPowerOfTwoChoicesLoadBalancer(String serviceID,
+                                                    Supplier<Publisher<List<ServiceInstance>>> instances,
+                                                    @Nullable String contextPath) {
+        this.serviceID = serviceID;
+        this.instances = instances;
+        this.contextPath = contextPath;
+    }
+
+    /**
+     * @return The service ID
+     */
+    public String getServiceID() {
+        return serviceID;
+    }
+
+    /**
+     * Sets the statistics the load of the servers is computed from. Called by the HTTP client that uses this load
+     * balancer.
+     *
+     * @param serverLoadStatistics The statistics
+     */
+    public void setServerLoadStatistics(@NonNull ServerLoadStatistics serverLoadStatistics) {
+        this.serverLoadStatistics = Objects.requireNonNull(serverLoadStatistics, "serverLoadStatistics");
+    }
+
+    @Override
+    public Publisher<ServiceInstance> select(@Nullable Object discriminator) {
+        return Publishers.map(instances.get(), this::getLeastLoaded);
+    }
+
+    @Override
+    public Optional<String> getContextPath() {
+        return Optional.ofNullable(contextPath);
+    }
+
+    /**
+     * @param serviceInstances A list of service instances
+     * @return The least loaded of two random available instances or a {@link NoAvailableServiceException} if none
+     */
+    protected ServiceInstance getLeastLoaded(List<ServiceInstance> serviceInstances) {
+        List<ServiceInstance> availableServices = serviceInstances.stream()
+            .filter(si -> si.getHealthStatus().equals(HealthStatus.UP))
+            .collect(Collectors.toList());
+        int len = availableServices.size();
+        if (len == 0) {
+            throw new NoAvailableServiceException(getServiceID());
+        }
+        if (len == 1) {
+            return availableServices.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(len);
+        int j = random.nextInt(len - 1);
+        if (j >= i) {
+            j++;
+        }
+        ServiceInstance first = availableServices.get(i);
+        ServiceInstance second = availableServices.get(j);
+        return compareLoad(first, second, serverLoadStatistics) <= 0 ? first : second;
+    }
+
+    /**
+     * Compares the load of two servers, the server with the lower load is selected.
+     *
+     * @param first      The first server
+     * @param second     The second server
+     * @param statistics The statistics of the client
+     * @return A negative integer, zero, or a positive integer as the first server is less loaded than, as loaded as,
+     * or more loaded than the second one
+     */
+    protected abstract int compareLoad(@NonNull ServiceInstance first, @NonNull ServiceInstance second, @NonNull ServerLoadStatistics statistics);
+}
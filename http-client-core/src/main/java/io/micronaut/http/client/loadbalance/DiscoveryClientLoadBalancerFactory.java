@@ -48,6 +48,25 @@ public class DiscoveryClientLoadBalancerFactory {
         return new DiscoveryClientRoundRobinLoadBalancer(serviceID, discoveryClient);
     }
 
+    /**
+     * Creates a {@link LoadBalancer} for the given service ID, with the given strategy.
+     *
+     * @param serviceID The service ID
+     * @param strategy  The load balancing strategy
+     * @return The {@link LoadBalancer}
+     * @since 4.0.0
+     */
+    public LoadBalancer create(String serviceID, LoadBalancingStrategy strategy) {
+        switch (strategy) {
+            case LEAST_LOADED:
+                return new LeastLoadedLoadBalancer(serviceID, () -> discoveryClient.getInstances(serviceID), null);
+            case EWMA_LATENCY:
+                return new EwmaLatencyLoadBalancer(serviceID, () -> discoveryClient.getInstances(serviceID), null);
+            default:
+                return create(serviceID);
+        }
+    }
+
     /**
      * @return The {@link DiscoveryClient} being used
      */
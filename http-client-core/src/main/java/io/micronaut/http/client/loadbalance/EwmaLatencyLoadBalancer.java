@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.discovery.ServiceInstance;
+import org.reactivestreams.Publisher;
+
+import java.net.URI;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A {@link io.micronaut.http.client.LoadBalancer} that selects the server with the lowest expected response time,
+ * out of two random servers. The expected response time is the moving average of the response times of the server,
+ * multiplied by the number of requests it has in flight plus one. A server that did not respond yet is assumed to be
+ * as fast as the other one, so that only their requests in flight are compared.
+ *
+ * @since 4.0.0
+ */
+public class EwmaLatencyLoadBalancer extends AbstractPowerOfTwoChoicesLoadBalancer {
+
+    /**
+     * @param serviceID   The service ID
+     * @param instances   Supplies the instances of the service on every selection
+     * @param contextPath The context path of the service
+     */
+    public EwmaLatencyLoadBalancer(String serviceID,
+                                   Supplier<Publisher<List<ServiceInstance>>> instances,
+                                   @Nullable String contextPath) {
+        super(serviceID, instances, contextPath);
+    }
+
+    @Override
+    protected int compareLoad(@NonNull ServiceInstance first, @NonNull ServiceInstance second, @NonNull ServerLoadStatistics statistics) {
+        URI firstURI = first.getURI();
+        URI secondURI = second.getURI();
+        long firstLatency = statistics.getLatency(firstURI);
+        long secondLatency = statistics.getLatency(secondURI);
+        if (firstLatency == 0) {
+            firstLatency = secondLatency;
+        } else if (secondLatency == 0) {
+            secondLatency = firstLatency;
+        }
+        return Double.compare(
+                (double) firstLatency * (statistics.getInFlightRequests(firstURI) + 1),
+                (double) secondLatency * (statistics.getInFlightRequests(secondURI) + 1)
+        );
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.discovery.ServiceInstance;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A {@link io.micronaut.http.client.LoadBalancer} that selects the server with the fewest requests in flight, out of
+ * two random servers.
+ *
+ * @since 4.0.0
+ */
+public class LeastLoadedLoadBalancer extends AbstractPowerOfTwoChoicesLoadBalancer {
+
+    /**
+     * @param serviceID   The service ID
+     * @param instances   Supplies the instances of the service on every selection
+     * @param contextPath The context path of the service
+     */
+    public LeastLoadedLoadBalancer(String serviceID,
+                                   Supplier<Publisher<List<ServiceInstance>>> instances,
+                                   @Nullable String contextPath) {
+        super(serviceID, instances, contextPath);
+    }
+
+    @Override
+    protected int compareLoad(@NonNull ServiceInstance first, @NonNull ServiceInstance second, @NonNull ServerLoadStatistics statistics) {
+        return Integer.compare(statistics.getInFlightRequests(first.getURI()), statistics.getInFlightRequests(second.getURI()));
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+/**
+ * The strategies of the load balancers created by {@link DiscoveryClientLoadBalancerFactory} and
+ * {@link ServiceInstanceListLoadBalancerFactory}.
+ *
+ * @since 4.0.0
+ */
+public enum LoadBalancingStrategy {
+    /**
+     * Selects the servers in turn.
+     */
+    ROUND_ROBIN,
+    /**
+     * Selects the server with the fewest requests in flight, out of two random servers.
+     *
+     * @see LeastLoadedLoadBalancer
+     */
+    LEAST_LOADED,
+    /**
+     * Selects the server with the lowest average response time, weighted by its requests in flight, out of two random
+     * servers.
+     *
+     * @see EwmaLatencyLoadBalancer
+     */
+    EWMA_LATENCY
+}
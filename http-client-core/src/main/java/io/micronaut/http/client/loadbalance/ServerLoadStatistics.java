@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.net.URI;
+
+/**
+ * The load of the servers a client sends requests to, as seen by the client. An HTTP client provides it to the load
+ * balancers that extend {@link AbstractPowerOfTwoChoicesLoadBalancer}.
+ *
+ * @since 4.0.0
+ */
+public interface ServerLoadStatistics {
+
+    /**
+     * Statistics that know no server.
+     */
+    ServerLoadStatistics NONE = new ServerLoadStatistics() {
+        @Override
+        public int getInFlightRequests(@NonNull URI server) {
+            return 0;
+        }
+
+        @Override
+        public long getLatency(@NonNull URI server) {
+            return 0;
+        }
+    };
+
+    /**
+     * The number of requests to the given server that have not completed yet, including the requests waiting for a
+     * connection.
+     *
+     * @param server The URI of the server
+     * @return The number of requests in flight
+     */
+    int getInFlightRequests(@NonNull URI server);
+
+    /**
+     * The moving average of the response times of the given server, in nanoseconds. The average follows the slower
+     * responses right away, and goes down slowly with the faster ones.
+     *
+     * @param server The URI of the server
+     * @return The average response time, or 0 if the server did not respond yet
+     */
+    long getLatency(@NonNull URI server);
+}
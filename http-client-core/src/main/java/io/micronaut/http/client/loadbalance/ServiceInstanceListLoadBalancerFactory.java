@@ -19,6 +19,7 @@ import io.micronaut.context.annotation.BootstrapContextCompatible;
 import io.micronaut.discovery.ServiceInstanceList;
 import io.micronaut.http.client.LoadBalancer;
 import jakarta.inject.Singleton;
+import reactor.core.publisher.Mono;
 
 /**
  * The default {@link LoadBalancer} factory for creating {@link LoadBalancer} instances from
@@ -40,4 +41,25 @@ public class ServiceInstanceListLoadBalancerFactory {
     public LoadBalancer create(ServiceInstanceList serviceInstanceList) {
         return new ServiceInstanceListRoundRobinLoadBalancer(serviceInstanceList);
     }
+
+    /**
+     * Creates a {@link LoadBalancer} from the given {@link ServiceInstanceList}, with the given strategy.
+     *
+     * @param serviceInstanceList The {@link ServiceInstanceList}
+     * @param strategy            The load balancing strategy
+     * @return The {@link LoadBalancer}
+     * @since 4.0.0
+     */
+    public LoadBalancer create(ServiceInstanceList serviceInstanceList, LoadBalancingStrategy strategy) {
+        String serviceID = serviceInstanceList.getID();
+        String contextPath = serviceInstanceList.getContextPath().orElse(null);
+        switch (strategy) {
+            case LEAST_LOADED:
+                return new LeastLoadedLoadBalancer(serviceID, () -> Mono.fromCallable(serviceInstanceList::getInstances), contextPath);
+            case EWMA_LATENCY:
+                return new EwmaLatencyLoadBalancer(serviceID, () -> Mono.fromCallable(serviceInstanceList::getInstances), contextPath);
+            default:
+                return create(serviceInstanceList);
+        }
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.netty;
+
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.client.HttpClientConfiguration;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.EventLoop;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup;
+import io.netty.resolver.dns.SequentialDnsServerAddressStreamProvider;
+
+import java.io.Closeable;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The asynchronous DNS resolver of a client. The host names are resolved by netty's {@link DnsNameResolver}, one per
+ * event loop, which share a {@link PrefetchingDnsCache}. The refreshes of the cache use a separate resolver per event
+ * loop, whose cache is the refresh view.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class ClientDnsResolver implements Closeable {
+    private static final int DEFAULT_DNS_PORT = 53;
+
+    private final DnsNameResolverBuilder builder;
+    private final PrefetchingDnsCache cache;
+    private final AddressResolverGroup<InetSocketAddress> resolverGroup;
+    private final Map<EventLoop, DnsNameResolver> prefetchResolvers = new ConcurrentHashMap<>();
+
+    /**
+     * @param configuration          The DNS resolver configuration
+     * @param datagramChannelFactory The factory of the channels used to send the DNS queries
+     */
+    ClientDnsResolver(HttpClientConfiguration.DnsResolverConfiguration configuration,
+                      ChannelFactory<? extends DatagramChannel> datagramChannelFactory) {
+        this.cache = new PrefetchingDnsCache(
+            configuration.getMinTtl().orElse(Duration.ZERO),
+            configuration.getMaxTtl().orElse(Duration.ofSeconds(Integer.MAX_VALUE)),
+            configuration.getNegativeTtl(),
+            configuration.isPrefetch() ? this::prefetch : null
+        );
+        this.builder = new DnsNameResolverBuilder()
+            .channelFactory(datagramChannelFactory)
+            .resolveCache(cache)
+            .queryTimeoutMillis(configuration.getQueryTimeout().toMillis());
+        List<String> nameServers = configuration.getNameServers();
+        if (!nameServers.isEmpty()) {
+            List<InetSocketAddress> addresses = new ArrayList<>(nameServers.size());
+            for (String nameServer : nameServers) {
+                addresses.add(parseNameServer(nameServer));
+            }
+            builder.nameServerProvider(new SequentialDnsServerAddressStreamProvider(addresses));
+        }
+        this.resolverGroup = configuration.isRoundRobin() ? new RoundRobinDnsAddressResolverGroup(builder) : new DnsAddressResolverGroup(builder);
+    }
+
+    /**
+     * @return The resolvers of the bootstrap
+     */
+    AddressResolverGroup<InetSocketAddress> resolverGroup() {
+        return resolverGroup;
+    }
+
+    private void prefetch(String hostname, EventLoop eventLoop) {
+        if (eventLoop.isShuttingDown()) {
+            return;
+        }
+        DnsNameResolver resolver = prefetchResolvers.computeIfAbsent(eventLoop, loop -> builder.copy()
+            .eventLoop(loop)
+            .resolveCache(cache.refreshView())
+            .build());
+        resolver.resolveAll(hostname).addListener(future -> cache.completeRefresh(hostname, future.isSuccess()));
+    }
+
+    @Override
+    public void close() {
+        resolverGroup.close();
+        for (DnsNameResolver resolver : prefetchResolvers.values()) {
+            resolver.close();
+        }
+        prefetchResolvers.clear();
+        cache.clear();
+    }
+
+    /**
+     * @param nameServer The DNS server, as {@code host}, {@code host:port} or {@code [ipv6]:port}
+     * @return The address of the DNS server
+     */
+    private static InetSocketAddress parseNameServer(String nameServer) {
+        String host = nameServer;
+        String port = null;
+        if (nameServer.startsWith("[")) {
+            int end = nameServer.indexOf(']');
+            if (end == -1) {
+                throw new ConfigurationException("Invalid DNS server: " + nameServer);
+            }
+            host = nameServer.substring(1, end);
+            if (end + 1 < nameServer.length()) {
+                if (nameServer.charAt(end + 1) != ':') {
+                    throw new ConfigurationException("Invalid DNS server: " + nameServer);
+                }
+                port = nameServer.substring(end + 2);
+            }
+        } else {
+            int colon = nameServer.indexOf(':');
+            if (colon != -1 && colon == nameServer.lastIndexOf(':')) {
+                host = nameServer.substring(0, colon);
+                port = nameServer.substring(colon + 1);
+            }
+        }
+        try {
+            return new InetSocketAddress(host, port == null ? DEFAULT_DNS_PORT : Integer.parseInt(port));
+        } catch (IllegalArgumentException e) {
+            throw new ConfigurationException("Invalid DNS server: " + nameServer, e);
+        }
+    }
+}
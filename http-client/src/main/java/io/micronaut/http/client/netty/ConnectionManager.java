@@ -24,7 +24,9 @@ import io.micronaut.core.util.SupplierUtil;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.HttpVersionSelection;
 import io.micronaut.http.client.exceptions.HttpClientException;
+import io.micronaut.http.client.loadbalance.ServerLoadStatistics;
 import io.micronaut.http.client.netty.ssl.NettyClientSslBuilder;
+import io.micronaut.http.instrumentation.HttpClientListener;
 import io.micronaut.http.netty.channel.ChannelPipelineCustomizer;
 import io.micronaut.http.netty.channel.NettyThreadFactory;
 import io.micronaut.scheduling.instrument.Instrumentation;
@@ -41,8 +43,11 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.HttpClientCodec;
@@ -78,6 +83,8 @@ import io.netty.util.ReferenceCountUtil;
 import io.netty.util.ResourceLeakDetector;
 import io.netty.util.ResourceLeakDetectorFactory;
 import io.netty.util.ResourceLeakTracker;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.FastThreadLocal;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.ScheduledFuture;
@@ -92,6 +99,7 @@ import javax.net.ssl.SSLParameters;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.SocketAddress;
+import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -112,12 +120,26 @@ import java.util.function.Supplier;
  * channels (wrapped in {@link PoolHandle}s), including pooling and timeouts.
  */
 @Internal
-class ConnectionManager {
+class ConnectionManager implements ServerLoadStatistics {
+    /**
+     * The event loop of the current thread in the last group it was looked up in, see {@link #currentEventLoop()}.
+     */
+    private static final FastThreadLocal<ThreadEventLoop> THREAD_EVENT_LOOP = new FastThreadLocal<>();
+
     final InvocationInstrumenter instrumenter;
 
     private final HttpVersionSelection httpVersion;
     private final Logger log;
     private final Map<DefaultHttpClient.RequestKey, Pool> pools = new ConcurrentHashMap<>();
+    /**
+     * Pools of requests issued on an event loop of {@link #group}, only used if
+     * {@link HttpClientConfiguration.ConnectionPoolConfiguration#isEventLoopAffinity()} is enabled.
+     */
+    private final Map<EventLoopPoolKey, Pool> eventLoopPools = new ConcurrentHashMap<>();
+    /**
+     * The load of every remote, shared by the pools of all event loops.
+     */
+    private final Map<DefaultHttpClient.RequestKey, ServerLoad> serverLoads;
     private EventLoopGroup group;
     private final boolean shutdownGroup;
     private final ThreadFactory threadFactory;
@@ -127,6 +149,10 @@ class ConnectionManager {
     private final SslContext sslContext;
     private final NettyClientCustomizer clientCustomizer;
     private final String informationalServiceId;
+    @Nullable
+    private final ClientDnsResolver dnsResolver;
+    @Nullable
+    private HttpClientListener clientListener;
 
     /**
      * Copy constructor used by the test suite to patch this manager.
@@ -146,6 +172,9 @@ class ConnectionManager {
         this.sslContext = from.sslContext;
         this.clientCustomizer = from.clientCustomizer;
         this.informationalServiceId = from.informationalServiceId;
+        this.serverLoads = from.serverLoads;
+        this.dnsResolver = from.dnsResolver;
+        this.clientListener = from.clientListener;
     }
 
     ConnectionManager(
@@ -156,6 +185,7 @@ class ConnectionManager {
         @Nullable  HttpVersionSelection httpVersion,
         InvocationInstrumenter instrumenter,
         ChannelFactory<? extends Channel> socketChannelFactory,
+        @Nullable ChannelFactory<? extends DatagramChannel> datagramChannelFactory,
         NettyClientSslBuilder nettyClientSslBuilder,
         NettyClientCustomizer clientCustomizer,
         String informationalServiceId) {
@@ -172,6 +202,15 @@ class ConnectionManager {
         this.instrumenter = instrumenter;
         this.clientCustomizer = clientCustomizer;
         this.informationalServiceId = informationalServiceId;
+        this.serverLoads = new ConcurrentHashMap<>();
+        if (configuration.getDnsResolverConfiguration().isEnabled()) {
+            this.dnsResolver = new ClientDnsResolver(
+                configuration.getDnsResolverConfiguration(),
+                datagramChannelFactory != null ? datagramChannelFactory : NioDatagramChannel::new
+            );
+        } else {
+            this.dnsResolver = null;
+        }
 
         this.sslContext = nettyClientSslBuilder.build(configuration.getSslConfiguration(), httpVersion);
 
@@ -242,7 +281,7 @@ class ConnectionManager {
     @SuppressWarnings("unused")
     List<Channel> getChannels() {
         List<Channel> channels = new ArrayList<>();
-        for (Pool pool : pools.values()) {
+        for (Pool pool : allPools()) {
             pool.forEachConnection(c -> channels.add(((Pool.ConnectionHolder) c).channel));
         }
         return channels;
@@ -257,7 +296,7 @@ class ConnectionManager {
     @SuppressWarnings("unused")
     int liveRequestCount() {
         AtomicInteger count = new AtomicInteger();
-        for (Pool pool : pools.values()) {
+        for (Pool pool : allPools()) {
             pool.forEachConnection(c -> {
                 if (c instanceof Pool.Http1ConnectionHolder) {
                     if (((Pool.Http1ConnectionHolder) c).hasLiveRequests()) {
@@ -271,6 +310,13 @@ class ConnectionManager {
         return count.get();
     }
 
+    private List<Pool> allPools() {
+        List<Pool> allPools = new ArrayList<>(pools.size() + eventLoopPools.size());
+        allPools.addAll(pools.values());
+        allPools.addAll(eventLoopPools.values());
+        return allPools;
+    }
+
     /**
      * @see DefaultHttpClient#start()
      */
@@ -282,6 +328,15 @@ class ConnectionManager {
         }
     }
 
+    /**
+     * Sets the listener of the connections of this client.
+     *
+     * @param clientListener The listener, or {@code null} to notify nothing
+     */
+    void setClientListener(@Nullable HttpClientListener clientListener) {
+        this.clientListener = clientListener;
+    }
+
     private void initBootstrap() {
         this.bootstrap = new Bootstrap();
         this.bootstrap.group(group)
@@ -293,9 +348,12 @@ class ConnectionManager {
      * @see DefaultHttpClient#stop()
      */
     public void shutdown() {
-        for (Pool pool : pools.values()) {
+        for (Pool pool : allPools()) {
             pool.shutdown();
         }
+        if (dnsResolver != null) {
+            dnsResolver.close();
+        }
         if (shutdownGroup) {
             Duration shutdownTimeout = configuration.getShutdownTimeout()
                 .orElse(Duration.ofMillis(HttpClientConfiguration.DEFAULT_SHUTDOWN_TIMEOUT_MILLISECONDS));
@@ -334,12 +392,27 @@ class ConnectionManager {
      * @return Future that terminates when the TCP connection is established.
      */
     protected ChannelFuture doConnect(DefaultHttpClient.RequestKey requestKey, ChannelInitializer<?> channelInitializer) {
+        return doConnect(requestKey, channelInitializer, null);
+    }
+
+    /**
+     * Use the bootstrap to connect to the given host, registering the channel with the given
+     * event loop.
+     *
+     * @param requestKey The host to connect to
+     * @param channelInitializer The initializer to use
+     * @param eventLoop The event loop of the channel, or {@code null} to use any event loop of the group
+     * @return Future that terminates when the TCP connection is established.
+     */
+    ChannelFuture doConnect(DefaultHttpClient.RequestKey requestKey, ChannelInitializer<?> channelInitializer, @Nullable EventLoop eventLoop) {
         String host = requestKey.getHost();
         int port = requestKey.getPort();
-        Bootstrap localBootstrap = bootstrap.clone();
+        Bootstrap localBootstrap = eventLoop == null ? bootstrap.clone() : bootstrap.clone(eventLoop);
         Proxy proxy = configuration.resolveProxy(requestKey.isSecure(), host, port);
         if (proxy.type() != Proxy.Type.DIRECT) {
             localBootstrap.resolver(NoopAddressResolverGroup.INSTANCE);
+        } else if (dnsResolver != null) {
+            localBootstrap.resolver(dnsResolver.resolverGroup());
         }
         localBootstrap.handler(channelInitializer);
         return localBootstrap.connect(host, port);
@@ -373,7 +446,78 @@ class ConnectionManager {
      * @return A mono that will complete once the channel is ready for transmission
      */
     Mono<PoolHandle> connect(DefaultHttpClient.RequestKey requestKey, @Nullable BlockHint blockHint) {
-        return pools.computeIfAbsent(requestKey, Pool::new).acquire(blockHint);
+        Mono<PoolHandle> handle = null;
+        if (configuration.getConnectionPoolConfiguration().isEventLoopAffinity()) {
+            EventLoop eventLoop = currentEventLoop();
+            if (eventLoop != null) {
+                handle = eventLoopPools.computeIfAbsent(new EventLoopPoolKey(requestKey, eventLoop), k -> new Pool(requestKey, eventLoop)).acquire(blockHint);
+            }
+        }
+        if (handle == null) {
+            handle = pools.computeIfAbsent(requestKey, Pool::new).acquire(blockHint);
+        }
+        HttpClientListener listener = clientListener;
+        if (listener != null) {
+            handle = notifyAcquired(handle, requestKey, listener);
+        }
+        return serverLoads.computeIfAbsent(requestKey, k -> new ServerLoad()).track(handle);
+    }
+
+    private static Mono<PoolHandle> notifyAcquired(Mono<PoolHandle> handle, DefaultHttpClient.RequestKey requestKey, HttpClientListener listener) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return handle.doOnNext(ph -> {
+                long acquiredAt = System.nanoTime();
+                listener.connectionAcquired(requestKey.getHost(), requestKey.getPort(), acquiredAt - start);
+                ph.listener = listener;
+                ph.requestKey = requestKey;
+                ph.acquiredAt = acquiredAt;
+            });
+        });
+    }
+
+    @Override
+    public int getInFlightRequests(@NonNull URI server) {
+        ServerLoad serverLoad = findServerLoad(server);
+        return serverLoad == null ? 0 : serverLoad.inFlight.get();
+    }
+
+    @Override
+    public long getLatency(@NonNull URI server) {
+        ServerLoad serverLoad = findServerLoad(server);
+        return serverLoad == null ? 0 : serverLoad.getLatency();
+    }
+
+    @Nullable
+    private ServerLoad findServerLoad(URI server) {
+        try {
+            return serverLoads.get(new DefaultHttpClient.RequestKey(null, server));
+        } catch (HttpClientException e) {
+            // no host, so no requests either
+            return null;
+        }
+    }
+
+    /**
+     * @return The event loop of {@link #group} the current thread belongs to, if any
+     */
+    @Nullable
+    private EventLoop currentEventLoop() {
+        EventLoopGroup group = this.group;
+        // a thread never changes its event loop, so the group is only scanned once per thread
+        ThreadEventLoop cached = THREAD_EVENT_LOOP.get();
+        if (cached != null && cached.group == group) {
+            return cached.eventLoop;
+        }
+        EventLoop eventLoop = null;
+        for (EventExecutor executor : group) {
+            if (executor instanceof EventLoop loop && loop.inEventLoop()) {
+                eventLoop = loop;
+                break;
+            }
+        }
+        THREAD_EVENT_LOOP.set(new ThreadEventLoop(group, eventLoop));
+        return eventLoop;
     }
 
     /**
@@ -634,6 +778,17 @@ class ConnectionManager {
                     ChannelPipelineCustomizer.HANDLER_HTTP2_PROTOCOL_NEGOTIATOR,
                     // if the server doesn't do ALPN, fall back to HTTP 1
                     new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                        private long handshakeStart;
+
+                        @Override
+                        public void channelActive(ChannelHandlerContext ctx) throws Exception {
+                            // the handshake starts once the connection is active
+                            if (clientListener != null) {
+                                handshakeStart = System.nanoTime();
+                            }
+                            super.channelActive(ctx);
+                        }
+
                         @Override
                         protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
                             if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
@@ -655,6 +810,8 @@ class ConnectionManager {
                                 SslHandshakeCompletionEvent event = (SslHandshakeCompletionEvent) evt;
                                 if (!event.isSuccess()) {
                                     InitialConnectionErrorHandler.setFailureCause(ctx.channel(), event.cause());
+                                } else if (clientListener != null) {
+                                    clientListener.tlsHandshakeCompleted(host, port, System.nanoTime() - handshakeStart);
                                 }
                             }
                             super.userEventTriggered(ctx, evt);
@@ -743,6 +900,18 @@ class ConnectionManager {
 
         boolean released = false;
 
+        @Nullable
+        private Runnable releaseListener;
+
+        /**
+         * The listener notified of the response, set with the remote and the time of the acquisition when there is
+         * one.
+         */
+        @Nullable
+        private HttpClientListener listener;
+        private DefaultHttpClient.RequestKey requestKey;
+        private long acquiredAt;
+
         private final ResourceLeakTracker<PoolHandle> tracker = LEAK_DETECTOR.get().track(this);
 
         private PoolHandle(boolean http2, Channel channel) {
@@ -767,6 +936,9 @@ class ConnectionManager {
             if (tracker != null) {
                 tracker.close(this);
             }
+            if (releaseListener != null) {
+                releaseListener.run();
+            }
         }
 
         /**
@@ -781,6 +953,64 @@ class ConnectionManager {
          * Notify any {@link NettyClientCustomizer} that the request pipeline has been built.
          */
         abstract void notifyRequestPipelineBuilt();
+
+        /**
+         * Notify the {@link HttpClientListener} that the response was received on this connection.
+         */
+        void notifyResponseReceived() {
+            if (listener != null) {
+                listener.firstByteReceived(requestKey.getHost(), requestKey.getPort(), System.nanoTime() - acquiredAt);
+            }
+        }
+    }
+
+    /**
+     * The load of a remote: the requests in flight, from the request for a connection to the release of the
+     * connection, and the peak EWMA of their durations. The average takes a slower response right away, and decays
+     * towards the faster ones with a time constant of {@value #DECAY_SECONDS} seconds.
+     */
+    private static final class ServerLoad {
+        private static final long DECAY_SECONDS = 10;
+        private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(DECAY_SECONDS);
+
+        final AtomicInteger inFlight = new AtomicInteger();
+        private long latency;
+        private long updatedAt;
+
+        Mono<PoolHandle> track(Mono<PoolHandle> handle) {
+            return Mono.defer(() -> {
+                long start = System.nanoTime();
+                AtomicBoolean done = new AtomicBoolean();
+                Runnable complete = () -> {
+                    if (done.compareAndSet(false, true)) {
+                        inFlight.decrementAndGet();
+                    }
+                };
+                inFlight.incrementAndGet();
+                return handle
+                    .doOnNext(ph -> ph.releaseListener = () -> {
+                        complete.run();
+                        record(System.nanoTime() - start);
+                    })
+                    .doOnError(e -> complete.run())
+                    .doOnCancel(complete);
+            });
+        }
+
+        synchronized long getLatency() {
+            return latency;
+        }
+
+        private synchronized void record(long duration) {
+            long now = System.nanoTime();
+            if (duration > latency) {
+                latency = duration;
+            } else {
+                double weight = Math.exp(-(now - updatedAt) / DECAY_NANOS);
+                latency = (long) (latency * weight + duration * (1 - weight));
+            }
+            updatedAt = now;
+        }
     }
 
     /**
@@ -793,6 +1023,12 @@ class ConnectionManager {
      */
     private final class Pool extends PoolResizer {
         private final DefaultHttpClient.RequestKey requestKey;
+        /**
+         * The event loop all connections of this pool are registered with, or {@code null} if
+         * the connections may use any event loop of the group.
+         */
+        @Nullable
+        private final EventLoop eventLoop;
 
         /**
          * {@link ChannelHandler} that is added to a connection to report failures during
@@ -806,8 +1042,13 @@ class ConnectionManager {
         };
 
         Pool(DefaultHttpClient.RequestKey requestKey) {
+            this(requestKey, null);
+        }
+
+        Pool(DefaultHttpClient.RequestKey requestKey, @Nullable EventLoop eventLoop) {
             super(log, configuration.getConnectionPoolConfiguration());
             this.requestKey = requestKey;
+            this.eventLoop = eventLoop;
         }
 
         Mono<PoolHandle> acquire(@Nullable BlockHint blockHint) {
@@ -845,6 +1086,8 @@ class ConnectionManager {
 
         @Override
         void openNewConnection(@Nullable BlockHint blockHint) throws Exception {
+            HttpClientListener listener = clientListener;
+            long connectStart = listener == null ? 0 : System.nanoTime();
             // open a new connection
             ChannelInitializer<?> initializer;
             if (requestKey.isSecure()) {
@@ -881,7 +1124,7 @@ class ConnectionManager {
                         throw new AssertionError("Unknown plaintext mode");
                 }
             }
-            ChannelFuture channelFuture = doConnect(requestKey, initializer);
+            ChannelFuture channelFuture = eventLoop == null ? doConnect(requestKey, initializer) : doConnect(requestKey, initializer, eventLoop);
             if (blockHint != null && blockHint.blocks(channelFuture.channel().eventLoop())) {
                 channelFuture.channel().close();
                 onNewConnectionFailure(BlockHint.createException());
@@ -890,10 +1133,20 @@ class ConnectionManager {
             addInstrumentedListener(channelFuture, future -> {
                 if (!future.isSuccess()) {
                     onNewConnectionFailure(future.cause());
+                } else if (listener != null) {
+                    listener.connected(requestKey.getHost(), requestKey.getPort(), System.nanoTime() - connectStart);
                 }
             });
         }
 
+        @Override
+        void onSizeChanged(int http1Connections, int http2Connections, int pendingConnections) {
+            HttpClientListener listener = clientListener;
+            if (listener != null) {
+                listener.poolSizeChanged(requestKey.getHost(), requestKey.getPort(), http1Connections, http2Connections, pendingConnections);
+            }
+        }
+
         public void shutdown() {
             forEachConnection(c -> ((ConnectionHolder) c).channel.close());
         }
@@ -1267,4 +1520,22 @@ class ConnectionManager {
             }
         }
     }
+
+    /**
+     * The event loop of a thread in a group.
+     *
+     * @param group     The group
+     * @param eventLoop The event loop of the thread, or {@code null} if the thread is not part of the group
+     */
+    private record ThreadEventLoop(EventLoopGroup group, @Nullable EventLoop eventLoop) {
+    }
+
+    /**
+     * Key of a pool for requests issued on a particular event loop.
+     *
+     * @param requestKey The remote of the pool
+     * @param eventLoop The event loop of the pool
+     */
+    private record EventLoopPoolKey(DefaultHttpClient.RequestKey requestKey, EventLoop eventLoop) {
+    }
 }
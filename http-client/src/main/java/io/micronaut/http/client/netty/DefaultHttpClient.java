@@ -65,6 +65,7 @@ import io.micronaut.http.client.exceptions.ReadTimeoutException;
 import io.micronaut.http.client.filter.ClientFilterResolutionContext;
 import io.micronaut.http.client.filter.DefaultHttpClientFilterResolver;
 import io.micronaut.http.client.filters.ClientServerContextFilter;
+import io.micronaut.http.client.loadbalance.AbstractPowerOfTwoChoicesLoadBalancer;
 import io.micronaut.http.client.multipart.MultipartBody;
 import io.micronaut.http.client.multipart.MultipartDataFactory;
 import io.micronaut.http.client.netty.ssl.NettyClientSslBuilder;
@@ -78,6 +79,7 @@ import io.micronaut.http.filter.ClientFilterChain;
 import io.micronaut.http.filter.HttpClientFilter;
 import io.micronaut.http.filter.HttpClientFilterResolver;
 import io.micronaut.http.filter.HttpFilterResolver;
+import io.micronaut.http.instrumentation.HttpClientListener;
 import io.micronaut.http.multipart.MultipartException;
 import io.micronaut.http.netty.AbstractNettyHttpRequest;
 import io.micronaut.http.netty.NettyHttpHeaders;
@@ -120,6 +122,7 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -255,6 +258,8 @@ public class DefaultHttpClient implements
     private final List<InvocationInstrumenterFactory> invocationInstrumenterFactories;
     private final String informationalServiceId;
     private final ConversionService conversionService;
+    @Nullable
+    private final RequestHedging requestHedging;
 
     /**
      * Construct a client for the given arguments.
@@ -336,6 +341,53 @@ public class DefaultHttpClient implements
                              List<InvocationInstrumenterFactory> invocationInstrumenterFactories,
                              @Nullable String informationalServiceId,
                              ConversionService conversionService
+    ) {
+        this(loadBalancer, explicitHttpVersion, configuration, contextPath, filterResolver, clientFilterEntries, threadFactory,
+            nettyClientSslBuilder, codecRegistry, webSocketBeanRegistry, requestBinderRegistry, eventLoopGroup,
+            socketChannelFactory, null, clientCustomizer, invocationInstrumenterFactories, informationalServiceId,
+            conversionService);
+    }
+
+    /**
+     * Construct a client for the given arguments.
+     *  @param loadBalancer                    The {@link LoadBalancer} to use for selecting servers
+     * @param explicitHttpVersion                     The HTTP version to use. Can be null and defaults to {@link io.micronaut.http.HttpVersion#HTTP_1_1}
+     * @param configuration                   The {@link HttpClientConfiguration} object
+     * @param contextPath                     The base URI to prepend to request uris
+     * @param filterResolver                  The http client filter resolver
+     * @param clientFilterEntries             The client filter entries
+     * @param threadFactory                   The thread factory to use for client threads
+     * @param nettyClientSslBuilder           The SSL builder
+     * @param codecRegistry                   The {@link MediaTypeCodecRegistry} to use for encoding and decoding objects
+     * @param webSocketBeanRegistry           The websocket bean registry
+     * @param requestBinderRegistry           The request binder registry
+     * @param eventLoopGroup                  The event loop group to use
+     * @param socketChannelFactory            The socket channel factory
+     * @param datagramChannelFactory          The factory of the channels used by the DNS resolver, or {@code null} to use NIO channels
+     * @param clientCustomizer                The pipeline customizer
+     * @param invocationInstrumenterFactories The invocation instrumeter factories to instrument netty handlers execution with
+     * @param informationalServiceId          Optional service ID that will be passed to exceptions created by this client
+     * @param conversionService               The conversion service
+     * @since 4.0.0
+     */
+    public DefaultHttpClient(@Nullable LoadBalancer loadBalancer,
+                             @Nullable HttpVersionSelection explicitHttpVersion,
+                             @NonNull HttpClientConfiguration configuration,
+                             @Nullable String contextPath,
+                             @NonNull HttpClientFilterResolver<ClientFilterResolutionContext> filterResolver,
+                             List<HttpFilterResolver.FilterEntry<HttpClientFilter>> clientFilterEntries,
+                             @Nullable ThreadFactory threadFactory,
+                             @NonNull NettyClientSslBuilder nettyClientSslBuilder,
+                             @NonNull MediaTypeCodecRegistry codecRegistry,
+                             @NonNull WebSocketBeanRegistry webSocketBeanRegistry,
+                             @NonNull RequestBinderRegistry requestBinderRegistry,
+                             @Nullable EventLoopGroup eventLoopGroup,
+                             @NonNull ChannelFactory socketChannelFactory,
+                             @Nullable ChannelFactory<? extends DatagramChannel> datagramChannelFactory,
+                             NettyClientCustomizer clientCustomizer,
+                             List<InvocationInstrumenterFactory> invocationInstrumenterFactories,
+                             @Nullable String informationalServiceId,
+                             ConversionService conversionService
     ) {
         ArgumentUtils.requireNonNull("nettyClientSslBuilder", nettyClientSslBuilder);
         ArgumentUtils.requireNonNull("codecRegistry", codecRegistry);
@@ -355,6 +407,8 @@ public class DefaultHttpClient implements
             this.contextPath = null;
         }
         this.configuration = configuration;
+        HttpClientConfiguration.HedgingConfiguration hedgingConfiguration = configuration.getHedgingConfiguration();
+        this.requestHedging = hedgingConfiguration.isEnabled() ? new RequestHedging(hedgingConfiguration) : null;
 
         this.invocationInstrumenterFactories =
                 invocationInstrumenterFactories == null ? Collections.emptyList() : invocationInstrumenterFactories;
@@ -382,9 +436,13 @@ public class DefaultHttpClient implements
             explicitHttpVersion,
             combineFactories(),
             socketChannelFactory,
+            datagramChannelFactory,
             nettyClientSslBuilder,
             clientCustomizer,
             informationalServiceId);
+        if (loadBalancer instanceof AbstractPowerOfTwoChoicesLoadBalancer powerOfTwoChoices) {
+            powerOfTwoChoices.setServerLoadStatistics(connectionManager);
+        }
     }
 
     /**
@@ -455,6 +513,15 @@ public class DefaultHttpClient implements
         return this;
     }
 
+    /**
+     * Sets the listener of the connections of this client.
+     *
+     * @param clientListener The listener, or {@code null} to notify nothing
+     */
+    void setClientListener(@Nullable HttpClientListener clientListener) {
+        connectionManager.setClientListener(clientListener);
+    }
+
     @Override
     public boolean isRunning() {
         return connectionManager.isRunning();
@@ -781,6 +848,21 @@ public class DefaultHttpClient implements
     private <I, O, E> Flux<HttpResponse<O>> exchange(io.micronaut.http.HttpRequest<I> request, Argument<O> bodyType, Argument<E> errorType, @Nullable BlockHint blockHint) {
         setupConversionService(request);
         final io.micronaut.http.HttpRequest<Object> parentRequest = ServerRequestContext.currentRequest().orElse(null);
+        if (requestHedging != null && requestHedging.appliesTo(request)) {
+            // copy the request before the load balancer and the filters modify it
+            MutableHttpRequest<Object> hedgeRequest = RequestHedging.copy(request);
+            AtomicReference<URI> primaryURI = new AtomicReference<>();
+            Mono<HttpResponse<O>> primary = Flux.from(resolveRequestURI(request))
+                .doOnNext(primaryURI::set)
+                .<HttpResponse<O>>switchMap(uri -> exchangeImpl(uri, parentRequest, toMutableRequest(request), bodyType, errorType, blockHint))
+                .next();
+            Mono<HttpResponse<O>> hedge = Flux.from(resolveRequestURI(hedgeRequest))
+                // ask the load balancer once more if it picked the server of the primary request
+                .concatMap(uri -> uri.equals(primaryURI.get()) ? resolveRequestURI(hedgeRequest) : Flux.just(uri))
+                .<HttpResponse<O>>switchMap(uri -> exchangeImpl(uri, parentRequest, hedgeRequest, bodyType, errorType, blockHint))
+                .next();
+            return requestHedging.hedge(primary, hedge).flux();
+        }
         Publisher<URI> uriPublisher = resolveRequestURI(request);
         return Flux.from(uriPublisher)
             .switchMap(uri -> exchangeImpl(uri, parentRequest, toMutableRequest(request), bodyType, errorType, blockHint));
@@ -1557,11 +1639,18 @@ public class DefaultHttpClient implements
         }
 
         Promise<HttpResponse<O>> responsePromise = poolHandle.channel.eventLoop().newPromise();
-        poolHandle.channel.pipeline().addLast(ChannelPipelineCustomizer.HANDLER_MICRONAUT_FULL_HTTP_RESPONSE,
-                new FullHttpResponseHandler<>(responsePromise, poolHandle, secure, finalRequest, bodyType, errorType));
+        FullHttpResponseHandler<O> responseHandler = new FullHttpResponseHandler<>(responsePromise, poolHandle, secure, finalRequest, bodyType, errorType);
+        poolHandle.channel.pipeline().addLast(ChannelPipelineCustomizer.HANDLER_MICRONAUT_FULL_HTTP_RESPONSE, responseHandler);
         poolHandle.notifyRequestPipelineBuilt();
         Publisher<HttpResponse<O>> publisher = new NettyFuturePublisher<>(responsePromise, true);
         publisher.subscribe(new ForwardingSubscriber<>(emitter));
+        emitter.onCancel(() -> poolHandle.channel.eventLoop().execute(() -> {
+            // nobody waits for the response anymore (e.g. a hedged request lost), abort the connection or stream
+            if (!responsePromise.isDone() && poolHandle.channel.pipeline().context(responseHandler) != null) {
+                poolHandle.taint();
+                poolHandle.channel.pipeline().remove(responseHandler);
+            }
+        }));
 
         requestWriter.write(poolHandle, secure, emitter);
     }
@@ -1620,8 +1709,8 @@ public class DefaultHttpClient implements
         HttpRequest nettyRequest = requestWriter.getNettyRequest();
         Promise<MutableHttpResponse<?>> responsePromise = poolHandle.channel.eventLoop().newPromise();
         ChannelPipeline pipeline = poolHandle.channel.pipeline();
-        pipeline.addLast(ChannelPipelineCustomizer.HANDLER_MICRONAUT_HTTP_RESPONSE_FULL, new StreamFullHttpResponseHandler(responsePromise, parentRequest, request));
-        pipeline.addLast(ChannelPipelineCustomizer.HANDLER_MICRONAUT_HTTP_RESPONSE_STREAM, new StreamStreamHttpResponseHandler(responsePromise, parentRequest, request));
+        pipeline.addLast(ChannelPipelineCustomizer.HANDLER_MICRONAUT_HTTP_RESPONSE_FULL, new StreamFullHttpResponseHandler(responsePromise, poolHandle, parentRequest, request));
+        pipeline.addLast(ChannelPipelineCustomizer.HANDLER_MICRONAUT_HTTP_RESPONSE_STREAM, new StreamStreamHttpResponseHandler(responsePromise, poolHandle, parentRequest, request));
         poolHandle.notifyRequestPipelineBuilt();
 
         if (log.isDebugEnabled()) {
@@ -1895,17 +1984,17 @@ public class DefaultHttpClient implements
 
         /**
          * @param ctx The HTTP client that created this request key. Only used for exception
-         *            context, not stored
+         *            context, not stored, may be {@code null}
          * @param requestURI The request URI
          */
-        public RequestKey(DefaultHttpClient ctx, URI requestURI) {
+        public RequestKey(@Nullable DefaultHttpClient ctx, URI requestURI) {
             this.secure = isSecureScheme(requestURI.getScheme());
             String host = requestURI.getHost();
             int port;
             if (host == null) {
                 host = requestURI.getAuthority();
                 if (host == null) {
-                    throw ctx.customizeException(new NoHostException("URI specifies no host to connect to"));
+                    throw customizeException(ctx, new NoHostException("URI specifies no host to connect to"));
                 }
 
                 final int i = host.indexOf(':');
@@ -1915,7 +2004,7 @@ public class DefaultHttpClient implements
                     try {
                         port = Integer.parseInt(portStr);
                     } catch (NumberFormatException e) {
-                        throw ctx.customizeException(new HttpClientException("URI specifies an invalid port: " + portStr));
+                        throw customizeException(ctx, new HttpClientException("URI specifies an invalid port: " + portStr));
                     }
                 } else {
                     port = requestURI.getPort() > -1 ? requestURI.getPort() : secure ? DEFAULT_HTTPS_PORT : DEFAULT_HTTP_PORT;
@@ -1928,6 +2017,10 @@ public class DefaultHttpClient implements
             this.port = port;
         }
 
+        private static <E extends HttpClientException> E customizeException(@Nullable DefaultHttpClient ctx, E exc) {
+            return ctx == null ? exc : ctx.customizeException(exc);
+        }
+
         public InetSocketAddress getRemoteAddress() {
             return InetSocketAddress.createUnresolved(host, port);
         }
@@ -2047,12 +2140,14 @@ public class DefaultHttpClient implements
 
     private abstract class BaseHttpResponseHandler<R extends io.netty.handler.codec.http.HttpResponse, O> extends SimpleChannelInboundHandlerInstrumented<R> {
         private final Promise<? super O> responsePromise;
+        private final ConnectionManager.PoolHandle responseHandle;
         private final io.micronaut.http.HttpRequest<?> parentRequest;
         private final io.micronaut.http.HttpRequest<?> finalRequest;
 
-        public BaseHttpResponseHandler(Promise<? super O> responsePromise, io.micronaut.http.HttpRequest<?> parentRequest, io.micronaut.http.HttpRequest<?> finalRequest) {
+        public BaseHttpResponseHandler(Promise<? super O> responsePromise, ConnectionManager.PoolHandle responseHandle, io.micronaut.http.HttpRequest<?> parentRequest, io.micronaut.http.HttpRequest<?> finalRequest) {
             super(connectionManager.instrumenter);
             this.responsePromise = responsePromise;
+            this.responseHandle = responseHandle;
             this.parentRequest = parentRequest;
             this.finalRequest = finalRequest;
         }
@@ -2087,6 +2182,7 @@ public class DefaultHttpClient implements
             if (responsePromise.isDone()) {
                 return;
             }
+            responseHandle.notifyResponseReceived();
 
             if (log.isDebugEnabled()) {
                 log.debug("Received response {} from {}", msg.status().code(), finalRequest.getUri());
@@ -2158,7 +2254,7 @@ public class DefaultHttpClient implements
                 io.micronaut.http.HttpRequest<?> request,
                 Argument<O> bodyType,
                 Argument<?> errorType) {
-            super(responsePromise, request, request);
+            super(responsePromise, poolHandle, request, request);
             this.secure = secure;
             this.bodyType = bodyType;
             this.errorType = errorType;
@@ -2340,10 +2436,11 @@ public class DefaultHttpClient implements
     private class StreamFullHttpResponseHandler extends BaseHttpResponseHandler<FullHttpResponse, MutableHttpResponse<?>> {
         public StreamFullHttpResponseHandler(
             Promise<? super MutableHttpResponse<?>> responsePromise,
+            ConnectionManager.PoolHandle poolHandle,
             io.micronaut.http.HttpRequest<?> parentRequest,
             io.micronaut.http.HttpRequest<?> finalRequest) {
 
-            super(responsePromise, parentRequest, finalRequest);
+            super(responsePromise, poolHandle, parentRequest, finalRequest);
         }
 
         @Override
@@ -2383,10 +2480,11 @@ public class DefaultHttpClient implements
     private class StreamStreamHttpResponseHandler extends BaseHttpResponseHandler<StreamedHttpResponse, MutableHttpResponse<?>> {
         public StreamStreamHttpResponseHandler(
             Promise<? super MutableHttpResponse<?>> responsePromise,
+            ConnectionManager.PoolHandle poolHandle,
             io.micronaut.http.HttpRequest<?> parentRequest,
             io.micronaut.http.HttpRequest<?> finalRequest) {
 
-            super(responsePromise, parentRequest, finalRequest);
+            super(responsePromise, poolHandle, parentRequest, finalRequest);
         }
 
         @Override
@@ -50,6 +50,8 @@ import io.micronaut.http.client.sse.SseClientRegistry;
 import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
 import io.micronaut.http.filter.HttpClientFilterResolver;
+import io.micronaut.http.instrumentation.CompositeHttpClientListener;
+import io.micronaut.http.instrumentation.HttpClientListener;
 import io.micronaut.http.netty.channel.ChannelPipelineCustomizer;
 import io.micronaut.http.netty.channel.ChannelPipelineListener;
 import io.micronaut.http.netty.channel.DefaultEventLoopGroupConfiguration;
@@ -67,6 +69,7 @@ import io.micronaut.websocket.WebSocketClientRegistry;
 import io.micronaut.websocket.context.WebSocketBeanRegistry;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -400,7 +403,7 @@ class DefaultNettyHttpClientRegistry implements AutoCloseable,
 
         EventLoopGroup eventLoopGroup = resolveEventLoopGroup(configuration, beanContext);
         ConversionService conversionService = beanContext.getBean(ConversionService.class);
-        return new DefaultHttpClient(
+        DefaultHttpClient client = new DefaultHttpClient(
                 loadBalancer,
                 httpVersion,
                 configuration,
@@ -419,11 +422,14 @@ class DefaultNettyHttpClientRegistry implements AutoCloseable,
                 ),
                 eventLoopGroup,
                 resolveSocketChannelFactory(configuration, beanContext),
+                configuration.getDnsResolverConfiguration().isEnabled() ? resolveDatagramChannelFactory(configuration, beanContext) : null,
                 clientCustomizer,
                 invocationInstrumenterFactories,
                 clientId,
                 conversionService
         );
+        client.setClientListener(CompositeHttpClientListener.of(beanContext.getBeansOfType(HttpClientListener.class)));
+        return client;
     }
 
     private EventLoopGroup resolveEventLoopGroup(HttpClientConfiguration configuration, BeanContext beanContext) {
@@ -462,9 +468,19 @@ class DefaultNettyHttpClientRegistry implements AutoCloseable,
     }
 
     private ChannelFactory resolveSocketChannelFactory(HttpClientConfiguration configuration, BeanContext beanContext) {
+        final EventLoopGroupConfiguration eventLoopGroupConfiguration = resolveEventLoopGroupConfiguration(configuration, beanContext);
+        return () -> eventLoopGroupFactory.clientSocketChannelInstance(eventLoopGroupConfiguration);
+    }
+
+    private ChannelFactory<DatagramChannel> resolveDatagramChannelFactory(HttpClientConfiguration configuration, BeanContext beanContext) {
+        final EventLoopGroupConfiguration eventLoopGroupConfiguration = resolveEventLoopGroupConfiguration(configuration, beanContext);
+        return () -> eventLoopGroupFactory.datagramChannelInstance(eventLoopGroupConfiguration);
+    }
+
+    private EventLoopGroupConfiguration resolveEventLoopGroupConfiguration(HttpClientConfiguration configuration, BeanContext beanContext) {
         final String eventLoopGroup = configuration.getEventLoopGroup();
 
-        final EventLoopGroupConfiguration eventLoopGroupConfiguration = beanContext.findBean(EventLoopGroupConfiguration.class, Qualifiers.byName(eventLoopGroup))
+        return beanContext.findBean(EventLoopGroupConfiguration.class, Qualifiers.byName(eventLoopGroup))
                 .orElseGet(() -> {
                     if (EventLoopGroupConfiguration.DEFAULT.equals(eventLoopGroup)) {
                         return new DefaultEventLoopGroupConfiguration();
@@ -472,8 +488,6 @@ class DefaultNettyHttpClientRegistry implements AutoCloseable,
                         throw new HttpClientException("Specified event loop group is not defined: " + eventLoopGroup);
                     }
                 });
-
-        return () -> eventLoopGroupFactory.clientSocketChannelInstance(eventLoopGroupConfiguration);
     }
 
     private ClientKey getClientKey(AnnotationMetadata metadata) {
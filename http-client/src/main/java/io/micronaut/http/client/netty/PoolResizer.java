@@ -54,6 +54,13 @@ abstract class PoolResizer {
     private final List<ResizerConnection> http1Connections = new CopyOnWriteArrayList<>();
     private final List<ResizerConnection> http2Connections = new CopyOnWriteArrayList<>();
 
+    /*
+     * The sizes last passed to onSizeChanged, only accessed by doSomeWork.
+     */
+    private int reportedHttp1ConnectionCount;
+    private int reportedHttp2ConnectionCount;
+    private int reportedPendingConnectionCount;
+
     PoolResizer(Logger log, HttpClientConfiguration.ConnectionPoolConfiguration connectionPoolConfiguration) {
         this.log = log;
         this.connectionPoolConfiguration = connectionPoolConfiguration;
@@ -132,6 +139,19 @@ abstract class PoolResizer {
         int http1ConnectionCount = this.http1Connections.size();
         int http2ConnectionCount = this.http2Connections.size();
 
+        if (http1ConnectionCount != reportedHttp1ConnectionCount
+            || http2ConnectionCount != reportedHttp2ConnectionCount
+            || pendingConnectionCount != reportedPendingConnectionCount) {
+            reportedHttp1ConnectionCount = http1ConnectionCount;
+            reportedHttp2ConnectionCount = http2ConnectionCount;
+            reportedPendingConnectionCount = pendingConnectionCount;
+            try {
+                onSizeChanged(http1ConnectionCount, http2ConnectionCount, pendingConnectionCount);
+            } catch (Exception e) {
+                log.error("Failed to report the size of the pool", e);
+            }
+        }
+
         if (pendingRequestCount == 0) {
             // if there are no pending requests, there is nothing to do.
             return;
@@ -182,6 +202,16 @@ abstract class PoolResizer {
 
     abstract void openNewConnection(@Nullable BlockHint blockedPendingRequests) throws Exception;
 
+    /**
+     * Called when the number of connections of this pool changes.
+     *
+     * @param http1ConnectionCount   The number of HTTP/1 connections
+     * @param http2ConnectionCount   The number of HTTP/2 connections
+     * @param pendingConnectionCount The number of connections being opened
+     */
+    void onSizeChanged(int http1ConnectionCount, int http2ConnectionCount, int pendingConnectionCount) {
+    }
+
     static boolean incrementWithLimit(AtomicInteger variable, int limit) {
         while (true) {
             int old = variable.get();
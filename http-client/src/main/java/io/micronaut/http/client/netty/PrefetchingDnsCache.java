@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.resolver.dns.DnsCache;
+import io.netty.resolver.dns.DnsCacheEntry;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The DNS cache of a client. The answers are cached for their time to live, bounded by the configured minimum and
+ * maximum, and the failures for the negative time to live. When an answer is used after 90% of its time to live, the
+ * prefetcher is asked once to refresh it. The refreshed answer goes to the {@link #refreshView() refresh view}, and
+ * replaces the cached answer as a whole once the refresh is {@link #completeRefresh(String, boolean) complete}, so
+ * that the connections keep using the cached answer in the meantime.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class PrefetchingDnsCache implements DnsCache {
+    private static final double REFRESH_RATIO = 0.9;
+
+    private final Map<String, Entries> entries = new ConcurrentHashMap<>();
+    private final Map<String, Entries> refreshedEntries = new ConcurrentHashMap<>();
+    private final long minTtlSeconds;
+    private final long maxTtlSeconds;
+    private final long negativeTtlNanos;
+    @Nullable
+    private final Prefetcher prefetcher;
+
+    /**
+     * @param minTtl      The minimum time an answer is cached
+     * @param maxTtl      The maximum time an answer is cached
+     * @param negativeTtl The time a failure is cached
+     * @param prefetcher  Refreshes the answers before they expire, or {@code null} to let them expire
+     */
+    PrefetchingDnsCache(Duration minTtl, Duration maxTtl, Duration negativeTtl, @Nullable Prefetcher prefetcher) {
+        this.minTtlSeconds = minTtl.getSeconds();
+        this.maxTtlSeconds = maxTtl.getSeconds();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.prefetcher = prefetcher;
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        refreshedEntries.clear();
+    }
+
+    @Override
+    public boolean clear(String hostname) {
+        refreshedEntries.remove(hostname);
+        return entries.remove(hostname) != null;
+    }
+
+    @Override
+    public List<? extends DnsCacheEntry> get(String hostname, DnsRecord[] additionals) {
+        if (!isEmpty(additionals)) {
+            return null;
+        }
+        Entries cached = entries.get(hostname);
+        if (cached == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (cached.isExpired(now)) {
+            entries.remove(hostname, cached);
+            return null;
+        }
+        if (prefetcher != null && cached.startRefresh(now)) {
+            prefetcher.prefetch(hostname, cached.eventLoop);
+        }
+        return cached.entries;
+    }
+
+    @Override
+    public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, InetAddress address, long originalTtl, EventLoop loop) {
+        Entry entry = new Entry(address, null);
+        long ttlNanos = ttlNanos(originalTtl);
+        if (ttlNanos > 0 && isEmpty(additionals)) {
+            long now = System.nanoTime();
+            entries.compute(hostname, (name, cached) -> Entries.add(cached, entry, now, ttlNanos, loop));
+        }
+        return entry;
+    }
+
+    @Override
+    public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, Throwable cause, EventLoop loop) {
+        Entry entry = new Entry(null, cause);
+        if (negativeTtlNanos > 0 && isEmpty(additionals)) {
+            entries.put(hostname, Entries.of(entry, System.nanoTime(), negativeTtlNanos, loop));
+        }
+        return entry;
+    }
+
+    /**
+     * The cache used by the resolver of the prefetcher. It never answers, so that the prefetcher queries the DNS
+     * servers, and keeps the answers aside until the refresh is complete.
+     *
+     * @return The refresh view of this cache
+     */
+    DnsCache refreshView() {
+        return new RefreshView();
+    }
+
+    /**
+     * Completes the refresh of a host name. If it succeeded, its refreshed answer replaces the cached answer,
+     * otherwise the cached answer is used until it expires.
+     *
+     * @param hostname The host name
+     * @param success  Whether the refresh succeeded
+     */
+    void completeRefresh(String hostname, boolean success) {
+        Entries refreshed = refreshedEntries.remove(hostname);
+        if (success && refreshed != null) {
+            entries.put(hostname, refreshed);
+        }
+    }
+
+    private long ttlNanos(long originalTtl) {
+        return TimeUnit.SECONDS.toNanos(Math.max(minTtlSeconds, Math.min(maxTtlSeconds, originalTtl)));
+    }
+
+    private static boolean isEmpty(@Nullable DnsRecord[] additionals) {
+        return additionals == null || additionals.length == 0;
+    }
+
+    /**
+     * Refreshes the answer of a host name, and calls {@link #completeRefresh(String, boolean)} when done.
+     */
+    @FunctionalInterface
+    interface Prefetcher {
+        /**
+         * @param hostname  The host name to refresh
+         * @param eventLoop The event loop the answer was resolved on
+         */
+        void prefetch(String hostname, EventLoop eventLoop);
+    }
+
+    /**
+     * The answer of a host name: its addresses, or the failure to resolve it.
+     */
+    private static final class Entries {
+        final List<Entry> entries;
+        final long expiresAt;
+        final long refreshAt;
+        final EventLoop eventLoop;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entries(List<Entry> entries, long expiresAt, long refreshAt, EventLoop eventLoop) {
+            this.entries = entries;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+            this.eventLoop = eventLoop;
+        }
+
+        static Entries of(Entry entry, long now, long ttlNanos, EventLoop eventLoop) {
+            return new Entries(List.of(entry), now + ttlNanos, now + (long) (ttlNanos * REFRESH_RATIO), eventLoop);
+        }
+
+        /**
+         * Adds an address to an answer. The answer expires with its shortest lived address.
+         */
+        static Entries add(@Nullable Entries cached, Entry entry, long now, long ttlNanos, EventLoop eventLoop) {
+            if (cached == null || cached.isFailure() || cached.isExpired(now)) {
+                return of(entry, now, ttlNanos, eventLoop);
+            }
+            List<Entry> addresses = new ArrayList<>(cached.entries.size() + 1);
+            for (Entry address : cached.entries) {
+                if (!address.address().equals(entry.address())) {
+                    addresses.add(address);
+                }
+            }
+            addresses.add(entry);
+            Entries added = of(entry, now, ttlNanos, eventLoop);
+            return new Entries(
+                addresses,
+                earliest(cached.expiresAt, added.expiresAt),
+                earliest(cached.refreshAt, added.refreshAt),
+                cached.eventLoop
+            );
+        }
+
+        private static long earliest(long nanoTime1, long nanoTime2) {
+            return nanoTime1 - nanoTime2 < 0 ? nanoTime1 : nanoTime2;
+        }
+
+        boolean isFailure() {
+            return entries.get(0).cause() != null;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        boolean startRefresh(long now) {
+            return !isFailure() && now - refreshAt >= 0 && refreshing.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * A cached address or failure.
+     *
+     * @param address The address
+     * @param cause   The failure
+     */
+    private record Entry(InetAddress address, Throwable cause) implements DnsCacheEntry {
+    }
+
+    /**
+     * See {@link #refreshView()}.
+     */
+    private final class RefreshView implements DnsCache {
+        @Override
+        public void clear() {
+            refreshedEntries.clear();
+        }
+
+        @Override
+        public boolean clear(String hostname) {
+            return refreshedEntries.remove(hostname) != null;
+        }
+
+        @Override
+        public List<? extends DnsCacheEntry> get(String hostname, DnsRecord[] additionals) {
+            return null;
+        }
+
+        @Override
+        public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, InetAddress address, long originalTtl, EventLoop loop) {
+            Entry entry = new Entry(address, null);
+            long ttlNanos = ttlNanos(originalTtl);
+            if (ttlNanos > 0 && isEmpty(additionals)) {
+                long now = System.nanoTime();
+                refreshedEntries.compute(hostname, (name, refreshed) -> Entries.add(refreshed, entry, now, ttlNanos, loop));
+            }
+            return entry;
+        }
+
+        @Override
+        public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, Throwable cause, EventLoop loop) {
+            return new Entry(null, cause);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.client.HttpClientConfiguration;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hedges the requests of a client: when the response to a request takes longer than the hedging delay, a duplicate
+ * request is sent, and the first successful response wins while the other request is cancelled. The delay is either
+ * fixed, or the configured percentile of the latest response times. Every request adds a fraction of a token to the
+ * budget, and every duplicate request takes a whole token, so that the duplicates stay below the configured percentage
+ * of the requests.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class RequestHedging {
+    private static final int WINDOW = 1024;
+    private static final int RECOMPUTE_INTERVAL = 64;
+    private static final long TOKEN = 1000;
+    private static final long MAX_BALANCE = 10 * TOKEN;
+
+    private final Set<HttpMethod> methods;
+    private final long delayNanos;
+    private final double percentile;
+    private final long deposit;
+    private final AtomicLong balance = new AtomicLong(MAX_BALANCE);
+    private final long[] latencies = new long[WINDOW];
+    private long samples;
+    private volatile long percentileNanos = -1;
+
+    /**
+     * @param configuration The hedging configuration
+     */
+    RequestHedging(HttpClientConfiguration.HedgingConfiguration configuration) {
+        this.methods = configuration.getMethods().isEmpty() ? EnumSet.noneOf(HttpMethod.class) : EnumSet.copyOf(configuration.getMethods());
+        this.delayNanos = configuration.getDelay().map(Duration::toNanos).orElse(-1L);
+        this.percentile = configuration.getPercentile().orElse(delayNanos < 0 ? 95.0 : -1);
+        this.deposit = Math.max(0, configuration.getBudgetPercent()) * TOKEN / 100;
+    }
+
+    /**
+     * Whether the given request is hedged. Only the requests resolved by the load balancer are, so that the duplicate
+     * request can go to another server.
+     *
+     * @param request The request
+     * @return Whether the request is hedged
+     */
+    boolean appliesTo(HttpRequest<?> request) {
+        return methods.contains(request.getMethod()) && request.getUri().getScheme() == null;
+    }
+
+    /**
+     * Runs the primary request, and the hedge request if the primary one is too slow and the budget allows it.
+     *
+     * @param primary The primary request
+     * @param hedge   The hedge request, only subscribed to when it is sent
+     * @param <T>     The response type
+     * @return The response of the first successful request
+     */
+    @NonNull
+    <T> Mono<T> hedge(@NonNull Mono<T> primary, @NonNull Mono<T> hedge) {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(current + amount, MAX_BALANCE));
+        long delay = percentileNanos >= 0 ? percentileNanos : delayNanos;
+        if (delay < 0) {
+            return Mono.defer(() -> {
+                long start = System.nanoTime();
+                return primary.doOnNext(value -> record(System.nanoTime() - start));
+            });
+        }
+        return Mono.create(sink -> new HedgedCall<>(sink, hedge).start(primary, delay));
+    }
+
+    /**
+     * Copies a request, so that the duplicate request is not affected by the changes made to the primary one.
+     *
+     * @param request The request
+     * @return The copy
+     */
+    @NonNull
+    static MutableHttpRequest<Object> copy(@NonNull HttpRequest<?> request) {
+        MutableHttpRequest<Object> copy = HttpRequest.create(request.getMethod(), request.getUri().toString(), request.getMethodName());
+        request.getHeaders().forEachValue(copy::header);
+        request.getAttributes().forEach(copy::setAttribute);
+        request.getBody().ifPresent(copy::body);
+        return copy;
+    }
+
+    private boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    private void record(long nanos) {
+        long[] snapshot = null;
+        synchronized (latencies) {
+            latencies[(int) (samples++ % WINDOW)] = nanos;
+            if (percentile >= 0 && samples % RECOMPUTE_INTERVAL == 0) {
+                snapshot = Arrays.copyOf(latencies, (int) Math.min(samples, WINDOW));
+            }
+        }
+        if (snapshot != null) {
+            Arrays.sort(snapshot);
+            int index = (int) Math.ceil(percentile / 100 * snapshot.length) - 1;
+            percentileNanos = snapshot[Math.max(0, Math.min(index, snapshot.length - 1))];
+        }
+    }
+
+    /**
+     * The state of a hedged request.
+     *
+     * @param <T> The response type
+     */
+    private final class HedgedCall<T> {
+        private final MonoSink<T> sink;
+        private final Mono<T> hedge;
+        private final Disposable.Composite attempts = Disposables.composite();
+        private int running;
+        private boolean done;
+
+        HedgedCall(MonoSink<T> sink, Mono<T> hedge) {
+            this.sink = sink;
+            this.hedge = hedge;
+        }
+
+        void start(Mono<T> primary, long delay) {
+            sink.onCancel(attempts);
+            running = 1;
+            subscribe(primary);
+            attempts.add(Schedulers.parallel().schedule(this::sendHedge, delay, TimeUnit.NANOSECONDS));
+        }
+
+        private void sendHedge() {
+            synchronized (this) {
+                if (done || !tryWithdraw()) {
+                    return;
+                }
+                running++;
+            }
+            subscribe(hedge);
+        }
+
+        private void subscribe(Mono<T> attempt) {
+            long start = System.nanoTime();
+            attempts.add(attempt.subscribe(
+                    value -> succeeded(value, start),
+                    this::failed,
+                    () -> succeeded(null, start)
+            ));
+        }
+
+        private void succeeded(T value, long start) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            // cancels the other request, if any
+            attempts.dispose();
+            if (value == null) {
+                sink.success();
+            } else {
+                record(System.nanoTime() - start);
+                sink.success(value);
+            }
+        }
+
+        private void failed(Throwable e) {
+            synchronized (this) {
+                if (done || --running > 0) {
+                    // the other request may still succeed
+                    return;
+                }
+                done = true;
+            }
+            attempts.dispose();
+            sink.error(e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package io.micronaut.http.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.exceptions.HttpClientException
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.bootstrap.Bootstrap
+import io.netty.channel.Channel
+import io.netty.channel.ChannelHandlerContext
+import io.netty.channel.ChannelInitializer
+import io.netty.channel.SimpleChannelInboundHandler
+import io.netty.channel.nio.NioEventLoopGroup
+import io.netty.channel.socket.DatagramChannel
+import io.netty.channel.socket.nio.NioDatagramChannel
+import io.netty.handler.codec.dns.DatagramDnsQuery
+import io.netty.handler.codec.dns.DatagramDnsQueryDecoder
+import io.netty.handler.codec.dns.DatagramDnsResponse
+import io.netty.handler.codec.dns.DatagramDnsResponseEncoder
+import io.netty.handler.codec.dns.DefaultDnsRawRecord
+import io.netty.handler.codec.dns.DnsQuestion
+import io.netty.handler.codec.dns.DnsRecordType
+import io.netty.handler.codec.dns.DnsResponseCode
+import io.netty.handler.codec.dns.DnsSection
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+
+class DnsResolverSpec extends Specification {
+
+    @Shared
+    NioEventLoopGroup dnsGroup = new NioEventLoopGroup(1)
+
+    @Shared
+    Map<String, Integer> queries = new ConcurrentHashMap<>()
+
+    @Shared
+    Channel dnsServer = new Bootstrap()
+            .group(dnsGroup)
+            .channel(NioDatagramChannel)
+            .handler(new ChannelInitializer<DatagramChannel>() {
+                @Override
+                protected void initChannel(DatagramChannel ch) {
+                    ch.pipeline().addLast(new DatagramDnsQueryDecoder(), new DatagramDnsResponseEncoder(), new StubDnsHandler(queries))
+                }
+            })
+            .bind('127.0.0.1', 0).sync().channel()
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer server = ApplicationContext.run(EmbeddedServer, ['spec.name': 'DnsResolverSpec'])
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext clientContext = ApplicationContext.run([
+            'micronaut.http.client.pool.enabled': false,
+            'micronaut.http.client.dns-resolver.enabled': true,
+            'micronaut.http.client.dns-resolver.name-servers': ["127.0.0.1:${dnsServer.localAddress().port}"],
+            'micronaut.http.client.dns-resolver.negative-ttl': '1m',
+    ])
+
+    @Shared
+    HttpClient client = clientContext.getBean(HttpClientRegistry).getDefaultClient()
+
+    void cleanupSpec() {
+        dnsServer.close()
+        dnsGroup.shutdownGracefully()
+    }
+
+    void 'test the configuration of the DNS resolver'() {
+        when:
+        def configuration = clientContext.getBean(HttpClientConfiguration).dnsResolverConfiguration
+
+        then:
+        configuration.enabled
+        configuration.nameServers == ["127.0.0.1:${dnsServer.localAddress().port}".toString()]
+        configuration.negativeTtl == Duration.ofMinutes(1)
+        configuration.queryTimeout == Duration.ofSeconds(5)
+        configuration.prefetch
+        configuration.roundRobin
+
+        and:
+        !new DefaultHttpClientConfiguration().dnsResolverConfiguration.enabled
+    }
+
+    void 'test host names are resolved once by the DNS server'() {
+        when:
+        def responses = (1..3).collect { retrieve('cached.micronaut.local') }
+
+        then:
+        responses == ['resolved'] * 3
+        queries['cached.micronaut.local.'] == 1
+    }
+
+    void 'test unknown host names are cached for the negative time to live'() {
+        when:
+        retrieve('missing.micronaut.local')
+
+        then:
+        thrown(HttpClientException)
+
+        when:
+        retrieve('missing.micronaut.local')
+
+        then:
+        thrown(HttpClientException)
+        queries['missing.micronaut.local.'] == 1
+    }
+
+    void 'test host names are refreshed before they expire'() {
+        given:
+        def conditions = new PollingConditions(timeout: 1)
+
+        when:
+        retrieve('prefetched.micronaut.local')
+        // the answer lives for two seconds
+        sleep(1900)
+        retrieve('prefetched.micronaut.local')
+
+        then:
+        conditions.eventually {
+            assert queries['prefetched.micronaut.local.'] == 2
+        }
+
+        when:
+        sleep(500)
+        def response = retrieve('prefetched.micronaut.local')
+
+        then:
+        response == 'resolved'
+        queries['prefetched.micronaut.local.'] == 2
+    }
+
+    private String retrieve(String host) {
+        client.toBlocking().retrieve("http://$host:$server.port/dns-resolver")
+    }
+
+    /**
+     * Answers the A queries of the {@code micronaut.local} domain with the loopback address, except for the host
+     * names starting with {@code missing}, and counts them.
+     */
+    static class StubDnsHandler extends SimpleChannelInboundHandler<DatagramDnsQuery> {
+        final Map<String, Integer> queries
+
+        StubDnsHandler(Map<String, Integer> queries) {
+            this.queries = queries
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, DatagramDnsQuery query) {
+            DnsQuestion question = query.recordAt(DnsSection.QUESTION)
+            def response = new DatagramDnsResponse(query.recipient(), query.sender(), query.id())
+            response.addRecord(DnsSection.QUESTION, question)
+            if (!question.name().endsWith('.micronaut.local.') || question.name().startsWith('missing')) {
+                response.setCode(DnsResponseCode.NXDOMAIN)
+            } else if (question.type() == DnsRecordType.A) {
+                response.addRecord(DnsSection.ANSWER, new DefaultDnsRawRecord(
+                        question.name(), DnsRecordType.A, 2, ctx.alloc().buffer().writeBytes([127, 0, 0, 1] as byte[])))
+            }
+            if (question.type() == DnsRecordType.A) {
+                queries.merge(question.name(), 1, Integer::sum)
+            }
+            ctx.writeAndFlush(response)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'DnsResolverSpec')
+    @Controller('/dns-resolver')
+    static class DnsResolverController {
+        @Get
+        String index() {
+            'resolved'
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.micronaut.http.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import io.micronaut.http.HttpMethod
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpVersion
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.runtime.server.EmbeddedServer
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+
+class HedgedRequestSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer slowServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'HedgedRequestSpec',
+            'hedging.server-name': 'slow',
+            'hedging.server-delay': '3s',
+    ])
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer fastServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'HedgedRequestSpec',
+            'hedging.server-name': 'fast',
+            'hedging.server-delay': '0s',
+    ])
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext clientContext = ApplicationContext.run([
+            'micronaut.http.services.hedged.urls': [slowServer.URI.toString(), fastServer.URI.toString()],
+            'micronaut.http.services.hedged.hedging.enabled': true,
+            'micronaut.http.services.hedged.hedging.delay': '100ms',
+            'micronaut.http.services.not-hedged.urls': [slowServer.URI.toString(), fastServer.URI.toString()],
+    ])
+
+    void 'test the configuration of hedging'() {
+        when:
+        def configuration = clientContext.getBean(HttpClientConfiguration, Qualifiers.byName('hedged'))
+
+        then:
+        configuration.hedgingConfiguration.enabled
+        configuration.hedgingConfiguration.delay.get() == Duration.ofMillis(100)
+        !configuration.hedgingConfiguration.percentile.present
+        configuration.hedgingConfiguration.budgetPercent == 10
+        configuration.hedgingConfiguration.methods == [HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS]
+
+        and:
+        !clientContext.getBean(HttpClientConfiguration, Qualifiers.byName('not-hedged')).hedgingConfiguration.enabled
+    }
+
+    void 'test a slow request is hedged on another server'() {
+        given:
+        def client = clientContext.getBean(HttpClientRegistry).getClient(HttpVersion.HTTP_1_1, 'hedged', null).toBlocking()
+
+        when:
+        long start = System.nanoTime()
+        def responses = (1..4).collect { client.retrieve('/hedging', String) }
+        def elapsed = Duration.ofNanos(System.nanoTime() - start)
+
+        then:
+        responses == ['fast'] * 4
+        elapsed < Duration.ofSeconds(3)
+    }
+
+    void 'test requests with side effects are not hedged'() {
+        given:
+        def client = clientContext.getBean(HttpClientRegistry).getClient(HttpVersion.HTTP_1_1, 'hedged', null).toBlocking()
+        def calls = slowServer.applicationContext.getBean(HedgingController).calls
+        int before = calls.get()
+
+        when:
+        def responses = (1..2).collect { client.retrieve(HttpRequest.POST('/hedging', ''), String) }
+
+        then:
+        responses.sort() == ['fast', 'slow']
+        calls.get() == before + 1
+    }
+
+    void 'test requests are not hedged by default'() {
+        given:
+        def client = clientContext.getBean(HttpClientRegistry).getClient(HttpVersion.HTTP_1_1, 'not-hedged', null).toBlocking()
+
+        when:
+        def responses = (1..2).collect { client.retrieve('/hedging', String) }
+
+        then:
+        responses.sort() == ['fast', 'slow']
+    }
+
+    @Requires(property = 'spec.name', value = 'HedgedRequestSpec')
+    @Controller('/hedging')
+    static class HedgingController {
+        final AtomicInteger calls = new AtomicInteger()
+
+        @Value('${hedging.server-name}')
+        String name
+
+        @Value('${hedging.server-delay}')
+        Duration delay
+
+        @Get
+        Publisher<String> get() {
+            return respond()
+        }
+
+        @Post
+        Publisher<String> post() {
+            return respond()
+        }
+
+        private Publisher<String> respond() {
+            calls.incrementAndGet()
+            return Mono.delay(delay).thenReturn(name)
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package io.micronaut.http.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpAttributes
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Filter
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.filter.HttpServerFilter
+import io.micronaut.http.filter.ServerFilterChain
+import io.micronaut.http.instrumentation.HttpClientListener
+import io.micronaut.http.instrumentation.HttpServerListener
+import io.micronaut.runtime.server.EmbeddedServer
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+
+class HttpListenerSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer server = ApplicationContext.run(EmbeddedServer, ['spec.name': 'HttpListenerSpec'])
+
+    @Shared
+    RecordingServerListener serverListener = server.applicationContext.getBean(RecordingServerListener)
+
+    @Shared
+    RecordingClientListener clientListener = server.applicationContext.getBean(RecordingClientListener)
+
+    @Shared
+    FailingListener failingListener = server.applicationContext.getBean(FailingListener)
+
+    void setup() {
+        serverListener.events.clear()
+        clientListener.events.clear()
+    }
+
+    void 'test an exception thrown by a listener does not fail the request or prevent the other listeners'() {
+        given:
+        HttpClient client = server.applicationContext.createBean(HttpClient, server.URL)
+        def conditions = new PollingConditions(timeout: 5)
+
+        when:
+        def response = client.toBlocking().retrieve('/listener/failing')
+
+        then:
+        response == 'failing'
+        conditions.eventually {
+            assert serverListener.events.contains('requestCompleted /listener/failing')
+            assert clientListener.events.contains('firstByteReceived')
+        }
+        failingListener.calls.get() > 0
+
+        cleanup:
+        client.close()
+    }
+
+    void 'test the server notifies the steps of a request in order'() {
+        given:
+        HttpClient client = server.applicationContext.createBean(HttpClient, server.URL)
+        def conditions = new PollingConditions(timeout: 5)
+
+        when:
+        def response = client.toBlocking().retrieve('/listener/hello')
+
+        then:
+        response == 'hello'
+        conditions.eventually {
+            assert serverListener.events.contains('requestCompleted /listener/hello')
+        }
+        serverListener.events == [
+                'connectionAccepted',
+                'headersParsed /listener/hello',
+                'routeMatched /listener/{name}',
+                'filtersCompleted /listener/hello filtered',
+                'bodyBound /listener/hello',
+                'handlerCompleted /listener/hello',
+                'firstByteWritten /listener/hello 200',
+                'requestCompleted /listener/hello',
+        ]
+
+        cleanup:
+        client.close()
+    }
+
+    void 'test the client notifies the connection of a request'() {
+        given:
+        HttpClient client = server.applicationContext.createBean(HttpClient, server.URL)
+        def conditions = new PollingConditions(timeout: 5)
+
+        when:
+        client.toBlocking().retrieve('/listener/first')
+        client.toBlocking().retrieve('/listener/second')
+
+        then:
+        conditions.eventually {
+            assert clientListener.events.count { it == 'connected' } == 1
+            assert clientListener.events.count { it == 'connectionAcquired' } == 2
+            assert clientListener.events.count { it == 'firstByteReceived' } == 2
+            assert clientListener.events.contains('poolSizeChanged 0 0 1')
+            assert clientListener.events.contains('poolSizeChanged 1 0 0')
+        }
+        clientListener.hosts == [server.host] as Set
+        clientListener.ports == [server.port] as Set
+        clientListener.elapsed.every { it >= 0 }
+
+        cleanup:
+        client.close()
+    }
+
+    @Requires(property = 'spec.name', value = 'HttpListenerSpec')
+    @Singleton
+    static class RecordingServerListener implements HttpServerListener {
+        final List<String> events = new CopyOnWriteArrayList<>()
+
+        @Override
+        void connectionAccepted(SocketAddress remoteAddress) {
+            events << 'connectionAccepted'
+        }
+
+        @Override
+        void headersParsed(HttpRequest<?> request) {
+            events << "headersParsed $request.path".toString()
+        }
+
+        @Override
+        void routeMatched(HttpRequest<?> request) {
+            events << "routeMatched ${request.getAttribute(HttpAttributes.URI_TEMPLATE).orElse(null)}".toString()
+        }
+
+        @Override
+        void filtersCompleted(HttpRequest<?> request) {
+            events << "filtersCompleted $request.path ${request.getAttribute('filtered').orElse(null)}".toString()
+        }
+
+        @Override
+        void bodyBound(HttpRequest<?> request) {
+            events << "bodyBound $request.path".toString()
+        }
+
+        @Override
+        void handlerCompleted(HttpRequest<?> request) {
+            events << "handlerCompleted $request.path".toString()
+        }
+
+        @Override
+        void firstByteWritten(HttpRequest<?> request, int status) {
+            events << "firstByteWritten $request.path $status".toString()
+        }
+
+        @Override
+        void requestCompleted(HttpRequest<?> request) {
+            events << "requestCompleted $request.path".toString()
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'HttpListenerSpec')
+    @Singleton
+    static class RecordingClientListener implements HttpClientListener {
+        final List<String> events = new CopyOnWriteArrayList<>()
+        final Set<String> hosts = Collections.synchronizedSet(new HashSet<>())
+        final Set<Integer> ports = Collections.synchronizedSet(new HashSet<>())
+        final List<Long> elapsed = new CopyOnWriteArrayList<>()
+
+        @Override
+        void connectionAcquired(String host, int port, long elapsedNanos) {
+            record('connectionAcquired', host, port, elapsedNanos)
+        }
+
+        @Override
+        void connected(String host, int port, long elapsedNanos) {
+            record('connected', host, port, elapsedNanos)
+        }
+
+        @Override
+        void firstByteReceived(String host, int port, long elapsedNanos) {
+            record('firstByteReceived', host, port, elapsedNanos)
+        }
+
+        @Override
+        void poolSizeChanged(String host, int port, int http1Connections, int http2Connections, int pendingConnections) {
+            record("poolSizeChanged $http1Connections $http2Connections $pendingConnections".toString(), host, port, 0)
+        }
+
+        private void record(String event, String host, int port, long elapsedNanos) {
+            events << event
+            hosts << host
+            ports << port
+            elapsed << elapsedNanos
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'HttpListenerSpec')
+    @Singleton
+    static class FailingListener implements HttpServerListener, HttpClientListener {
+        final AtomicInteger calls = new AtomicInteger()
+
+        @Override
+        void connectionAccepted(SocketAddress remoteAddress) {
+            fail()
+        }
+
+        @Override
+        void headersParsed(HttpRequest<?> request) {
+            fail()
+        }
+
+        @Override
+        void routeMatched(HttpRequest<?> request) {
+            fail()
+        }
+
+        @Override
+        void handlerCompleted(HttpRequest<?> request) {
+            fail()
+        }
+
+        @Override
+        void firstByteWritten(HttpRequest<?> request, int status) {
+            fail()
+        }
+
+        @Override
+        void connectionAcquired(String host, int port, long elapsedNanos) {
+            fail()
+        }
+
+        @Override
+        void firstByteReceived(String host, int port, long elapsedNanos) {
+            fail()
+        }
+
+        private void fail() {
+            calls.incrementAndGet()
+            throw new IllegalStateException("Failing listener")
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'HttpListenerSpec')
+    @Filter('/listener/**')
+    static class MarkingFilter implements HttpServerFilter {
+        @Override
+        Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+            request.setAttribute('filtered', 'filtered')
+            chain.proceed(request)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'HttpListenerSpec')
+    @Controller('/listener')
+    static class ListenerController {
+        @Get('/{name}')
+        String get(String name) {
+            name
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.micronaut.http.client.interceptor
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.http.HttpMethod
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Consumes
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Header
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.annotation.Produces
+import io.micronaut.http.annotation.QueryValue
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class ClientMethodPlanSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer server = ApplicationContext.run(EmbeddedServer, ['spec.name': 'ClientMethodPlanSpec'])
+
+    void 'test the plan of a client method is resolved on the first call'() {
+        given:
+        HttpClientIntroductionAdvice advice = server.applicationContext.getBean(HttpClientIntroductionAdvice)
+        PlanClient client = server.applicationContext.getBean(PlanClient)
+
+        when:
+        client.get('a', 1, null)
+        Map<Object, ClientMethodPlan> plans = new HashMap<>(advice.clientMethodPlans)
+        client.get('b', 2, 'value')
+
+        then:
+        plans.size() == 1
+        advice.clientMethodPlans.values().first().is(plans.values().first())
+
+        when:
+        ClientMethodPlan plan = plans.values().first()
+
+        then:
+        plan.httpMethod() == HttpMethod.GET
+        plan.uriVariables() == ['name']
+        plan.uriTemplateAttribute() == '/plan/{name}'
+        plan.arguments()*.pathVariable() == ['name', null, null]
+        plan.arguments()[1].binder() != null
+        plan.arguments()[2].binder() != null
+    }
+
+    void 'test the arguments of every call are bound'() {
+        given:
+        PlanClient client = server.applicationContext.getBean(PlanClient)
+
+        expect:
+        client.get('a', 1, null) == 'a 1 null'
+        client.get('b', 2, 'value') == 'b 2 value'
+        client.post('c', 'text') == 'c {"text":"text"}'
+        client.post('d', 'other') == 'd {"text":"other"}'
+    }
+
+    @Requires(property = 'spec.name', value = 'ClientMethodPlanSpec')
+    @Client('/plan')
+    @Consumes(MediaType.TEXT_PLAIN)
+    static interface PlanClient {
+        @Get('/{name}')
+        String get(String name, @QueryValue int count, @Nullable @Header('X-Value') String value)
+
+        @Post('/{name}')
+        @Produces(MediaType.APPLICATION_JSON)
+        String post(String name, String text)
+    }
+
+    @Requires(property = 'spec.name', value = 'ClientMethodPlanSpec')
+    @Controller('/plan')
+    static class PlanController {
+        @Get(value = '/{name}', produces = MediaType.TEXT_PLAIN)
+        String get(String name, @QueryValue int count, @Nullable @Header('X-Value') String value) {
+            "$name $count $value"
+        }
+
+        @Post(value = '/{name}', consumes = MediaType.APPLICATION_JSON, produces = MediaType.TEXT_PLAIN)
+        String post(String name, @Body String body) {
+            "$name $body"
+        }
+    }
+}
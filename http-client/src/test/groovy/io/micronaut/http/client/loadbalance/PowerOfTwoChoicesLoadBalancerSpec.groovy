@@ -0,0 +1,123 @@
+package io.micronaut.http.client.loadbalance
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.http.HttpVersion
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClientRegistry
+import io.micronaut.http.client.LoadBalancerResolver
+import io.micronaut.runtime.server.EmbeddedServer
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+
+class PowerOfTwoChoicesLoadBalancerSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer slowServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'PowerOfTwoChoicesLoadBalancerSpec',
+            'load.server-delay': '3s',
+    ])
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer fastServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'PowerOfTwoChoicesLoadBalancerSpec',
+            'load.server-delay': '0s',
+    ])
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext clientContext = ApplicationContext.run([
+            'micronaut.http.services.least-loaded.urls': [slowServer.URI.toString(), fastServer.URI.toString()],
+            'micronaut.http.services.least-loaded.load-balancing-strategy': 'least-loaded',
+            'micronaut.http.services.ewma.urls': [slowServer.URI.toString(), fastServer.URI.toString()],
+            'micronaut.http.services.ewma.load-balancing-strategy': 'ewma-latency',
+            'micronaut.http.services.round-robin.urls': [slowServer.URI.toString(), fastServer.URI.toString()],
+    ])
+
+    void 'test the load balancer is selected per service'() {
+        given:
+        def resolver = clientContext.getBean(LoadBalancerResolver)
+
+        expect:
+        resolver.resolve('least-loaded').get() instanceof LeastLoadedLoadBalancer
+        resolver.resolve('ewma').get() instanceof EwmaLatencyLoadBalancer
+        resolver.resolve('round-robin').get() instanceof ServiceInstanceListRoundRobinLoadBalancer
+    }
+
+    void 'test the least loaded of two servers is selected'() {
+        given:
+        def instances = (0..2).collect { ServiceInstance.of('test', URI.create("http://server$it")) }
+        def balancer = new LeastLoadedLoadBalancer('test', { Mono.just(instances) }, null)
+        balancer.serverLoadStatistics = new ServerLoadStatistics() {
+            @Override
+            int getInFlightRequests(URI server) {
+                return server.host == 'server0' ? 10 : 1
+            }
+
+            @Override
+            long getLatency(URI server) {
+                return 0
+            }
+        }
+
+        when:
+        def selected = (1..100).collect { Mono.from(balancer.select()).block().URI.host } as Set
+
+        then:
+        selected == ['server1', 'server2'] as Set
+    }
+
+    void 'test the slow server is avoided with the #service strategy'() {
+        given:
+        def client = clientContext.getBean(HttpClientRegistry).getClient(HttpVersion.HTTP_1_1, service, null)
+        def slowCalls = slowServer.applicationContext.getBean(LoadController).calls
+        def fastCalls = fastServer.applicationContext.getBean(LoadController).calls
+        int slowBefore = slowCalls.get()
+        int fastBefore = fastCalls.get()
+
+        when:
+        10.times {
+            def response = Mono.from(client.retrieve('/load')).toFuture()
+            try {
+                response.get(500, TimeUnit.MILLISECONDS)
+            } catch (TimeoutException ignored) {
+                // sent to the slow server, which stays loaded
+            }
+        }
+
+        then:
+        slowCalls.get() - slowBefore <= 1
+        fastCalls.get() - fastBefore >= 9
+
+        where:
+        service << ['least-loaded', 'ewma']
+    }
+
+    @Requires(property = 'spec.name', value = 'PowerOfTwoChoicesLoadBalancerSpec')
+    @Controller('/load')
+    static class LoadController {
+        final AtomicInteger calls = new AtomicInteger()
+
+        @Value('${load.server-delay}')
+        Duration delay
+
+        @Get
+        Publisher<String> get() {
+            calls.incrementAndGet()
+            return Mono.delay(delay).thenReturn('ok')
+        }
+    }
+}
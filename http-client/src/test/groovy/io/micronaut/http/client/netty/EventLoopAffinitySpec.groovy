@@ -0,0 +1,86 @@
+package io.micronaut.http.client.netty
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.channel.EventLoop
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+class EventLoopAffinitySpec extends Specification {
+
+    def 'requests issued on an event loop use connections of that event loop'() {
+        given:
+        def server = ApplicationContext.run(EmbeddedServer, ['spec.name': 'EventLoopAffinitySpec'])
+        def ctx = ApplicationContext.run(['micronaut.http.client.pool.event-loop-affinity': true])
+        def client = ctx.createBean(DefaultHttpClient, server.URI)
+        def group = client.connectionManager.group
+        List<EventLoop> loops = [group.next(), group.next()]
+
+        when:
+        for (EventLoop loop : loops) {
+            for (int i = 0; i < 3; i++) {
+                assert retrieveOn(client, loop) == 'ok'
+            }
+        }
+
+        then:
+        client.connectionManager.eventLoopPools.size() == loops.toSet().size()
+        client.connectionManager.pools.isEmpty()
+        client.connectionManager.channels.every { it.eventLoop() in loops }
+        client.connectionManager.channels.size() == loops.toSet().size()
+
+        when:
+        client.toBlocking().retrieve('/affinity')
+
+        then:
+        client.connectionManager.pools.size() == 1
+
+        cleanup:
+        client.close()
+        ctx.close()
+        server.close()
+    }
+
+    def 'requests issued on an event loop use the shared pool by default'() {
+        given:
+        def server = ApplicationContext.run(EmbeddedServer, ['spec.name': 'EventLoopAffinitySpec'])
+        def ctx = ApplicationContext.run()
+        def client = ctx.createBean(DefaultHttpClient, server.URI)
+
+        when:
+        retrieveOn(client, client.connectionManager.group.next())
+
+        then:
+        client.connectionManager.eventLoopPools.isEmpty()
+        client.connectionManager.pools.size() == 1
+
+        cleanup:
+        client.close()
+        ctx.close()
+        server.close()
+    }
+
+    private static String retrieveOn(DefaultHttpClient client, EventLoop loop) {
+        def future = new CompletableFuture<String>()
+        loop.execute {
+            Mono.from(client.retrieve(HttpRequest.GET('/affinity'))).subscribe(future::complete, future::completeExceptionally)
+        }
+        return future.get(10, TimeUnit.SECONDS)
+    }
+
+    @Controller('/affinity')
+    @Requires(property = 'spec.name', value = 'EventLoopAffinitySpec')
+    static class AffinityController {
+        @Get
+        String index() {
+            'ok'
+        }
+    }
+}
@@ -53,6 +53,13 @@ public abstract class AbstractNettyHttpRequest<B> extends DefaultAttributeMap im
 
     public static final AsciiString STREAM_ID = HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text();
     public static final AsciiString HTTP2_SCHEME = HttpConversionUtil.ExtensionHeaderNames.SCHEME.text();
+    /**
+     * The extension header added by the netty HTTP/3 codec to requests received over HTTP/3. Declared here so that the
+     * optional codec does not need to be on the classpath.
+     *
+     * @since 4.0.0
+     */
+    public static final AsciiString HTTP3_SCHEME = AsciiString.cached("x-http3-scheme");
     protected final io.netty.handler.codec.http.HttpRequest nettyRequest;
     protected final ConversionService conversionService;
     protected final HttpMethod httpMethod;
@@ -151,6 +158,9 @@ public abstract class AbstractNettyHttpRequest<B> extends DefaultAttributeMap im
         if (nettyRequest.headers().contains(HTTP2_SCHEME)) {
             return HttpVersion.HTTP_2_0;
         }
+        if (nettyRequest.headers().contains(HTTP3_SCHEME)) {
+            return HttpVersion.HTTP_3_0;
+        }
         return HttpVersion.HTTP_1_1;
     }
 
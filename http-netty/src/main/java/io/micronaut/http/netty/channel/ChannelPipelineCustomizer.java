@@ -53,7 +53,10 @@ public interface ChannelPipelineCustomizer {
     String HANDLER_HTTP2_SETTINGS = "http2-settings";
     String HANDLER_HTTP2_UPGRADE_REQUEST = "http2-upgrade-request";
     String HANDLER_HTTP2_PROTOCOL_NEGOTIATOR = "http2-protocol-negotiator";
+    String HANDLER_HTTP3_CONNECTION = "http3-connection";
+    String HANDLER_HTTP3_ALT_SVC = "http3-alt-svc";
     String HANDLER_WEBSOCKET_UPGRADE = "websocket-upgrade-handler";
+    String HANDLER_CONCURRENCY_LIMIT = "concurrency-limit";
     String HANDLER_MICRONAUT_INBOUND = "micronaut-inbound-handler";
     String HANDLER_ACCESS_LOGGER = "http-access-logger";
     String HANDLER_INITIAL_ERROR = "initial-error";
@@ -38,6 +38,7 @@ public class DefaultEventLoopGroupConfiguration implements EventLoopGroupConfigu
     private final int numThreads;
     private final Integer ioRatio;
     private final boolean preferNativeTransport;
+    private final boolean preferIoUringTransport;
     private final String name;
     private final String executor;
     private final Duration shutdownQuietPeriod;
@@ -54,12 +55,38 @@ public class DefaultEventLoopGroupConfiguration implements EventLoopGroupConfigu
      * @param shutdownQuietPeriod   The shutdown quiet period
      * @param shutdownTimeout       The shutdown timeout (must be &gt;= shutdownQuietPeriod)
      */
+    public DefaultEventLoopGroupConfiguration(
+            String name,
+            int numThreads,
+            @Nullable Integer ioRatio,
+            boolean preferNativeTransport,
+            @Nullable String executor,
+            @Nullable Duration shutdownQuietPeriod,
+            @Nullable Duration shutdownTimeout
+    ) {
+        this(name, numThreads, ioRatio, preferNativeTransport, false, executor, shutdownQuietPeriod, shutdownTimeout);
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @param name                   The name of the group
+     * @param numThreads             The number of threads
+     * @param ioRatio                The IO ratio (optional)
+     * @param preferNativeTransport  Whether native transport is to be preferred
+     * @param preferIoUringTransport Whether the io_uring transport is to be preferred
+     * @param executor               A named executor service to use (optional)
+     * @param shutdownQuietPeriod    The shutdown quiet period
+     * @param shutdownTimeout        The shutdown timeout (must be &gt;= shutdownQuietPeriod)
+     * @since 4.0.0
+     */
     @ConfigurationInject
     public DefaultEventLoopGroupConfiguration(
             @Parameter String name,
             @Bindable(defaultValue = "0") int numThreads,
             @Nullable Integer ioRatio,
             @Bindable(defaultValue = StringUtils.FALSE) boolean preferNativeTransport,
+            @Bindable(defaultValue = StringUtils.FALSE) boolean preferIoUringTransport,
             @Nullable String executor,
             @Nullable Duration shutdownQuietPeriod,
             @Nullable Duration shutdownTimeout
@@ -68,6 +95,7 @@ public class DefaultEventLoopGroupConfiguration implements EventLoopGroupConfigu
         this.numThreads = numThreads;
         this.ioRatio = ioRatio;
         this.preferNativeTransport = preferNativeTransport;
+        this.preferIoUringTransport = preferIoUringTransport;
         this.executor = executor;
         this.shutdownQuietPeriod = Optional.ofNullable(shutdownQuietPeriod)
             .orElse(Duration.ofSeconds(DEFAULT_SHUTDOWN_QUIET_PERIOD));
@@ -83,6 +111,7 @@ public class DefaultEventLoopGroupConfiguration implements EventLoopGroupConfigu
         this.numThreads = 0;
         this.ioRatio = null;
         this.preferNativeTransport = false;
+        this.preferIoUringTransport = false;
         this.executor = null;
         this.shutdownQuietPeriod = Duration.ofSeconds(DEFAULT_SHUTDOWN_QUIET_PERIOD);
         this.shutdownTimeout = Duration.ofSeconds(DEFAULT_SHUTDOWN_TIMEOUT);
@@ -117,6 +146,11 @@ public class DefaultEventLoopGroupConfiguration implements EventLoopGroupConfigu
         return preferNativeTransport;
     }
 
+    @Override
+    public boolean isPreferIoUringTransport() {
+        return preferIoUringTransport;
+    }
+
     @NonNull
     @Override
     public String getName() {
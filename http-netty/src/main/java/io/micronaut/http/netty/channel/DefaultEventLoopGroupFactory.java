@@ -23,6 +23,7 @@ import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.http.netty.configuration.NettyGlobalConfiguration;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
+import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.ServerSocketChannel;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.unix.ServerDomainSocketChannel;
@@ -47,6 +48,8 @@ public class DefaultEventLoopGroupFactory implements EventLoopGroupFactory {
 
     private final EventLoopGroupFactory nativeFactory;
     private final EventLoopGroupFactory defaultFactory;
+    @Nullable
+    private final EventLoopGroupFactory ioUringFactory;
 
     /**
      * Default constructor.
@@ -65,13 +68,30 @@ public class DefaultEventLoopGroupFactory implements EventLoopGroupFactory {
      * @param nativeFactory The native factory if available
      * @param nettyGlobalConfiguration The netty global configuration
      */
+    public DefaultEventLoopGroupFactory(
+            NioEventLoopGroupFactory nioEventLoopGroupFactory,
+            @Nullable @Named(EventLoopGroupFactory.NATIVE) EventLoopGroupFactory nativeFactory,
+            @Nullable NettyGlobalConfiguration nettyGlobalConfiguration) {
+        this(nioEventLoopGroupFactory, nativeFactory, null, nettyGlobalConfiguration);
+    }
+
+    /**
+     * Default constructor.
+     * @param nioEventLoopGroupFactory The NIO factory
+     * @param nativeFactory The native factory if available
+     * @param ioUringFactory The io_uring factory if available
+     * @param nettyGlobalConfiguration The netty global configuration
+     * @since 4.0.0
+     */
     @Inject
     public DefaultEventLoopGroupFactory(
             NioEventLoopGroupFactory nioEventLoopGroupFactory,
             @Nullable @Named(EventLoopGroupFactory.NATIVE) EventLoopGroupFactory nativeFactory,
+            @Nullable @Named(EventLoopGroupFactory.IO_URING) EventLoopGroupFactory ioUringFactory,
             @Nullable NettyGlobalConfiguration nettyGlobalConfiguration) {
         this.defaultFactory = nioEventLoopGroupFactory;
         this.nativeFactory = nativeFactory != null ? nativeFactory : defaultFactory;
+        this.ioUringFactory = ioUringFactory;
         if (nettyGlobalConfiguration != null && nettyGlobalConfiguration.getResourceLeakDetectorLevel() != null) {
             ResourceLeakDetector.setLevel(nettyGlobalConfiguration.getResourceLeakDetectorLevel());
         }
@@ -127,6 +147,18 @@ public class DefaultEventLoopGroupFactory implements EventLoopGroupFactory {
         return getFactory(configuration).domainServerSocketChannelInstance(configuration);
     }
 
+    @NonNull
+    @Override
+    public Class<? extends DatagramChannel> datagramChannelClass(@Nullable EventLoopGroupConfiguration configuration) {
+        return getFactory(configuration).datagramChannelClass(configuration);
+    }
+
+    @NonNull
+    @Override
+    public DatagramChannel datagramChannelInstance(@Nullable EventLoopGroupConfiguration configuration) {
+        return getFactory(configuration).datagramChannelInstance(configuration);
+    }
+
     @NonNull
     @Override
     public Class<? extends SocketChannel> clientSocketChannelClass(@Nullable EventLoopGroupConfiguration configuration) {
@@ -134,7 +166,9 @@ public class DefaultEventLoopGroupFactory implements EventLoopGroupFactory {
     }
 
     private EventLoopGroupFactory getFactory(@Nullable EventLoopGroupConfiguration configuration) {
-        if (configuration != null && configuration.isPreferNativeTransport()) {
+        if (configuration != null && configuration.isPreferIoUringTransport() && ioUringFactory != null) {
+            return this.ioUringFactory;
+        } else if (configuration != null && configuration.isPreferNativeTransport()) {
             return this.nativeFactory;
         } else {
             return this.defaultFactory;
@@ -74,6 +74,17 @@ public interface EventLoopGroupConfiguration extends Named {
      */
     boolean isPreferNativeTransport();
 
+    /**
+     * Whether to prefer the io_uring transport. If io_uring is not available the transport selected by
+     * {@link #isPreferNativeTransport()} is used instead.
+     *
+     * @return Whether to prefer the io_uring transport
+     * @since 4.0.0
+     */
+    default boolean isPreferIoUringTransport() {
+        return false;
+    }
+
     /**
      * @return The shutdown quiet period
      */
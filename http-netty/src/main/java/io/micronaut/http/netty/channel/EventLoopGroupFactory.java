@@ -20,6 +20,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.ArgumentUtils;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
+import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.ServerSocketChannel;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.unix.ServerDomainSocketChannel;
@@ -40,6 +41,13 @@ public interface EventLoopGroupFactory {
      */
     String NATIVE = "native";
 
+    /**
+     * Qualifier used to resolve the io_uring factory.
+     *
+     * @since 4.0.0
+     */
+    String IO_URING = "io_uring";
+
     /**
      * @return Is this a native factory.
      */
@@ -171,6 +179,34 @@ public interface EventLoopGroupFactory {
         }
     }
 
+    /**
+     * Returns the datagram channel class, used by UDP based listeners such as HTTP/3.
+     *
+     * @param configuration The configuration
+     * @return A DatagramChannel class.
+     * @throws UnsupportedOperationException if datagram channels are not supported.
+     * @since 4.0.0
+     */
+    default @NonNull Class<? extends DatagramChannel> datagramChannelClass(@Nullable EventLoopGroupConfiguration configuration) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Datagram channels not supported by this transport");
+    }
+
+    /**
+     * Returns the datagram channel instance, used by UDP based listeners such as HTTP/3.
+     *
+     * @param configuration The configuration
+     * @return A DatagramChannel instance.
+     * @throws UnsupportedOperationException if datagram channels are not supported.
+     * @since 4.0.0
+     */
+    default @NonNull DatagramChannel datagramChannelInstance(@Nullable EventLoopGroupConfiguration configuration) throws UnsupportedOperationException {
+        try {
+            return datagramChannelClass(configuration).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Cannot instantiate datagram channel instance", e);
+        }
+    }
+
     /**
      * Returns the client channel class.
      *
@@ -21,8 +21,10 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.ServerSocketChannel;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.channel.unix.ServerDomainSocketChannel;
@@ -87,6 +89,18 @@ public class NioEventLoopGroupFactory implements EventLoopGroupFactory {
         return new NioServerSocketChannel();
     }
 
+    @NonNull
+    @Override
+    public Class<? extends DatagramChannel> datagramChannelClass(@Nullable EventLoopGroupConfiguration configuration) {
+        return NioDatagramChannel.class;
+    }
+
+    @NonNull
+    @Override
+    public DatagramChannel datagramChannelInstance(@Nullable EventLoopGroupConfiguration configuration) {
+        return new NioDatagramChannel();
+    }
+
     @NonNull
     @Override
     public Class<? extends SocketChannel> clientSocketChannelClass(@Nullable EventLoopGroupConfiguration configuration) {
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.websocket;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+
+/**
+ * Carries the conflation key of a {@link io.micronaut.websocket.ConflatableMessage} on its encoded frame, up to the
+ * {@link WebSocketOutboundQueueHandler}. The key survives duplicates of the frame, so it is kept by broadcasts.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class ConflatableFrames {
+
+    private ConflatableFrames() {
+    }
+
+    /**
+     * @param frame The frame
+     * @param key   The conflation key, may be null
+     * @return A frame with the same content that carries the key
+     */
+    static WebSocketFrame withKey(WebSocketFrame frame, @Nullable Object key) {
+        if (key == null) {
+            return frame;
+        }
+        if (frame instanceof TextWebSocketFrame) {
+            return new KeyedTextFrame(frame.isFinalFragment(), frame.rsv(), frame.content(), key);
+        }
+        if (frame instanceof BinaryWebSocketFrame) {
+            return new KeyedBinaryFrame(frame.isFinalFragment(), frame.rsv(), frame.content(), key);
+        }
+        return frame;
+    }
+
+    /**
+     * @param frame The frame
+     * @return The conflation key of the frame, or null
+     */
+    @Nullable
+    static Object keyOf(WebSocketFrame frame) {
+        return frame instanceof Keyed keyed ? keyed.conflationKey() : null;
+    }
+
+    private interface Keyed {
+        Object conflationKey();
+    }
+
+    private static final class KeyedTextFrame extends TextWebSocketFrame implements Keyed {
+        private final Object key;
+
+        KeyedTextFrame(boolean finalFragment, int rsv, ByteBuf content, Object key) {
+            super(finalFragment, rsv, content);
+            this.key = key;
+        }
+
+        @Override
+        public Object conflationKey() {
+            return key;
+        }
+
+        @Override
+        public TextWebSocketFrame replace(ByteBuf content) {
+            return new KeyedTextFrame(isFinalFragment(), rsv(), content, key);
+        }
+    }
+
+    private static final class KeyedBinaryFrame extends BinaryWebSocketFrame implements Keyed {
+        private final Object key;
+
+        KeyedBinaryFrame(boolean finalFragment, int rsv, ByteBuf content, Object key) {
+            super(finalFragment, rsv, content);
+            this.key = key;
+        }
+
+        @Override
+        public Object conflationKey() {
+            return key;
+        }
+
+        @Override
+        public BinaryWebSocketFrame replace(ByteBuf content) {
+            return new KeyedBinaryFrame(isFinalFragment(), rsv(), content, key);
+        }
+    }
+}
@@ -140,6 +140,25 @@ public class NettyWebSocketSession implements WebSocketSession {
         return protocolVersion;
     }
 
+    @Override
+    public long getQueuedBytes() {
+        WebSocketOutboundQueueHandler queue = channel.pipeline().get(WebSocketOutboundQueueHandler.class);
+        return queue == null ? 0 : queue.getQueuedBytes();
+    }
+
+    @Override
+    public long getDroppedMessages() {
+        WebSocketOutboundQueueHandler queue = channel.pipeline().get(WebSocketOutboundQueueHandler.class);
+        return queue == null ? 0 : queue.getDroppedMessages();
+    }
+
+    /**
+     * @return The channel of the session
+     */
+    Channel channel() {
+        return channel;
+    }
+
     @Override
     public <T> CompletableFuture<T> sendAsync(T message, MediaType mediaType) {
         if (isOpen()) {
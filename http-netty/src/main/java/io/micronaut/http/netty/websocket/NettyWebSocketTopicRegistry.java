@@ -0,0 +1,254 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.websocket;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.http.MediaType;
+import io.micronaut.websocket.WebSocketSession;
+import io.micronaut.websocket.WebSocketTopicRegistry;
+import io.micronaut.websocket.exceptions.WebSocketSessionException;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Netty implementation of {@link WebSocketTopicRegistry}. The subscribers of a topic are kept in one set per event
+ * loop, which is only touched from that event loop. A broadcast encodes the message once and runs a single task on
+ * every event loop with subscribers, which writes a duplicate of the shared frame to each of its channels. Channels
+ * that compress every message on their own (see {@link WebSocketDeflateParameters}) share a frame that is compressed
+ * once per parameter set.
+ *
+ * @since 4.0.0
+ */
+@Singleton
+@Requires(beans = WebSocketSessionRepository.class)
+public class NettyWebSocketTopicRegistry implements WebSocketTopicRegistry {
+
+    private static final AttributeKey<Set<String>> TOPICS_KEY = AttributeKey.newInstance("micronaut.websocket.topics");
+
+    private final WebSocketMessageEncoder webSocketMessageEncoder;
+    private final Map<String, Map<EventLoop, Set<Channel>>> topics = new ConcurrentHashMap<>();
+
+    /**
+     * @param webSocketMessageEncoder The encoder of the broadcast messages
+     */
+    public NettyWebSocketTopicRegistry(WebSocketMessageEncoder webSocketMessageEncoder) {
+        this.webSocketMessageEncoder = webSocketMessageEncoder;
+    }
+
+    @Override
+    public void subscribe(@NonNull WebSocketSession session, @NonNull String topic) {
+        Channel channel = channelOf(session);
+        runOnEventLoop(channel, () -> subscribe(channel, topic));
+    }
+
+    @Override
+    public void unsubscribe(@NonNull WebSocketSession session, @NonNull String topic) {
+        Channel channel = channelOf(session);
+        runOnEventLoop(channel, () -> {
+            Set<String> subscribed = channel.attr(TOPICS_KEY).get();
+            if (subscribed != null && subscribed.remove(topic)) {
+                removeSubscriber(channel, topic);
+            }
+        });
+    }
+
+    @NonNull
+    @Override
+    public <T> Publisher<T> broadcast(@NonNull String topic, @NonNull T message, @NonNull MediaType mediaType) {
+        return Flux.create(emitter -> {
+            try {
+                Map<EventLoop, Set<Channel>> subscribers = topics.get(topic);
+                List<Map.Entry<EventLoop, Set<Channel>>> targets = subscribers == null ? List.of() : new ArrayList<>(subscribers.entrySet());
+                if (targets.isEmpty()) {
+                    emitter.next(message);
+                    emitter.complete();
+                    return;
+                }
+                WebSocketFrame frame = webSocketMessageEncoder.encodeMessage(message, mediaType);
+                Broadcast<T> broadcast = new Broadcast<>(frame, targets.size(), message, emitter);
+                for (Map.Entry<EventLoop, Set<Channel>> target : targets) {
+                    try {
+                        target.getKey().execute(() -> broadcast.writeTo(target.getValue()));
+                    } catch (RejectedExecutionException e) {
+                        // the event loop shuts down, and its channels with it
+                        broadcast.eventLoopComplete();
+                    }
+                }
+            } catch (Throwable e) {
+                emitter.error(new WebSocketSessionException("Broadcast Failure: " + e.getMessage(), e));
+            }
+        }, FluxSink.OverflowStrategy.BUFFER);
+    }
+
+    private void subscribe(Channel channel, String topic) {
+        if (!channel.isOpen()) {
+            return;
+        }
+        Attribute<Set<String>> attr = channel.attr(TOPICS_KEY);
+        Set<String> subscribed = attr.get();
+        if (subscribed == null) {
+            subscribed = new HashSet<>();
+            attr.set(subscribed);
+            channel.closeFuture().addListener(future -> unsubscribeAll(channel));
+        }
+        if (subscribed.add(topic)) {
+            EventLoop eventLoop = channel.eventLoop();
+            topics.compute(topic, (name, subscribers) -> {
+                if (subscribers == null) {
+                    subscribers = new ConcurrentHashMap<>();
+                }
+                subscribers.computeIfAbsent(eventLoop, loop -> new HashSet<>()).add(channel);
+                return subscribers;
+            });
+        }
+    }
+
+    private void unsubscribeAll(Channel channel) {
+        Set<String> subscribed = channel.attr(TOPICS_KEY).getAndSet(null);
+        if (subscribed != null) {
+            for (String topic : subscribed) {
+                removeSubscriber(channel, topic);
+            }
+        }
+    }
+
+    private void removeSubscriber(Channel channel, String topic) {
+        EventLoop eventLoop = channel.eventLoop();
+        topics.computeIfPresent(topic, (name, subscribers) -> {
+            Set<Channel> channels = subscribers.get(eventLoop);
+            if (channels != null && channels.remove(channel) && channels.isEmpty()) {
+                subscribers.remove(eventLoop);
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static Channel channelOf(WebSocketSession session) {
+        if (session instanceof NettyWebSocketSession nettySession) {
+            return nettySession.channel();
+        }
+        throw new IllegalArgumentException("Not a Netty WebSocket session: " + session);
+    }
+
+    private static void runOnEventLoop(Channel channel, Runnable task) {
+        EventLoop eventLoop = channel.eventLoop();
+        if (eventLoop.inEventLoop()) {
+            task.run();
+        } else {
+            eventLoop.execute(task);
+        }
+    }
+
+    /**
+     * The state of a single broadcast, shared by the tasks of all event loops. The frames are released once the last
+     * write has completed.
+     *
+     * @param <T> The message type
+     */
+    private static final class Broadcast<T> {
+        private final WebSocketFrame frame;
+        private final Map<WebSocketDeflateParameters, WebSocketFrame> compressedFrames = new ConcurrentHashMap<>();
+        private final AtomicInteger pendingEventLoops;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final T message;
+        private final FluxSink<T> emitter;
+
+        Broadcast(WebSocketFrame frame, int eventLoops, T message, FluxSink<T> emitter) {
+            this.frame = frame;
+            this.pendingEventLoops = new AtomicInteger(eventLoops);
+            this.message = message;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Writes the frame to the given channels. Called on the event loop the channels belong to.
+         *
+         * @param channels The channels subscribed to the topic on the current event loop
+         */
+        void writeTo(Set<Channel> channels) {
+            // writing may close a channel and remove it from the set
+            Channel[] targets = channels.toArray(new Channel[0]);
+            // the listeners run on this event loop, one extra count until all writes are issued
+            int[] pendingWrites = {targets.length + 1};
+            for (Channel channel : targets) {
+                NettyWebSocketSession session = channel.attr(NettyWebSocketSession.WEB_SOCKET_SESSION_KEY).get();
+                if (session == null || !session.isOpen()) {
+                    pendingWrites[0]--;
+                    continue;
+                }
+                channel.writeAndFlush(frameFor(channel)).addListener(future -> {
+                    writeComplete(future);
+                    if (--pendingWrites[0] == 0) {
+                        eventLoopComplete();
+                    }
+                });
+            }
+            if (--pendingWrites[0] == 0) {
+                eventLoopComplete();
+            }
+        }
+
+        private WebSocketFrame frameFor(Channel channel) {
+            WebSocketDeflateParameters deflate = channel.attr(WebSocketDeflateParameters.CHANNEL_KEY).get();
+            if (deflate == null || !WebSocketDeflateParameters.isCompressible(frame)) {
+                return frame.retainedDuplicate();
+            }
+            return compressedFrames.computeIfAbsent(deflate, parameters -> parameters.compress(frame)).retainedDuplicate();
+        }
+
+        private void writeComplete(Future<?> future) {
+            // a channel that closes during the broadcast would have been skipped anyway
+            if (!future.isSuccess() && !(future.cause() instanceof ClosedChannelException)) {
+                failure.compareAndSet(null, future.cause());
+            }
+        }
+
+        private void eventLoopComplete() {
+            if (pendingEventLoops.decrementAndGet() != 0) {
+                return;
+            }
+            frame.release();
+            compressedFrames.values().forEach(WebSocketFrame::release);
+            Throwable cause = failure.get();
+            if (cause == null) {
+                emitter.next(message);
+                emitter.complete();
+            } else {
+                emitter.error(new WebSocketSessionException("Broadcast Failure: " + cause.getMessage(), cause));
+            }
+        }
+    }
+}
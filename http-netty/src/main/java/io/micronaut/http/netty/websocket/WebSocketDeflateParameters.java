@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.websocket;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtension;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+import io.netty.util.AttributeKey;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The parameters of a {@code permessage-deflate} extension negotiated without server context takeover. Every
+ * message of such a channel is compressed on its own, so a message compressed once with the same parameters can be
+ * written to all of these channels, bypassing their own deflate encoder.
+ *
+ * @param compressionLevel The compression level of the server
+ * @param windowBits       The negotiated server window size, as a base 2 logarithm
+ * @since 4.0.0
+ */
+@Internal
+public record WebSocketDeflateParameters(int compressionLevel, int windowBits) {
+
+    /**
+     * The parameters are stored within a Channel attribute using the given key, if the channel compresses every
+     * message on its own.
+     */
+    public static final AttributeKey<WebSocketDeflateParameters> CHANNEL_KEY = AttributeKey.newInstance("micronaut.websocket.deflate");
+
+    /**
+     * Whether the given frame is compressed by the {@code permessage-deflate} extension.
+     *
+     * @param frame The frame
+     * @return Whether {@link #compress(WebSocketFrame)} applies to the frame
+     */
+    public static boolean isCompressible(@NonNull WebSocketFrame frame) {
+        return (frame instanceof TextWebSocketFrame || frame instanceof BinaryWebSocketFrame)
+                && frame.isFinalFragment()
+                && (frame.rsv() & WebSocketExtension.RSV1) == 0;
+    }
+
+    /**
+     * Compresses a frame the way the deflate encoder of a channel with these parameters would. The compressed frame
+     * has the {@code RSV1} bit set, so the deflate encoder of the channel lets it through as is.
+     *
+     * @param frame The frame to compress, it is not released
+     * @return The compressed frame
+     */
+    @NonNull
+    public WebSocketFrame compress(@NonNull WebSocketFrame frame) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("server_no_context_takeover", null);
+        if (windowBits != PerMessageDeflateServerExtensionHandshaker.MAX_WINDOW_SIZE) {
+            parameters.put("server_max_window_bits", Integer.toString(windowBits));
+        }
+        WebSocketServerExtension extension = new PerMessageDeflateServerExtensionHandshaker(compressionLevel, true, PerMessageDeflateServerExtensionHandshaker.MAX_WINDOW_SIZE, true, false)
+                .handshakeExtension(new WebSocketExtensionData("permessage-deflate", parameters));
+        EmbeddedChannel channel = new EmbeddedChannel(extension.newExtensionEncoder());
+        try {
+            channel.writeOutbound(frame.retainedDuplicate());
+            return ConflatableFrames.withKey(channel.readOutbound(), ConflatableFrames.keyOf(frame));
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+}
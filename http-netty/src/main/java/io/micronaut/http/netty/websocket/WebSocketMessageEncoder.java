@@ -20,6 +20,7 @@ import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
+import io.micronaut.websocket.ConflatableMessage;
 import io.micronaut.websocket.exceptions.WebSocketSessionException;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -57,6 +58,14 @@ public class WebSocketMessageEncoder {
      * @return The encoded frame
      */
     public WebSocketFrame encodeMessage(Object message, MediaType mediaType) {
+        WebSocketFrame frame = encode(message, mediaType);
+        if (message instanceof ConflatableMessage conflatable) {
+            return ConflatableFrames.withKey(frame, conflatable.getConflationKey());
+        }
+        return frame;
+    }
+
+    private WebSocketFrame encode(Object message, MediaType mediaType) {
         if (message instanceof byte[]) {
             return new BinaryWebSocketFrame(Unpooled.wrappedBuffer((byte[]) message));
         } else if (ClassUtils.isJavaLangType(message.getClass()) || message instanceof CharSequence) {
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.websocket;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.websocket.CloseReason;
+import io.micronaut.websocket.WebSocketOverflowPolicy;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues the outgoing data frames of a WebSocket channel while the channel is not writable, and applies a
+ * {@link WebSocketOverflowPolicy} when the queue exceeds its maximum size. Control frames are never queued. Frames
+ * that are part of a fragmented message are never dropped, since that would corrupt the stream.
+ *
+ * <p>Dropped and conflated messages complete their write promise successfully, so that a slow consumer does not fail
+ * a broadcast to the other sessions.</p>
+ *
+ * @since 4.0.0
+ */
+@Internal
+public final class WebSocketOutboundQueueHandler extends ChannelDuplexHandler {
+
+    /**
+     * The name of the handler in the pipeline.
+     */
+    public static final String ID = "micronaut-websocket-outbound-queue";
+
+    /**
+     * The default maximum size of the queued frames.
+     */
+    public static final int DEFAULT_MAX_QUEUED_BYTES = 1024 * 1024;
+
+    /**
+     * How long the remote may take to read the close frame of {@link WebSocketOverflowPolicy#CLOSE}.
+     */
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final WebSocketOverflowPolicy policy;
+    private final long maxQueuedBytes;
+    private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+    private final Map<Object, Pending> conflatable = new HashMap<>();
+    // only written on the event loop
+    private volatile long queuedBytes;
+    private volatile long droppedMessages;
+    private boolean closing;
+
+    /**
+     * @param policy         The policy to apply when the queue is full
+     * @param maxQueuedBytes The maximum size of the queued frames
+     */
+    public WebSocketOutboundQueueHandler(WebSocketOverflowPolicy policy, long maxQueuedBytes) {
+        this.policy = policy;
+        this.maxQueuedBytes = maxQueuedBytes;
+    }
+
+    /**
+     * @return The size of the frames waiting for the channel to become writable
+     */
+    public long getQueuedBytes() {
+        return queuedBytes;
+    }
+
+    /**
+     * @return The number of frames dropped or conflated so far
+     */
+    public long getDroppedMessages() {
+        return droppedMessages;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof WebSocketFrame frame) || !isData(frame)) {
+            ctx.write(msg, promise);
+        } else if (closing) {
+            frame.release();
+            promise.tryFailure(new ClosedChannelException());
+        } else if (queue.isEmpty() && ctx.channel().isWritable()) {
+            ctx.write(msg, promise);
+        } else {
+            enqueue(ctx, frame, promise);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable()) {
+            drain(ctx);
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        discardQueue();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        discardQueue();
+        super.close(ctx, promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        discardQueue();
+    }
+
+    private void enqueue(ChannelHandlerContext ctx, WebSocketFrame frame, ChannelPromise promise) {
+        int size = frame.content().readableBytes();
+        boolean droppable = frame.isFinalFragment() && !(frame instanceof ContinuationWebSocketFrame);
+        Object key = policy == WebSocketOverflowPolicy.CONFLATE && droppable ? ConflatableFrames.keyOf(frame) : null;
+        Pending superseded = key == null ? null : conflatable.get(key);
+        if (superseded != null) {
+            // take the place of the superseded message in the queue
+            drop(superseded.frame, superseded.promise);
+            queuedBytes += size - superseded.size;
+            superseded.frame = frame;
+            superseded.promise = promise;
+            superseded.size = size;
+            return;
+        }
+        if (droppable && queuedBytes + size > maxQueuedBytes) {
+            switch (policy) {
+                case DROP_NEWEST -> {
+                    drop(frame, promise);
+                    return;
+                }
+                case CLOSE -> {
+                    frame.release();
+                    promise.tryFailure(new ClosedChannelException());
+                    closeSlowConsumer(ctx);
+                    return;
+                }
+                case DROP_OLDEST, CONFLATE -> dropOldest(size);
+                default -> {
+                    // BUFFER is unbounded
+                }
+            }
+        }
+        Pending pending = new Pending(frame, promise, size, key);
+        queue.add(pending);
+        if (key != null) {
+            conflatable.put(key, pending);
+        }
+        queuedBytes += size;
+    }
+
+    private void dropOldest(int room) {
+        Iterator<Pending> iterator = queue.iterator();
+        while (queuedBytes + room > maxQueuedBytes && iterator.hasNext()) {
+            Pending pending = iterator.next();
+            if (pending.droppable()) {
+                iterator.remove();
+                if (pending.key != null) {
+                    conflatable.remove(pending.key);
+                }
+                queuedBytes -= pending.size;
+                drop(pending.frame, pending.promise);
+            }
+        }
+    }
+
+    private void drop(WebSocketFrame frame, ChannelPromise promise) {
+        frame.release();
+        promise.trySuccess();
+        droppedMessages++;
+    }
+
+    private void drain(ChannelHandlerContext ctx) {
+        boolean written = false;
+        Pending pending;
+        while (ctx.channel().isWritable() && (pending = queue.poll()) != null) {
+            if (pending.key != null) {
+                conflatable.remove(pending.key);
+            }
+            queuedBytes -= pending.size;
+            ctx.write(pending.frame, pending.promise);
+            written = true;
+        }
+        if (written) {
+            ctx.flush();
+        }
+    }
+
+    private void closeSlowConsumer(ChannelHandlerContext ctx) {
+        closing = true;
+        discardQueue();
+        CloseReason reason = CloseReason.POLICY_VIOLATION;
+        ctx.writeAndFlush(new CloseWebSocketFrame(reason.getCode(), reason.getReason()))
+                .addListener(ChannelFutureListener.CLOSE);
+        // the remote may not even read the close frame
+        ScheduledFuture<?> forcedClose = ctx.executor().schedule(() -> {
+            ctx.close();
+        }, CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        ctx.channel().closeFuture().addListener(future -> forcedClose.cancel(false));
+    }
+
+    private void discardQueue() {
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            pending.frame.release();
+            pending.promise.tryFailure(new ClosedChannelException());
+        }
+        conflatable.clear();
+        queuedBytes = 0;
+    }
+
+    private static boolean isData(WebSocketFrame frame) {
+        return frame instanceof TextWebSocketFrame || frame instanceof BinaryWebSocketFrame || frame instanceof ContinuationWebSocketFrame;
+    }
+
+    /**
+     * A queued frame.
+     */
+    private static final class Pending {
+        WebSocketFrame frame;
+        ChannelPromise promise;
+        int size;
+        @Nullable
+        final Object key;
+
+        Pending(WebSocketFrame frame, ChannelPromise promise, int size, @Nullable Object key) {
+            this.frame = frame;
+            this.promise = promise;
+            this.size = size;
+            this.key = key;
+        }
+
+        boolean droppable() {
+            return frame.isFinalFragment() && !(frame instanceof ContinuationWebSocketFrame);
+        }
+    }
+}
@@ -5,6 +5,9 @@ import io.micronaut.context.DefaultApplicationContext
 import io.micronaut.context.env.PropertySource
 import io.micronaut.inject.qualifiers.Qualifiers
 import io.netty.channel.EventLoopGroup
+import io.netty.channel.nio.NioEventLoopGroup
+import io.netty.channel.socket.nio.NioServerSocketChannel
+import io.netty.channel.socket.nio.NioSocketChannel
 import io.netty.util.NettyRuntime
 import io.netty.util.ResourceLeakDetector
 import spock.lang.Specification
@@ -108,6 +111,27 @@ class EventLoopGroupSpec extends Specification {
         eventLoopGroup.isShuttingDown()
     }
 
+    void "test prefer io_uring falls back to NIO if io_uring is not available"() {
+        given:
+        def context = ApplicationContext.run(
+                'micronaut.netty.event-loops.default.prefer-io-uring-transport':true
+        )
+
+        when:
+        DefaultEventLoopGroupConfiguration config = context.getBean(DefaultEventLoopGroupConfiguration)
+        EventLoopGroupFactory factory = context.getBean(EventLoopGroupFactory)
+
+        then:
+        config.preferIoUringTransport
+        !context.containsBean(EventLoopGroupFactory, Qualifiers.byName(EventLoopGroupFactory.IO_URING))
+        factory.serverSocketChannelClass(config) == NioServerSocketChannel
+        factory.clientSocketChannelClass(config) == NioSocketChannel
+        context.getBean(EventLoopGroup) instanceof NioEventLoopGroup
+
+        cleanup:
+        context.close()
+    }
+
     void "test configure shutdown for default event loop groups"() {
         given:
         ApplicationContext context = new DefaultApplicationContext("test")
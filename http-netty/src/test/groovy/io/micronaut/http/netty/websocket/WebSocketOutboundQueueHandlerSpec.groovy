@@ -0,0 +1,131 @@
+package io.micronaut.http.netty.websocket
+
+import io.micronaut.websocket.WebSocketOverflowPolicy
+import io.netty.channel.ChannelFuture
+import io.netty.channel.WriteBufferWaterMark
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame
+import io.netty.handler.codec.http.websocketx.PingWebSocketFrame
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame
+import io.netty.handler.codec.http.websocketx.WebSocketFrame
+import spock.lang.Specification
+
+class WebSocketOutboundQueueHandlerSpec extends Specification {
+
+    def 'the overflow policy decides which messages a slow consumer gets'() {
+        given:
+        def channel = unwritableChannel(policy)
+        def futures = (0..5).collect { channel.write(new TextWebSocketFrame("m$it-xxxx")) }
+        def handler = channel.pipeline().get(WebSocketOutboundQueueHandler)
+
+        expect:
+        handler.queuedBytes == 14
+        handler.droppedMessages == 4
+
+        when:
+        channel.flush()
+
+        then:
+        texts(channel) == ['0123456789abcdefghij'] + expected
+        futures.every { it.success }
+
+        cleanup:
+        channel.finishAndReleaseAll()
+
+        where:
+        policy                              | expected
+        WebSocketOverflowPolicy.DROP_OLDEST | ['m4-xxxx', 'm5-xxxx']
+        WebSocketOverflowPolicy.DROP_NEWEST | ['m0-xxxx', 'm1-xxxx']
+    }
+
+    def 'conflation replaces the queued message with the same key in place'() {
+        given:
+        def channel = unwritableChannel(WebSocketOverflowPolicy.CONFLATE)
+        channel.write(keyed('a1', 'a'))
+        channel.write(keyed('b1', 'b'))
+        channel.write(keyed('a2', 'a'))
+        channel.write(new TextWebSocketFrame('c1'))
+        def handler = channel.pipeline().get(WebSocketOutboundQueueHandler)
+
+        expect:
+        handler.queuedBytes == 6
+        handler.droppedMessages == 1
+
+        when:
+        channel.flush()
+
+        then:
+        texts(channel) == ['0123456789abcdefghij', 'a2', 'b1', 'c1']
+
+        cleanup:
+        channel.finishAndReleaseAll()
+    }
+
+    def 'control frames are not queued'() {
+        given:
+        def channel = unwritableChannel(WebSocketOverflowPolicy.DROP_OLDEST)
+        channel.write(new TextWebSocketFrame('queued'))
+        channel.write(new PingWebSocketFrame())
+
+        when:
+        channel.flush()
+        def messages = []
+        def msg
+        while ((msg = channel.readOutbound()) != null) {
+            messages << msg
+        }
+
+        then:
+        messages*.class == [TextWebSocketFrame, PingWebSocketFrame, TextWebSocketFrame]
+
+        cleanup:
+        messages*.release()
+        channel.finishAndReleaseAll()
+    }
+
+    def 'a slow consumer is closed with a policy violation'() {
+        given:
+        def channel = unwritableChannel(WebSocketOverflowPolicy.CLOSE)
+        List<ChannelFuture> futures = (0..5).collect { channel.write(new TextWebSocketFrame("m$it-xxxx")) }
+
+        when:
+        channel.flush()
+        TextWebSocketFrame first = channel.readOutbound()
+        CloseWebSocketFrame close = channel.readOutbound()
+
+        then:
+        first.text() == '0123456789abcdefghij'
+        close.statusCode() == 1008
+        !channel.open
+        futures.every { it.done && !it.success }
+
+        cleanup:
+        first?.release()
+        close?.release()
+        channel.finishAndReleaseAll()
+    }
+
+    private static EmbeddedChannel unwritableChannel(WebSocketOverflowPolicy policy) {
+        def channel = new EmbeddedChannel()
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(8, 16))
+        channel.pipeline().addLast(new WebSocketOutboundQueueHandler(policy, 20))
+        // goes above the high water mark until flushed
+        channel.write(new TextWebSocketFrame('0123456789abcdefghij'))
+        assert !channel.writable
+        return channel
+    }
+
+    private static WebSocketFrame keyed(String text, Object key) {
+        ConflatableFrames.withKey(new TextWebSocketFrame(text), key)
+    }
+
+    private static List<String> texts(EmbeddedChannel channel) {
+        def texts = []
+        TextWebSocketFrame frame
+        while ((frame = channel.readOutbound()) != null) {
+            texts << frame.text()
+            frame.release()
+        }
+        return texts
+    }
+}
@@ -60,6 +60,7 @@ import io.netty.channel.ChannelOutboundHandler;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.ServerSocketChannel;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -295,6 +296,11 @@ public class DefaultNettyEmbeddedServerFactory
         return eventLoopGroupFactory.domainServerSocketChannelInstance(workerConfig);
     }
 
+    @Override
+    public DatagramChannel getDatagramChannelInstance(EventLoopGroupConfiguration workerConfig) {
+        return eventLoopGroupFactory.datagramChannelInstance(workerConfig);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <E> ApplicationEventPublisher<E> getEventPublisher(Class<E> eventClass) {
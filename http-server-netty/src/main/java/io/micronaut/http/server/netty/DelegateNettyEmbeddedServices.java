@@ -33,6 +33,7 @@ import io.micronaut.web.router.resource.StaticResourceResolver;
 import io.netty.channel.ChannelOutboundHandler;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.ServerSocketChannel;
 
 /**
@@ -114,6 +115,11 @@ interface DelegateNettyEmbeddedServices extends NettyEmbeddedServices {
         return getDelegate().getServerSocketChannelInstance(workerConfig);
     }
 
+    @Override
+    default DatagramChannel getDatagramChannelInstance(EventLoopGroupConfiguration workerConfig) {
+        return getDelegate().getDatagramChannelInstance(workerConfig);
+    }
+
     @Override
     default <E> ApplicationEventPublisher<E> getEventPublisher(Class<E> eventClass) {
         return getDelegate().getEventPublisher(eventClass);
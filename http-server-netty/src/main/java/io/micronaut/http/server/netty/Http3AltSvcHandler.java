@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.util.AsciiString;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Handler that advertises the HTTP/3 listeners of the server in the {@code Alt-Svc} header of the responses of the
+ * TCP listeners, so that clients can switch to HTTP/3 (RFC 7838).
+ *
+ * @since 4.0.0
+ */
+@ChannelHandler.Sharable
+@Internal
+final class Http3AltSvcHandler extends ChannelOutboundHandlerAdapter {
+
+    static final AsciiString ALT_SVC = AsciiString.cached("alt-svc");
+
+    private final String value;
+
+    /**
+     * @param ports  The UDP ports of the HTTP/3 listeners
+     * @param maxAge How long clients may cache the alternative
+     */
+    Http3AltSvcHandler(Collection<Integer> ports, Duration maxAge) {
+        long seconds = maxAge.getSeconds();
+        this.value = ports.stream()
+                .distinct()
+                .map(port -> "h3=\":" + port + "\"; ma=" + seconds)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * @return The value of the {@code Alt-Svc} header
+     */
+    String getValue() {
+        return value;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof HttpResponse response && !response.headers().contains(ALT_SVC)) {
+            response.headers().set(ALT_SVC, value);
+        }
+        ctx.write(msg, promise);
+    }
+}
@@ -26,23 +26,26 @@ import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration
 import io.micronaut.http.server.netty.decoders.HttpRequestDecoder;
 import io.micronaut.http.server.netty.encoders.HttpResponseEncoder;
 import io.micronaut.http.server.netty.handler.accesslog.HttpAccessLogHandler;
+import io.micronaut.http.server.netty.handler.limit.HttpConcurrencyLimitHandler;
 import io.micronaut.http.server.netty.ssl.HttpRequestCertificateHandler;
 import io.micronaut.http.server.netty.websocket.NettyServerWebSocketUpgradeHandler;
+import io.micronaut.http.server.netty.websocket.PerMessageDeflateHandshaker;
 import io.micronaut.http.server.util.HttpHostResolver;
 import io.micronaut.http.ssl.ServerSslConfiguration;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOutboundHandler;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.compression.CompressionOptions;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http.HttpServerKeepAliveHandler;
 import io.netty.handler.codec.http.HttpServerUpgradeHandler;
-import io.netty.handler.codec.http.websocketx.extensions.compression.WebSocketServerCompressionHandler;
 import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
 import io.netty.handler.codec.http2.Http2CodecUtil;
 import io.netty.handler.codec.http2.Http2FrameCodec;
@@ -63,6 +66,14 @@ import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.SslHandshakeCompletionEvent;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.incubator.codec.http3.Http3;
+import io.netty.incubator.codec.http3.Http3FrameToHttpObjectCodec;
+import io.netty.incubator.codec.http3.Http3ServerConnectionHandler;
+import io.netty.incubator.codec.quic.InsecureQuicTokenHandler;
+import io.netty.incubator.codec.quic.QuicChannel;
+import io.netty.incubator.codec.quic.QuicServerCodecBuilder;
+import io.netty.incubator.codec.quic.QuicSslContext;
+import io.netty.incubator.codec.quic.QuicStreamChannel;
 import io.netty.util.AsciiString;
 import io.netty.util.AttributeKey;
 import io.netty.util.ReferenceCountUtil;
@@ -78,6 +89,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -106,6 +118,8 @@ final class HttpPipelineBuilder {
     private final HttpAccessLogHandler accessLogHandler;
     private final HttpRequestDecoder requestDecoder;
     private final HttpResponseEncoder responseEncoder;
+    private final CompressionOptions[] compressionOptions;
+    private final PerMessageDeflateHandshaker webSocketDeflateHandshaker;
 
     private final NettyServerCustomizer serverCustomizer;
 
@@ -136,6 +150,9 @@ final class HttpPipelineBuilder {
                 embeddedServices.getMediaTypeCodecRegistry(),
                 server.getServerConfiguration(),
                 embeddedServices.getApplicationContext().getConversionService());
+        compressionOptions = SmartHttpContentCompressor.compressionOptions(embeddedServices.getHttpCompressionStrategy(), server.getServerConfiguration());
+        NettyHttpServerConfiguration.WebSocketSettings webSocketSettings = server.getServerConfiguration().getWebsocket();
+        webSocketDeflateHandshaker = new PerMessageDeflateHandshaker(webSocketSettings.getCompressionLevel(), webSocketSettings.isCompressionContextTakeover());
     }
 
     boolean supportsSsl() {
@@ -423,18 +440,97 @@ final class HttpPipelineBuilder {
         }
     }
 
+    /**
+     * Pipeline of a connection to an HTTP 3 listener. Every request stream of the connection gets the same handlers
+     * as an HTTP 2 stream. Kept apart from {@link ConnectionPipeline} so that the optional QUIC classes are only
+     * loaded when an HTTP 3 listener is configured.
+     */
+    final class Http3ConnectionPipeline {
+        private final Channel channel;
+        private final ChannelPipeline pipeline;
+
+        private final NettyServerCustomizer connectionCustomizer;
+
+        Http3ConnectionPipeline(Channel channel) {
+            this.channel = channel;
+            this.pipeline = channel.pipeline();
+            this.connectionCustomizer = serverCustomizer.specializeForChannel(channel, NettyServerCustomizer.ChannelRole.CONNECTION);
+        }
+
+        void initChannel() {
+            if (loggingHandler != null) {
+                pipeline.addLast(loggingHandler);
+            }
+            pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP3_CONNECTION, new Http3ServerConnectionHandler(new ChannelInitializer<QuicStreamChannel>() {
+                @Override
+                protected void initChannel(@NonNull QuicStreamChannel ch) {
+                    StreamPipeline streamPipeline = new StreamPipeline(ch, null, true, connectionCustomizer.specializeForChannel(ch, NettyServerCustomizer.ChannelRole.REQUEST_STREAM));
+                    streamPipeline.insertHttp3FrameHandlers();
+                    streamPipeline.streamCustomizer.onStreamPipelineBuilt();
+                }
+            }));
+
+            connectionCustomizer.onInitialPipelineBuilt();
+            server.triggerPipelineListeners(pipeline);
+        }
+    }
+
+    /**
+     * Create the QUIC codec of an HTTP 3 listener, which is added to the UDP channel. The codec creates a
+     * {@link QuicChannel} for every connection, which should be initialized using {@link Http3ConnectionPipeline}.
+     *
+     * @param connectionInitializer The handler of the QUIC connection channels
+     * @return The codec
+     */
+    ChannelHandler createQuicCodec(ChannelHandler connectionInitializer) {
+        return QuicCodecHolder.create(this, connectionInitializer);
+    }
+
+    /**
+     * Holder that keeps the QUIC classes out of {@link HttpPipelineBuilder}, they are optional.
+     */
+    private static final class QuicCodecHolder {
+        static ChannelHandler create(HttpPipelineBuilder builder, ChannelHandler connectionInitializer) {
+            NettyHttpServerConfiguration serverConfiguration = builder.server.getServerConfiguration();
+            QuicSslContext quicSslContext = builder.embeddedServices.getServerSslBuilder() != null ? builder.embeddedServices.getServerSslBuilder().buildQuic().orElse(null) : null;
+            if (quicSslContext == null) {
+                throw new IllegalStateException("HTTP/3 listener configured, but no SSL context available");
+            }
+            NettyHttpServerConfiguration.Http3Settings http3 = serverConfiguration.getHttp3();
+            QuicServerCodecBuilder codecBuilder = Http3.newQuicServerCodecBuilder()
+                    .sslContext(quicSslContext)
+                    .initialMaxData(http3.getInitialMaxData())
+                    .initialMaxStreamDataBidirectionalLocal(http3.getInitialMaxStreamData())
+                    .initialMaxStreamDataBidirectionalRemote(http3.getInitialMaxStreamData())
+                    .initialMaxStreamsBidirectional(http3.getInitialMaxStreamsBidirectional())
+                    .tokenHandler(InsecureQuicTokenHandler.INSTANCE)
+                    .handler(connectionInitializer);
+            Duration idleTime = serverConfiguration.getIdleTimeout();
+            if (!idleTime.isNegative() && !idleTime.isZero()) {
+                codecBuilder.maxIdleTimeout(idleTime.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return codecBuilder.build();
+        }
+    }
+
     final class StreamPipeline {
         private final Channel channel;
         private final ChannelPipeline pipeline;
         @Nullable
         private final SslHandler sslHandler;
+        private final boolean http3;
 
         private final NettyServerCustomizer streamCustomizer;
 
         private StreamPipeline(Channel channel, @Nullable SslHandler sslHandler, NettyServerCustomizer streamCustomizer) {
+            this(channel, sslHandler, false, streamCustomizer);
+        }
+
+        private StreamPipeline(Channel channel, @Nullable SslHandler sslHandler, boolean http3, NettyServerCustomizer streamCustomizer) {
             this.channel = channel;
             this.pipeline = channel.pipeline();
             this.sslHandler = sslHandler;
+            this.http3 = http3;
             this.streamCustomizer = streamCustomizer;
         }
 
@@ -450,6 +546,20 @@ final class HttpPipelineBuilder {
             insertHttp2DownstreamHandlers();
         }
 
+        /**
+         * Insert the handlers of an HTTP 3 request stream, downstream of the
+         * {@value ChannelPipelineCustomizer#HANDLER_HTTP3_CONNECTION}.
+         */
+        private void insertHttp3FrameHandlers() {
+            pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_DECODER, new Http3FrameToHttpObjectCodec(true, server.getServerConfiguration().isValidateHeaders()));
+            pipeline.addLast(ChannelPipelineCustomizer.HANDLER_FLOW_CONTROL, new FlowControlHandler());
+            // no access log, the QUIC channels do not expose the socket address of the client
+
+            registerMicronautChannelHandlers();
+
+            insertMicronautHandlers();
+        }
+
         /**
          * Insert the handlers downstream of the {@value ChannelPipelineCustomizer#HANDLER_HTTP2_CONNECTION}. Used both
          * for ALPN HTTP 2 and h2c.
@@ -472,14 +582,18 @@ final class HttpPipelineBuilder {
         private void insertMicronautHandlers() {
             channel.attr(STREAM_PIPELINE_ATTRIBUTE.get()).set(this);
 
-            pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_COMPRESSOR, new SmartHttpContentCompressor(embeddedServices.getHttpCompressionStrategy()));
+            pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_COMPRESSOR, new SmartHttpContentCompressor(embeddedServices.getHttpCompressionStrategy(), compressionOptions));
             pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_DECOMPRESSOR, new HttpContentDecompressor());
 
-            pipeline.addLast(NettyServerWebSocketUpgradeHandler.COMPRESSION_HANDLER, new WebSocketServerCompressionHandler());
+            pipeline.addLast(NettyServerWebSocketUpgradeHandler.COMPRESSION_HANDLER, webSocketDeflateHandshaker.newExtensionHandler());
             pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_STREAM, new HttpStreamsServerHandler());
             pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_CHUNK, new ChunkedWriteHandler());
+            Http3AltSvcHandler altSvcHandler = server.getHttp3AltSvcHandler();
+            if (altSvcHandler != null && !http3) {
+                pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP3_ALT_SVC, altSvcHandler);
+            }
             pipeline.addLast(HttpRequestDecoder.ID, requestDecoder);
-            if (server.getServerConfiguration().isDualProtocol() && server.getServerConfiguration().isHttpToHttpsRedirect() && sslHandler == null) {
+            if (server.getServerConfiguration().isDualProtocol() && server.getServerConfiguration().isHttpToHttpsRedirect() && sslHandler == null && !http3) {
                 pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_TO_HTTPS_REDIRECT, new HttpToHttpsRedirectHandler(sslConfiguration, hostResolver));
             }
             if (sslHandler != null) {
@@ -490,6 +604,10 @@ final class HttpPipelineBuilder {
                 pipeline.addLast(ChannelPipelineCustomizer.HANDLER_WEBSOCKET_UPGRADE, websocketHandler)
             );
 
+            HttpConcurrencyLimitHandler concurrencyLimitHandler = server.getConcurrencyLimitHandler();
+            if (concurrencyLimitHandler != null) {
+                pipeline.addLast(ChannelPipelineCustomizer.HANDLER_CONCURRENCY_LIMIT, concurrencyLimitHandler);
+            }
             pipeline.addLast(ChannelPipelineCustomizer.HANDLER_MICRONAUT_INBOUND, routingInBoundHandler);
         }
 
@@ -38,6 +38,7 @@ import io.netty.channel.ChannelOutboundHandler;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.ServerSocketChannel;
 
 /**
@@ -170,6 +171,17 @@ public interface NettyEmbeddedServices {
         throw new UnsupportedOperationException("Domain sockets not supported");
     }
 
+    /**
+     * Gets the datagram channel instance used by HTTP/3 listeners.
+     * @param workerConfig The worker config
+     * @return The {@link io.netty.channel.socket.DatagramChannel}
+     * @throws UnsupportedOperationException if datagram channels are not supported.
+     * @since 4.0.0
+     */
+    @NonNull default DatagramChannel getDatagramChannelInstance(@NonNull EventLoopGroupConfiguration workerConfig) {
+        throw new UnsupportedOperationException("Datagram channels not supported");
+    }
+
     /**
      * Get an event publisher for the server for the given type.
      * @param eventClass The event publisher
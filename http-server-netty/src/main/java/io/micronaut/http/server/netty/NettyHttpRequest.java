@@ -104,6 +104,8 @@ import java.util.function.Supplier;
 @Internal
 public class NettyHttpRequest<T> extends AbstractNettyHttpRequest<T> implements HttpRequest<T>, PushCapableHttpRequest<T> {
     private static final Logger LOG = LoggerFactory.getLogger(NettyHttpRequest.class);
+    // "unknown" is also the identifier of an unknown node in the Forwarded header (RFC 7239)
+    private static final InetSocketAddress UNKNOWN_REMOTE_ADDRESS = InetSocketAddress.createUnresolved("unknown", 0);
 
     /**
      * Headers to exclude from the push promise sent to the client. We use
@@ -240,18 +242,34 @@ public class NettyHttpRequest<T> extends AbstractNettyHttpRequest<T> implements
         return cookies;
     }
 
+    /**
+     * The remote address of the connection. HTTP/3 streams and their QUIC connections are addressed by connection
+     * id, so the socket address of the peer is looked up on the parent channels. When no parent exposes it, as with
+     * the current QUIC codec, an unresolved address with the host {@code unknown} and port {@code 0}
+     * is returned.
+     *
+     * @return The remote address
+     */
     @Override
     public InetSocketAddress getRemoteAddress() {
-        return (InetSocketAddress) getChannelHandlerContext()
-            .channel()
-            .remoteAddress();
+        Channel channel = getChannelHandlerContext().channel();
+        while (channel != null) {
+            if (channel.remoteAddress() instanceof InetSocketAddress inetSocketAddress) {
+                return inetSocketAddress;
+            }
+            channel = channel.parent();
+        }
+        return UNKNOWN_REMOTE_ADDRESS;
     }
 
     @Override
     public InetSocketAddress getServerAddress() {
-        return (InetSocketAddress) getChannelHandlerContext()
-            .channel()
-            .localAddress();
+        Channel channel = getChannelHandlerContext().channel();
+        // for HTTP/3 streams, use the address of the UDP channel
+        while (!(channel.localAddress() instanceof InetSocketAddress) && channel.parent() != null) {
+            channel = channel.parent();
+        }
+        return (InetSocketAddress) channel.localAddress();
     }
 
     @Override
@@ -261,6 +279,10 @@ public class NettyHttpRequest<T> extends AbstractNettyHttpRequest<T> implements
 
     @Override
     public boolean isSecure() {
+        if (getHttpVersion() == io.micronaut.http.HttpVersion.HTTP_3_0) {
+            // QUIC is always encrypted
+            return true;
+        }
         ChannelHandlerContext channelHandlerContext = getChannelHandlerContext();
         return channelHandlerContext.pipeline().get(SslHandler.class) != null;
     }
@@ -29,6 +29,7 @@ import io.micronaut.core.io.socket.SocketUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.SupplierUtil;
 import io.micronaut.http.context.event.HttpRequestTerminatedEvent;
+import io.micronaut.http.instrumentation.HttpServerListener;
 import io.micronaut.http.netty.channel.ChannelPipelineListener;
 import io.micronaut.http.netty.channel.DefaultEventLoopGroupConfiguration;
 import io.micronaut.http.netty.channel.EventLoopGroupConfiguration;
@@ -37,6 +38,7 @@ import io.micronaut.http.netty.websocket.WebSocketSessionRepository;
 import io.micronaut.http.server.HttpServerConfiguration;
 import io.micronaut.http.server.exceptions.ServerStartupException;
 import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+import io.micronaut.http.server.netty.handler.limit.HttpConcurrencyLimitHandler;
 import io.micronaut.http.server.netty.ssl.ServerSslBuilder;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandlerRegistry;
 import io.micronaut.http.server.util.DefaultHttpHostResolver;
@@ -49,6 +51,7 @@ import io.micronaut.runtime.server.event.ServerShutdownEvent;
 import io.micronaut.runtime.server.event.ServerStartupEvent;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.web.router.Router;
+import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -115,6 +118,8 @@ public class NettyHttpServer implements NettyEmbeddedServer {
     private final ServerSslConfiguration sslConfiguration;
     private final Environment environment;
     private final RoutingInBoundHandler routingHandler;
+    @Nullable
+    private final HttpConcurrencyLimitHandler concurrencyLimitHandler;
     private final HttpContentProcessorResolver httpContentProcessorResolver;
     private final boolean isDefault;
     private final ApplicationContext applicationContext;
@@ -128,6 +133,8 @@ public class NettyHttpServer implements NettyEmbeddedServer {
     private final Collection<ChannelPipelineListener> pipelineListeners = new ArrayList<>(2);
     @Nullable
     private volatile List<Listener> activeListeners = null;
+    @Nullable
+    private volatile Http3AltSvcHandler http3AltSvcHandler = null;
     private final List<NettyHttpServerConfiguration.NettyListenerConfiguration> listenerConfigurations;
     private final CompositeNettyServerCustomizer rootCustomizer = new CompositeNettyServerCustomizer();
 
@@ -177,6 +184,9 @@ public class NettyHttpServer implements NettyEmbeddedServer {
                 applicationContext.getConversionService()
         );
         this.hostResolver = new DefaultHttpHostResolver(serverConfiguration, () -> NettyHttpServer.this);
+        NettyHttpServerConfiguration.ConcurrencyLimitSettings concurrencyLimit = serverConfiguration.getConcurrencyLimit();
+        // one handler for all listeners, so that they share the limits
+        this.concurrencyLimitHandler = concurrencyLimit.isEnabled() ? new HttpConcurrencyLimitHandler(concurrencyLimit) : null;
 
         this.listenerConfigurations = buildListenerConfigurations();
     }
@@ -284,6 +294,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
                 listeners.add(listener);
             }
             this.activeListeners = Collections.unmodifiableList(listeners);
+            this.http3AltSvcHandler = createHttp3AltSvcHandler(listeners);
 
             if (isDefault) {
                 final Router router = this.nettyEmbeddedServices.getRouter();
@@ -304,6 +315,36 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         return this;
     }
 
+    @Nullable
+    private Http3AltSvcHandler createHttp3AltSvcHandler(List<Listener> listeners) {
+        List<Integer> http3Ports = listeners.stream()
+                .filter(l -> l.config.getFamily() == NettyHttpServerConfiguration.NettyListenerConfiguration.Family.QUIC)
+                .map(l -> ((InetSocketAddress) l.serverChannel.localAddress()).getPort())
+                .toList();
+        if (http3Ports.isEmpty()) {
+            return null;
+        }
+        return new Http3AltSvcHandler(http3Ports, serverConfiguration.getHttp3().getAltSvcMaxAge());
+    }
+
+    /**
+     * @return The handler that adds the {@code Alt-Svc} header to the responses of the TCP listeners, or
+     * {@code null} if there is no HTTP/3 listener
+     */
+    @Nullable
+    final Http3AltSvcHandler getHttp3AltSvcHandler() {
+        return http3AltSvcHandler;
+    }
+
+    /**
+     * @return The handler that limits the number of requests in flight, or {@code null} if the concurrency limit is
+     * disabled
+     */
+    @Nullable
+    final HttpConcurrencyLimitHandler getConcurrencyLimitHandler() {
+        return concurrencyLimitHandler;
+    }
+
     private EventLoopGroupConfiguration resolveWorkerConfiguration() {
         EventLoopGroupConfiguration workerConfig = serverConfiguration.getWorker();
         if (workerConfig == null) {
@@ -370,12 +411,15 @@ public class NettyHttpServer implements NettyEmbeddedServer {
                         hasUnix = true;
                         break;
                     default:
-                        // unknown
+                        // unknown, or QUIC which is only used to upgrade to HTTP/3
                 }
             }
         } else {
             // started already, just use the localAddress() of each channel
             for (Listener listener : listenersLocal) {
+                if (listener.config.getFamily() == NettyHttpServerConfiguration.NettyListenerConfiguration.Family.QUIC) {
+                    continue;
+                }
                 SocketAddress localAddress = listener.serverChannel.localAddress();
                 if (localAddress instanceof InetSocketAddress) {
                     // found one \o/
@@ -522,6 +566,9 @@ public class NettyHttpServer implements NettyEmbeddedServer {
                     listenerBootstrap.channelFactory(() -> nettyEmbeddedServices.getDomainServerChannelInstance(workerConfig));
                     future = listenerBootstrap.bind(DomainSocketHolder.makeDomainSocketAddress(cfg.getPath()));
                     break;
+                case QUIC:
+                    future = bindQuic(listener, cfg, workerConfig);
+                    break;
                 default:
                     throw new UnsupportedOperationException("Unsupported family: " + cfg.getFamily());
             }
@@ -544,6 +591,32 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         }
     }
 
+    private ChannelFuture bindQuic(Listener listener, NettyHttpServerConfiguration.NettyListenerConfiguration cfg, EventLoopGroupConfiguration workerConfig) {
+        if (nettyEmbeddedServices.getServerSslBuilder() == null) {
+            throw new IllegalStateException("HTTP/3 listener configured, but no SSL context available");
+        }
+        // a single UDP channel receives the packets of all QUIC connections, so there is no parent group
+        Bootstrap quicBootstrap = new Bootstrap()
+            .group(workerGroup)
+            .channelFactory(() -> nettyEmbeddedServices.getDatagramChannelInstance(workerConfig))
+            .handler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(@NonNull Channel ch) {
+                    listener.setServerChannel(ch);
+                    ch.pipeline().addLast(listener.httpPipelineBuilder.createQuicCodec(listener));
+                }
+            });
+        int port = cfg.getPort();
+        if (port == -1) {
+            port = 0;
+        }
+        if (cfg.getHost() == null) {
+            return quicBootstrap.bind(port);
+        } else {
+            return quicBootstrap.bind(cfg.getHost(), port);
+        }
+    }
+
     private void logBind(NettyHttpServerConfiguration.NettyListenerConfiguration cfg) {
         Optional<String> applicationName = serverConfiguration.getApplicationConfiguration().getName();
         if (applicationName.isPresent()) {
@@ -571,6 +644,12 @@ public class NettyHttpServer implements NettyEmbeddedServer {
                 } else {
                     return "unix:" + cfg.getPath();
                 }
+            case QUIC:
+                if (cfg.getHost() == null) {
+                    return "quic:*:" + cfg.getPort();
+                } else {
+                    return "quic:" + cfg.getHost() + ":" + cfg.getPort();
+                }
             default:
                 throw new UnsupportedOperationException("Unsupported family: " + cfg.getFamily());
         }
@@ -592,6 +671,16 @@ public class NettyHttpServer implements NettyEmbeddedServer {
 
     private void stopInternal(boolean stopApplicationContext) {
         try {
+            List<Listener> listeners = activeListeners;
+            if (listeners != null) {
+                for (Listener listener : listeners) {
+                    if (listener.config.getFamily() == NettyHttpServerConfiguration.NettyListenerConfiguration.Family.QUIC) {
+                        // the UDP channels are registered with the worker group, which may be shared
+                        listener.serverChannel.close()
+                                .addListener(this::logShutdownErrorIfNecessary);
+                    }
+                }
+            }
             if (shutdownParent) {
                 EventLoopGroupConfiguration parent = serverConfiguration.getParent();
                 if (parent != null) {
@@ -615,6 +704,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
             }
             serverConfiguration.getMultipart().getLocation().ifPresent(dir -> DiskFileUpload.baseDirectory = null);
             this.activeListeners = null;
+            this.http3AltSvcHandler = null;
         } catch (Throwable e) {
             if (LOG.isErrorEnabled()) {
                 LOG.error("Error stopping Micronaut server: " + e.getMessage(), e);
@@ -773,7 +863,15 @@ public class NettyHttpServer implements NettyEmbeddedServer {
 
         @Override
         protected void initChannel(@NonNull Channel ch) throws Exception {
-            httpPipelineBuilder.new ConnectionPipeline(ch, config.isSsl()).initChannel();
+            HttpServerListener serverListener = routingHandler.serverListener;
+            if (serverListener != null) {
+                serverListener.connectionAccepted(ch.remoteAddress());
+            }
+            if (config.getFamily() == NettyHttpServerConfiguration.NettyListenerConfiguration.Family.QUIC) {
+                httpPipelineBuilder.new Http3ConnectionPipeline(ch).initChannel();
+            } else {
+                httpPipelineBuilder.new ConnectionPipeline(ch, config.isSsl()).initChannel();
+            }
         }
     }
 
@@ -15,6 +15,7 @@
  */
 package io.micronaut.http.server.netty;
 
+import io.micronaut.buffer.netty.ChunkedByteBufOutputStream;
 import io.micronaut.buffer.netty.NettyByteBufferFactory;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.core.annotation.Internal;
@@ -38,6 +39,7 @@ import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
 import io.micronaut.http.context.ServerRequestContext;
 import io.micronaut.http.context.event.HttpRequestTerminatedEvent;
+import io.micronaut.http.instrumentation.HttpServerListener;
 import io.micronaut.http.netty.NettyHttpResponseBuilder;
 import io.micronaut.http.netty.NettyMutableHttpResponse;
 import io.micronaut.http.netty.stream.JsonSubscriber;
@@ -48,6 +50,7 @@ import io.micronaut.http.server.exceptions.InternalServerException;
 import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandler;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandlerRegistry;
+import io.micronaut.json.codec.MapperMediaTypeCodec;
 import io.micronaut.runtime.http.codec.TextPlainCodec;
 import io.micronaut.web.router.RouteInfo;
 import io.micronaut.web.router.resource.StaticResourceResolver;
@@ -118,6 +121,8 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
     final ApplicationEventPublisher<HttpRequestTerminatedEvent> terminateEventPublisher;
     final RouteExecutor routeExecutor;
     final ConversionService conversionService;
+    @Nullable
+    final HttpServerListener serverListener;
 
     /**
      * @param customizableResponseTypeHandlerRegistry The customizable response type handler registry
@@ -148,6 +153,7 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
         this.multipartEnabled = isMultiPartEnabled.isEmpty() || isMultiPartEnabled.get();
         this.routeExecutor = embeddedServerContext.getRouteExecutor();
         this.conversionService = conversionService;
+        this.serverListener = routeExecutor.getServerListener();
     }
 
     @Override
@@ -173,6 +179,9 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
         try {
             request.release();
         } finally {
+            if (serverListener != null) {
+                serverListener.requestCompleted(request);
+            }
             if (terminateEventPublisher != ApplicationEventPublisher.NO_OP) {
                 ctx.executor().execute(() -> {
                     try {
@@ -232,6 +241,9 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, io.micronaut.http.HttpRequest<?> httpRequest) {
+        if (serverListener != null) {
+            serverListener.headersParsed(httpRequest);
+        }
         new NettyRequestLifecycle(this, ctx, (NettyHttpRequest<?>) httpRequest).handleNormal();
     }
 
@@ -321,6 +333,7 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
                     toNettyResponse(response),
                     mapToHttpContent(nettyRequest, response, body, context)
                 );
+                firstByteWritten(nettyRequest, streamedResponse.status().code());
                 context.writeAndFlush(streamedResponse);
                 context.read();
             } else {
@@ -493,7 +506,8 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
         int httpStatus = message.code();
 
         final io.micronaut.http.HttpVersion httpVersion = request.getHttpVersion();
-        final boolean isHttp2 = httpVersion == io.micronaut.http.HttpVersion.HTTP_2_0;
+        // HTTP/2 and HTTP/3 have no connection specific headers
+        final boolean isMultiplexed = httpVersion == io.micronaut.http.HttpVersion.HTTP_2_0 || httpVersion == io.micronaut.http.HttpVersion.HTTP_3_0;
 
         boolean decodeError = request instanceof NettyHttpRequest &&
             ((NettyHttpRequest<?>) request).getNativeRequest().decoderResult().isFailure();
@@ -525,7 +539,7 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
         final Object body = message.body();
         if (body instanceof NettyCustomizableResponseTypeHandlerInvoker) {
             // default Connection header if not set explicitly
-            if (!isHttp2) {
+            if (!isMultiplexed) {
                 if (!message.getHeaders().contains(HttpHeaders.CONNECTION)) {
                     if (!decodeError && (httpStatus < 500 || serverConfiguration.isKeepAliveOnServerError())) {
                         message.getHeaders().set(HttpHeaders.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
@@ -536,13 +550,14 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
             }
             NettyCustomizableResponseTypeHandlerInvoker handler = (NettyCustomizableResponseTypeHandlerInvoker) body;
             message.body(null);
+            firstByteWritten(request, httpStatus);
             handler.invoke(request, message, context).addListener(requestCompletor);
         } else {
             io.netty.handler.codec.http.HttpResponse nettyResponse = NettyHttpResponseBuilder.toHttpResponse(message);
             io.netty.handler.codec.http.HttpHeaders nettyHeaders = nettyResponse.headers();
 
             // default Connection header if not set explicitly
-            if (!isHttp2) {
+            if (!isMultiplexed) {
                 if (!nettyHeaders.contains(HttpHeaderNames.CONNECTION)) {
                     boolean expectKeepAlive = nettyResponse.protocolVersion().isKeepAliveDefault() || request.getHeaders().isKeepAlive();
                     if (!decodeError && expectKeepAlive && (httpStatus < 500 || serverConfiguration.isKeepAliveOnServerError())) {
@@ -606,6 +621,7 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
         io.netty.handler.codec.http.HttpResponse nettyResponse,
         GenericFutureListener<Future<? super Void>> requestCompletor
     ) {
+        firstByteWritten(request, nettyResponse.status().code());
         context.writeAndFlush(nettyResponse).addListener(requestCompletor);
 
         if (LOG.isDebugEnabled()) {
@@ -616,6 +632,12 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
         }
     }
 
+    private void firstByteWritten(HttpRequest<?> request, int status) {
+        if (serverListener != null) {
+            serverListener.firstByteWritten(request, status);
+        }
+    }
+
     @NonNull
     private io.netty.handler.codec.http.HttpResponse toNettyResponse(HttpResponse<?> message) {
         if (message instanceof NettyHttpResponseBuilder builder) {
@@ -704,6 +726,9 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Encoding emitted response object [{}] using codec: {}", body, codec);
             }
+            if (codec instanceof MapperMediaTypeCodec) {
+                return encodeWithMapper(bodyType, body, codec, context);
+            }
             ByteBuffer<ByteBuf> wrapped;
             if (bodyType != null && bodyType.isInstance(body)) {
                 wrapped = codec.encode(bodyType, body, new NettyByteBufferFactory(context.alloc()));
@@ -720,6 +745,25 @@ final class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.microna
         return byteBuf;
     }
 
+    /**
+     * Streams the output of the JSON generator into pooled chunks of the channel allocator, so that large bodies
+     * are neither buffered in a heap array nor copied when the buffer grows.
+     */
+    private ByteBuf encodeWithMapper(@Nullable Argument<Object> bodyType, Object body, MediaTypeCodec codec, ChannelHandlerContext context) {
+        ChunkedByteBufOutputStream outputStream = new ChunkedByteBufOutputStream(context.alloc());
+        try {
+            if (bodyType != null && bodyType.isInstance(body)) {
+                codec.encode(bodyType, body, outputStream);
+            } else {
+                codec.encode(body, outputStream);
+            }
+        } catch (Throwable t) {
+            outputStream.release();
+            throw t;
+        }
+        return outputStream.toByteBuf();
+    }
+
     /**
      * Is the exception ignorable by Micronaut.
      *
@@ -15,12 +15,25 @@
  */
 package io.micronaut.http.server.netty;
 
+import com.aayushatharva.brotli4j.encoder.Encoder;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliOptions;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.DeflateOptions;
+import io.netty.handler.codec.compression.GzipOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdOptions;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpResponse;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -33,7 +46,11 @@ import java.util.List;
 @Internal
 public class SmartHttpContentCompressor extends HttpContentCompressor {
 
+    private static final int DEFAULT_MEM_LEVEL = 8;
+
     private final HttpCompressionStrategy httpCompressionStrategy;
+    @Nullable
+    private final String[] encodings;
     private boolean skipEncoding = false;
 
     /**
@@ -44,6 +61,50 @@ public class SmartHttpContentCompressor extends HttpContentCompressor {
     SmartHttpContentCompressor(HttpCompressionStrategy httpCompressionStrategy) {
         super(httpCompressionStrategy.getCompressionLevel());
         this.httpCompressionStrategy = httpCompressionStrategy;
+        this.encodings = null;
+    }
+
+    /**
+     * Creates a SmartHttpContentCompressor with the given compression logic and codecs.
+     *
+     * @param httpCompressionStrategy The compression strategy
+     * @param compressionOptions      The codecs to offer, in order of preference
+     * @since 4.0.0
+     */
+    SmartHttpContentCompressor(HttpCompressionStrategy httpCompressionStrategy, CompressionOptions... compressionOptions) {
+        // the threshold is applied by the strategy
+        super(0, compressionOptions);
+        this.httpCompressionStrategy = httpCompressionStrategy;
+        this.encodings = new String[compressionOptions.length];
+        for (int i = 0; i < compressionOptions.length; i++) {
+            encodings[i] = encodingName(compressionOptions[i]);
+        }
+    }
+
+    /**
+     * Builds the codecs offered by the server, in order of preference. Brotli and zstd are only included when their
+     * native libraries are available.
+     *
+     * @param httpCompressionStrategy The compression strategy, for the gzip and deflate level
+     * @param configuration           The server configuration
+     * @return The compression options
+     * @since 4.0.0
+     */
+    static CompressionOptions[] compressionOptions(HttpCompressionStrategy httpCompressionStrategy, NettyHttpServerConfiguration configuration) {
+        List<CompressionOptions> options = new ArrayList<>(4);
+        NettyHttpServerConfiguration.BrotliSettings brotli = configuration.getBrotli();
+        if (brotli.isEnabled() && Brotli.isAvailable()) {
+            options.add(BrotliHolder.options(brotli));
+        }
+        NettyHttpServerConfiguration.ZstdSettings zstd = configuration.getZstd();
+        if (zstd.isEnabled() && Zstd.isAvailable()) {
+            options.add(StandardCompressionOptions.zstd(zstd.getLevel(), zstd.getBlockSize(), zstd.getMaxEncodeSize()));
+        }
+        int level = httpCompressionStrategy.getCompressionLevel();
+        int windowBits = configuration.getCompressionWindowBits();
+        options.add(StandardCompressionOptions.gzip(level, windowBits, DEFAULT_MEM_LEVEL));
+        options.add(StandardCompressionOptions.deflate(level, windowBits, DEFAULT_MEM_LEVEL));
+        return options.toArray(new CompressionOptions[0]);
     }
 
     /**
@@ -72,4 +133,91 @@ public class SmartHttpContentCompressor extends HttpContentCompressor {
         }
         return super.beginEncode(headers, acceptEncoding);
     }
+
+    /**
+     * Picks the codec with the highest q-value in the {@code Accept-Encoding} header. Ties are broken by the order of
+     * preference of the server, and codecs with a q-value of 0 are never picked.
+     *
+     * @param acceptEncoding The {@code Accept-Encoding} header
+     * @return The content encoding, or {@code null} to send the response uncompressed
+     */
+    @Override
+    protected String determineEncoding(String acceptEncoding) {
+        if (encodings == null) {
+            return super.determineEncoding(acceptEncoding);
+        }
+        float[] q = new float[encodings.length];
+        Arrays.fill(q, -1);
+        float starQ = -1;
+        int start = 0;
+        int length = acceptEncoding.length();
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+            int paramsStart = acceptEncoding.indexOf(';', start);
+            int codingEnd = paramsStart == -1 || paramsStart > end ? end : paramsStart;
+            String coding = acceptEncoding.substring(start, codingEnd).trim();
+            float value = codingEnd < end ? parseQ(acceptEncoding.substring(codingEnd + 1, end)) : 1.0f;
+            if (coding.equals("*")) {
+                starQ = value;
+            } else {
+                for (int i = 0; i < encodings.length; i++) {
+                    if (encodings[i].equalsIgnoreCase(coding)) {
+                        q[i] = value;
+                    }
+                }
+            }
+            start = end + 1;
+        }
+        String best = null;
+        float bestQ = 0;
+        for (int i = 0; i < encodings.length; i++) {
+            float value = q[i] == -1 ? starQ : q[i];
+            if (value > bestQ) {
+                best = encodings[i];
+                bestQ = value;
+            }
+        }
+        return best;
+    }
+
+    private static float parseQ(String params) {
+        for (String param : params.split(";")) {
+            String trimmed = param.trim();
+            if (trimmed.length() > 2 && (trimmed.charAt(0) == 'q' || trimmed.charAt(0) == 'Q') && trimmed.charAt(1) == '=') {
+                try {
+                    return Float.parseFloat(trimmed.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1.0f;
+    }
+
+    private static String encodingName(CompressionOptions options) {
+        if (options instanceof GzipOptions) {
+            return "gzip";
+        } else if (options instanceof DeflateOptions) {
+            return "deflate";
+        } else if (options instanceof ZstdOptions) {
+            return "zstd";
+        } else if (Brotli.isAvailable() && options instanceof BrotliOptions) {
+            return "br";
+        }
+        throw new IllegalArgumentException("Unsupported compression options: " + options);
+    }
+
+    /**
+     * Keeps the brotli4j classes from being loaded when brotli is not available.
+     */
+    private static final class BrotliHolder {
+        static CompressionOptions options(NettyHttpServerConfiguration.BrotliSettings settings) {
+            return StandardCompressionOptions.brotli(new Encoder.Parameters()
+                .setQuality(settings.getQuality())
+                .setWindow(settings.getWindow()));
+        }
+    }
 }
@@ -108,6 +108,13 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     @SuppressWarnings("WeakerAccess")
     public static final int DEFAULT_COMPRESSIONLEVEL = 6;
 
+    /**
+     * The default gzip and deflate window size, as a base 2 logarithm.
+     * @since 4.0.0
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_COMPRESSIONWINDOWBITS = 15;
+
     /**
      * The default configuration for boolean flag indicating whether to add connection header `keep-alive` to responses with HttpStatus > 499.
      */
@@ -133,10 +140,16 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     private LogLevel logLevel;
     private int compressionThreshold = DEFAULT_COMPRESSIONTHRESHOLD;
     private int compressionLevel = DEFAULT_COMPRESSIONLEVEL;
+    private int compressionWindowBits = DEFAULT_COMPRESSIONWINDOWBITS;
     private boolean useNativeTransport = DEFAULT_USE_NATIVE_TRANSPORT;
     private String fallbackProtocol = ApplicationProtocolNames.HTTP_1_1;
     private AccessLogger accessLogger;
     private Http2Settings http2Settings = new Http2Settings();
+    private Http3Settings http3Settings = new Http3Settings();
+    private BrotliSettings brotliSettings = new BrotliSettings();
+    private ZstdSettings zstdSettings = new ZstdSettings();
+    private WebSocketSettings webSocketSettings = new WebSocketSettings();
+    private ConcurrencyLimitSettings concurrencyLimitSettings = new ConcurrencyLimitSettings();
     private boolean keepAliveOnServerError = DEFAULT_KEEP_ALIVE_ON_SERVER_ERROR;
     private String pcapLoggingPathPattern = null;
     private List<NettyListenerConfiguration> listeners = null;
@@ -201,6 +214,106 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         }
     }
 
+    /**
+     * Returns the Http3Settings.
+     * @return The Http3Settings.
+     * @since 4.0.0
+     */
+    public Http3Settings getHttp3() {
+        return http3Settings;
+    }
+
+    /**
+     * Sets the Http3Settings.
+     * @param http3 The Http3Settings.
+     * @since 4.0.0
+     */
+    public void setHttp3(Http3Settings http3) {
+        if (http3 != null) {
+            this.http3Settings = http3;
+        }
+    }
+
+    /**
+     * Returns the settings of the brotli response compression.
+     * @return The BrotliSettings.
+     * @since 4.0.0
+     */
+    public BrotliSettings getBrotli() {
+        return brotliSettings;
+    }
+
+    /**
+     * Sets the settings of the brotli response compression.
+     * @param brotli The BrotliSettings.
+     * @since 4.0.0
+     */
+    public void setBrotli(BrotliSettings brotli) {
+        if (brotli != null) {
+            this.brotliSettings = brotli;
+        }
+    }
+
+    /**
+     * Returns the settings of the zstd response compression.
+     * @return The ZstdSettings.
+     * @since 4.0.0
+     */
+    public ZstdSettings getZstd() {
+        return zstdSettings;
+    }
+
+    /**
+     * Sets the settings of the zstd response compression.
+     * @param zstd The ZstdSettings.
+     * @since 4.0.0
+     */
+    public void setZstd(ZstdSettings zstd) {
+        if (zstd != null) {
+            this.zstdSettings = zstd;
+        }
+    }
+
+    /**
+     * Returns the settings of the WebSocket connections.
+     * @return The WebSocketSettings.
+     * @since 4.0.0
+     */
+    public WebSocketSettings getWebsocket() {
+        return webSocketSettings;
+    }
+
+    /**
+     * Sets the settings of the WebSocket connections.
+     * @param websocket The WebSocketSettings.
+     * @since 4.0.0
+     */
+    public void setWebsocket(WebSocketSettings websocket) {
+        if (websocket != null) {
+            this.webSocketSettings = websocket;
+        }
+    }
+
+    /**
+     * Returns the settings of the adaptive concurrency limit.
+     * @return The ConcurrencyLimitSettings.
+     * @since 4.0.0
+     */
+    public ConcurrencyLimitSettings getConcurrencyLimit() {
+        return concurrencyLimitSettings;
+    }
+
+    /**
+     * Sets the settings of the adaptive concurrency limit.
+     * @param concurrencyLimit The ConcurrencyLimitSettings.
+     * @since 4.0.0
+     */
+    public void setConcurrencyLimit(ConcurrencyLimitSettings concurrencyLimit) {
+        if (concurrencyLimit != null) {
+            this.concurrencyLimitSettings = concurrencyLimit;
+        }
+    }
+
     /**
      * @return The pipeline customizers
      */
@@ -333,6 +446,16 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         return compressionLevel;
     }
 
+    /**
+     * The gzip and deflate window size, as a base 2 logarithm. Default value ({@value #DEFAULT_COMPRESSIONWINDOWBITS}).
+     *
+     * @return The compression window bits.
+     * @since 4.0.0
+     */
+    public int getCompressionWindowBits() {
+        return compressionWindowBits;
+    }
+
     /**
      * @return The Netty child channel options.
      * @see io.netty.bootstrap.ServerBootstrap#childOption(io.netty.channel.ChannelOption, Object)
@@ -518,6 +641,17 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         this.compressionLevel = compressionLevel;
     }
 
+    /**
+     * Sets the gzip and deflate window size, as a base 2 logarithm (9-15). Smaller windows use less memory per
+     * connection at the cost of the compression ratio. Default value ({@value #DEFAULT_COMPRESSIONWINDOWBITS}).
+     *
+     * @param compressionWindowBits The compression window bits.
+     * @since 4.0.0
+     */
+    public void setCompressionWindowBits(int compressionWindowBits) {
+        this.compressionWindowBits = compressionWindowBits;
+    }
+
     /**
      * Whether to send connection keep alive on internal server errors. Default value ({@value DEFAULT_KEEP_ALIVE_ON_SERVER_ERROR}).
      * @param keepAliveOnServerError The keep alive on server error flag
@@ -713,6 +847,555 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         }
     }
 
+    /**
+     * Settings of the QUIC transport used by {@link NettyListenerConfiguration.Family#QUIC HTTP/3 listeners}.
+     *
+     * @since 4.0.0
+     */
+    @ConfigurationProperties("http3")
+    public static class Http3Settings {
+
+        /**
+         * The default initial connection flow control limit.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_INITIAL_MAX_DATA = 10_000_000;
+
+        /**
+         * The default initial stream flow control limit.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_INITIAL_MAX_STREAM_DATA = 1_000_000;
+
+        /**
+         * The default maximum number of concurrent request streams.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_INITIAL_MAX_STREAMS_BIDIRECTIONAL = 100;
+
+        /**
+         * The default max age of the {@code Alt-Svc} header in seconds.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_ALT_SVC_MAX_AGE_SECONDS = 86400;
+
+        private long initialMaxData = DEFAULT_INITIAL_MAX_DATA;
+        private long initialMaxStreamData = DEFAULT_INITIAL_MAX_STREAM_DATA;
+        private long initialMaxStreamsBidirectional = DEFAULT_INITIAL_MAX_STREAMS_BIDIRECTIONAL;
+        private Duration altSvcMaxAge = Duration.ofSeconds(DEFAULT_ALT_SVC_MAX_AGE_SECONDS);
+
+        /**
+         * @return The initial number of bytes the client may send on a connection
+         */
+        public long getInitialMaxData() {
+            return initialMaxData;
+        }
+
+        /**
+         * Sets the initial number of bytes the client may send on a connection. Default value ({@value #DEFAULT_INITIAL_MAX_DATA}).
+         *
+         * @param initialMaxData The initial connection flow control limit
+         */
+        public void setInitialMaxData(@ReadableBytes long initialMaxData) {
+            this.initialMaxData = initialMaxData;
+        }
+
+        /**
+         * @return The initial number of bytes the client may send on a request stream
+         */
+        public long getInitialMaxStreamData() {
+            return initialMaxStreamData;
+        }
+
+        /**
+         * Sets the initial number of bytes the client may send on a request stream. Default value ({@value #DEFAULT_INITIAL_MAX_STREAM_DATA}).
+         *
+         * @param initialMaxStreamData The initial stream flow control limit
+         */
+        public void setInitialMaxStreamData(@ReadableBytes long initialMaxStreamData) {
+            this.initialMaxStreamData = initialMaxStreamData;
+        }
+
+        /**
+         * @return The maximum number of concurrent request streams of a connection
+         */
+        public long getInitialMaxStreamsBidirectional() {
+            return initialMaxStreamsBidirectional;
+        }
+
+        /**
+         * Sets the maximum number of concurrent request streams of a connection. Default value ({@value #DEFAULT_INITIAL_MAX_STREAMS_BIDIRECTIONAL}).
+         *
+         * @param initialMaxStreamsBidirectional The maximum number of concurrent request streams
+         */
+        public void setInitialMaxStreamsBidirectional(long initialMaxStreamsBidirectional) {
+            this.initialMaxStreamsBidirectional = initialMaxStreamsBidirectional;
+        }
+
+        /**
+         * @return How long clients may remember that HTTP/3 is available, as sent in the {@code Alt-Svc} header
+         */
+        public Duration getAltSvcMaxAge() {
+            return altSvcMaxAge;
+        }
+
+        /**
+         * Sets how long clients may remember that HTTP/3 is available, as sent in the {@code Alt-Svc} header of
+         * the responses of the TCP listeners. Default value ({@value #DEFAULT_ALT_SVC_MAX_AGE_SECONDS} seconds).
+         *
+         * @param altSvcMaxAge The max age
+         */
+        public void setAltSvcMaxAge(@NonNull Duration altSvcMaxAge) {
+            this.altSvcMaxAge = Objects.requireNonNull(altSvcMaxAge, "altSvcMaxAge");
+        }
+    }
+
+    /**
+     * Settings of the brotli response compression. Brotli is only offered when the {@code brotli4j} library and its
+     * native part for the platform are on the classpath.
+     *
+     * @since 4.0.0
+     */
+    @ConfigurationProperties("brotli")
+    public static class BrotliSettings {
+
+        /**
+         * The default brotli quality.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_QUALITY = 4;
+
+        /**
+         * The default brotli window size, as a base 2 logarithm.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_WINDOW = 22;
+
+        private boolean enabled = true;
+        private int quality = DEFAULT_QUALITY;
+        private int window = DEFAULT_WINDOW;
+
+        /**
+         * @return Whether brotli may be negotiated
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether brotli may be negotiated when the library is available. Default value (true).
+         *
+         * @param enabled Whether brotli may be negotiated
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The brotli quality (0-11)
+         */
+        public int getQuality() {
+            return quality;
+        }
+
+        /**
+         * Sets the brotli quality (0-11). Low qualities are faster than gzip at a similar ratio. Default value ({@value #DEFAULT_QUALITY}).
+         *
+         * @param quality The brotli quality
+         */
+        public void setQuality(int quality) {
+            this.quality = quality;
+        }
+
+        /**
+         * @return The brotli window size, as a base 2 logarithm (10-24)
+         */
+        public int getWindow() {
+            return window;
+        }
+
+        /**
+         * Sets the brotli window size, as a base 2 logarithm (10-24). Default value ({@value #DEFAULT_WINDOW}).
+         *
+         * @param window The brotli window size
+         */
+        public void setWindow(int window) {
+            this.window = window;
+        }
+    }
+
+    /**
+     * Settings of the zstd response compression. Zstd is only offered when the {@code zstd-jni} library is on the
+     * classpath.
+     *
+     * @since 4.0.0
+     */
+    @ConfigurationProperties("zstd")
+    public static class ZstdSettings {
+
+        /**
+         * The default zstd level.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_LEVEL = 3;
+
+        /**
+         * The default size of the blocks the response is compressed in.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+        /**
+         * The default maximum size of a single compressed write.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAX_ENCODE_SIZE = 32 * 1024 * 1024;
+
+        private boolean enabled = true;
+        private int level = DEFAULT_LEVEL;
+        private int blockSize = DEFAULT_BLOCK_SIZE;
+        private int maxEncodeSize = DEFAULT_MAX_ENCODE_SIZE;
+
+        /**
+         * @return Whether zstd may be negotiated
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether zstd may be negotiated when the library is available. Default value (true).
+         *
+         * @param enabled Whether zstd may be negotiated
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The zstd level (1-22)
+         */
+        public int getLevel() {
+            return level;
+        }
+
+        /**
+         * Sets the zstd level (1-22). Default value ({@value #DEFAULT_LEVEL}).
+         *
+         * @param level The zstd level
+         */
+        public void setLevel(int level) {
+            this.level = level;
+        }
+
+        /**
+         * @return The size of the blocks the response is compressed in
+         */
+        public int getBlockSize() {
+            return blockSize;
+        }
+
+        /**
+         * Sets the size of the blocks the response is compressed in, which bounds the window. Default value ({@value #DEFAULT_BLOCK_SIZE}).
+         *
+         * @param blockSize The block size
+         */
+        public void setBlockSize(@ReadableBytes int blockSize) {
+            this.blockSize = blockSize;
+        }
+
+        /**
+         * @return The maximum size of a single compressed write
+         */
+        public int getMaxEncodeSize() {
+            return maxEncodeSize;
+        }
+
+        /**
+         * Sets the maximum size of a single compressed write. Default value ({@value #DEFAULT_MAX_ENCODE_SIZE}).
+         *
+         * @param maxEncodeSize The maximum encode size
+         */
+        public void setMaxEncodeSize(@ReadableBytes int maxEncodeSize) {
+            this.maxEncodeSize = maxEncodeSize;
+        }
+    }
+
+    /**
+     * Settings of the WebSocket connections.
+     *
+     * @since 4.0.0
+     */
+    @ConfigurationProperties("websocket")
+    public static class WebSocketSettings {
+
+        /**
+         * The default compression level of the permessage-deflate extension.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
+        /**
+         * The default for keeping the compression context between messages.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_COMPRESSION_CONTEXT_TAKEOVER = true;
+
+        private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+        private boolean compressionContextTakeover = DEFAULT_COMPRESSION_CONTEXT_TAKEOVER;
+
+        /**
+         * @return The compression level of the permessage-deflate extension (0-9)
+         */
+        public int getCompressionLevel() {
+            return compressionLevel;
+        }
+
+        /**
+         * Sets the compression level of the permessage-deflate extension (0-9). Default value ({@value #DEFAULT_COMPRESSION_LEVEL}).
+         *
+         * @param compressionLevel The compression level
+         */
+        public void setCompressionLevel(int compressionLevel) {
+            this.compressionLevel = compressionLevel;
+        }
+
+        /**
+         * @return Whether the server keeps its compression context between the messages of a connection
+         */
+        public boolean isCompressionContextTakeover() {
+            return compressionContextTakeover;
+        }
+
+        /**
+         * Sets whether the server keeps its compression context between the messages of a connection, unless the
+         * client asks otherwise. Keeping the context compresses better, while compressing every message on its own
+         * lets topic broadcasts compress a message once for all connections. Default value ({@value #DEFAULT_COMPRESSION_CONTEXT_TAKEOVER}).
+         *
+         * @param compressionContextTakeover Whether to keep the compression context
+         */
+        public void setCompressionContextTakeover(boolean compressionContextTakeover) {
+            this.compressionContextTakeover = compressionContextTakeover;
+        }
+    }
+
+    /**
+     * Settings of the adaptive concurrency limit of the server. The limit applies to the requests that have not been
+     * responded to yet, and adapts to the observed response times: it grows while they stay close to the lowest
+     * observed one, and shrinks once requests start queueing. Requests beyond the limit are rejected with a
+     * {@code 503 Service Unavailable} response right away.
+     *
+     * @since 4.0.0
+     */
+    @ConfigurationProperties("concurrency-limit")
+    public static class ConcurrencyLimitSettings extends ConcurrencyLimitConfig {
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        /**
+         * The default {@code Retry-After} duration of rejected requests in seconds.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_RETRY_AFTER_SECONDS = 1;
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private Duration retryAfter = Duration.ofSeconds(DEFAULT_RETRY_AFTER_SECONDS);
+        private List<ConcurrencyLimitGroup> groups = Collections.emptyList();
+
+        /**
+         * @return Whether the concurrency limit is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the concurrency limit is enabled. Default value ({@value #DEFAULT_ENABLED}).
+         *
+         * @param enabled Whether the concurrency limit is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The duration of the {@code Retry-After} header of rejected requests
+         */
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+
+        /**
+         * Sets the duration of the {@code Retry-After} header of rejected requests, rounded up to seconds. Default
+         * value ({@value #DEFAULT_RETRY_AFTER_SECONDS} second).
+         *
+         * @param retryAfter The duration
+         */
+        public void setRetryAfter(Duration retryAfter) {
+            if (retryAfter != null) {
+                this.retryAfter = retryAfter;
+            }
+        }
+
+        /**
+         * @return The route groups that have their own limit
+         */
+        public List<ConcurrencyLimitGroup> getGroups() {
+            return groups;
+        }
+
+        /**
+         * Sets the route groups that have their own limit. A request counts against the limit of the first group
+         * whose paths match, or against the limit of the server otherwise.
+         *
+         * @param groups The route groups
+         */
+        public void setGroups(List<ConcurrencyLimitGroup> groups) {
+            this.groups = groups == null ? Collections.emptyList() : groups;
+        }
+
+        /**
+         * A group of routes with its own concurrency limit.
+         */
+        @EachProperty("groups")
+        public static final class ConcurrencyLimitGroup extends ConcurrencyLimitConfig {
+            private List<String> paths = Collections.emptyList();
+
+            /**
+             * @return The ant-style path patterns of the routes of the group, such as {@code /api/**}
+             */
+            public List<String> getPaths() {
+                return paths;
+            }
+
+            /**
+             * Sets the ant-style path patterns of the routes of the group, such as {@code /api/**}.
+             *
+             * @param paths The path patterns
+             */
+            public void setPaths(List<String> paths) {
+                this.paths = paths == null ? Collections.emptyList() : paths;
+            }
+        }
+    }
+
+    /**
+     * Abstract class for configuring an adaptive concurrency limit.
+     *
+     * @since 4.0.0
+     */
+    public abstract static class ConcurrencyLimitConfig {
+
+        /**
+         * The default initial limit.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+        /**
+         * The default minimum limit.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MIN_LIMIT = 1;
+
+        /**
+         * The default maximum limit.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAX_LIMIT = 1000;
+
+        private Algorithm algorithm = Algorithm.VEGAS;
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+
+        /**
+         * @return The algorithm that adapts the limit
+         */
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        /**
+         * Sets the algorithm that adapts the limit. Default value (VEGAS).
+         *
+         * @param algorithm The algorithm
+         */
+        public void setAlgorithm(Algorithm algorithm) {
+            if (algorithm != null) {
+                this.algorithm = algorithm;
+            }
+        }
+
+        /**
+         * @return The limit before any response time has been observed
+         */
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        /**
+         * Sets the limit before any response time has been observed. Default value ({@value #DEFAULT_INITIAL_LIMIT}).
+         *
+         * @param initialLimit The initial limit
+         */
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        /**
+         * @return The lowest the limit can shrink to
+         */
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        /**
+         * Sets the lowest the limit can shrink to. Default value ({@value #DEFAULT_MIN_LIMIT}).
+         *
+         * @param minLimit The minimum limit
+         */
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        /**
+         * @return The highest the limit can grow to
+         */
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        /**
+         * Sets the highest the limit can grow to. Default value ({@value #DEFAULT_MAX_LIMIT}).
+         *
+         * @param maxLimit The maximum limit
+         */
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        /**
+         * The algorithms that adapt a concurrency limit.
+         */
+        public enum Algorithm {
+            /**
+             * Estimates the number of queued requests from the ratio of the lowest observed response time to the
+             * current one, as TCP Vegas does. The limit grows while few requests queue and shrinks once more do.
+             */
+            VEGAS,
+            /**
+             * Scales the limit by the ratio of the long term average response time to the current one, so that it
+             * shrinks as soon as the response times rise above their usual level.
+             */
+            GRADIENT
+        }
+    }
+
     /**
      * Access logger configuration.
      */
@@ -935,6 +1618,7 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         private Integer ioRatio;
         private String executor;
         private boolean preferNativeTransport = false;
+        private boolean preferIoUringTransport = false;
         private Duration shutdownQuietPeriod = Duration.ofSeconds(DEFAULT_SHUTDOWN_QUIET_PERIOD);
         private Duration shutdownTimeout = Duration.ofSeconds(DEFAULT_SHUTDOWN_TIMEOUT);
         private String name;
@@ -993,6 +1677,14 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
             this.preferNativeTransport = preferNativeTransport;
         }
 
+        /**
+         * @param preferIoUringTransport Set whether to prefer the io_uring transport if available
+         * @since 4.0.0
+         */
+        public void setPreferIoUringTransport(boolean preferIoUringTransport) {
+            this.preferIoUringTransport = preferIoUringTransport;
+        }
+
         /**
          * @param shutdownQuietPeriod Set the shutdown quiet period
          */
@@ -1050,6 +1742,11 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
             return preferNativeTransport;
         }
 
+        @Override
+        public boolean isPreferIoUringTransport() {
+            return preferIoUringTransport;
+        }
+
         @Override
         public Duration getShutdownQuietPeriod() {
             return shutdownQuietPeriod;
@@ -1131,8 +1828,8 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         }
 
         /**
-         * For TCP listeners, the host to bind to, or {@code null} to bind to all hosts.
-         * @return For TCP listeners, the host to bind to, or {@code null} to bind to all hosts.
+         * For TCP and QUIC listeners, the host to bind to, or {@code null} to bind to all hosts.
+         * @return For TCP and QUIC listeners, the host to bind to, or {@code null} to bind to all hosts.
          */
         @Nullable
         public String getHost() {
@@ -1140,24 +1837,24 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         }
 
         /**
-         * For TCP listeners, the host to bind to, or {@code null} to bind to all hosts.
-         * @param host For TCP listeners, the host to bind to, or {@code null} to bind to all hosts.
+         * For TCP and QUIC listeners, the host to bind to, or {@code null} to bind to all hosts.
+         * @param host For TCP and QUIC listeners, the host to bind to, or {@code null} to bind to all hosts.
          */
         public void setHost(@Nullable String host) {
             this.host = host;
         }
 
         /**
-         * The TCP port to bind to. May be {@code -1} to bind to a random port.
-         * @return The TCP port to bind to. May be {@code -1} to bind to a random port.
+         * The TCP or UDP port to bind to. May be {@code -1} to bind to a random port.
+         * @return The TCP or UDP port to bind to. May be {@code -1} to bind to a random port.
          */
         public int getPort() {
             return port;
         }
 
         /**
-         * The TCP port to bind to. May be {@code -1} to bind to a random port.
-         * @param port The TCP port to bind to. May be {@code -1} to bind to a random port.
+         * The TCP or UDP port to bind to. May be {@code -1} to bind to a random port.
+         * @param port The TCP or UDP port to bind to. May be {@code -1} to bind to a random port.
          */
         public void setPort(int port) {
             this.port = port;
@@ -1209,6 +1906,14 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
              * UNIX domain socket.
              */
             UNIX,
+            /**
+             * QUIC over a UDP socket, serving HTTP/3. Always encrypted, requires
+             * {@link io.micronaut.http.ssl.SslConfiguration#isEnabled()} and the netty incubator HTTP/3 codec on
+             * the classpath.
+             *
+             * @since 4.0.0
+             */
+            QUIC,
         }
     }
 }
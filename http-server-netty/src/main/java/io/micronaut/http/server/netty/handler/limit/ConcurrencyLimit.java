@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.handler.limit;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An adaptive concurrency limit. The response times of the requests are averaged over windows of at least
+ * {@value #MIN_WINDOW_SAMPLES} samples and {@value #MIN_WINDOW_MILLIS} milliseconds, and the limit is adapted once per
+ * window by the thread that closes it, so that recording a sample only takes a few atomic additions.
+ *
+ * @since 4.0.0
+ */
+@Internal
+abstract class ConcurrencyLimit {
+
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    private static final long MIN_WINDOW_MILLIS = 100;
+    private static final long MIN_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(MIN_WINDOW_MILLIS);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private volatile int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger windowSamples = new AtomicInteger();
+    private final AtomicLong windowRttSum = new AtomicLong();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+
+    /**
+     * @param config The configuration of the limit
+     */
+    ConcurrencyLimit(NettyHttpServerConfiguration.ConcurrencyLimitConfig config) {
+        this.minLimit = Math.max(1, config.getMinLimit());
+        this.maxLimit = Math.max(minLimit, config.getMaxLimit());
+        this.limit = clamp(config.getInitialLimit());
+    }
+
+    /**
+     * @param config The configuration of the limit
+     * @return The limit of the configured algorithm
+     */
+    static ConcurrencyLimit of(NettyHttpServerConfiguration.ConcurrencyLimitConfig config) {
+        return switch (config.getAlgorithm()) {
+            case VEGAS -> new VegasLimit(config);
+            case GRADIENT -> new GradientLimit(config);
+        };
+    }
+
+    /**
+     * @return The lowest the limit can shrink to
+     */
+    final int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * @return The highest the limit can grow to
+     */
+    final int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * @return The current limit
+     */
+    final int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The number of requests in flight
+     */
+    final int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Acquires a slot if the limit has not been reached.
+     *
+     * @return The number of requests in flight including this one, or {@code 0} if the limit has been reached
+     */
+    final int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Acquires a slot whatever the limit.
+     *
+     * @return The number of requests in flight including this one
+     */
+    final int acquire() {
+        return inFlight.incrementAndGet();
+    }
+
+    /**
+     * Releases a slot.
+     */
+    final void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Records the response time of a request.
+     *
+     * @param rttNanos The response time
+     * @param inFlight The number of requests in flight when the request was received
+     */
+    final void sample(long rttNanos, int inFlight) {
+        windowRttSum.addAndGet(rttNanos);
+        if (windowMaxInFlight.get() < inFlight) {
+            windowMaxInFlight.accumulateAndGet(inFlight, Math::max);
+        }
+        int samples = windowSamples.incrementAndGet();
+        long start = windowStart.get();
+        long now = System.nanoTime();
+        if (samples >= MIN_WINDOW_SAMPLES && now - start >= MIN_WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            // the samples recorded concurrently may count towards the next window, which does not matter for averages
+            int count = windowSamples.getAndSet(0);
+            long rttSum = windowRttSum.getAndSet(0);
+            int maxInFlight = windowMaxInFlight.getAndSet(0);
+            if (count > 0) {
+                limit = clamp(update(limit, Math.max(1, rttSum / count), maxInFlight));
+            }
+        }
+    }
+
+    /**
+     * Adapts the limit at the end of a window. Only called by one thread at a time.
+     *
+     * @param limit       The current limit
+     * @param rttNanos    The average response time of the window
+     * @param maxInFlight The highest number of requests in flight of the window
+     * @return The new limit, before it is clamped to the configured bounds
+     */
+    abstract int update(int limit, long rttNanos, int maxInFlight);
+
+    /**
+     * @param limit The current limit
+     * @param maxInFlight The highest number of requests in flight of a window
+     * @return Whether the requests did not use the limit, in which case their response times say nothing about it
+     */
+    static boolean isAppLimited(int limit, int maxInFlight) {
+        return maxInFlight * 2 < limit;
+    }
+
+    private int clamp(int value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.handler.limit;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+
+/**
+ * A limit scaled by the gradient of the response times, the ratio of their long term average to their average over
+ * the last window. The limit shrinks as soon as the response times rise above {@value #TOLERANCE} times their long
+ * term average, and otherwise grows by the square root of the limit, the number of requests allowed to queue. The
+ * long term average decays faster while it is much higher than the current response times, so that it recovers
+ * quickly from a long period of congestion.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class GradientLimit extends ConcurrencyLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_TERM_FACTOR = 2.0 / (600 + 1);
+    private static final double MIN_GRADIENT = 0.5;
+
+    private double longRttNanos;
+    private double estimatedLimit;
+
+    /**
+     * @param config The configuration of the limit
+     */
+    GradientLimit(NettyHttpServerConfiguration.ConcurrencyLimitConfig config) {
+        super(config);
+        this.estimatedLimit = getLimit();
+    }
+
+    @Override
+    int update(int limit, long rttNanos, int maxInFlight) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) * LONG_TERM_FACTOR;
+            if (longRttNanos > 2 * rttNanos) {
+                longRttNanos = longRttNanos * 0.95;
+            }
+        }
+        if (isAppLimited(limit, maxInFlight)) {
+            return limit;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRttNanos / rttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        // the estimate is kept as a fraction so that small increments add up
+        estimatedLimit = Math.max(getMinLimit(), Math.min(getMaxLimit(), estimatedLimit));
+        return (int) estimatedLimit;
+    }
+}
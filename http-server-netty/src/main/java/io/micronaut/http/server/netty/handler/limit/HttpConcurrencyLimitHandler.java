@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.handler.limit;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.PathMatcher;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.netty.stream.StreamedHttpResponse;
+import io.micronaut.http.server.netty.NettyHttpRequest;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.HttpChunkedInput;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Limits the number of requests in flight with an adaptive {@link ConcurrencyLimit}, ahead of the routing of the
+ * requests. The response time of a request is measured until its response starts, and the request holds its slot
+ * until the last content of the response has been written, so streamed responses count against the limit while
+ * their body is sent. A request beyond the limit is rejected right away with a
+ * {@code 503 Service Unavailable} response and a {@code Retry-After} header. Requests whose path matches a configured
+ * route group count against the limit of the group instead of the limit of the server.
+ *
+ * @since 4.0.0
+ */
+@Internal
+@ChannelHandler.Sharable
+public final class HttpConcurrencyLimitHandler extends ChannelDuplexHandler {
+
+    private static final AttributeKey<Deque<InFlight>> IN_FLIGHT_KEY = AttributeKey.newInstance("micronaut.http.server.concurrency-limit");
+    private static final AttributeKey<Deque<InFlight>> RESPONDING_KEY = AttributeKey.newInstance("micronaut.http.server.concurrency-limit.responding");
+
+    private final ConcurrencyLimit serverLimit;
+    private final List<RouteGroup> groups;
+    private final String retryAfter;
+
+    /**
+     * @param settings The settings of the concurrency limit
+     */
+    public HttpConcurrencyLimitHandler(NettyHttpServerConfiguration.ConcurrencyLimitSettings settings) {
+        this.serverLimit = ConcurrencyLimit.of(settings);
+        this.groups = settings.getGroups().stream()
+                .map(group -> new RouteGroup(group.getPaths(), ConcurrencyLimit.of(group)))
+                .toList();
+        long retryAfterMillis = settings.getRetryAfter().toMillis();
+        this.retryAfter = Long.toString(Math.max(0, (retryAfterMillis + 999) / 1000));
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (!(msg instanceof HttpRequest<?> request)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+        Attribute<Deque<InFlight>> attr = ctx.channel().attr(IN_FLIGHT_KEY);
+        Deque<InFlight> inFlight = attr.get();
+        if (inFlight == null) {
+            inFlight = new ArrayDeque<>(2);
+            attr.set(inFlight);
+        }
+        ConcurrencyLimit limit = limitOf(request.getPath());
+        int inFlightCount;
+        if (inFlight.isEmpty()) {
+            inFlightCount = limit.tryAcquire();
+            if (inFlightCount == 0) {
+                reject(ctx, request);
+                return;
+            }
+        } else {
+            // a pipelined request, its response cannot overtake the responses of the requests before it
+            inFlightCount = limit.acquire();
+        }
+        inFlight.add(new InFlight(limit, System.nanoTime(), inFlightCount));
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        InFlight request = null;
+        if (msg instanceof HttpResponse response && response.status().codeClass() != HttpStatusClass.INFORMATIONAL) {
+            Deque<InFlight> inFlight = ctx.channel().attr(IN_FLIGHT_KEY).get();
+            InFlight responded = inFlight == null ? null : inFlight.poll();
+            if (responded != null) {
+                responded.limit.sample(System.nanoTime() - responded.startNanos, responded.inFlight);
+                Attribute<Deque<InFlight>> attr = ctx.channel().attr(RESPONDING_KEY);
+                Deque<InFlight> responding = attr.get();
+                if (responding == null) {
+                    responding = new ArrayDeque<>(2);
+                    attr.set(responding);
+                }
+                responding.add(responded);
+                // the write of a streamed response completes once its last content has been written
+                if (msg instanceof LastHttpContent || msg instanceof StreamedHttpResponse) {
+                    request = responded;
+                }
+            }
+        } else if (msg instanceof LastHttpContent || msg instanceof HttpChunkedInput) {
+            Deque<InFlight> responding = ctx.channel().attr(RESPONDING_KEY).get();
+            if (responding != null) {
+                for (InFlight candidate : responding) {
+                    if (!candidate.lastContentWritten) {
+                        request = candidate;
+                        break;
+                    }
+                }
+            }
+        }
+        if (request != null) {
+            InFlight completed = request;
+            completed.lastContentWritten = true;
+            promise = promise.unvoid();
+            promise.addListener(future -> {
+                Deque<InFlight> responding = ctx.channel().attr(RESPONDING_KEY).get();
+                if (responding != null) {
+                    responding.remove(completed);
+                }
+                completed.release();
+            });
+        }
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        // the body of a streamed response may never complete once the channel is closed
+        Deque<InFlight> responding = ctx.channel().attr(RESPONDING_KEY).getAndSet(null);
+        if (responding != null) {
+            for (InFlight request : responding) {
+                request.release();
+            }
+        }
+        Deque<InFlight> inFlight = ctx.channel().attr(IN_FLIGHT_KEY).getAndSet(null);
+        if (inFlight != null) {
+            // the requests that have not been responded to are not sampled
+            for (InFlight request : inFlight) {
+                request.release();
+            }
+        }
+        ctx.fireChannelInactive();
+    }
+
+    private ConcurrencyLimit limitOf(String path) {
+        for (RouteGroup group : groups) {
+            for (String pattern : group.paths) {
+                if (PathMatcher.ANT.matches(pattern, path)) {
+                    return group.limit;
+                }
+            }
+        }
+        return serverLimit;
+    }
+
+    private void reject(ChannelHandlerContext ctx, HttpRequest<?> request) {
+        if (request instanceof NettyHttpRequest<?> nettyRequest) {
+            nettyRequest.release();
+        }
+        DefaultFullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.SERVICE_UNAVAILABLE);
+        response.headers()
+                .set(HttpHeaderNames.RETRY_AFTER, retryAfter)
+                .set(HttpHeaderNames.CONTENT_LENGTH, 0);
+        ctx.writeAndFlush(response);
+    }
+
+    /**
+     * @return The limit of the requests that match no route group
+     */
+    ConcurrencyLimit getServerLimit() {
+        return serverLimit;
+    }
+
+    /**
+     * A group of routes with its own limit.
+     *
+     * @param paths The path patterns of the routes
+     * @param limit The limit
+     */
+    private record RouteGroup(List<String> paths, ConcurrencyLimit limit) {
+    }
+
+    /**
+     * A request whose response has not been sent yet. The slot of a response can be released both by the write of
+     * its last content and by the channel becoming inactive, so it is only released once.
+     */
+    private static final class InFlight {
+        private final ConcurrencyLimit limit;
+        private final long startNanos;
+        private final int inFlight;
+        private boolean lastContentWritten;
+        private boolean released;
+
+        /**
+         * @param limit      The limit the request counts against
+         * @param startNanos The time the request was received
+         * @param inFlight   The number of requests in flight when the request was received
+         */
+        InFlight(ConcurrencyLimit limit, long startNanos, int inFlight) {
+            this.limit = limit;
+            this.startNanos = startNanos;
+            this.inFlight = inFlight;
+        }
+
+        void release() {
+            if (!released) {
+                released = true;
+                limit.release();
+            }
+        }
+    }
+}
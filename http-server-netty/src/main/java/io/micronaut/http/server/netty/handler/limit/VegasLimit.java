@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.handler.limit;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+
+/**
+ * A limit adapted like the congestion window of TCP Vegas. The number of queued requests is estimated as
+ * {@code limit * (1 - noLoadRtt / rtt)}, where the no load response time is the lowest observed one. The limit grows
+ * while that estimate is below a threshold and shrinks when it is above one, both growing with the logarithm of the
+ * limit. The no load response time is measured again every {@value #PROBE_WINDOWS} windows, to follow changes of the
+ * service.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class VegasLimit extends ConcurrencyLimit {
+
+    private static final int PROBE_WINDOWS = 600;
+    private static final int ALPHA = 3;
+    private static final int BETA = 6;
+
+    private long noLoadRttNanos;
+    private int windows;
+
+    /**
+     * @param config The configuration of the limit
+     */
+    VegasLimit(NettyHttpServerConfiguration.ConcurrencyLimitConfig config) {
+        super(config);
+    }
+
+    @Override
+    int update(int limit, long rttNanos, int maxInFlight) {
+        if (++windows >= PROBE_WINDOWS) {
+            windows = 0;
+            noLoadRttNanos = rttNanos;
+            return limit;
+        }
+        if (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+            return limit;
+        }
+        if (isAppLimited(limit, maxInFlight)) {
+            return limit;
+        }
+        double log = Math.max(1, Math.log10(limit));
+        double queueSize = Math.ceil(limit * (1 - (double) noLoadRttNanos / rttNanos));
+        if (queueSize <= log) {
+            return (int) (limit + BETA * log);
+        } else if (queueSize < ALPHA * log) {
+            return (int) (limit + log);
+        } else if (queueSize > BETA * log) {
+            return (int) (limit - log);
+        }
+        return limit;
+    }
+}
@@ -24,6 +24,7 @@ import io.micronaut.http.server.HttpServerConfiguration;
 import io.micronaut.http.server.netty.AbstractHttpContentProcessor;
 import io.micronaut.http.server.netty.HttpContentProcessor;
 import io.micronaut.http.server.netty.NettyHttpRequest;
+import io.micronaut.json.IncrementalJsonParser;
 import io.micronaut.json.JsonMapper;
 import io.micronaut.json.tree.JsonNode;
 import io.netty.buffer.ByteBuf;
@@ -48,6 +49,7 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor {
 
     private final JsonMapper jsonMapper;
     private Processor<byte[], JsonNode> jacksonProcessor;
+    private IncrementalJsonParser<?> incrementalParser;
     private Collection<Object> out;
     private Throwable failure = null;
 
@@ -72,17 +74,30 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor {
             .map(mediaType -> mediaType.equals(MediaType.APPLICATION_JSON_STREAM_TYPE))
             .orElse(false);
 
+        Argument<?> elementType = null;
         if (type != null) {
             Class<?> targetType = type.getType();
             if (Publishers.isConvertibleToPublisher(targetType) && !Publishers.isSingle(targetType)) {
                 Optional<Argument<?>> genericArgument = type.getFirstTypeVariable();
-                if (genericArgument.isPresent() && !Iterable.class.isAssignableFrom(genericArgument.get().getType()) && !isJsonStream) {
-                    // if the generic argument is not a iterable type them stream the array into the publisher
-                    streamArray = true;
+                if (genericArgument.isPresent() && !Iterable.class.isAssignableFrom(genericArgument.get().getType())) {
+                    elementType = genericArgument.get();
+                    if (!isJsonStream) {
+                        // if the generic argument is not a iterable type them stream the array into the publisher
+                        streamArray = true;
+                    }
                 }
             }
         }
 
+        if (elementType != null && isBoundIncrementally(elementType.getType())) {
+            // bind every element as soon as it is complete, without building a JsonNode tree of it first
+            Optional<? extends IncrementalJsonParser<?>> parser = jsonMapper.createIncrementalParser(elementType, streamArray);
+            if (parser.isPresent()) {
+                this.incrementalParser = parser.get();
+                return this;
+            }
+        }
+
         this.jacksonProcessor = jsonMapper.createReactiveParser(p -> {
         }, streamArray);
         this.jacksonProcessor.subscribe(new CompletionAwareSubscriber<>() {
@@ -130,12 +145,25 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor {
 
     @Override
     protected void onData(ByteBufHolder message, Collection<Object> out) throws Throwable {
+        ByteBuf content = message.content();
+        if (incrementalParser != null) {
+            try {
+                if (content.hasArray()) {
+                    incrementalParser.feed(content.array(), content.arrayOffset() + content.readerIndex(), content.readableBytes(), out::add);
+                } else {
+                    byte[] bytes = ByteBufUtil.getBytes(content);
+                    incrementalParser.feed(bytes, 0, bytes.length, out::add);
+                }
+            } finally {
+                ReferenceCountUtil.release(content);
+            }
+            return;
+        }
         if (jacksonProcessor == null) {
             resultType(null);
         }
 
         this.out = out;
-        ByteBuf content = message.content();
         try {
             byte[] bytes = ByteBufUtil.getBytes(content);
             jacksonProcessor.onNext(bytes);
@@ -152,6 +180,10 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor {
 
     @Override
     public void complete(Collection<Object> out) throws Throwable {
+        if (incrementalParser != null) {
+            incrementalParser.complete(out::add);
+            return;
+        }
         if (jacksonProcessor == null) {
             resultType(null);
         }
@@ -165,4 +197,12 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor {
             throw f;
         }
     }
+
+    private static boolean isBoundIncrementally(Class<?> elementType) {
+        // these are bound from the JsonNode by the conversion service, which the mapper cannot replicate
+        return elementType != Object.class
+            && !CharSequence.class.isAssignableFrom(elementType)
+            && !JsonNode.class.isAssignableFrom(elementType)
+            && !elementType.isArray();
+    }
 }
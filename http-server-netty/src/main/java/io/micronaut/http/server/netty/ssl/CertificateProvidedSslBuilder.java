@@ -38,6 +38,7 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import io.netty.incubator.codec.quic.QuicSslContext;
 import jakarta.inject.Singleton;
 
 import javax.net.ssl.SSLException;
@@ -106,6 +107,11 @@ public class CertificateProvidedSslBuilder extends SslBuilder<SslContext> implem
         }
     }
 
+    @Override
+    public Optional<QuicSslContext> buildQuic() {
+        return QuicSslContexts.forServer(getKeyManagerFactory(ssl), getTrustManagerFactory(ssl), ssl);
+    }
+
     static void setupSslBuilder(SslContextBuilder sslBuilder, SslConfiguration ssl, HttpVersion httpVersion) {
         Optional<String[]> protocols = ssl.getProtocols();
         if (protocols.isPresent()) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.ssl;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.ssl.ClientAuthentication;
+import io.micronaut.http.ssl.SslConfiguration;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.incubator.codec.http3.Http3;
+import io.netty.incubator.codec.quic.QuicSslContext;
+import io.netty.incubator.codec.quic.QuicSslContextBuilder;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.TrustManagerFactory;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+import java.util.Optional;
+
+/**
+ * Creates the {@link QuicSslContext} of HTTP/3 listeners. Kept apart from the builders so that the optional QUIC
+ * classes are only loaded when an HTTP/3 listener is configured.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class QuicSslContexts {
+
+    private QuicSslContexts() {
+    }
+
+    /**
+     * @param keyManagerFactory   The key manager factory
+     * @param trustManagerFactory The trust manager factory, if any
+     * @param ssl                 The SSL configuration
+     * @return The QUIC SSL context
+     */
+    static Optional<QuicSslContext> forServer(KeyManagerFactory keyManagerFactory, @Nullable TrustManagerFactory trustManagerFactory, SslConfiguration ssl) {
+        QuicSslContextBuilder builder = QuicSslContextBuilder.forServer(keyManagerFactory, null);
+        if (trustManagerFactory != null) {
+            builder.trustManager(trustManagerFactory);
+        }
+        return Optional.of(build(builder, ssl));
+    }
+
+    /**
+     * @param key         The private key
+     * @param certificate The certificate
+     * @param ssl         The SSL configuration
+     * @return The QUIC SSL context
+     */
+    static Optional<QuicSslContext> forServer(PrivateKey key, X509Certificate certificate, SslConfiguration ssl) {
+        return Optional.of(build(QuicSslContextBuilder.forServer(key, null, certificate), ssl));
+    }
+
+    private static QuicSslContext build(QuicSslContextBuilder builder, SslConfiguration ssl) {
+        // QUIC mandates TLS 1.3, so the protocols and ciphers of the configuration do not apply
+        builder.applicationProtocols(Http3.supportedApplicationProtocols());
+        Optional<ClientAuthentication> clientAuthentication = ssl.getClientAuthentication();
+        if (clientAuthentication.isPresent()) {
+            ClientAuthentication clientAuth = clientAuthentication.get();
+            if (clientAuth == ClientAuthentication.NEED) {
+                builder.clientAuth(ClientAuth.REQUIRE);
+            } else if (clientAuth == ClientAuthentication.WANT) {
+                builder.clientAuth(ClientAuth.OPTIONAL);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -28,6 +28,7 @@ import io.micronaut.http.ssl.SslConfigurationException;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
+import io.netty.incubator.codec.quic.QuicSslContext;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +49,7 @@ public class SelfSignedSslBuilder extends SslBuilder<SslContext> implements Serv
     private static final Logger LOG = LoggerFactory.getLogger(SelfSignedSslBuilder.class);
     private final ServerSslConfiguration ssl;
     private final HttpServerConfiguration serverConfiguration;
+    private SelfSignedCertificate certificate;
 
     /**
      * @param serverConfiguration The server configuration
@@ -86,7 +88,7 @@ public class SelfSignedSslBuilder extends SslBuilder<SslContext> implements Serv
             if (LOG.isWarnEnabled()) {
                 LOG.warn("HTTP Server is configured to use a self-signed certificate ('build-self-signed' is set to true). This configuration should not be used in a production environment as self-signed certificates are inherently insecure.");
             }
-            SelfSignedCertificate ssc = new SelfSignedCertificate();
+            SelfSignedCertificate ssc = getCertificate();
             final SslContextBuilder sslBuilder = SslContextBuilder.forServer(ssc.certificate(), ssc.privateKey());
             CertificateProvidedSslBuilder.setupSslBuilder(sslBuilder, ssl, httpVersion);
             return Optional.of(sslBuilder.build());
@@ -95,6 +97,27 @@ public class SelfSignedSslBuilder extends SslBuilder<SslContext> implements Serv
         }
     }
 
+    @Override
+    public Optional<QuicSslContext> buildQuic() {
+        try {
+            SelfSignedCertificate ssc = getCertificate();
+            return QuicSslContexts.forServer(ssc.key(), ssc.cert(), ssl);
+        } catch (CertificateException e) {
+            throw new SslConfigurationException("Encountered an error while building a self signed certificate", e);
+        }
+    }
+
+    /**
+     * The certificate is shared by the TCP and the HTTP/3 listeners, so that clients switching to HTTP/3 through
+     * {@code Alt-Svc} see the same certificate.
+     */
+    private synchronized SelfSignedCertificate getCertificate() throws CertificateException {
+        if (certificate == null) {
+            certificate = new SelfSignedCertificate();
+        }
+        return certificate;
+    }
+
     static class SelfSignedConfigured extends BuildSelfSignedCondition {
         @Override
         protected boolean validate(ConditionContext context, boolean deprecatedPropertyFound, boolean newPropertyFound) {
@@ -17,6 +17,7 @@ package io.micronaut.http.server.netty.ssl;
 
 import io.micronaut.http.ssl.ServerSslConfiguration;
 import io.netty.handler.ssl.SslContext;
+import io.netty.incubator.codec.quic.QuicSslContext;
 
 import java.util.Optional;
 
@@ -35,4 +36,15 @@ public interface ServerSslBuilder {
      * @return Builds the SSL configuration wrapped inside an optional
      */
     Optional<SslContext> build();
+
+    /**
+     * Builds the SSL context of HTTP/3 listeners. QUIC performs the TLS 1.3 handshake itself, so it can not use
+     * the context returned by {@link #build()}.
+     *
+     * @return The QUIC SSL context wrapped inside an optional, empty if not supported by this builder
+     * @since 4.0.0
+     */
+    default Optional<QuicSslContext> buildQuic() {
+        return Optional.empty();
+    }
 }
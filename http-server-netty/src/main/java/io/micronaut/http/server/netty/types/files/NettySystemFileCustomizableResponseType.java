@@ -23,6 +23,7 @@ import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.HttpVersion;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.netty.NettyMutableHttpResponse;
@@ -152,7 +153,8 @@ public class NettySystemFileCustomizableResponseType extends SystemFile implemen
             // Write the content.
             if (context.pipeline().get(SslHandler.class) == null &&
                 context.pipeline().get(SmartHttpContentCompressor.class).shouldSkip(finalResponse) &&
-                !(context.channel() instanceof Http2StreamChannel)) {
+                !(context.channel() instanceof Http2StreamChannel) &&
+                request.getHttpVersion() != HttpVersion.HTTP_3_0) {
                 // SSL not enabled - can use zero-copy file transfer.
                 context.write(new DefaultFileRegion(file.raf.getChannel(), position, contentLength), context.newProgressivePromise())
                     .addListener(file);
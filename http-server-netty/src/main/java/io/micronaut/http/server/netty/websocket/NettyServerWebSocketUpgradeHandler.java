@@ -31,15 +31,18 @@ import io.micronaut.http.context.ServerRequestContext;
 import io.micronaut.http.exceptions.HttpStatusException;
 import io.micronaut.http.netty.NettyHttpHeaders;
 import io.micronaut.http.netty.channel.ChannelPipelineCustomizer;
+import io.micronaut.http.netty.websocket.WebSocketOutboundQueueHandler;
 import io.micronaut.http.netty.websocket.WebSocketSessionRepository;
 import io.micronaut.http.server.RequestLifecycle;
 import io.micronaut.http.server.RouteExecutor;
 import io.micronaut.http.server.netty.NettyEmbeddedServices;
 import io.micronaut.http.server.netty.NettyHttpRequest;
+import io.micronaut.inject.BeanDefinition;
 import io.micronaut.web.router.RouteMatch;
 import io.micronaut.web.router.Router;
 import io.micronaut.web.router.UriRouteMatch;
 import io.micronaut.websocket.CloseReason;
+import io.micronaut.websocket.WebSocketOverflowPolicy;
 import io.micronaut.websocket.annotation.OnMessage;
 import io.micronaut.websocket.annotation.OnOpen;
 import io.micronaut.websocket.annotation.ServerWebSocket;
@@ -51,6 +54,7 @@ import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
@@ -168,6 +172,7 @@ public class NettyServerWebSocketUpgradeHandler extends SimpleChannelInboundHand
                     ctx,
                     routeExecutor.getCoroutineHelper().orElse(null));
                 pipeline.addBefore(ctx.name(), NettyServerWebSocketHandler.ID, webSocketHandler);
+                configureOutbound(ctx.channel(), webSocketBean);
 
                 pipeline.remove(ChannelPipelineCustomizer.HANDLER_HTTP_STREAM);
                 pipeline.remove(NettyServerWebSocketUpgradeHandler.this);
@@ -187,6 +192,32 @@ public class NettyServerWebSocketUpgradeHandler extends SimpleChannelInboundHand
         }
     }
 
+    /**
+     * Applies the outbound buffer limits and the overflow policy of the endpoint.
+     *
+     * @param channel       The channel
+     * @param webSocketBean The web socket bean
+     */
+    private void configureOutbound(Channel channel, WebSocketBean<?> webSocketBean) {
+        BeanDefinition<?> definition = webSocketBean.getBeanDefinition();
+        int highWaterMark = definition.intValue(ServerWebSocket.class, "writeBufferHighWaterMark").orElse(-1);
+        int lowWaterMark = definition.intValue(ServerWebSocket.class, "writeBufferLowWaterMark").orElse(-1);
+        if (highWaterMark > 0 || lowWaterMark > 0) {
+            WriteBufferWaterMark current = channel.config().getWriteBufferWaterMark();
+            int high = highWaterMark > 0 ? highWaterMark : Math.max(current.high(), lowWaterMark);
+            int low = lowWaterMark > 0 ? Math.min(lowWaterMark, high) : Math.min(current.low(), high);
+            channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(low, high));
+        }
+        WebSocketOverflowPolicy policy = definition.enumValue(ServerWebSocket.class, "overflowPolicy", WebSocketOverflowPolicy.class)
+                .orElse(WebSocketOverflowPolicy.BUFFER);
+        if (policy != WebSocketOverflowPolicy.BUFFER) {
+            int maxQueuedBytes = definition.intValue(ServerWebSocket.class, "maxQueuedBytes")
+                    .orElse(WebSocketOutboundQueueHandler.DEFAULT_MAX_QUEUED_BYTES);
+            channel.pipeline().addBefore(NettyServerWebSocketHandler.ID, WebSocketOutboundQueueHandler.ID,
+                    new WebSocketOutboundQueueHandler(policy, maxQueuedBytes));
+        }
+    }
+
     /**
      * Do the handshaking for WebSocket request.
      *
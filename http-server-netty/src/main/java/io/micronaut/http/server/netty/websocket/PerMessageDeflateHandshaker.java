@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.websocket;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.netty.websocket.WebSocketDeflateParameters;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionDecoder;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionEncoder;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandshaker;
+import io.netty.handler.codec.http.websocketx.extensions.compression.DeflateFrameServerExtensionHandshaker;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+import io.netty.handler.codec.http.websocketx.extensions.compression.WebSocketServerCompressionHandler;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Negotiates the {@code permessage-deflate} extension like netty does, and marks the channels that compress every
+ * message on their own with their {@link WebSocketDeflateParameters}, so that broadcasts can share compressed frames.
+ * By default the parameters of the netty {@link WebSocketServerCompressionHandler} are used, so a client request for
+ * {@code server_no_context_takeover} is declined. When context takeover is disabled, that request is accepted, and
+ * the server asks for it on every connection, as allowed by RFC 7692.
+ *
+ * @since 4.0.0
+ */
+@Internal
+public final class PerMessageDeflateHandshaker implements WebSocketServerExtensionHandshaker {
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+    private static final String SERVER_NO_CONTEXT = "server_no_context_takeover";
+    private static final String SERVER_MAX_WINDOW = "server_max_window_bits";
+
+    private final PerMessageDeflateServerExtensionHandshaker delegate;
+    private final int compressionLevel;
+    private final boolean contextTakeover;
+
+    /**
+     * @param compressionLevel The compression level (0-9)
+     * @param contextTakeover  Whether the server keeps its compression context between messages. If {@code false},
+     *                         client requests for {@code server_no_context_takeover} are accepted too
+     */
+    public PerMessageDeflateHandshaker(int compressionLevel, boolean contextTakeover) {
+        this.compressionLevel = compressionLevel;
+        this.contextTakeover = contextTakeover;
+        this.delegate = new PerMessageDeflateServerExtensionHandshaker(
+                compressionLevel,
+                ZlibCodecFactory.isSupportingWindowSizeAndMemLevel(),
+                PerMessageDeflateServerExtensionHandshaker.MAX_WINDOW_SIZE,
+                !contextTakeover,
+                false
+        );
+    }
+
+    /**
+     * Creates the handler that negotiates the compression extensions of a connection: {@code permessage-deflate}
+     * with this handshaker, and {@code deflate-frame} and {@code x-webkit-deflate-frame} like the netty
+     * {@link WebSocketServerCompressionHandler}.
+     *
+     * @return The extension handler
+     */
+    public WebSocketServerExtensionHandler newExtensionHandler() {
+        return new WebSocketServerExtensionHandler(this, new DeflateFrameServerExtensionHandshaker(compressionLevel));
+    }
+
+    @Override
+    public WebSocketServerExtension handshakeExtension(WebSocketExtensionData extensionData) {
+        if (!contextTakeover && PERMESSAGE_DEFLATE.equals(extensionData.name()) && !extensionData.parameters().containsKey(SERVER_NO_CONTEXT)) {
+            Map<String, String> parameters = new HashMap<>(extensionData.parameters());
+            parameters.put(SERVER_NO_CONTEXT, null);
+            extensionData = new WebSocketExtensionData(extensionData.name(), parameters);
+        }
+        WebSocketServerExtension extension = delegate.handshakeExtension(extensionData);
+        if (extension == null) {
+            return null;
+        }
+        Map<String, String> response = extension.newReponseData().parameters();
+        if (!response.containsKey(SERVER_NO_CONTEXT)) {
+            return extension;
+        }
+        String windowBits = response.get(SERVER_MAX_WINDOW);
+        return new NoContextExtension(extension, new WebSocketDeflateParameters(
+                compressionLevel,
+                windowBits == null ? PerMessageDeflateServerExtensionHandshaker.MAX_WINDOW_SIZE : Integer.parseInt(windowBits)
+        ));
+    }
+
+    /**
+     * An extension whose encoder marks the channel with the deflate parameters.
+     */
+    private static final class NoContextExtension implements WebSocketServerExtension {
+        private final WebSocketServerExtension extension;
+        private final WebSocketDeflateParameters parameters;
+
+        NoContextExtension(WebSocketServerExtension extension, WebSocketDeflateParameters parameters) {
+            this.extension = extension;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public int rsv() {
+            return extension.rsv();
+        }
+
+        @Override
+        public WebSocketExtensionEncoder newExtensionEncoder() {
+            return new MarkingEncoder(extension.newExtensionEncoder(), parameters);
+        }
+
+        @Override
+        public WebSocketExtensionDecoder newExtensionDecoder() {
+            return extension.newExtensionDecoder();
+        }
+
+        @Override
+        public WebSocketExtensionData newReponseData() {
+            return extension.newReponseData();
+        }
+    }
+
+    /**
+     * Sets the deflate parameters on the channel, and replaces itself with the actual encoder.
+     */
+    private static final class MarkingEncoder extends WebSocketExtensionEncoder {
+        private final WebSocketExtensionEncoder encoder;
+        private final WebSocketDeflateParameters parameters;
+
+        MarkingEncoder(WebSocketExtensionEncoder encoder, WebSocketDeflateParameters parameters) {
+            this.encoder = encoder;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public void handlerAdded(ChannelHandlerContext ctx) {
+            ctx.channel().attr(WebSocketDeflateParameters.CHANNEL_KEY).set(parameters);
+            ctx.pipeline().replace(this, encoder.getClass().getName(), encoder);
+        }
+
+        @Override
+        protected void encode(ChannelHandlerContext ctx, WebSocketFrame msg, List<Object> out) {
+            out.add(msg.retain());
+        }
+    }
+}
@@ -1,6 +1,15 @@
 package io.micronaut.http.server.netty
 
+import com.github.luben.zstd.ZstdInputStream
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.handler.codec.compression.StandardCompressionOptions
+import io.netty.handler.codec.compression.Zstd
 import io.netty.handler.codec.http.*
+import spock.lang.IgnoreIf
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -34,4 +43,57 @@ class SmartHttpContentCompressorSpec extends Specification {
         inCompressible | 0      | true      // incompressible, always skip
         null           | null   | true      // if the content type is unknown, skip
     }
+
+    @Unroll
+    void "test negotiation of #acceptEncoding"() {
+        given:
+        def compressor = new SmartHttpContentCompressor(new DefaultHttpCompressionStrategy(1024, 6),
+                StandardCompressionOptions.zstd(),
+                StandardCompressionOptions.gzip(),
+                StandardCompressionOptions.deflate())
+
+        expect:
+        compressor.determineEncoding(acceptEncoding) == expected
+
+        where:
+        acceptEncoding                | expected
+        'gzip, deflate'               | 'gzip'
+        'deflate, gzip;q=0.5'         | 'deflate'
+        'zstd;q=0.9, gzip'            | 'gzip'
+        'gzip, zstd'                  | 'zstd'     // ties are broken by the server preference
+        'GZIP;Q=0.8, deflate;q=0.3'   | 'gzip'
+        '*'                           | 'zstd'
+        '*, zstd;q=0'                 | 'gzip'
+        'gzip;q=0'                    | null
+        'identity'                    | null
+        'br'                          | null
+    }
+
+    @IgnoreIf({ !Zstd.isAvailable() })
+    void "test zstd is negotiated when available"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, ['spec.name': 'SmartHttpContentCompressorSpec'])
+
+        when:
+        HttpURLConnection connection = (HttpURLConnection) new URL("$server.URL/compression").openConnection()
+        connection.setRequestProperty('Accept-Encoding', 'gzip;q=0.8, zstd')
+        byte[] compressed = connection.inputStream.bytes
+
+        then:
+        connection.getHeaderField('Content-Encoding') == 'zstd'
+        new String(new ZstdInputStream(new ByteArrayInputStream(compressed)).bytes) == 'a' * 10_000
+
+        cleanup:
+        connection?.disconnect()
+        server.close()
+    }
+
+    @Controller('/compression')
+    @Requires(property = 'spec.name', value = 'SmartHttpContentCompressorSpec')
+    static class CompressionController {
+        @Get(produces = 'text/plain')
+        String text() {
+            'a' * 10_000
+        }
+    }
 }
@@ -243,6 +243,29 @@ class JsonBodyBindingSpec extends AbstractMicronautSpec {
         response.body() == "[Foo(Fred, 10)]".toString()
     }
 
+    void "test publisher argument streams the elements of a large array"() {
+        when:
+        String json = '[' + (0..<50000).collect { '{"name":"Fred' + it + '","age":' + (it % 100) + '}' }.join(',') + ']'
+        HttpResponse<String> response = Flux.from(rxClient.exchange(
+                HttpRequest.POST('/json/publisher-count', json), String
+        )).blockFirst()
+
+        then:
+        response.body() == "50000 Foo(Fred49999, 99)".toString()
+    }
+
+    void "test publisher argument with invalid element"() {
+        when:
+        String json = '[{"name":"Fred","age":10},{"name":"Barney","age":"ten"}]'
+        Flux.from(rxClient.exchange(
+                HttpRequest.POST('/json/publisher-count', json), String
+        )).blockFirst()
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.response.status == HttpStatus.BAD_REQUEST
+    }
+
     void "test singe argument handling"() {
         when:
         String json = '{"message":"foo"}'
@@ -395,6 +418,14 @@ class JsonBodyBindingSpec extends AbstractMicronautSpec {
             })
         }
 
+        @Post("/publisher-count")
+        @SingleResult
+        Publisher<String> publisherCount(@Body Publisher<Foo> publisher) {
+            return Flux.from(publisher)
+                    .reduce([0, null], { acc, Foo foo -> [acc[0] + 1, foo] })
+                    .map({ acc -> "${acc[0]} ${acc[1]}".toString() })
+        }
+
         @Post("/request-generic")
         String requestGeneric(HttpRequest<Foo> request) {
             return request.getBody().map({ foo -> foo.toString()}).orElse("not found")
@@ -0,0 +1,215 @@
+package io.micronaut.http.server.netty.handler.limit
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.buffer.Unpooled
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.handler.codec.http.DefaultHttpContent
+import io.netty.handler.codec.http.DefaultHttpResponse
+import io.netty.handler.codec.http.FullHttpResponse
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.netty.handler.codec.http.HttpVersion
+import io.netty.handler.codec.http.LastHttpContent
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CompletableFuture
+
+class HttpConcurrencyLimitSpec extends Specification {
+
+    void "test requests beyond the limit are rejected with a 503"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'HttpConcurrencyLimitSpec',
+                'micronaut.server.netty.concurrency-limit.enabled': true,
+                'micronaut.server.netty.concurrency-limit.initial-limit': 1,
+                'micronaut.server.netty.concurrency-limit.max-limit': 1,
+                'micronaut.server.netty.concurrency-limit.retry-after': '1500ms',
+        ])
+        SlowController controller = server.applicationContext.getBean(SlowController)
+        HttpClient client = server.applicationContext.createBean(HttpClient, server.URL)
+
+        when:
+        CompletableFuture<String> first = CompletableFuture.supplyAsync { client.toBlocking().retrieve('/limit/slow') }
+        new PollingConditions(timeout: 5).eventually {
+            assert controller.pending != null
+        }
+        client.toBlocking().retrieve('/limit/slow')
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.status == HttpStatus.SERVICE_UNAVAILABLE
+        e.response.header(HttpHeaders.RETRY_AFTER) == '2'
+
+        when:
+        controller.pending.complete('slow')
+
+        then:
+        first.get() == 'slow'
+        new PollingConditions(timeout: 5).eventually {
+            // the slot is released once the response has been written
+            assert client.toBlocking().retrieve('/limit/fast') == 'fast'
+        }
+
+        cleanup:
+        client.close()
+        server.close()
+    }
+
+    void "test route groups have their own limit"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'HttpConcurrencyLimitSpec',
+                'micronaut.server.netty.concurrency-limit.enabled': true,
+                'micronaut.server.netty.concurrency-limit.initial-limit': 1,
+                'micronaut.server.netty.concurrency-limit.max-limit': 1,
+                'micronaut.server.netty.concurrency-limit.groups.fast.paths': ['/limit/fast'],
+                'micronaut.server.netty.concurrency-limit.groups.fast.algorithm': 'GRADIENT',
+        ])
+        SlowController controller = server.applicationContext.getBean(SlowController)
+        HttpClient client = server.applicationContext.createBean(HttpClient, server.URL)
+
+        when:
+        CompletableFuture<String> first = CompletableFuture.supplyAsync { client.toBlocking().retrieve('/limit/slow') }
+        new PollingConditions(timeout: 5).eventually {
+            assert controller.pending != null
+        }
+
+        then:
+        client.toBlocking().retrieve('/limit/fast') == 'fast'
+
+        when:
+        client.toBlocking().exchange(HttpRequest.GET('/limit/slow'), String)
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.status == HttpStatus.SERVICE_UNAVAILABLE
+
+        cleanup:
+        controller.pending?.complete('slow')
+        first?.get()
+        client.close()
+        server.close()
+    }
+
+    void "test the slot is held until the last content of the response is written"() {
+        given:
+        NettyHttpServerConfiguration.ConcurrencyLimitSettings settings = new NettyHttpServerConfiguration.ConcurrencyLimitSettings()
+        settings.initialLimit = 1
+        settings.maxLimit = 1
+        HttpConcurrencyLimitHandler handler = new HttpConcurrencyLimitHandler(settings)
+        EmbeddedChannel streaming = new EmbeddedChannel(handler)
+        EmbeddedChannel other = new EmbeddedChannel(handler)
+
+        when:
+        streaming.writeInbound(request())
+        streaming.writeOutbound(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK))
+        streaming.writeOutbound(new DefaultHttpContent(Unpooled.wrappedBuffer('chunk'.bytes)))
+
+        then: "the response is still streaming"
+        rejected(other)
+
+        when:
+        streaming.writeOutbound(LastHttpContent.EMPTY_LAST_CONTENT)
+
+        then:
+        !rejected(other)
+
+        when: "the channel of a response that is still streaming is closed"
+        EmbeddedChannel closed = new EmbeddedChannel(handler)
+        other.writeOutbound(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK))
+        other.close()
+        closed.writeInbound(request())
+
+        then:
+        closed.readInbound() != null
+
+        cleanup:
+        streaming.finishAndReleaseAll()
+        other.finishAndReleaseAll()
+        closed?.finishAndReleaseAll()
+    }
+
+    void "test the limit grows while the response times stay low"() {
+        given:
+        NettyHttpServerConfiguration.ConcurrencyLimitSettings settings = new NettyHttpServerConfiguration.ConcurrencyLimitSettings()
+        settings.algorithm = algorithm
+        settings.initialLimit = 10
+        ConcurrencyLimit limit = ConcurrencyLimit.of(settings)
+
+        when:
+        3.times {
+            limit.sample(1_000_000, 10)
+            sleep(110)
+            10.times { limit.sample(1_000_000, 10) }
+        }
+
+        then:
+        limit.limit > 10
+
+        where:
+        algorithm << NettyHttpServerConfiguration.ConcurrencyLimitConfig.Algorithm.values()
+    }
+
+    void "test the limit shrinks once requests queue"() {
+        given:
+        NettyHttpServerConfiguration.ConcurrencyLimitSettings settings = new NettyHttpServerConfiguration.ConcurrencyLimitSettings()
+        settings.algorithm = NettyHttpServerConfiguration.ConcurrencyLimitConfig.Algorithm.VEGAS
+        settings.initialLimit = 100
+        ConcurrencyLimit limit = ConcurrencyLimit.of(settings)
+
+        when:
+        sleep(110)
+        10.times { limit.sample(1_000_000, 100) }
+        5.times {
+            sleep(110)
+            10.times { limit.sample(10_000_000, 100) }
+        }
+
+        then:
+        limit.limit < 100
+    }
+
+    private HttpRequest<?> request() {
+        Stub(HttpRequest) {
+            getPath() >> '/limit'
+        }
+    }
+
+    private boolean rejected(EmbeddedChannel channel) {
+        channel.writeInbound(request())
+        if (channel.readInbound() != null) {
+            return false
+        }
+        FullHttpResponse response = channel.readOutbound()
+        assert response.status() == HttpResponseStatus.SERVICE_UNAVAILABLE
+        response.release()
+        return true
+    }
+
+    @Requires(property = 'spec.name', value = 'HttpConcurrencyLimitSpec')
+    @Controller('/limit')
+    static class SlowController {
+        volatile CompletableFuture<String> pending
+
+        @Get('/slow')
+        CompletableFuture<String> slow() {
+            pending = new CompletableFuture<>()
+            return pending
+        }
+
+        @Get('/fast')
+        String fast() {
+            return 'fast'
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.micronaut.http.server.netty.http3
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.server.exceptions.ServerStartupException
+import io.micronaut.http.server.netty.NettyEmbeddedServer
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.bootstrap.Bootstrap
+import io.netty.channel.ChannelHandlerContext
+import io.netty.channel.ChannelInitializer
+import io.netty.channel.SimpleChannelInboundHandler
+import io.netty.channel.nio.NioEventLoopGroup
+import io.netty.channel.socket.nio.NioDatagramChannel
+import io.netty.handler.codec.http.DefaultFullHttpRequest
+import io.netty.handler.codec.http.FullHttpResponse
+import io.netty.handler.codec.http.HttpHeaderNames
+import io.netty.handler.codec.http.HttpMethod
+import io.netty.handler.codec.http.HttpObjectAggregator
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.netty.handler.codec.http.HttpVersion
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory
+import io.netty.incubator.codec.http3.Http3
+import io.netty.incubator.codec.http3.Http3ClientConnectionHandler
+import io.netty.incubator.codec.http3.Http3FrameToHttpObjectCodec
+import io.netty.incubator.codec.quic.Quic
+import io.netty.incubator.codec.quic.QuicChannel
+import io.netty.incubator.codec.quic.QuicSslContextBuilder
+import io.netty.incubator.codec.quic.QuicStreamChannel
+import spock.lang.IgnoreIf
+import spock.lang.Specification
+
+import javax.net.ssl.HttpsURLConnection
+import javax.net.ssl.SSLContext
+import java.nio.charset.StandardCharsets
+import java.security.SecureRandom
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+@IgnoreIf({ !Quic.isAvailable() })
+class Http3Spec extends Specification {
+
+    def 'clients discover the HTTP/3 listener through Alt-Svc and are served by the same routes'() {
+        given:
+        def server = (NettyEmbeddedServer) ApplicationContext.run(EmbeddedServer, [
+                'spec.name'                                  : 'Http3Spec',
+                'micronaut.server.ssl.enabled'               : true,
+                'micronaut.server.ssl.build-self-signed'     : true,
+                'micronaut.server.netty.listeners.tcp.port'  : -1,
+                'micronaut.server.netty.listeners.tcp.ssl'   : true,
+                'micronaut.server.netty.listeners.quic.family': 'QUIC',
+                'micronaut.server.netty.listeners.quic.port' : -1,
+                'micronaut.server.netty.listeners.quic.host' : '127.0.0.1',
+        ])
+
+        when:
+        def connection = (HttpsURLConnection) new URL("https://localhost:$server.port/http3").openConnection()
+        def sslCtx = SSLContext.getInstance("TLS")
+        sslCtx.init(null, InsecureTrustManagerFactory.INSTANCE.trustManagers, new SecureRandom())
+        connection.SSLSocketFactory = sslCtx.socketFactory
+        def altSvc = connection.getHeaderField('Alt-Svc')
+        def tcpBody = connection.inputStream.text
+
+        then:
+        tcpBody == 'HTTP_1_1 true'
+        altSvc ==~ /h3=":\d+"; ma=86400/
+
+        when:
+        int http3Port = Integer.parseInt((altSvc =~ /h3=":(\d+)"/)[0][1] as String)
+        def response = http3Get(http3Port, '/http3')
+
+        then:
+        response.status() == HttpResponseStatus.OK
+        response.content().toString(StandardCharsets.UTF_8) == 'HTTP_3_0 true'
+        !response.headers().contains('alt-svc')
+
+        when:
+        def remoteAddressResponse = http3Get(http3Port, '/http3/remote-address')
+
+        then:
+        remoteAddressResponse.content().toString(StandardCharsets.UTF_8) == 'unknown 0 true'
+
+        cleanup:
+        remoteAddressResponse?.release()
+        response?.release()
+        connection?.disconnect()
+        server.close()
+    }
+
+    def 'an HTTP/3 listener requires SSL'() {
+        when:
+        ApplicationContext.run(EmbeddedServer, [
+                'micronaut.server.netty.listeners.quic.family': 'QUIC',
+                'micronaut.server.netty.listeners.quic.port'  : -1,
+        ])
+
+        then:
+        def e = thrown ServerStartupException
+        e.cause.message.contains('no SSL context available')
+    }
+
+    private static FullHttpResponse http3Get(int port, String path) {
+        def group = new NioEventLoopGroup(1)
+        try {
+            def sslContext = QuicSslContextBuilder.forClient()
+                    .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                    .applicationProtocols(Http3.supportedApplicationProtocols())
+                    .build()
+            def codec = Http3.newQuicClientCodecBuilder()
+                    .sslContext(sslContext)
+                    .maxIdleTimeout(5, TimeUnit.SECONDS)
+                    .initialMaxData(10_000_000)
+                    .initialMaxStreamDataBidirectionalLocal(1_000_000)
+                    .build()
+            def channel = new Bootstrap()
+                    .group(group)
+                    .channel(NioDatagramChannel)
+                    .handler(codec)
+                    .bind(0).sync().channel()
+            QuicChannel quicChannel = QuicChannel.newBootstrap(channel)
+                    .handler(new Http3ClientConnectionHandler())
+                    .remoteAddress(new InetSocketAddress('127.0.0.1', port))
+                    .connect()
+                    .get(10, TimeUnit.SECONDS)
+
+            def future = new CompletableFuture<FullHttpResponse>()
+            QuicStreamChannel stream = Http3.newRequestStream(quicChannel, new ChannelInitializer<QuicStreamChannel>() {
+                @Override
+                protected void initChannel(@NonNull QuicStreamChannel ch) {
+                    ch.pipeline()
+                            .addLast(new Http3FrameToHttpObjectCodec(false))
+                            .addLast(new HttpObjectAggregator(1024))
+                            .addLast(new SimpleChannelInboundHandler<FullHttpResponse>() {
+                                @Override
+                                protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse msg) {
+                                    future.complete(msg.retain())
+                                }
+
+                                @Override
+                                void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                                    future.completeExceptionally(cause)
+                                }
+                            })
+                }
+            }).sync().getNow()
+
+            def request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, path)
+            request.headers().set(HttpHeaderNames.HOST, "127.0.0.1:$port")
+            request.headers().set('x-http3-scheme', 'https')
+            stream.writeAndFlush(request)
+
+            def response = future.get(10, TimeUnit.SECONDS)
+            quicChannel.close().sync()
+            channel.close().sync()
+            return response
+        } finally {
+            group.shutdownGracefully()
+        }
+    }
+
+    @Controller('/http3')
+    @Requires(property = 'spec.name', value = 'Http3Spec')
+    static class Http3Controller {
+        @Get(produces = 'text/plain')
+        String version(HttpRequest<?> request) {
+            "$request.httpVersion $request.secure"
+        }
+
+        @Get(uri = '/remote-address', produces = 'text/plain')
+        String remoteAddress(HttpRequest<?> request) {
+            "$request.remoteAddress.hostString $request.remoteAddress.port $request.remoteAddress.unresolved"
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.micronaut.http.server.netty.jackson
+
+import io.micronaut.buffer.netty.ChunkedByteBufOutputStream
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.CompositeByteBuf
+import io.netty.buffer.UnpooledByteBufAllocator
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class ChunkedJsonEncodingSpec extends Specification {
+
+    void "small output is written to a single buffer"() {
+        given:
+        def stream = new ChunkedByteBufOutputStream(UnpooledByteBufAllocator.DEFAULT, 64)
+
+        when:
+        stream.write('{"a":1}'.getBytes(StandardCharsets.UTF_8))
+        ByteBuf buf = stream.toByteBuf()
+
+        then:
+        !(buf instanceof CompositeByteBuf)
+        buf.toString(StandardCharsets.UTF_8) == '{"a":1}'
+
+        cleanup:
+        buf.release()
+    }
+
+    void "large output is split into chunks without losing bytes"() {
+        given:
+        def stream = new ChunkedByteBufOutputStream(UnpooledByteBufAllocator.DEFAULT, 64)
+        def expected = new StringBuilder()
+        1000.times { expected.append(('a'..'z')[it % 26]) }
+
+        when:
+        def bytes = expected.toString().getBytes(StandardCharsets.UTF_8)
+        stream.write(bytes, 0, 10)
+        stream.write(bytes[10])
+        stream.write(bytes, 11, bytes.length - 11)
+        ByteBuf buf = stream.toByteBuf()
+
+        then:
+        buf instanceof CompositeByteBuf
+        ((CompositeByteBuf) buf).numComponents() > 1
+        ((CompositeByteBuf) buf).every { it.capacity() <= 64 }
+        buf.toString(StandardCharsets.UTF_8) == expected.toString()
+
+        cleanup:
+        buf.release()
+    }
+
+    void "released output frees the chunks"() {
+        given:
+        def stream = new ChunkedByteBufOutputStream(UnpooledByteBufAllocator.DEFAULT, 64)
+        stream.write(new byte[200])
+
+        when:
+        stream.release()
+        ByteBuf buf = stream.toByteBuf()
+
+        then:
+        buf.readableBytes() == 0
+
+        cleanup:
+        buf.release()
+    }
+
+    void "large JSON responses are encoded completely"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, ['spec.name': 'ChunkedJsonEncodingSpec'])
+        HttpClient client = server.applicationContext.createBean(HttpClient, server.URL)
+
+        when:
+        List<Map> items = client.toBlocking().retrieve(HttpRequest.GET('/chunked-json'), Argument.listOf(Map))
+
+        then:
+        items.size() == 5000
+        items[0] == [id: 0, name: 'item-0']
+        items[4999] == [id: 4999, name: 'item-4999']
+
+        cleanup:
+        client.close()
+        server.close()
+    }
+
+    @Controller('/chunked-json')
+    @Requires(property = 'spec.name', value = 'ChunkedJsonEncodingSpec')
+    static class ChunkedJsonController {
+        @Get
+        List<Map<String, Object>> items() {
+            (0..<5000).collect { [id: it, name: "item-$it".toString()] }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.micronaut.http.server.netty.nativetransport
+
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.netty.channel.EventLoopGroupConfiguration
+import io.micronaut.http.netty.channel.EventLoopGroupFactory
+import io.micronaut.http.server.netty.AbstractMicronautSpec
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.netty.incubator.channel.uring.IOUring
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel
+import io.netty.incubator.channel.uring.IOUringSocketChannel
+import spock.lang.Requires
+import spock.util.environment.OperatingSystem
+
+@Requires({ os.family == OperatingSystem.Family.LINUX && IOUring.isAvailable() })
+class IOUringNativeTransportSpec extends AbstractMicronautSpec {
+
+    void "test a basic request works with the io_uring transport"() {
+        when:
+        String body = rxClient.toBlocking().retrieve(HttpRequest.GET("/native-transport"))
+
+        then:
+        noExceptionThrown()
+        body == "works"
+
+        when:
+        EventLoopGroupConfiguration config = applicationContext.getBean(EventLoopGroupConfiguration, Qualifiers.byName(EventLoopGroupConfiguration.DEFAULT))
+        EventLoopGroupFactory factory = applicationContext.getBean(EventLoopGroupFactory)
+
+        then:
+        factory.serverSocketChannelClass(config) == IOUringServerSocketChannel.class
+        factory.clientSocketChannelClass(config) == IOUringSocketChannel.class
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        super.getConfiguration() << [
+                'micronaut.netty.event-loops.default.prefer-io-uring-transport': true,
+                'micronaut.netty.event-loops.parent.prefer-io-uring-transport': true
+        ]
+    }
+}
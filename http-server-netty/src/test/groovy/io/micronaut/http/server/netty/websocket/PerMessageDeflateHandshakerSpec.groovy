@@ -0,0 +1,64 @@
+package io.micronaut.http.server.netty.websocket
+
+import io.netty.channel.ChannelHandler
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.handler.codec.http.DefaultFullHttpRequest
+import io.netty.handler.codec.http.DefaultFullHttpResponse
+import io.netty.handler.codec.http.HttpHeaderNames
+import io.netty.handler.codec.http.HttpMethod
+import io.netty.handler.codec.http.HttpResponse
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.netty.handler.codec.http.HttpVersion
+import io.netty.handler.codec.http.websocketx.extensions.compression.WebSocketServerCompressionHandler
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class PerMessageDeflateHandshakerSpec extends Specification {
+
+    @Unroll
+    void "the default handshake negotiates #offer like netty"(String offer) {
+        expect:
+        negotiate(new PerMessageDeflateHandshaker(6, true).newExtensionHandler(), offer) ==
+                negotiate(new WebSocketServerCompressionHandler(), offer)
+
+        where:
+        offer << [
+                'permessage-deflate',
+                'permessage-deflate; client_max_window_bits',
+                'permessage-deflate; server_no_context_takeover',
+                'deflate-frame',
+                'x-webkit-deflate-frame',
+        ]
+    }
+
+    @Unroll
+    void "without context takeover #offer is answered with #response"(String offer, String response) {
+        expect:
+        negotiate(new PerMessageDeflateHandshaker(6, false).newExtensionHandler(), offer) == response
+
+        where:
+        offer                                            | response
+        'permessage-deflate'                             | 'permessage-deflate;server_no_context_takeover'
+        'permessage-deflate; server_no_context_takeover' | 'permessage-deflate;server_no_context_takeover'
+        'deflate-frame'                                  | 'deflate-frame'
+        'x-webkit-deflate-frame'                         | 'x-webkit-deflate-frame'
+    }
+
+    private static String negotiate(ChannelHandler handler, String offer) {
+        def channel = new EmbeddedChannel(handler)
+        def request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/ws")
+        request.headers()
+                .set(HttpHeaderNames.UPGRADE, "websocket")
+                .set(HttpHeaderNames.CONNECTION, "Upgrade")
+                .set(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS, offer)
+        channel.writeInbound(request)
+        def response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.SWITCHING_PROTOCOLS)
+        response.headers()
+                .set(HttpHeaderNames.UPGRADE, "websocket")
+                .set(HttpHeaderNames.CONNECTION, "Upgrade")
+        channel.writeOutbound(response)
+        HttpResponse written = channel.readOutbound()
+        channel.finishAndReleaseAll()
+        return written.headers().get(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS)
+    }
+}
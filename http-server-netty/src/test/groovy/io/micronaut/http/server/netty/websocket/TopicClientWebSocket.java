@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.websocket;
+
+import io.micronaut.websocket.annotation.ClientWebSocket;
+import io.micronaut.websocket.annotation.OnMessage;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@ClientWebSocket("/topic-chat/{topic}/{username}")
+public abstract class TopicClientWebSocket implements AutoCloseable {
+
+    private final Collection<String> replies = new ConcurrentLinkedQueue<>();
+
+    @OnMessage
+    public void onMessage(String message) {
+        replies.add(message);
+    }
+
+    public Collection<String> getReplies() {
+        return replies;
+    }
+
+    public abstract void send(String message);
+}
@@ -0,0 +1,163 @@
+package io.micronaut.http.server.netty.websocket
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.MediaType
+import io.micronaut.http.netty.websocket.WebSocketDeflateParameters
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.websocket.WebSocketClient
+import io.micronaut.websocket.WebSocketSession
+import io.micronaut.websocket.WebSocketTopicRegistry
+import io.micronaut.websocket.annotation.OnMessage
+import io.micronaut.websocket.annotation.OnOpen
+import io.micronaut.websocket.annotation.ServerWebSocket
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame
+import io.netty.handler.codec.http.websocketx.WebSocketFrame
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateClientExtensionHandshaker
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.ConcurrentLinkedQueue
+
+class TopicRegistrySpec extends Specification {
+
+    def 'broadcasts only reach the subscribers of a topic'() {
+        given:
+        def ctx = ApplicationContext.run([
+                'spec.name'            : 'TopicRegistrySpec',
+                'micronaut.server.port': -1
+        ])
+        def embeddedServer = ctx.getBean(EmbeddedServer)
+        embeddedServer.start()
+        def wsClient = ctx.createBean(WebSocketClient, embeddedServer.URI)
+        def conditions = new PollingConditions(timeout: 10)
+
+        when:
+        def fred = wsClient.connect(TopicClientWebSocket, '/topic-chat/stuff/fred').blockFirst()
+        def bob = wsClient.connect(TopicClientWebSocket, '/topic-chat/stuff/bob').blockFirst()
+        def carol = wsClient.connect(TopicClientWebSocket, '/topic-chat/other/carol').blockFirst()
+        fred.send('hello')
+
+        then:
+        conditions.eventually {
+            fred.replies.contains('[fred] hello')
+            bob.replies.contains('[fred] hello')
+        }
+        carol.replies.isEmpty()
+
+        when:
+        bob.close()
+        carol.send('anyone?')
+
+        then:
+        conditions.eventually {
+            carol.replies.contains('[carol] anyone?')
+        }
+
+        when:
+        fred.send('still there?')
+
+        then:
+        conditions.eventually {
+            fred.replies.contains('[fred] still there?')
+        }
+        bob.replies.size() == 1
+        carol.replies.size() == 1
+
+        cleanup:
+        wsClient?.close()
+        ctx.close()
+    }
+
+    def 'without context takeover, subscribers share the compressed frames'() {
+        given:
+        def ctx = ApplicationContext.run([
+                'spec.name'                                                  : 'TopicRegistrySpec',
+                'micronaut.server.port'                                      : -1,
+                'micronaut.server.netty.websocket.compression-context-takeover': false
+        ])
+        def embeddedServer = ctx.getBean(EmbeddedServer)
+        embeddedServer.start()
+        def wsClient = ctx.createBean(WebSocketClient, embeddedServer.URI)
+        def conditions = new PollingConditions(timeout: 10)
+        def server = ctx.getBean(TopicServer)
+        def message = 'compress me ' * 100
+
+        when:
+        def fred = wsClient.connect(TopicClientWebSocket, '/topic-chat/stuff/fred').blockFirst()
+        def bob = wsClient.connect(TopicClientWebSocket, '/topic-chat/stuff/bob').blockFirst()
+        fred.send(message)
+        fred.send(message)
+
+        then:
+        conditions.eventually {
+            fred.replies.size() == 2
+            bob.replies.size() == 2
+        }
+        server.sessions.size() == 2
+        server.sessions.every { it.channel().attr(WebSocketDeflateParameters.CHANNEL_KEY).get() == new WebSocketDeflateParameters(6, 15) }
+        (fred.replies + bob.replies).every { it == "[fred] $message".toString() }
+
+        cleanup:
+        wsClient?.close()
+        ctx.close()
+    }
+
+    def 'a precompressed frame decodes like a frame compressed by the channel'() {
+        given:
+        def parameters = new WebSocketDeflateParameters(6, 15)
+        def frame = new TextWebSocketFrame('compress me ' * 100)
+        def decoder = new PerMessageDeflateClientExtensionHandshaker()
+                .handshakeExtension(new WebSocketExtensionData('permessage-deflate', [server_no_context_takeover: null]))
+                .newExtensionDecoder()
+        def channel = new EmbeddedChannel(decoder)
+
+        when:
+        WebSocketFrame compressed = parameters.compress(frame)
+
+        then:
+        (compressed.rsv() & WebSocketExtension.RSV1) != 0
+        compressed.content().readableBytes() < frame.content().readableBytes()
+        !WebSocketDeflateParameters.isCompressible(compressed)
+
+        when:
+        channel.writeInbound(compressed)
+        TextWebSocketFrame decoded = channel.readInbound()
+
+        then:
+        decoded.text() == frame.text()
+
+        cleanup:
+        frame.release()
+        decoded?.release()
+        channel.finishAndReleaseAll()
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'TopicRegistrySpec')
+    @ServerWebSocket('/topic-chat/{topic}/{username}')
+    static class TopicServer {
+        final WebSocketTopicRegistry topics
+        final Collection<WebSocketSession> sessions = new ConcurrentLinkedQueue<>()
+
+        TopicServer(WebSocketTopicRegistry topics) {
+            this.topics = topics
+        }
+
+        @OnOpen
+        void onOpen(String topic, WebSocketSession session) {
+            sessions.add(session)
+            topics.subscribe(session, topic)
+        }
+
+        @OnMessage
+        Publisher<String> onMessage(String topic, String username, String message) {
+            topics.broadcast(topic, "[$username] $message".toString(), MediaType.TEXT_PLAIN_TYPE)
+        }
+    }
+}
@@ -29,6 +29,7 @@ import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.context.ServerRequestContext;
 import io.micronaut.http.filter.HttpFilter;
 import io.micronaut.http.filter.ServerFilterChain;
+import io.micronaut.http.instrumentation.HttpServerListener;
 import io.micronaut.http.reactive.execution.ReactiveExecutionFlow;
 import io.micronaut.http.server.exceptions.ExceptionHandler;
 import io.micronaut.http.server.exceptions.response.ErrorContext;
@@ -128,6 +129,10 @@ public class RequestLifecycle {
         }
 
         RouteExecutor.setRouteAttributes(request, routeMatch);
+        HttpServerListener serverListener = routeExecutor.serverListener;
+        if (serverListener != null) {
+            serverListener.routeMatched(request);
+        }
 
         if (LOG.isTraceEnabled()) {
             LOG.trace("Matched route {} - {} to controller {}", request.getMethodName(), request.getUri().getPath(), routeMatch.getDeclaringType());
@@ -141,11 +146,29 @@ public class RequestLifecycle {
 
         return runWithFilters(() ->
             fulfillArguments(routeMatch)
-                .flatMap(rm -> routeExecutor.callRoute(context, rm, request))
+                .flatMap(this::callBoundRoute)
                 .flatMap(this::handleStatusException)
                 .onErrorResume(this::onErrorNoFilter));
     }
 
+    /**
+     * Call a route whose arguments are fulfilled.
+     *
+     * @param routeMatch The route match
+     * @return The response of the route
+     */
+    private ExecutionFlow<MutableHttpResponse<?>> callBoundRoute(RouteMatch<?> routeMatch) {
+        HttpServerListener serverListener = routeExecutor.serverListener;
+        if (serverListener == null) {
+            return routeExecutor.callRoute(context, routeMatch, request);
+        }
+        serverListener.bodyBound(request);
+        return routeExecutor.callRoute(context, routeMatch, request).map(response -> {
+            serverListener.handlerCompleted(request);
+            return response;
+        });
+    }
+
     /**
      * Handle an error in this request. Also runs filters for the error handling.
      *
@@ -264,6 +287,7 @@ public class RequestLifecycle {
         ServerRequestContext.set(request);
         List<HttpFilter> httpFilters = routeExecutor.router.findFilters(request);
         if (httpFilters.isEmpty()) {
+            filtersCompleted(request);
             return downstream.get();
         }
         List<HttpFilter> filters = new ArrayList<>(httpFilters);
@@ -280,6 +304,7 @@ public class RequestLifecycle {
                 if (pos == len) {
                     return Mono.deferContextual(ctx -> {
                         context = Context.of(ctx);
+                        filtersCompleted(request);
                         return Mono.from(ReactiveExecutionFlow.fromFlow(downstream.get()).toPublisher());
                     });
                 }
@@ -291,6 +316,13 @@ public class RequestLifecycle {
         return triggerFilter(filters.get(0), filterChain);
     }
 
+    private void filtersCompleted(HttpRequest<?> filteredRequest) {
+        HttpServerListener serverListener = routeExecutor.serverListener;
+        if (serverListener != null) {
+            serverListener.filtersCompleted(filteredRequest);
+        }
+    }
+
     private ExecutionFlow<MutableHttpResponse<?>> triggerFilter(HttpFilter httpFilter, ServerFilterChain filterChain) {
         try {
             Publisher<MutableHttpResponse<?>> publisher = (Publisher<MutableHttpResponse<?>>) httpFilter.doFilter(request, filterChain);
@@ -394,7 +426,7 @@ public class RequestLifecycle {
         Optional<RouteMatch<Object>> statusRoute = routeExecutor.router.findStatusRoute(defaultResponse.status(), request);
         if (statusRoute.isPresent()) {
             return runWithFilters(() -> fulfillArguments(statusRoute.get())
-                .flatMap(routeMatch -> routeExecutor.callRoute(context, routeMatch, request))
+                .flatMap(this::callBoundRoute)
                 .flatMap(this::handleStatusException)
                 .onErrorResume(this::onErrorNoFilter));
         }
@@ -39,6 +39,8 @@ import io.micronaut.http.bind.binders.ContinuationArgumentBinder;
 import io.micronaut.http.codec.CodecException;
 import io.micronaut.http.context.ServerRequestContext;
 import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.http.instrumentation.CompositeHttpServerListener;
+import io.micronaut.http.instrumentation.HttpServerListener;
 import io.micronaut.http.reactive.execution.ReactiveExecutionFlow;
 import io.micronaut.http.server.binding.RequestArgumentSatisfier;
 import io.micronaut.http.server.exceptions.response.ErrorContext;
@@ -102,6 +104,8 @@ public final class RouteExecutor {
     private final ExecutorSelector executorSelector;
     private final Optional<CoroutineHelper> coroutineHelper;
     private final ConversionService conversionService;
+    @Nullable
+    final HttpServerListener serverListener;
 
     /**
      * Default constructor.
@@ -127,6 +131,7 @@ public final class RouteExecutor {
         this.executorSelector = executorSelector;
         this.coroutineHelper = beanContext.findBean(CoroutineHelper.class);
         this.conversionService = beanContext.getConversionService();
+        this.serverListener = CompositeHttpServerListener.of(beanContext.getBeansOfType(HttpServerListener.class));
     }
 
     /**
@@ -158,6 +163,14 @@ public final class RouteExecutor {
         return executorSelector;
     }
 
+    /**
+     * @return The listener of the requests, or {@code null} if there is none
+     */
+    @Internal
+    public @Nullable HttpServerListener getServerListener() {
+        return serverListener;
+    }
+
     /**
      * @return The kotlin coroutine helper
      */
@@ -33,7 +33,13 @@ public enum HttpVersion {
     /**
      * {@code HTTP/2.0}.
      */
-    HTTP_2_0;
+    HTTP_2_0,
+    /**
+     * {@code HTTP/3}.
+     *
+     * @since 4.0.0
+     */
+    HTTP_3_0;
 
     /**
      * Return an {@link HttpVersion} for the given value.
@@ -48,6 +54,8 @@ public enum HttpVersion {
             return HttpVersion.HTTP_1_1;
         } else if (v == 2.0) {
             return HttpVersion.HTTP_2_0;
+        } else if (v == 3.0) {
+            return HttpVersion.HTTP_3_0;
         } else {
             throw new IllegalArgumentException("Invalid HTTP version: " + v);
         }
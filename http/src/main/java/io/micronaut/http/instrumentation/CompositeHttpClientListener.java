@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.instrumentation;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+
+/**
+ * Notifies one or more {@link HttpClientListener}s. An exception thrown by a listener is logged, and neither prevents
+ * the other listeners from being notified nor fails the request of the client.
+ *
+ * @since 4.0.0
+ */
+@Internal
+public final class CompositeHttpClientListener implements HttpClientListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompositeHttpClientListener.class);
+
+    private final HttpClientListener[] listeners;
+
+    private CompositeHttpClientListener(HttpClientListener[] listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Combines the given listeners.
+     *
+     * @param listeners The listeners
+     * @return The listener that notifies all of them, or {@code null} if there are none
+     */
+    @Nullable
+    public static HttpClientListener of(@NonNull Collection<? extends HttpClientListener> listeners) {
+        if (listeners.isEmpty()) {
+            return null;
+        }
+        // a single listener is wrapped too, so that its exceptions are caught
+        return new CompositeHttpClientListener(listeners.toArray(new HttpClientListener[0]));
+    }
+
+    @Override
+    public void connectionAcquired(@NonNull String host, int port, long elapsedNanos) {
+        for (HttpClientListener listener : listeners) {
+            try {
+                listener.connectionAcquired(host, port, elapsedNanos);
+            } catch (Exception e) {
+                LOG.error("Error notifying client listener [{}] of connectionAcquired", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void connected(@NonNull String host, int port, long elapsedNanos) {
+        for (HttpClientListener listener : listeners) {
+            try {
+                listener.connected(host, port, elapsedNanos);
+            } catch (Exception e) {
+                LOG.error("Error notifying client listener [{}] of connected", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void tlsHandshakeCompleted(@NonNull String host, int port, long elapsedNanos) {
+        for (HttpClientListener listener : listeners) {
+            try {
+                listener.tlsHandshakeCompleted(host, port, elapsedNanos);
+            } catch (Exception e) {
+                LOG.error("Error notifying client listener [{}] of tlsHandshakeCompleted", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void firstByteReceived(@NonNull String host, int port, long elapsedNanos) {
+        for (HttpClientListener listener : listeners) {
+            try {
+                listener.firstByteReceived(host, port, elapsedNanos);
+            } catch (Exception e) {
+                LOG.error("Error notifying client listener [{}] of firstByteReceived", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void poolSizeChanged(@NonNull String host, int port, int http1Connections, int http2Connections, int pendingConnections) {
+        for (HttpClientListener listener : listeners) {
+            try {
+                listener.poolSizeChanged(host, port, http1Connections, http2Connections, pendingConnections);
+            } catch (Exception e) {
+                LOG.error("Error notifying client listener [{}] of poolSizeChanged", listener, e);
+            }
+        }
+    }
+}
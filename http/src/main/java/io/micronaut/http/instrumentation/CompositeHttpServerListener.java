@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.instrumentation;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.SocketAddress;
+import java.util.Collection;
+
+/**
+ * Notifies one or more {@link HttpServerListener}s. An exception thrown by a listener is logged, and neither prevents
+ * the other listeners from being notified nor fails the request.
+ *
+ * @since 4.0.0
+ */
+@Internal
+public final class CompositeHttpServerListener implements HttpServerListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompositeHttpServerListener.class);
+
+    private final HttpServerListener[] listeners;
+
+    private CompositeHttpServerListener(HttpServerListener[] listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Combines the given listeners.
+     *
+     * @param listeners The listeners
+     * @return The listener that notifies all of them, or {@code null} if there are none
+     */
+    @Nullable
+    public static HttpServerListener of(@NonNull Collection<? extends HttpServerListener> listeners) {
+        if (listeners.isEmpty()) {
+            return null;
+        }
+        // a single listener is wrapped too, so that its exceptions are caught
+        return new CompositeHttpServerListener(listeners.toArray(new HttpServerListener[0]));
+    }
+
+    @Override
+    public void connectionAccepted(@Nullable SocketAddress remoteAddress) {
+        for (HttpServerListener listener : listeners) {
+            try {
+                listener.connectionAccepted(remoteAddress);
+            } catch (Exception e) {
+                LOG.error("Error notifying server listener [{}] of connectionAccepted", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void headersParsed(@NonNull HttpRequest<?> request) {
+        for (HttpServerListener listener : listeners) {
+            try {
+                listener.headersParsed(request);
+            } catch (Exception e) {
+                LOG.error("Error notifying server listener [{}] of headersParsed", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void routeMatched(@NonNull HttpRequest<?> request) {
+        for (HttpServerListener listener : listeners) {
+            try {
+                listener.routeMatched(request);
+            } catch (Exception e) {
+                LOG.error("Error notifying server listener [{}] of routeMatched", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void filtersCompleted(@NonNull HttpRequest<?> request) {
+        for (HttpServerListener listener : listeners) {
+            try {
+                listener.filtersCompleted(request);
+            } catch (Exception e) {
+                LOG.error("Error notifying server listener [{}] of filtersCompleted", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void bodyBound(@NonNull HttpRequest<?> request) {
+        for (HttpServerListener listener : listeners) {
+            try {
+                listener.bodyBound(request);
+            } catch (Exception e) {
+                LOG.error("Error notifying server listener [{}] of bodyBound", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void handlerCompleted(@NonNull HttpRequest<?> request) {
+        for (HttpServerListener listener : listeners) {
+            try {
+                listener.handlerCompleted(request);
+            } catch (Exception e) {
+                LOG.error("Error notifying server listener [{}] of handlerCompleted", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void firstByteWritten(@NonNull HttpRequest<?> request, int status) {
+        for (HttpServerListener listener : listeners) {
+            try {
+                listener.firstByteWritten(request, status);
+            } catch (Exception e) {
+                LOG.error("Error notifying server listener [{}] of firstByteWritten", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void requestCompleted(@NonNull HttpRequest<?> request) {
+        for (HttpServerListener listener : listeners) {
+            try {
+                listener.requestCompleted(request);
+            } catch (Exception e) {
+                LOG.error("Error notifying server listener [{}] of requestCompleted", listener, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.instrumentation;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Listener of the connections of the HTTP client. The beans of this type are notified on the event loop of the
+ * connection, so they must return quickly and must not block. The client does not allocate anything to notify them,
+ * and skips the notifications when there is no listener. An exception thrown by a listener is logged and does not
+ * fail the request.
+ *
+ * <p>The remote server is identified by its host name and port, as requested.</p>
+ *
+ * @since 4.0.0
+ */
+public interface HttpClientListener {
+
+    /**
+     * Called when a request gets a connection from the pool.
+     *
+     * @param host         The host of the server
+     * @param port         The port of the server
+     * @param elapsedNanos The time waited for the connection, in nanoseconds
+     */
+    default void connectionAcquired(@NonNull String host, int port, long elapsedNanos) {
+    }
+
+    /**
+     * Called when a new connection to a server is established, after the resolution of the host name.
+     *
+     * @param host         The host of the server
+     * @param port         The port of the server
+     * @param elapsedNanos The time taken to resolve the host name and connect, in nanoseconds
+     */
+    default void connected(@NonNull String host, int port, long elapsedNanos) {
+    }
+
+    /**
+     * Called when the TLS handshake of a new connection succeeds.
+     *
+     * @param host         The host of the server
+     * @param port         The port of the server
+     * @param elapsedNanos The time taken by the handshake, in nanoseconds
+     */
+    default void tlsHandshakeCompleted(@NonNull String host, int port, long elapsedNanos) {
+    }
+
+    /**
+     * Called when the status line and the headers of a response are received. When the client aggregates the body
+     * of the response, which it does for every response that is not streamed, this is only called once the whole
+     * response has been aggregated, so the elapsed time includes the transfer of the body.
+     *
+     * @param host         The host of the server
+     * @param port         The port of the server
+     * @param elapsedNanos The time since the request got its connection, in nanoseconds
+     */
+    default void firstByteReceived(@NonNull String host, int port, long elapsedNanos) {
+    }
+
+    /**
+     * Called when the number of connections of a pool changes.
+     *
+     * @param host               The host of the server
+     * @param port               The port of the server
+     * @param http1Connections   The number of HTTP/1 connections
+     * @param http2Connections   The number of HTTP/2 connections
+     * @param pendingConnections The number of connections being opened
+     */
+    default void poolSizeChanged(@NonNull String host, int port, int http1Connections, int http2Connections, int pendingConnections) {
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.instrumentation;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpRequest;
+
+import java.net.SocketAddress;
+
+/**
+ * Listener of the processing steps of the requests of the HTTP server. The beans of this type are notified on the
+ * thread that runs the step, so they must return quickly and must not block. The server does not allocate anything
+ * to notify them, and skips the notifications when there is no listener. An exception thrown by a listener is logged
+ * and does not fail the request.
+ *
+ * <p>A listener that measures the duration of the steps can read {@link System#nanoTime()} in each method, and keep
+ * the state of a request in an attribute of the request.</p>
+ *
+ * @since 4.0.0
+ */
+public interface HttpServerListener {
+
+    /**
+     * Called when the server accepts a connection.
+     *
+     * @param remoteAddress The address of the client, if known
+     */
+    default void connectionAccepted(@Nullable SocketAddress remoteAddress) {
+    }
+
+    /**
+     * Called when the request line and the headers of a request are parsed.
+     *
+     * @param request The request
+     */
+    default void headersParsed(@NonNull HttpRequest<?> request) {
+    }
+
+    /**
+     * Called when a route matches the request. The route is available from the
+     * {@link io.micronaut.http.HttpAttributes#ROUTE_INFO} attribute of the request.
+     *
+     * @param request The request
+     */
+    default void routeMatched(@NonNull HttpRequest<?> request) {
+    }
+
+    /**
+     * Called when the filters of the request proceed to the route, or to the error or status route.
+     *
+     * @param request The request, as passed on by the last filter
+     */
+    default void filtersCompleted(@NonNull HttpRequest<?> request) {
+    }
+
+    /**
+     * Called when the arguments of the route are bound, including the body if the route needs it right away.
+     *
+     * @param request The request
+     */
+    default void bodyBound(@NonNull HttpRequest<?> request) {
+    }
+
+    /**
+     * Called when the route handler has produced the response. This is only called when the handler succeeds: when
+     * it fails, the error response is produced by the error handling of the server and this method is not called.
+     *
+     * @param request The request
+     */
+    default void handlerCompleted(@NonNull HttpRequest<?> request) {
+    }
+
+    /**
+     * Called when the status line and the headers of the response are written to the connection.
+     *
+     * @param request The request
+     * @param status  The status code of the response
+     */
+    default void firstByteWritten(@NonNull HttpRequest<?> request, int status) {
+    }
+
+    /**
+     * Called when the response is written, or failed to be written, and the resources of the request are released.
+     *
+     * @param request The request
+     */
+    default void requestCompleted(@NonNull HttpRequest<?> request) {
+    }
+}
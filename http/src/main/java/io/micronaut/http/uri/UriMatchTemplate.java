@@ -18,6 +18,7 @@ package io.micronaut.http.uri;
 import io.micronaut.core.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -38,11 +39,15 @@ import java.util.stream.Collectors;
 public class UriMatchTemplate extends UriTemplate implements UriMatcher {
 
     protected static final String VARIABLE_MATCH_PATTERN = "([^\\/\\?#&;\\+]";
+    private static final String DEFAULT_VARIABLE_GROUP = "(" + VARIABLE_MATCH_PATTERN + "+?))";
+    private static final String QUOTE_START = "\\Q";
+    private static final String QUOTE_END = "\\E";
     protected StringBuilder pattern;
     protected List<UriMatchVariable> variables;
     private final Pattern matchPattern;
     private final boolean isRoot;
     private final boolean exactMatch;
+    private final SegmentMatcher segmentMatcher;
 
     // Matches cache
     private Optional<UriMatchInfo> rootMatchInfo;
@@ -74,6 +79,7 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
             this.exactMatch = false;
         }
         this.isRoot = isRoot();
+        this.segmentMatcher = exactMatch ? null : SegmentMatcher.of(this);
         // cleanup / reduce memory consumption
         this.pattern = null;
     }
@@ -96,6 +102,7 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
             this.matchPattern = matchPattern;
             this.exactMatch = false;
         }
+        this.segmentMatcher = exactMatch ? null : SegmentMatcher.of(this);
     }
 
     /**
@@ -185,6 +192,9 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
             }
             return Optional.empty();
         }
+        if (segmentMatcher != null) {
+            return segmentMatcher.match(uri, variables);
+        }
         Matcher matcher = matchPattern.matcher(uri);
         if (matcher.matches()) {
             if (variables.isEmpty()) {
@@ -207,6 +217,42 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         return Optional.empty();
     }
 
+    /**
+     * Whether the variables of this template are matched with the default variable pattern. Templates that
+     * only consist of raw segments and plain variables (ie. {@code /books/{id}/authors/{name}}) are then
+     * matched segment by segment without a regular expression.
+     *
+     * <p>By default this is derived from the match pattern, which must only consist of quoted raw content and
+     * default variable groups. Subclasses that match variables differently can return {@code false}.</p>
+     *
+     * @return True if variables are matched with the default variable pattern
+     * @since 4.0.0
+     */
+    protected boolean isDefaultVariablePattern() {
+        if (matchPattern == null) {
+            return false;
+        }
+        String regex = matchPattern.pattern();
+        int len = regex.length();
+        int groups = 0;
+        int i = 0;
+        while (i < len) {
+            if (regex.startsWith(QUOTE_START, i)) {
+                int end = regex.indexOf(QUOTE_END, i + QUOTE_START.length());
+                if (end == -1) {
+                    return false;
+                }
+                i = end + QUOTE_END.length();
+            } else if (regex.startsWith(DEFAULT_VARIABLE_GROUP, i)) {
+                groups++;
+                i += DEFAULT_VARIABLE_GROUP.length();
+            } else {
+                return false;
+            }
+        }
+        return groups == variables.size();
+    }
+
     @Override
     public UriMatchTemplate nest(CharSequence uriTemplate) {
         return (UriMatchTemplate) super.nest(uriTemplate);
@@ -335,6 +381,198 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         }
     }
 
+    /**
+     * Matches templates of raw segments and plain variables, where each variable spans up to the next forward slash
+     * or the end of the URI. Produces the same result as the regular expression built by
+     * {@link UriMatchTemplateParser} for such templates.
+     */
+    private static final class SegmentMatcher {
+
+        private final String[] literals;
+        private final int variableCount;
+
+        private SegmentMatcher(String[] literals) {
+            this.literals = literals;
+            this.variableCount = literals.length - 1;
+        }
+
+        /**
+         * @param template The template
+         * @return The matcher or {@code null} if the template requires a regular expression
+         */
+        static SegmentMatcher of(UriMatchTemplate template) {
+            List<UriMatchVariable> variables = template.variables;
+            if (variables.isEmpty() || !template.isDefaultVariablePattern()) {
+                return null;
+            }
+            String str = template.toString();
+            int len = str.length();
+            List<String> literals = new ArrayList<>(variables.size() + 1);
+            StringBuilder literal = new StringBuilder();
+            int i = 0;
+            while (i < len) {
+                char c = str.charAt(i);
+                if (c == '{') {
+                    int end = str.indexOf('}', i);
+                    if (end == -1 || !isPlainVariable(str, i + 1, end)) {
+                        return null;
+                    }
+                    if (!literals.isEmpty() && (literal.length() == 0 || literal.charAt(0) != '/')) {
+                        // the previous variable must be delimited by a forward slash
+                        return null;
+                    }
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    i = end + 1;
+                } else if (c == '}' || c == '?' || c == '#') {
+                    return null;
+                } else {
+                    literal.append(c);
+                    i++;
+                }
+            }
+            if (literal.length() > 0 && literal.charAt(0) != '/') {
+                return null;
+            }
+            literals.add(literal.toString());
+            if (literals.size() != variables.size() + 1) {
+                return null;
+            }
+            return new SegmentMatcher(literals.toArray(new String[0]));
+        }
+
+        private static boolean isPlainVariable(String str, int start, int end) {
+            if (start == end) {
+                return false;
+            }
+            for (int i = start; i < end; i++) {
+                char c = str.charAt(i);
+                if (!Character.isLetterOrDigit(c) && c != '_' && c != '-') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Optional<UriMatchInfo> match(String uri, List<UriMatchVariable> variables) {
+            int len = uri.length();
+            int pos = 0;
+            String[] values = new String[variableCount];
+            for (int i = 0; i < variableCount; i++) {
+                String literal = literals[i];
+                if (!uri.startsWith(literal, pos)) {
+                    return Optional.empty();
+                }
+                pos += literal.length();
+                int end = pos;
+                while (end < len && isVariableChar(uri.charAt(end))) {
+                    end++;
+                }
+                if (end == pos || (end < len && uri.charAt(end) != '/')) {
+                    return Optional.empty();
+                }
+                values[i] = uri.substring(pos, end);
+                pos = end;
+            }
+            String last = literals[variableCount];
+            if (len - pos != last.length() || !uri.startsWith(last, pos)) {
+                return Optional.empty();
+            }
+            return Optional.of(new ArrayUriMatchInfo(uri, values, variables));
+        }
+
+        private static boolean isVariableChar(char c) {
+            switch (c) {
+                case '/':
+                case '?':
+                case '#':
+                case '&':
+                case ';':
+                case '+':
+                    return false;
+                default:
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * A {@link UriMatchInfo} that keeps the variable values in an array and only creates maps when requested.
+     */
+    private static final class ArrayUriMatchInfo implements UriMatchInfo {
+
+        private final String uri;
+        private final String[] values;
+        private final List<UriMatchVariable> variables;
+        private Map<String, Object> variableValues;
+        private Map<String, UriMatchVariable> variableMap;
+
+        ArrayUriMatchInfo(String uri, String[] values, List<UriMatchVariable> variables) {
+            this.uri = uri;
+            this.values = values;
+            this.variables = variables;
+        }
+
+        @Override
+        public String getUri() {
+            return uri;
+        }
+
+        @Override
+        public Map<String, Object> getVariableValues() {
+            Map<String, Object> variableValues = this.variableValues;
+            if (variableValues == null) {
+                variableValues = new LinkedHashMap<>(values.length);
+                for (int i = 0; i < values.length; i++) {
+                    variableValues.put(variables.get(i).getName(), values[i]);
+                }
+                this.variableValues = variableValues;
+            }
+            return variableValues;
+        }
+
+        @Override
+        public List<UriMatchVariable> getVariables() {
+            return Collections.unmodifiableList(variables);
+        }
+
+        @Override
+        public Map<String, UriMatchVariable> getVariableMap() {
+            Map<String, UriMatchVariable> variableMap = this.variableMap;
+            if (variableMap == null) {
+                LinkedHashMap<String, UriMatchVariable> vm = new LinkedHashMap<>(variables.size());
+                for (UriMatchVariable variable : variables) {
+                    vm.put(variable.getName(), variable);
+                }
+                variableMap = Collections.unmodifiableMap(vm);
+                this.variableMap = variableMap;
+            }
+            return variableMap;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ArrayUriMatchInfo that = (ArrayUriMatchInfo) o;
+            return uri.equals(that.uri) && variables.equals(that.variables) && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public String toString() {
+            return getUri();
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * ObjectUtils.hash(uri, variables) + Arrays.hashCode(values);
+        }
+    }
+
     /**
      * <p>Extended version of {@link UriTemplate.UriTemplateParser} that builds a regular expression to match a path.
      * Note that fragments (#) and queries (?) are ignored for the purposes of matching.</p>
@@ -83,6 +83,12 @@ public class UriTypeMatchTemplate extends UriMatchTemplate {
         return new TypedUriMatchTemplateParser(templateString, this);
     }
 
+    @Override
+    protected boolean isDefaultVariablePattern() {
+        // variables are matched with patterns derived from their types
+        return false;
+    }
+
     @Override
     protected UriMatchTemplate newUriMatchTemplate(CharSequence uriTemplate, List<PathSegment> newSegments, Pattern newPattern, List<UriMatchVariable> variables) {
         return new UriTypeMatchTemplate(uriTemplate, newSegments, newPattern, variableTypes, variables);
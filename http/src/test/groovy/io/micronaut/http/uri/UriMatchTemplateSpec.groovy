@@ -204,4 +204,68 @@ class UriMatchTemplateSpec extends Specification {
         "/{+someId}"    | '/username%2B1@company.com'   | true      | [someId: 'username%2B1@company.com']
         "/{+someId}"    | '/username+1@company.com'     | true      | [someId: 'username+1@company.com']
     }
+
+    @Unroll
+    void "test segment matching of #template against #uri is equivalent to regex matching"() {
+        given:
+        UriMatchTemplate matchTemplate = new UriMatchTemplate(template)
+        // typed templates always use a regular expression
+        UriMatchTemplate regexTemplate = new UriTypeMatchTemplate(template)
+        Optional<UriMatchInfo> info = matchTemplate.match(uri)
+        Optional<UriMatchInfo> expected = regexTemplate.match(uri)
+
+        expect:
+        info.isPresent() == expected.isPresent()
+        info.orElse(null)?.variableValues == expected.orElse(null)?.variableValues
+        info.orElse(null)?.uri == expected.orElse(null)?.uri
+        info.orElse(null)?.variableMap?.keySet() == expected.orElse(null)?.variableMap?.keySet()
+
+        where:
+        template                | uri
+        '/books/{id}'           | '/books/1'
+        '/books/{id}'           | '/books/1/'
+        '/books/{id}'           | '/books/1?foo=bar'
+        '/books/{id}'           | '/books/'
+        '/books/{id}'           | '/books/1/authors'
+        '/books/{id}'           | '/books/a+b'
+        '/books/{id}'           | '/books/a;b'
+        '/books/{id}'           | '/books/w%20x'
+        '/books/{id}/authors'   | '/books/1/authors'
+        '/books/{id}/authors'   | '/books/1/author'
+        '/books/{id}/authors'   | '/books//authors'
+        '/a/{x}/b/{y}'          | '/a/1/b/2'
+        '/a/{x}/b/{y}'          | '/a/1/c/2'
+        '/{a}/{b}'              | '/1/2'
+        '/{a}/{b}'              | '/1'
+        '/a-{id}'               | '/a-1'
+        '/a-{id}'               | '/a-'
+    }
+
+    void "test segment match infos with different values are not equal"() {
+        given:
+        UriMatchTemplate template = new UriMatchTemplate('/books/{id}')
+
+        expect:
+        template.match('/books/1').get() == template.match('/books/1').get()
+        template.match('/books/1').get().hashCode() == template.match('/books/1').get().hashCode()
+        template.match('/books/1').get() != template.match('/books/2').get()
+    }
+
+    @Unroll
+    void "test the default variable pattern of #template is derived from the match pattern"() {
+        expect:
+        template.isDefaultVariablePattern() == expected
+
+        where:
+        template                                                   | expected
+        new UriMatchTemplate('/books/{id}')                        | true
+        new UriMatchTemplate('/a/{x}/b/{y}')                       | true
+        new UriMatchTemplate('/books').nest('/{id}/authors')       | true
+        new UriMatchTemplate('/books')                             | false
+        new UriMatchTemplate('/books/{id:[0-9]+}')                 | false
+        new UriMatchTemplate('/books/{id:4}')                      | false
+        new UriMatchTemplate('/books{/id}')                        | false
+        new UriMatchTemplate('/books/{+path}')                     | false
+        new UriTypeMatchTemplate('/books/{id}')                    | false
+    }
 }
@@ -0,0 +1,115 @@
+package io.micronaut.inject.beans
+
+import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+
+class BeanCandidateIndexSpec extends AbstractTypeElementSpec {
+
+    void "test the candidate types of a reference are the hierarchy of the bean type"() {
+        given:
+        def reference = buildBeanDefinitionReference('candidates.Test', '''
+package candidates;
+
+import jakarta.inject.Singleton;
+
+@Singleton
+class Test extends Base implements Runnable {
+    public void run() {}
+}
+
+abstract class Base implements Comparable<Base> {
+    public int compareTo(Base o) {
+        return 0;
+    }
+}
+''')
+
+        expect:
+        reference.candidateTypeNames as List == [
+                'candidates.Base',
+                'candidates.Test',
+                'java.lang.Comparable',
+                'java.lang.Object',
+                'java.lang.Runnable'
+        ]
+    }
+
+    void "test the candidate types of a factory bean are the hierarchy of the produced type"() {
+        given:
+        def context = buildContext('''
+package candidates;
+
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import jakarta.inject.Singleton;
+
+@Factory
+class TestFactory {
+    @Singleton
+    @Bean(typed = Runnable.class)
+    Task task() {
+        return new Task();
+    }
+}
+
+class Task implements Runnable, AutoCloseable {
+    public void run() {}
+    public void close() {}
+}
+''')
+        def reference = context.getBeanDefinitionReferences().find { it.beanType.name == 'candidates.Task' }
+
+        expect:
+        reference.candidateTypeNames as List == ['candidates.Task', 'java.lang.AutoCloseable', 'java.lang.Object', 'java.lang.Runnable']
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the bean candidates are found with the index"() {
+        given:
+        def context = buildContext('''
+package candidates;
+
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+interface Greeter {
+    String greet();
+}
+
+abstract class AbstractGreeter implements Greeter {
+}
+
+@Singleton
+@Named("english")
+class EnglishGreeter extends AbstractGreeter {
+    public String greet() {
+        return "Hello";
+    }
+}
+
+@Singleton
+@Named("french")
+class FrenchGreeter implements Greeter {
+    public String greet() {
+        return "Bonjour";
+    }
+}
+
+@Singleton
+class Other {
+}
+''')
+        def greeter = context.classLoader.loadClass('candidates.Greeter')
+        def abstractGreeter = context.classLoader.loadClass('candidates.AbstractGreeter')
+
+        expect:
+        context.getBeansOfType(greeter)*.greet().sort() == ['Bonjour', 'Hello']
+        context.getBeansOfType(abstractGreeter)*.greet() == ['Hello']
+        context.getBeanDefinitions(Object)*.beanType*.name.containsAll(['candidates.EnglishGreeter', 'candidates.FrenchGreeter', 'candidates.Other'])
+        context.getBeanDefinitions(Runnable).isEmpty()
+
+        cleanup:
+        context.close()
+    }
+}
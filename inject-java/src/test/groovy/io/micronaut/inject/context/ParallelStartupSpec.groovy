@@ -0,0 +1,49 @@
+package io.micronaut.inject.context
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.annotation.ScopeOne
+import spock.lang.Specification
+
+class ParallelStartupSpec extends Specification {
+
+    void "test the bean definitions of a parallel startup are the same as of a sequential startup"() {
+        given:
+        def sequential = ApplicationContext.builder()
+                .properties('parallel.startup.enabled': enabled)
+                .start()
+        def parallel = ApplicationContext.builder()
+                .properties('parallel.startup.enabled': enabled)
+                .parallelStartup(true)
+                .start()
+
+        expect:
+        parallel.getAllBeanDefinitions()*.name == sequential.getAllBeanDefinitions()*.name
+        parallel.containsBean(ParallelStartupBean) == enabled
+        sequential.containsBean(ParallelStartupBean) == enabled
+
+        cleanup:
+        sequential.close()
+        parallel.close()
+
+        where:
+        enabled << [true, false]
+    }
+
+    void "test eager init with a parallel startup"() {
+        given:
+        EagerInitBean.created = false
+
+        when:
+        def context = ApplicationContext.builder()
+                .eagerInitAnnotated(ScopeOne)
+                .parallelStartup(true)
+                .start()
+
+        then:
+        context.isRunning()
+        EagerInitBean.created
+
+        cleanup:
+        context.close()
+    }
+}
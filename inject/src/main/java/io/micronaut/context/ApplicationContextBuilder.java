@@ -242,6 +242,18 @@ public interface ApplicationContextBuilder {
      */
     @NonNull ApplicationContextBuilder allowEmptyProviders(boolean shouldAllow);
 
+    /**
+     * Whether the conditions of the bean definitions are evaluated in parallel on startup. Defaults to {@code false}.
+     *
+     * @param isEnabled True if the conditions should be evaluated in parallel
+     * @return This application
+     * @see BeanContextConfiguration#isParallelStartup()
+     * @since 4.0.0
+     */
+    default @NonNull ApplicationContextBuilder parallelStartup(boolean isEnabled) {
+        return this;
+    }
+
     /**
      * Set the command line arguments.
      *
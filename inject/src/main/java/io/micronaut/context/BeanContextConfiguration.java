@@ -77,4 +77,17 @@ public interface BeanContextConfiguration {
     default Set<Class<? extends Annotation>> getEagerInitAnnotated() {
         return Collections.emptySet();
     }
+
+    /**
+     * Whether the conditions of the bean definitions are evaluated in parallel on startup. When enabled, the
+     * {@link io.micronaut.context.annotation.Requires} conditions of all bean definitions, and the definitions of the
+     * beans initialized on startup, are resolved on the common fork join pool before the context is initialized.
+     * The beans are initialized in the same order as with a sequential startup.
+     *
+     * @return True if the conditions are evaluated in parallel on startup
+     * @since 4.0.0
+     */
+    default boolean isParallelStartup() {
+        return false;
+    }
 }
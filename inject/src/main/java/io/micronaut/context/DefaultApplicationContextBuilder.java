@@ -66,6 +66,7 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
     private boolean banner = true;
     private ClassPathResourceLoader classPathResourceLoader;
     private boolean allowEmptyProviders = false;
+    private boolean parallelStartup = false;
     private Boolean bootstrapEnvironment = null;
     private boolean enableDefaultPropertySources = true;
 
@@ -122,6 +123,11 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
         return overrideConfigLocations == null ? null : Arrays.asList(overrideConfigLocations);
     }
 
+    @Override
+    public boolean isParallelStartup() {
+        return parallelStartup;
+    }
+
     @Override
     public boolean isBannerEnabled() {
         return banner;
@@ -394,6 +400,12 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
         return this;
     }
 
+    @Override
+    public @NonNull ApplicationContextBuilder parallelStartup(boolean isEnabled) {
+        this.parallelStartup = isEnabled;
+        return this;
+    }
+
     @Override
     public @NonNull ApplicationContextBuilder allowEmptyProviders(boolean shouldAllow) {
         this.allowEmptyProviders = shouldAllow;
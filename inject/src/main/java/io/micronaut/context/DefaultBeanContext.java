@@ -141,6 +141,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
@@ -164,6 +165,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
     private static final String PARALLEL_TYPE = Parallel.class.getName();
     private static final String INDEXES_TYPE = Indexes.class.getName();
     private static final String REPLACES_ANN = Replaces.class.getName();
+    private static final int PARALLEL_STARTUP_MIN_CHUNK = 32;
     private static final Comparator<BeanRegistration<?>> BEAN_REGISTRATION_COMPARATOR = (o1, o2) -> {
         int order1 = OrderUtil.getOrder(o1.getBeanDefinition(), o1.getBean());
         int order2 = OrderUtil.getOrder(o2.getBeanDefinition(), o2.getBean());
@@ -204,6 +206,15 @@ public class DefaultBeanContext implements InitializableBeanContext {
 
     private final Map<Class<?>, Collection<BeanDefinitionProducer>> beanIndex = new ConcurrentHashMap<>(12);
 
+    /**
+     * The bean definitions indexed by the names of their candidate types, see {@link BeanDefinitionReference#getCandidateTypeNames()}.
+     */
+    private final Map<String, List<BeanDefinitionProducer>> beanCandidateIndex = new ConcurrentHashMap<>(300);
+    /**
+     * The bean definitions without candidate types, checked for every type.
+     */
+    private final Collection<BeanDefinitionProducer> unindexedBeanDefinitionsClasses = new CopyOnWriteArrayList<>();
+
     private final ClassLoader classLoader;
     private final Set<Class<?>> thisInterfaces = CollectionUtils.setOf(
             BeanDefinitionRegistry.class,
@@ -228,6 +239,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
     private final String[] eagerInitStereotypes;
     private final boolean eagerInitStereotypesPresent;
     private final boolean eagerInitSingletons;
+    private final boolean parallelStartup;
 
     private BeanDefinitionValidator beanValidator;
     private List<BeanDefinitionReference> beanDefinitionReferences;
@@ -299,6 +311,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
         this.eagerInitStereotypes = configuredEagerSingletonAnnotations.toArray(new String[0]);
         this.eagerInitStereotypesPresent = !configuredEagerSingletonAnnotations.isEmpty();
         this.eagerInitSingletons = eagerInitStereotypesPresent && (configuredEagerSingletonAnnotations.contains(AnnotationUtil.SINGLETON) || configuredEagerSingletonAnnotations.contains(Singleton.class.getName()));
+        this.parallelStartup = contextConfiguration.isParallelStartup();
         this.beanContextConfiguration = contextConfiguration;
     }
 
@@ -464,6 +477,8 @@ public class DefaultBeanContext implements InitializableBeanContext {
             proxyTargetBeans.clear();
             attributes.clear();
             beanIndex.clear();
+            beanCandidateIndex.clear();
+            unindexedBeanDefinitionsClasses.clear();
             beanConfigurationsList = null;
             beanDefinitionReferences = null;
             beanInitializedEventListeners = null;
@@ -1651,6 +1666,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
         Class<B> beanType = definition.getBeanType();
         BeanDefinitionProducer producer = new BeanDefinitionProducer(definition);
         this.beanDefinitionsClasses.add(producer);
+        this.unindexedBeanDefinitionsClasses.add(producer);
         for (Class<?> indexedType : indexedTypes) {
             if (indexedType == beanType || indexedType.isAssignableFrom(beanType)) {
                 final Collection<BeanDefinitionProducer> indexed = resolveTypeIndex(indexedType);
@@ -2106,7 +2122,9 @@ public class DefaultBeanContext implements InitializableBeanContext {
         if (CollectionUtils.isNotEmpty(parallelBeans)) {
             processParallelBeans(parallelBeans);
         }
-        ForkJoinPool.commonPool().execute(() -> beanDefinitionsClasses.forEach(p -> p.isReferenceEnabled(this)));
+        if (!parallelStartup) {
+            ForkJoinPool.commonPool().execute(() -> beanDefinitionsClasses.forEach(p -> p.isReferenceEnabled(this)));
+        }
     }
 
     /**
@@ -2155,6 +2173,8 @@ public class DefaultBeanContext implements InitializableBeanContext {
             if (beanDefinitionsClasses == null) {
                 beanDefinitionsClasses = Collections.emptyList();
             }
+        } else if (!beanCandidateIndex.isEmpty()) {
+            beanDefinitionsClasses = findIndexedBeanDefinitionsClasses(beanClass);
         } else {
             beanDefinitionsClasses = this.beanDefinitionsClasses;
         }
@@ -2168,6 +2188,27 @@ public class DefaultBeanContext implements InitializableBeanContext {
         );
     }
 
+    /**
+     * Finds the bean definitions that can be candidates for the given type, with the index of the candidate types.
+     *
+     * @param beanClass The bean type
+     * @return The bean definitions
+     */
+    @NonNull
+    private Collection<BeanDefinitionProducer> findIndexedBeanDefinitionsClasses(@NonNull Class<?> beanClass) {
+        List<BeanDefinitionProducer> indexed = beanCandidateIndex.get(beanClass.getName());
+        if (indexed == null) {
+            return unindexedBeanDefinitionsClasses;
+        }
+        if (unindexedBeanDefinitionsClasses.isEmpty()) {
+            return indexed;
+        }
+        List<BeanDefinitionProducer> producers = new ArrayList<>(indexed.size() + unindexedBeanDefinitionsClasses.size());
+        producers.addAll(indexed);
+        producers.addAll(unindexedBeanDefinitionsClasses);
+        return producers;
+    }
+
     @NonNull
     private <T> Set<BeanDefinition<T>> collectBeanCandidates(
         BeanResolutionContext resolutionContext,
@@ -3323,10 +3364,23 @@ public class DefaultBeanContext implements InitializableBeanContext {
 
         List<BeanDefinitionProducer> producers = new ArrayList<>(beanDefinitionReferences.size());
         List<BeanDefinitionProducer> proxyTargetBeans = new ArrayList<>(beanDefinitionReferences.size());
+        Map<String, List<BeanDefinitionProducer>> beanCandidateIndex = new HashMap<>(300);
+        List<BeanDefinitionProducer> unindexedProducers = new ArrayList<>();
         for (BeanDefinitionReference beanDefinitionReference : beanDefinitionReferences) {
-            producers.add(new BeanDefinitionProducer(beanDefinitionReference));
+            BeanDefinitionProducer producer = new BeanDefinitionProducer(beanDefinitionReference);
+            producers.add(producer);
+            String[] candidateTypeNames = beanDefinitionReference.getCandidateTypeNames();
+            if (candidateTypeNames == null) {
+                unindexedProducers.add(producer);
+            } else {
+                for (String candidateTypeName : candidateTypeNames) {
+                    beanCandidateIndex.computeIfAbsent(candidateTypeName, name -> new ArrayList<>(4)).add(producer);
+                }
+            }
         }
         beanDefinitionsClasses.addAll(producers);
+        unindexedBeanDefinitionsClasses.addAll(unindexedProducers);
+        this.beanCandidateIndex.putAll(beanCandidateIndex);
 
         Collection<BeanConfiguration> allConfigurations = beanConfigurations.values();
         List<BeanConfiguration> configurationsDisabled = new ArrayList<>(allConfigurations.size());
@@ -3396,9 +3450,57 @@ public class DefaultBeanContext implements InitializableBeanContext {
         this.proxyTargetBeans.addAll(proxyTargetBeans);
 
         initializeEventListeners();
+        if (parallelStartup) {
+            evaluateConditionsInParallel(producers, eagerInitBeans, processedBeans);
+        }
         initializeContext(eagerInitBeans, processedBeans, parallelBeans);
     }
 
+    /**
+     * Evaluates the conditions of the given bean definition references on the common fork join pool, and loads the
+     * definitions of the beans that are initialized or processed on startup. The result of every reference is kept
+     * by its {@link BeanDefinitionProducer}, so the context is initialized in the order of the references as with a
+     * sequential startup. A reference that fails to evaluate is left unresolved and evaluated again when it is used.
+     *
+     * @param producers      The producers of all bean definition references
+     * @param eagerInitBeans The producers of the beans initialized on startup
+     * @param processedBeans The producers of the beans with methods processed on startup
+     */
+    private void evaluateConditionsInParallel(List<BeanDefinitionProducer> producers,
+                                              List<BeanDefinitionProducer> eagerInitBeans,
+                                              List<BeanDefinitionProducer> processedBeans) {
+        Set<BeanDefinitionProducer> loadedOnStartup = Collections.newSetFromMap(new IdentityHashMap<>(eagerInitBeans.size() + processedBeans.size()));
+        loadedOnStartup.addAll(eagerInitBeans);
+        loadedOnStartup.addAll(processedBeans);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int chunkSize = Math.max(PARALLEL_STARTUP_MIN_CHUNK, producers.size() / (pool.getParallelism() * 4) + 1);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(producers.size() / chunkSize + 1);
+        for (int start = 0; start < producers.size(); start += chunkSize) {
+            List<BeanDefinitionProducer> chunk = producers.subList(start, Math.min(start + chunkSize, producers.size()));
+            tasks.add(pool.submit(() -> {
+                for (BeanDefinitionProducer producer : chunk) {
+                    if (producer.isDisabled()) {
+                        continue;
+                    }
+                    try {
+                        if (loadedOnStartup.contains(producer)) {
+                            producer.isDefinitionEnabled(this);
+                        } else {
+                            producer.isReferenceEnabled(this);
+                        }
+                    } catch (Throwable e) {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Evaluating the conditions of bean definition [" + producer.reference + "] failed: " + e.getMessage(), e);
+                        }
+                    }
+                }
+            }));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
     private boolean isEagerInit(BeanDefinitionReference beanDefinitionReference) {
         return beanDefinitionReference.isContextScope() ||
                 (eagerInitSingletons && beanDefinitionReference.isSingleton()) ||
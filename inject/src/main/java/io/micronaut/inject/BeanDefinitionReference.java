@@ -21,6 +21,7 @@ import io.micronaut.context.annotation.DefaultScope;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationUtil;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Singleton;
 
 /**
@@ -127,4 +128,17 @@ public interface BeanDefinitionReference<T> extends QualifiedBeanType<T> {
     default boolean isProxyTarget() {
         return false;
     }
+
+    /**
+     * The names of the types the bean can be looked up by, resolved from the hierarchy of the bean type when the bean
+     * was compiled. The bean context indexes the references by these names, so looking up the candidates of a type
+     * does not check every reference.
+     *
+     * @return The names of the candidate types, or {@code null} if the reference has to be checked for every type
+     * @since 4.0.0
+     */
+    @Nullable
+    default String[] getCandidateTypeNames() {
+        return null;
+    }
 }
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.micronaut.context.annotation.BootstrapContextCompatible;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
@@ -33,6 +34,7 @@ import io.micronaut.jackson.ObjectMapperFactory;
 import io.micronaut.jackson.codec.JacksonFeatures;
 import io.micronaut.jackson.core.tree.JsonNodeTreeCodec;
 import io.micronaut.jackson.core.tree.TreeGenerator;
+import io.micronaut.json.IncrementalJsonParser;
 import io.micronaut.json.JsonStreamConfig;
 import io.micronaut.json.JsonMapper;
 import io.micronaut.json.JsonFeatures;
@@ -185,6 +187,19 @@ public final class JacksonDatabindMapper implements JsonMapper {
         };
     }
 
+    @NonNull
+    @Override
+    public <T> Optional<IncrementalJsonParser<T>> createIncrementalParser(@NonNull Argument<T> type, boolean streamArray) {
+        JavaType javaType = JacksonConfiguration.constructType(type, objectMapper.getTypeFactory());
+        Optional<Class> view = type.getAnnotationMetadata().classValue(JsonView.class);
+        ObjectReader reader = view.isPresent() ? objectMapper.readerWithView(view.get()).forType(javaType) : objectMapper.readerFor(javaType);
+        try {
+            return Optional.of(new JacksonIncrementalParser<>(reader, objectMapper.getFactory().createNonBlockingByteArrayParser(), streamArray, config.useBigDecimalForFloats()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create non-blocking JSON parser: " + e.getMessage(), e);
+        }
+    }
+
     @NonNull
     @Override
     public Optional<JsonFeatures> detectFeatures(@NonNull AnnotationMetadata annotations) {
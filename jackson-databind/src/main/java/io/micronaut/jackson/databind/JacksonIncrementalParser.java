@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jackson.databind;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.json.IncrementalJsonParser;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Jackson implementation of {@link IncrementalJsonParser}. The tokens of the current value are collected in a
+ * {@link TokenBuffer}, which is bound by the {@link ObjectReader} once the value is complete.
+ *
+ * @param <T> The type values are bound to
+ * @since 4.0.0
+ */
+@Internal
+final class JacksonIncrementalParser<T> implements IncrementalJsonParser<T> {
+
+    private final ObjectReader reader;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final boolean streamArray;
+    private final boolean useBigDecimalForFloats;
+
+    @Nullable
+    private TokenBuffer current;
+    private int depth;
+    private boolean started;
+    private boolean rootIsArray;
+    private boolean done;
+
+    /**
+     * @param reader                 The reader for the target type
+     * @param parser                 A non-blocking byte array parser
+     * @param streamArray            Whether to bind the elements of a top-level array
+     * @param useBigDecimalForFloats Whether floating point numbers must keep their precision
+     */
+    JacksonIncrementalParser(ObjectReader reader, JsonParser parser, boolean streamArray, boolean useBigDecimalForFloats) {
+        this.reader = reader;
+        this.parser = parser;
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.streamArray = streamArray;
+        this.useBigDecimalForFloats = useBigDecimalForFloats;
+    }
+
+    @Override
+    public void feed(@NonNull byte[] bytes, int offset, int length, @NonNull Consumer<? super T> consumer) throws IOException {
+        if (done || length == 0) {
+            return;
+        }
+        feeder.feedInput(bytes, offset, offset + length);
+        drain(consumer);
+    }
+
+    @Override
+    public void complete(@NonNull Consumer<? super T> consumer) throws IOException {
+        if (done) {
+            return;
+        }
+        feeder.endOfInput();
+        drain(consumer);
+        if (current != null || (rootIsArray && !done)) {
+            throw new JsonEOFException(parser, JsonToken.NOT_AVAILABLE, "Unexpected end-of-input");
+        }
+        done = true;
+    }
+
+    private void drain(Consumer<? super T> consumer) throws IOException {
+        JsonToken token;
+        while (!done && (token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+            if (!started) {
+                started = true;
+                if (streamArray && token == JsonToken.START_ARRAY) {
+                    rootIsArray = true;
+                    continue;
+                }
+            }
+            TokenBuffer buffer = current;
+            if (buffer == null) {
+                if (rootIsArray && token == JsonToken.END_ARRAY) {
+                    // anything after the root array is ignored, like the tree based parser does
+                    done = true;
+                    return;
+                }
+                buffer = new TokenBuffer(parser);
+                buffer.forceUseOfBigDecimal(useBigDecimalForFloats);
+                current = buffer;
+            }
+            buffer.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == 0) {
+                current = null;
+                try (JsonParser tokens = buffer.asParser()) {
+                    consumer.accept(reader.readValue(tokens));
+                }
+            }
+        }
+    }
+}
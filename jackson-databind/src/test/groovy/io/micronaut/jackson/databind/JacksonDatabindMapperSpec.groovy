@@ -45,6 +45,68 @@ class JacksonDatabindMapperSpec extends Specification {
         testBean.value == BigInteger.valueOf(42)
     }
 
+    def 'incremental parser binds array elements as soon as they are complete'() {
+        given:
+        def jsonMapper = new JacksonDatabindMapper()
+        def parser = jsonMapper.createIncrementalParser(Argument.of(Item), true).get()
+        def items = []
+        def input = '[{"name":"a","price":1.5},{"name":"b","price":2},{"name":"c","price":3}]'.bytes
+
+        when: 'the input ends in the middle of the second element'
+        parser.feed(input, 0, 30, items::add)
+
+        then:
+        items*.name == ['a']
+
+        when:
+        parser.feed(input, 30, input.length - 30, items::add)
+        parser.complete(items::add)
+
+        then:
+        items*.name == ['a', 'b', 'c']
+        items*.price == [1.5, 2, 3]
+    }
+
+    def 'incremental parser binds root values'() {
+        given:
+        def jsonMapper = new JacksonDatabindMapper()
+        def parser = jsonMapper.createIncrementalParser(Argument.of(Integer), streamArray)
+        def values = []
+
+        when:
+        def bytes = input.bytes
+        parser.get().feed(bytes, 0, bytes.length, values::add)
+        parser.get().complete(values::add)
+
+        then:
+        values == expected
+
+        where:
+        input      | streamArray | expected
+        '[1,2,3]'  | true        | [1, 2, 3]
+        '1 2 3'    | false       | [1, 2, 3]
+        '42'       | true        | [42]
+        ''         | true        | []
+    }
+
+    def 'incremental parser fails on truncated input'() {
+        given:
+        def parser = new JacksonDatabindMapper().createIncrementalParser(Argument.of(Item), true).get()
+        def bytes = '[{"name":"a"},{"na'.bytes
+
+        when:
+        parser.feed(bytes, 0, bytes.length, {})
+        parser.complete({})
+
+        then:
+        thrown(IOException)
+    }
+
+    static class Item {
+        String name
+        BigDecimal price
+    }
+
     private static class TestBean {
         BigInteger value
     }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.json;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * A non-blocking parser that is fed JSON input as it arrives and binds every complete value to the target type as
+ * soon as its last byte has been received, without building a {@link io.micronaut.json.tree.JsonNode} tree of the
+ * input. Instances are stateful and must not be used concurrently.
+ *
+ * @param <T> The type values are bound to
+ * @see JsonMapper#createIncrementalParser(io.micronaut.core.type.Argument, boolean)
+ * @since 4.0.0
+ */
+public interface IncrementalJsonParser<T> {
+
+    /**
+     * Feed the next chunk of input. The parser does not keep a reference to the array once this method returns.
+     *
+     * @param bytes    The input
+     * @param offset   The offset of the chunk in the array
+     * @param length   The length of the chunk
+     * @param consumer Receives the values completed by this chunk
+     * @throws IOException If the input is not valid JSON or cannot be bound to the target type
+     */
+    void feed(@NonNull byte[] bytes, int offset, int length, @NonNull Consumer<? super T> consumer) throws IOException;
+
+    /**
+     * Signal the end of the input.
+     *
+     * @param consumer Receives the values that could only be completed at the end of the input, e.g. a trailing number
+     * @throws IOException If the input ended in the middle of a value
+     */
+    void complete(@NonNull Consumer<? super T> consumer) throws IOException;
+}
@@ -110,6 +110,22 @@ public interface JsonMapper {
     @NonNull
     Processor<byte[], JsonNode> createReactiveParser(@NonNull Consumer<Processor<byte[], JsonNode>> onSubscribe, boolean streamArray);
 
+    /**
+     * Create a non-blocking parser that binds the input directly to the given type, without building a
+     * {@link JsonNode} tree first. With {@code streamArray}, each element of a top-level json array is bound as a
+     * separate value, otherwise each top-level value is.
+     *
+     * @param type        The type to bind the values to
+     * @param streamArray Whether to return the elements of a top-level json array rather than the array itself
+     * @param <T>         The type of the values
+     * @return The parser, or empty if this mapper does not support incremental binding
+     * @since 4.0.0
+     */
+    @NonNull
+    default <T> Optional<IncrementalJsonParser<T>> createIncrementalParser(@NonNull Argument<T> type, boolean streamArray) {
+        return Optional.empty();
+    }
+
     /**
      * Transform an object value to a json tree.
      *
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.annotation;
+
+import io.micronaut.aop.Around;
+import io.micronaut.context.annotation.Type;
+import io.micronaut.retry.intercept.BulkheadInterceptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * AOP around advice that limits the number of concurrent calls of a method. Calls beyond the limit wait for a
+ * permit up to {@link #maxWaitDuration()}, and fail with a {@link io.micronaut.retry.exception.BulkheadFullException}
+ * otherwise. A synchronous call waits on its own thread, a method returning a
+ * {@link java.util.concurrent.CompletionStage} or a reactive type is queued instead, without blocking the caller,
+ * and holds its permit until its result completes.
+ *
+ * <p>Combine with {@link Recoverable} to fall back when the bulkhead is full.</p>
+ *
+ * @since 4.0.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Around
+@Type(BulkheadInterceptor.class)
+public @interface Bulkhead {
+
+    /**
+     * The methods of bulkheads with the same name share their permits, for example to protect a shared connection
+     * pool. The settings of the first method called apply to all of them. By default, every method has its own
+     * bulkhead.
+     *
+     * @return The name of the bulkhead
+     */
+    String value() default "";
+
+    /**
+     * @return The maximum number of concurrent calls
+     */
+    int maxConcurrentCalls() default 25;
+
+    /**
+     * @return The maximum {@link java.time.Duration} a call waits for a permit (defaults to none)
+     */
+    String maxWaitDuration() default "0ms";
+}
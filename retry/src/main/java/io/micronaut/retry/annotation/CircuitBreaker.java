@@ -102,4 +102,60 @@ public @interface CircuitBreaker {
      * @return Whether to wrap the original exception in a {@link io.micronaut.retry.exception.CircuitOpenException}
      */
     boolean throwWrappedException() default false;
+
+    /**
+     * The type of sliding window recording the outcome of calls. With {@link SlidingWindowType#NONE}, the circuit
+     * opens as soon as an operation fails once all retry attempts are exhausted. Otherwise it opens once the failure
+     * rate or the slow call rate of the window reaches its threshold, so that a few isolated errors do not open the
+     * circuit of a method called often.
+     *
+     * @return The type of sliding window
+     * @since 4.0.0
+     */
+    SlidingWindowType slidingWindowType() default SlidingWindowType.NONE;
+
+    /**
+     * @return The number of calls of a {@link SlidingWindowType#COUNT_BASED} window, or the number of seconds of a
+     * {@link SlidingWindowType#TIME_BASED} window
+     * @since 4.0.0
+     */
+    int slidingWindowSize() default 100;
+
+    /**
+     * @return The number of calls the sliding window records before the failure and slow call rates are evaluated
+     * @since 4.0.0
+     */
+    int minimumNumberOfCalls() default 10;
+
+    /**
+     * A call fails when the operation fails once all retry attempts are exhausted, with an exception matching
+     * {@link #includes()}, {@link #excludes()} and {@link #predicate()}.
+     *
+     * @return The failure rate, in percent, from which the circuit opens
+     * @since 4.0.0
+     */
+    int failureRateThreshold() default 50;
+
+    /**
+     * @return The {@link java.time.Duration} from which a call is considered slow, including its retry attempts
+     * (defaults to none)
+     * @since 4.0.0
+     */
+    String slowCallDuration() default "";
+
+    /**
+     * @return The slow call rate, in percent, from which the circuit opens
+     * @since 4.0.0
+     */
+    int slowCallRateThreshold() default 100;
+
+    /**
+     * The number of calls permitted when the circuit is {@link io.micronaut.retry.CircuitState#HALF_OPEN}. Other
+     * calls are rejected until the permitted calls have completed. The circuit closes if their failure and slow call
+     * rates are below the thresholds, and opens again otherwise. Probe calls are not retried.
+     *
+     * @return The number of calls permitted in the half open state
+     * @since 4.0.0
+     */
+    int permittedCallsInHalfOpenState() default 1;
 }
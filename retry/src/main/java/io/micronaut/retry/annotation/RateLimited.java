@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.annotation;
+
+import io.micronaut.aop.Around;
+import io.micronaut.context.annotation.Type;
+import io.micronaut.retry.intercept.RateLimitInterceptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * AOP around advice that limits the rate of calls of a method with a token bucket. The bucket holds up to
+ * {@link #burst()} tokens, and is refilled with {@link #limit()} tokens every {@link #period()}. A call takes a token,
+ * waiting for it up to {@link #maxWaitDuration()}, and fails with a
+ * {@link io.micronaut.retry.exception.RateLimitExceededException} otherwise. A synchronous call waits on its own
+ * thread, the call of a method returning a {@link java.util.concurrent.CompletionStage} or a reactive type is delayed
+ * instead, without blocking the caller.
+ *
+ * <p>Combine with {@link Recoverable} to fall back when the rate is exceeded.</p>
+ *
+ * @since 4.0.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Around
+@Type(RateLimitInterceptor.class)
+public @interface RateLimited {
+
+    /**
+     * The methods of rate limiters with the same name share their tokens. The settings of the first method called
+     * apply to all of them. By default, every method has its own rate limiter.
+     *
+     * @return The name of the rate limiter
+     */
+    String value() default "";
+
+    /**
+     * @return The number of calls permitted per period
+     */
+    int limit();
+
+    /**
+     * @return The {@link java.time.Duration} of a period
+     */
+    String period() default "1s";
+
+    /**
+     * @return The maximum number of calls permitted at once, after an idle period (defaults to {@link #limit()})
+     */
+    int burst() default 0;
+
+    /**
+     * @return The maximum {@link java.time.Duration} a call waits for a token (defaults to none)
+     */
+    String maxWaitDuration() default "0ms";
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.annotation;
+
+/**
+ * The type of sliding window a {@link CircuitBreaker} uses to record the outcome of calls.
+ *
+ * @since 4.0.0
+ */
+public enum SlidingWindowType {
+
+    /**
+     * No window is recorded, the circuit opens as soon as an operation fails once all retry attempts are exhausted.
+     */
+    NONE,
+
+    /**
+     * The window records the outcome of the last {@link CircuitBreaker#slidingWindowSize()} calls.
+     */
+    COUNT_BASED,
+
+    /**
+     * The window records the outcome of the calls of the last {@link CircuitBreaker#slidingWindowSize()} seconds.
+     */
+    TIME_BASED
+}
@@ -30,7 +30,8 @@ import java.util.Collections;
 import java.util.List;
 
 /**
- * Builds a {@link RetryState} from {@link AnnotationMetadata}.
+ * Builds a {@link RetryState} from {@link AnnotationMetadata}. The annotation values are resolved once, when the
+ * builder is created.
  *
  * @author graemerocher
  * @since 1.0
@@ -47,36 +48,41 @@ class AnnotationRetryStateBuilder implements RetryStateBuilder {
     private static final String CAPTUREDEXCEPTION = "capturedException";
     private static final int DEFAULT_RETRY_ATTEMPTS = 3;
 
-    private final AnnotationMetadata annotationMetadata;
+    private final int attempts;
+    private final double multiplier;
+    private final Duration delay;
+    private final Duration maxDelay;
+    private final RetryPredicate predicate;
+    private final Class<? extends RuntimeException> capturedException;
 
     /**
      * Build the meta data for the given element with retry.
      *
      * @param annotationMetadata Allows the inspection of annotation metadata and stereotypes (meta-annotations)
      */
+    @SuppressWarnings("unchecked")
     AnnotationRetryStateBuilder(AnnotationMetadata annotationMetadata) {
-        this.annotationMetadata = annotationMetadata;
-    }
-
-    @Override
-    public RetryState build() {
         AnnotationValue<Retryable> retry = annotationMetadata.findAnnotation(Retryable.class)
                                                              .orElseThrow(() -> new IllegalStateException("Missing @Retryable annotation"));
-        int attempts = retry.intValue(ATTEMPTS).orElse(DEFAULT_RETRY_ATTEMPTS);
-        Duration delay = retry.get(DELAY, Duration.class).orElse(Duration.ofSeconds(1));
-        @SuppressWarnings("unchecked")
+        this.attempts = retry.intValue(ATTEMPTS).orElse(DEFAULT_RETRY_ATTEMPTS);
+        this.multiplier = retry.get(MULTIPLIER, Double.class).orElse(0d);
+        this.delay = retry.get(DELAY, Duration.class).orElse(Duration.ofSeconds(1));
+        this.maxDelay = retry.get(MAX_DELAY, Duration.class).orElse(null);
         Class<? extends RetryPredicate> predicateClass = (Class<? extends RetryPredicate>) retry.classValue(PREDICATE).orElse(DefaultRetryPredicate.class);
-        RetryPredicate predicate = createPredicate(predicateClass, retry);
-        @SuppressWarnings("unchecked")
-        Class<? extends RuntimeException> capturedException = (Class<? extends RuntimeException>) retry
+        // a single predicate instance is shared by all the retry states of the method
+        this.predicate = createPredicate(predicateClass, retry);
+        this.capturedException = (Class<? extends RuntimeException>) retry
                                             .classValue(CAPTUREDEXCEPTION)
                                             .orElse(RuntimeException.class);
+    }
 
+    @Override
+    public RetryState build() {
         return new SimpleRetry(
             attempts,
-            retry.get(MULTIPLIER, Double.class).orElse(0d),
+            multiplier,
             delay,
-            retry.get(MAX_DELAY, Duration.class).orElse(null),
+            maxDelay,
             predicate,
             capturedException
         );
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.InterceptedMethod;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.retry.annotation.Bulkhead;
+import io.micronaut.retry.exception.BulkheadFullException;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * A {@link MethodInterceptor} that limits the number of concurrent calls of a method according to the
+ * {@link Bulkhead} annotation. It runs within the {@link DefaultRetryInterceptor}, so every attempt of a retried call
+ * takes its own permit.
+ *
+ * @since 4.0.0
+ */
+@Singleton
+public class BulkheadInterceptor implements MethodInterceptor<Object, Object> {
+
+    /**
+     * The position of the interceptor, within the retries and the rate limiting.
+     */
+    public static final int POSITION = InterceptPhase.RETRY.getPosition() + 15;
+
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS = 25;
+
+    private final ConversionService conversionService;
+    private final ScheduledExecutorService executorService;
+    private final Map<ExecutableMethod<?, ?>, BulkheadState> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, BulkheadState> namedBulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * @param conversionService The conversion service
+     * @param executorService   The executor service to expire the calls waiting for a permit
+     */
+    public BulkheadInterceptor(ConversionService conversionService,
+                               @Named(TaskExecutors.SCHEDULED) ExecutorService executorService) {
+        this.conversionService = conversionService;
+        this.executorService = (ScheduledExecutorService) executorService;
+    }
+
+    @Override
+    public int getOrder() {
+        return POSITION;
+    }
+
+    @Nullable
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        BulkheadState bulkhead = bulkhead(context);
+        if (bulkhead == null) {
+            return context.proceed();
+        }
+        InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
+        try {
+            switch (interceptedMethod.resultType()) {
+                case PUBLISHER -> {
+                    return interceptedMethod.handleResult(
+                            Mono.<BulkheadState.Permit>create(sink -> {
+                                BulkheadState.Permit permit = bulkhead.new Permit() {
+                                    @Override
+                                    void granted() {
+                                        sink.success(this);
+                                    }
+
+                                    @Override
+                                    void rejected(BulkheadFullException exception) {
+                                        sink.error(exception);
+                                    }
+                                };
+                                sink.onCancel(permit::release);
+                                bulkhead.acquire(permit);
+                            }).flatMapMany(permit -> Flux.defer(() -> interceptedMethod.interceptResultAsPublisher(this))
+                                    .doFinally(signal -> permit.release()))
+                    );
+                }
+                case COMPLETION_STAGE -> {
+                    CompletableFuture<Object> newFuture = new CompletableFuture<>();
+                    bulkhead.acquire(bulkhead.new Permit() {
+                        @Override
+                        void granted() {
+                            try {
+                                interceptedMethod.interceptResultAsCompletionStage(BulkheadInterceptor.this).whenComplete((value, exception) -> {
+                                    release();
+                                    if (exception == null) {
+                                        newFuture.complete(value);
+                                    } else {
+                                        newFuture.completeExceptionally(exception);
+                                    }
+                                });
+                            } catch (Throwable e) {
+                                release();
+                                newFuture.completeExceptionally(e);
+                            }
+                        }
+
+                        @Override
+                        void rejected(BulkheadFullException exception) {
+                            newFuture.completeExceptionally(exception);
+                        }
+                    });
+                    return interceptedMethod.handleResult(newFuture);
+                }
+                case SYNCHRONOUS -> {
+                    bulkhead.acquire();
+                    try {
+                        return context.proceed();
+                    } finally {
+                        bulkhead.release();
+                    }
+                }
+                default -> {
+                    return interceptedMethod.unsupported();
+                }
+            }
+        } catch (Exception e) {
+            return interceptedMethod.handleException(e);
+        }
+    }
+
+    @Nullable
+    private BulkheadState bulkhead(MethodInvocationContext<Object, Object> context) {
+        BulkheadState bulkhead = bulkheads.get(context.getExecutableMethod());
+        if (bulkhead != null) {
+            return bulkhead;
+        }
+        AnnotationValue<Bulkhead> annotation = context.findAnnotation(Bulkhead.class).orElse(null);
+        if (annotation == null) {
+            return null;
+        }
+        String name = annotation.stringValue().orElse("");
+        // a named bulkhead is also cached by method, so the name is only resolved once per method
+        return bulkheads.computeIfAbsent(context.getExecutableMethod(), method -> name.isEmpty()
+                ? newBulkhead(method.toString(), annotation)
+                : namedBulkheads.computeIfAbsent(name, n -> newBulkhead(n, annotation)));
+    }
+
+    private BulkheadState newBulkhead(String name, AnnotationValue<Bulkhead> annotation) {
+        int maxConcurrentCalls = annotation.intValue("maxConcurrentCalls").orElse(DEFAULT_MAX_CONCURRENT_CALLS);
+        Duration maxWait = annotation.stringValue("maxWaitDuration")
+                .flatMap(value -> conversionService.convert(value, Duration.class))
+                .orElse(Duration.ZERO);
+        return new BulkheadState(name, maxConcurrentCalls, maxWait.toNanos(), executorService);
+    }
+}
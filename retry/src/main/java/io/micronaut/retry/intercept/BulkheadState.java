@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.retry.exception.BulkheadFullException;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The permits of a {@link io.micronaut.retry.annotation.Bulkhead}. Synchronous calls wait for a permit on the
+ * semaphore, asynchronous calls are queued and granted a permit by the call that releases it.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class BulkheadState {
+
+    private final String name;
+    private final Semaphore semaphore;
+    private final long maxWaitNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Queue<Permit> waiting = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param name               The name of the bulkhead, for error messages
+     * @param maxConcurrentCalls The maximum number of concurrent calls
+     * @param maxWaitNanos       The maximum time a call waits for a permit
+     * @param scheduler          The scheduler of the wait timeouts
+     */
+    BulkheadState(String name, int maxConcurrentCalls, long maxWaitNanos, ScheduledExecutorService scheduler) {
+        this.name = name;
+        this.semaphore = new Semaphore(maxConcurrentCalls);
+        this.maxWaitNanos = maxWaitNanos;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Acquires a permit for a synchronous call, blocking the current thread up to the maximum wait duration.
+     *
+     * @throws BulkheadFullException if no permit is available in time
+     */
+    void acquire() {
+        try {
+            if (maxWaitNanos == 0 ? semaphore.tryAcquire() : semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw full();
+    }
+
+    /**
+     * Acquires a permit for an asynchronous call, without blocking. The permit is either granted right away, or once
+     * a permit is released, or the call is rejected when it has waited for the maximum wait duration.
+     *
+     * @param permit The permit of the call
+     */
+    void acquire(Permit permit) {
+        if (waiting.isEmpty() && semaphore.tryAcquire()) {
+            if (!permit.grant()) {
+                release();
+            }
+            return;
+        }
+        if (maxWaitNanos == 0) {
+            permit.reject();
+            return;
+        }
+        permit.timeout = scheduler.schedule(permit::expire, maxWaitNanos, TimeUnit.NANOSECONDS);
+        waiting.add(permit);
+        // a permit may have been released before the call was queued
+        grantWaiting();
+    }
+
+    /**
+     * Releases a permit, and grants it to a queued call if there is one.
+     */
+    void release() {
+        semaphore.release();
+        grantWaiting();
+    }
+
+    private void grantWaiting() {
+        while (!waiting.isEmpty() && semaphore.tryAcquire()) {
+            Permit next = waiting.poll();
+            if (next == null || !next.grant()) {
+                semaphore.release();
+                if (next == null) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private BulkheadFullException full() {
+        return new BulkheadFullException("Bulkhead [" + name + "] is full");
+    }
+
+    /**
+     * The permit of an asynchronous call.
+     */
+    abstract class Permit {
+        private static final int WAITING = 0;
+        private static final int ACQUIRED = 1;
+        private static final int DONE = 2;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private volatile ScheduledFuture<?> timeout;
+
+        /**
+         * Called once the permit has been granted, the call may proceed.
+         */
+        abstract void granted();
+
+        /**
+         * Called when the call is rejected.
+         *
+         * @param exception The exception to fail the call with
+         */
+        abstract void rejected(BulkheadFullException exception);
+
+        /**
+         * Releases the permit once the call has completed, or cancels the call if it still waits for the permit.
+         */
+        final void release() {
+            if (state.compareAndSet(WAITING, DONE)) {
+                cancelTimeout();
+            } else if (state.compareAndSet(ACQUIRED, DONE)) {
+                BulkheadState.this.release();
+            }
+        }
+
+        private boolean grant() {
+            if (!state.compareAndSet(WAITING, ACQUIRED)) {
+                return false;
+            }
+            cancelTimeout();
+            granted();
+            return true;
+        }
+
+        private void reject() {
+            if (state.compareAndSet(WAITING, DONE)) {
+                rejected(full());
+            }
+        }
+
+        private void expire() {
+            // expired permits are skipped once they reach the head of the queue
+            reject();
+        }
+
+        private void cancelTimeout() {
+            ScheduledFuture<?> timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        }
+    }
+}
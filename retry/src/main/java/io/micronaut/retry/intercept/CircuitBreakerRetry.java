@@ -30,11 +30,17 @@ import org.slf4j.LoggerFactory;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A context object for storing the state of the Circuit.
  *
+ * <p>Without {@link SlidingWindowSettings}, the circuit opens as soon as an operation fails. Otherwise the outcome of
+ * every call is recorded in a {@link SlidingWindow}, and the circuit opens once its failure rate or slow call rate
+ * reaches the threshold. A half open circuit then permits a limited number of probe calls, whose outcome decides
+ * whether the circuit closes or opens again.</p>
+ *
  * @author graemerocher
  * @since 1.0
  */
@@ -47,6 +53,11 @@ class CircuitBreakerRetry implements MutableRetryState {
     private final ExecutableMethod<?, ?> method;
     private final ApplicationEventPublisher eventPublisher;
     private final boolean throwWrappedException;
+    @Nullable
+    private final SlidingWindowSettings windowSettings;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private volatile SlidingWindow window;
+    private volatile SlidingWindow probes;
     private AtomicReference<CircuitState> state = new AtomicReference<>(CircuitState.CLOSED);
     private volatile Throwable lastError;
     private volatile long time = System.currentTimeMillis();
@@ -64,7 +75,30 @@ class CircuitBreakerRetry implements MutableRetryState {
         RetryStateBuilder childStateBuilder,
         ExecutableMethod<?, ?> method,
         ApplicationEventPublisher eventPublisher, boolean throwWrappedException) {
+        this(openTimeout, childStateBuilder, method, eventPublisher, throwWrappedException, null);
+    }
 
+    /**
+     * @param openTimeout       The circuit open timeout in millis
+     * @param childStateBuilder The retry state builder
+     * @param method            A compile time produced invocation of a method call
+     * @param eventPublisher    To publish circuit events
+     * @param throwWrappedException     If {@code true}, the original exception will be wrapped in {@link CircuitOpenException}
+     * @param windowSettings    The sliding window settings, or {@code null} to open the circuit on the first failure
+     * @since 4.0.0
+     */
+    CircuitBreakerRetry(
+        long openTimeout,
+        RetryStateBuilder childStateBuilder,
+        ExecutableMethod<?, ?> method,
+        ApplicationEventPublisher eventPublisher,
+        boolean throwWrappedException,
+        @Nullable SlidingWindowSettings windowSettings) {
+
+        this.windowSettings = windowSettings;
+        if (windowSettings != null) {
+            this.window = windowSettings.newWindow();
+        }
         this.retryStateBuilder = childStateBuilder;
         this.openTimeout = openTimeout;
         this.childState = (MutableRetryState) childStateBuilder.build();
@@ -75,34 +109,61 @@ class CircuitBreakerRetry implements MutableRetryState {
 
     @Override
     public void close(@Nullable Throwable exception) {
+        close(exception, System.nanoTime());
+    }
+
+    @Override
+    public void close(@Nullable Throwable exception, long startNanos) {
+        if (windowSettings != null) {
+            record(exception, startNanos);
+            return;
+        }
+        if (exception != null && !getCapturedException().isInstance(exception)) {
+            // only the captured exceptions affect a circuit without sliding window
+            return;
+        }
         if (exception == null && currentState() == CircuitState.HALF_OPEN) {
             closeCircuit();
         } else if (currentState() != CircuitState.OPEN) {
             if (exception != null && getRetryPredicate().test(exception)) {
                 openCircuit(exception);
             } else {
-                // reset state for successful operation
-                time = System.currentTimeMillis();
-                lastError = null;
-                this.childState = (MutableRetryState) retryStateBuilder.build();
+                // reset state for successful operation, without writing to the shared state unless needed
+                if (lastError != null) {
+                    lastError = null;
+                }
+                resetChildState();
             }
         }
     }
 
     @Override
     public void open() {
-        if (currentState() == CircuitState.OPEN && lastError != null) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Rethrowing existing exception for Open Circuit [{}]: {}", method, lastError.getMessage());
+        if (windowSettings != null) {
+            CircuitState current = currentState();
+            if (current == CircuitState.OPEN
+                    || current == CircuitState.HALF_OPEN && halfOpenPermits.getAndUpdate(p -> p > 0 ? p - 1 : 0) <= 0) {
+                rejectCall(lastError);
             }
-            if (lastError instanceof RuntimeException && !throwWrappedException) {
-                throw (RuntimeException) lastError;
-            } else {
-                throw new CircuitOpenException("Circuit Open: " + lastError.getMessage(), lastError);
+        } else if (currentState() == CircuitState.OPEN) {
+            Throwable lastError = this.lastError;
+            if (lastError != null) {
+                rejectCall(lastError);
             }
         }
     }
 
+    private void rejectCall(Throwable lastError) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Rethrowing existing exception for Open Circuit [{}]: {}", method, lastError.getMessage());
+        }
+        if (lastError instanceof RuntimeException && !throwWrappedException) {
+            throw (RuntimeException) lastError;
+        } else {
+            throw new CircuitOpenException("Circuit Open: " + lastError.getMessage(), lastError);
+        }
+    }
+
     @Override
     public long nextDelay() {
         return childState.nextDelay();
@@ -113,6 +174,10 @@ class CircuitBreakerRetry implements MutableRetryState {
         if (exception == null) {
             throw new IllegalArgumentException("Exception cause cannot be null");
         }
+        if (windowSettings != null) {
+            // probe calls of a half open circuit are not retried
+            return currentState() == CircuitState.CLOSED && childState.canRetry(exception);
+        }
         try {
             return currentState() != CircuitState.OPEN && childState.canRetry(exception);
         } finally {
@@ -170,6 +235,10 @@ class CircuitBreakerRetry implements MutableRetryState {
             long now = System.currentTimeMillis();
             long timeout = time + openTimeout;
             if (now > timeout) {
+                if (windowSettings != null) {
+                    state.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN);
+                    return state.get();
+                }
                 return halfOpenCircuit();
             }
             return state.get();
@@ -178,6 +247,86 @@ class CircuitBreakerRetry implements MutableRetryState {
         }
     }
 
+    /**
+     * Records the outcome of a call in the sliding window, and opens or closes the circuit accordingly.
+     *
+     * @param exception  The exception of the call, if any
+     * @param startNanos The {@link System#nanoTime()} when the call started
+     */
+    private void record(@Nullable Throwable exception, long startNanos) {
+        SlidingWindowSettings settings = windowSettings;
+        boolean failure = exception != null && getRetryPredicate().test(exception);
+        long now = System.nanoTime();
+        long outcome = SlidingWindow.outcome(failure, settings.isSlow(now - startNanos));
+        switch (state.get()) {
+            case CLOSED -> {
+                long totals = window.record(outcome, now);
+                if (SlidingWindow.calls(totals) >= settings.minimumNumberOfCalls()) {
+                    tripIfExceeded(CircuitState.CLOSED, totals, exception);
+                }
+                resetChildState();
+            }
+            case HALF_OPEN -> {
+                long totals = probes.record(outcome, now);
+                if (SlidingWindow.calls(totals) >= settings.permittedCallsInHalfOpenState()
+                        && !tripIfExceeded(CircuitState.HALF_OPEN, totals, exception)) {
+                    this.window = settings.newWindow();
+                    if (state.compareAndSet(CircuitState.HALF_OPEN, CircuitState.CLOSED)) {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Closing Circuit Breaker [{}]", method);
+                        }
+                        this.childState = (MutableRetryState) retryStateBuilder.build();
+                        closed();
+                    }
+                }
+            }
+            default -> {
+                // the call started before the circuit opened
+            }
+        }
+    }
+
+    /**
+     * Resets the retry state of the circuit, if it has been used by a retry.
+     */
+    private void resetChildState() {
+        if (childState.currentAttempt() != 0) {
+            this.childState = (MutableRetryState) retryStateBuilder.build();
+        }
+    }
+
+    private boolean tripIfExceeded(CircuitState from, long totals, @Nullable Throwable exception) {
+        SlidingWindowSettings settings = windowSettings;
+        Throwable cause;
+        if (settings.isFailureRateExceeded(totals)) {
+            cause = exception != null ? exception : new CircuitOpenException("Failure rate threshold reached");
+        } else if (settings.isSlowCallRateExceeded(totals)) {
+            cause = new CircuitOpenException("Slow call rate threshold reached");
+        } else {
+            return false;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Failure rate {}% and slow call rate {}% of {} calls for Circuit Breaker [{}]",
+                SlidingWindow.failures(totals) * 100 / SlidingWindow.calls(totals),
+                SlidingWindow.slowCalls(totals) * 100 / SlidingWindow.calls(totals),
+                SlidingWindow.calls(totals),
+                method);
+        }
+        // the probes of the next half open state are reset before the circuit is open
+        this.lastError = cause;
+        this.time = System.currentTimeMillis();
+        this.probes = settings.newProbeWindow();
+        halfOpenPermits.set(settings.permittedCallsInHalfOpenState());
+        if (state.compareAndSet(from, CircuitState.OPEN)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Opening Circuit Breaker [{}] due to error: {}", method, cause.getMessage());
+            }
+            this.childState = (MutableRetryState) retryStateBuilder.build();
+            opened(cause);
+        }
+        return true;
+    }
+
     /**
      * Opens the circuit.
      *
@@ -196,13 +345,17 @@ class CircuitBreakerRetry implements MutableRetryState {
         try {
             return state.getAndSet(CircuitState.OPEN);
         } finally {
-            if (eventPublisher != null) {
-                try {
-                    eventPublisher.publishEvent(new CircuitOpenEvent(method, childState, cause));
-                } catch (Exception e) {
-                    if (LOG.isErrorEnabled()) {
-                        LOG.error("Error publishing CircuitOpen event: " + e.getMessage(), e);
-                    }
+            opened(cause);
+        }
+    }
+
+    private void opened(Throwable cause) {
+        if (eventPublisher != null) {
+            try {
+                eventPublisher.publishEvent(new CircuitOpenEvent(method, childState, cause));
+            } catch (Exception e) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("Error publishing CircuitOpen event: " + e.getMessage(), e);
                 }
             }
         }
@@ -224,13 +377,17 @@ class CircuitBreakerRetry implements MutableRetryState {
         try {
             return state.getAndSet(CircuitState.CLOSED);
         } finally {
-            if (eventPublisher != null) {
-                try {
-                    eventPublisher.publishEvent(new CircuitClosedEvent(method));
-                } catch (Exception e) {
-                    if (LOG.isErrorEnabled()) {
-                        LOG.error("Error publishing CircuitClosedEvent: " + e.getMessage(), e);
-                    }
+            closed();
+        }
+    }
+
+    private void closed() {
+        if (eventPublisher != null) {
+            try {
+                eventPublisher.publishEvent(new CircuitClosedEvent(method));
+            } catch (Exception e) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("Error publishing CircuitClosedEvent: " + e.getMessage(), e);
                 }
             }
         }
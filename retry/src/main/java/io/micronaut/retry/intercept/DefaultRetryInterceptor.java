@@ -20,14 +20,17 @@ import io.micronaut.aop.InterceptedMethod;
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.value.MutableConvertibleValues;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.retry.RetryState;
 import io.micronaut.retry.annotation.CircuitBreaker;
 import io.micronaut.retry.annotation.Retryable;
+import io.micronaut.retry.annotation.SlidingWindowType;
 import io.micronaut.retry.event.RetryEvent;
 import io.micronaut.scheduling.TaskExecutors;
 import jakarta.inject.Named;
@@ -40,13 +43,13 @@ import reactor.core.publisher.Flux;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -63,11 +66,16 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultRetryInterceptor.class);
     private static final int DEFAULT_CIRCUIT_BREAKER_TIMEOUT_IN_MILLIS = 20;
+    private static final int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+    private static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 10;
+    private static final int DEFAULT_RATE_THRESHOLD = 50;
+    private static final int DEFAULT_SLOW_CALL_RATE_THRESHOLD = 100;
+    private static final int DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE = 1;
 
     private final ConversionService conversionService;
     private final ApplicationEventPublisher eventPublisher;
     private final ScheduledExecutorService executorService;
-    private final Map<ExecutableMethod, CircuitBreakerRetry> circuitContexts = new ConcurrentHashMap<>();
+    private final Map<ExecutableMethod<?, ?>, RetryPlan> retryPlans = new ConcurrentHashMap<>();
 
     /**
      * Construct a default retry method interceptor with the event publisher.
@@ -92,57 +100,49 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
     @Nullable
     @Override
     public Object intercept(MethodInvocationContext<Object, Object> context) {
-        Optional<AnnotationValue<Retryable>> opt = context.findAnnotation(Retryable.class);
-        if (!opt.isPresent()) {
+        RetryPlan plan = retryPlan(context);
+        if (plan.retryable() == null) {
             return context.proceed();
         }
 
-        AnnotationValue<Retryable> retry = opt.get();
-        boolean isCircuitBreaker = context.hasStereotype(CircuitBreaker.class);
-        MutableRetryState retryState;
-        AnnotationRetryStateBuilder retryStateBuilder = new AnnotationRetryStateBuilder(
-                context
-        );
-
-        if (isCircuitBreaker) {
-            long timeout = context
-                    .getValue(CircuitBreaker.class, "reset", Duration.class)
-                    .map(Duration::toMillis).orElse(Duration.ofSeconds(DEFAULT_CIRCUIT_BREAKER_TIMEOUT_IN_MILLIS).toMillis());
-            boolean wrapException = context
-                    .getValue(CircuitBreaker.class, "throwWrappedException", Boolean.class)
-                    .orElse(false);
-            retryState = circuitContexts.computeIfAbsent(
-                    context.getExecutableMethod(),
-                    method -> new CircuitBreakerRetry(timeout, retryStateBuilder, context, eventPublisher, wrapException)
-            );
-        } else {
-            retryState = (MutableRetryState) retryStateBuilder.build();
+        long startNanos = System.nanoTime();
+        if (plan.resultType() == InterceptedMethod.ResultType.SYNCHRONOUS) {
+            // the retry state of a plain retry is only created once a call fails
+            CircuitBreakerRetry circuitBreaker = plan.circuitBreaker();
+            if (circuitBreaker != null) {
+                circuitBreaker.open();
+            }
+            Object result = retrySync(context, plan, circuitBreaker, null, startNanos);
+            if (circuitBreaker != null) {
+                circuitBreaker.close(null, startNanos);
+            }
+            return result;
         }
 
+        MutableRetryState retryState = plan.newRetryState();
         MutableConvertibleValues<Object> attrs = context.getAttributes();
-        attrs.put(RetryState.class.getName(), retry);
+        attrs.put(RetryState.class.getName(), plan.retryable());
 
         InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
         try {
             retryState.open();
             // Retry method call before we have actual Publisher/CompletionStage result
-            Object result = retrySync(context, retryState, interceptedMethod);
+            Object result = retrySync(context, plan, retryState, interceptedMethod, startNanos);
             switch (interceptedMethod.resultType()) {
                 case PUBLISHER -> {
                     Flux<Object> reactiveSequence = Flux.from((Publisher<?>) result);
                     return interceptedMethod.handleResult(
-                            reactiveSequence.onErrorResume(retryFlowable(context, retryState, reactiveSequence))
-                                    .doOnNext(o -> retryState.close(null))
+                            closeOnTermination(reactiveSequence.onErrorResume(retryFlowable(context, retryState, reactiveSequence, startNanos)), retryState, startNanos)
                     );
                 }
                 case COMPLETION_STAGE -> {
                     CompletableFuture<Object> newFuture = new CompletableFuture<>();
                     Supplier<CompletionStage<?>> retrySupplier = () -> interceptedMethod.interceptResultAsCompletionStage(this);
-                    ((CompletionStage<?>) result).whenComplete(retryCompletable(context, retryState, newFuture, retrySupplier));
+                    ((CompletionStage<?>) result).whenComplete(retryCompletable(context, retryState, newFuture, retrySupplier, startNanos));
                     return interceptedMethod.handleResult(newFuture);
                 }
                 case SYNCHRONOUS -> {
-                    retryState.close(null);
+                    retryState.close(null, startNanos);
                     return result;
                 }
                 default -> {
@@ -154,13 +154,73 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
         }
     }
 
+    private RetryPlan retryPlan(MethodInvocationContext<Object, Object> context) {
+        ExecutableMethod<Object, Object> method = context.getExecutableMethod();
+        RetryPlan plan = retryPlans.get(method);
+        if (plan == null) {
+            plan = retryPlans.computeIfAbsent(method, m -> newRetryPlan(context));
+        }
+        return plan;
+    }
+
+    private RetryPlan newRetryPlan(MethodInvocationContext<Object, Object> context) {
+        AnnotationValue<Retryable> retry = context.findAnnotation(Retryable.class).orElse(null);
+        if (retry == null) {
+            return RetryPlan.NOT_RETRYABLE;
+        }
+        AnnotationRetryStateBuilder retryStateBuilder = new AnnotationRetryStateBuilder(context);
+        CircuitBreakerRetry circuitBreaker = null;
+        if (context.hasStereotype(CircuitBreaker.class)) {
+            long timeout = context
+                    .getValue(CircuitBreaker.class, "reset", Duration.class)
+                    .map(Duration::toMillis).orElse(Duration.ofSeconds(DEFAULT_CIRCUIT_BREAKER_TIMEOUT_IN_MILLIS).toMillis());
+            boolean wrapException = context
+                    .getValue(CircuitBreaker.class, "throwWrappedException", Boolean.class)
+                    .orElse(false);
+            circuitBreaker = new CircuitBreakerRetry(timeout, retryStateBuilder, context.getExecutableMethod(), eventPublisher, wrapException, slidingWindowSettings(context));
+        }
+        return new RetryPlan(
+                retry,
+                retryStateBuilder,
+                // the result type of a suspend function depends on the arguments of the call
+                context.isSuspend() ? null : InterceptedMethod.of(context, conversionService).resultType(),
+                circuitBreaker
+        );
+    }
+
+    @Nullable
+    private SlidingWindowSettings slidingWindowSettings(AnnotationMetadata metadata) {
+        AnnotationValue<CircuitBreaker> circuitBreaker = metadata.findAnnotation(CircuitBreaker.class).orElse(null);
+        if (circuitBreaker == null) {
+            return null;
+        }
+        SlidingWindowType type = circuitBreaker.enumValue("slidingWindowType", SlidingWindowType.class).orElse(SlidingWindowType.NONE);
+        if (type == SlidingWindowType.NONE) {
+            return null;
+        }
+        return new SlidingWindowSettings(
+                type,
+                circuitBreaker.intValue("slidingWindowSize").orElse(DEFAULT_SLIDING_WINDOW_SIZE),
+                circuitBreaker.intValue("minimumNumberOfCalls").orElse(DEFAULT_MINIMUM_NUMBER_OF_CALLS),
+                circuitBreaker.intValue("failureRateThreshold").orElse(DEFAULT_RATE_THRESHOLD),
+                circuitBreaker.stringValue("slowCallDuration")
+                        .filter(StringUtils::isNotEmpty)
+                        .flatMap(duration -> conversionService.convert(duration, Duration.class))
+                        .map(Duration::toNanos)
+                        .orElse(0L),
+                circuitBreaker.intValue("slowCallRateThreshold").orElse(DEFAULT_SLOW_CALL_RATE_THRESHOLD),
+                circuitBreaker.intValue("permittedCallsInHalfOpenState").orElse(DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE)
+        );
+    }
+
     private BiConsumer<Object, ? super Throwable> retryCompletable(MethodInvocationContext<Object, Object> context,
                                                                    MutableRetryState retryState,
                                                                    CompletableFuture<Object> newFuture,
-                                                                   Supplier<CompletionStage<?>> retryResultSupplier) {
+                                                                   Supplier<CompletionStage<?>> retryResultSupplier,
+                                                                   long startNanos) {
         return (Object value, Throwable exception) -> {
             if (exception == null) {
-                retryState.close(null);
+                retryState.close(null, startNanos);
                 newFuture.complete(value);
                 return;
             }
@@ -177,24 +237,24 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Retrying execution for method [{}] after delay of {}ms for exception: {}", context, delay, exception.getMessage(), exception);
                     }
-                    retryResultSupplier.get().whenComplete(retryCompletable(context, retryState, newFuture, retryResultSupplier));
+                    retryResultSupplier.get().whenComplete(retryCompletable(context, retryState, newFuture, retryResultSupplier, startNanos));
 
                 }, delay, TimeUnit.MILLISECONDS);
             } else {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Cannot retry anymore. Rethrowing original exception for method: {}", context);
                 }
-                retryState.close(exception);
+                retryState.close(exception, startNanos);
                 newFuture.completeExceptionally(exception);
             }
         };
     }
 
     @SuppressWarnings("unchecked")
-    private <T> Function<? super Throwable, ? extends Publisher<? extends T>> retryFlowable(MethodInvocationContext<Object, Object> context, MutableRetryState retryState, Flux<Object> observable) {
+    private <T> Function<? super Throwable, ? extends Publisher<? extends T>> retryFlowable(MethodInvocationContext<Object, Object> context, MutableRetryState retryState, Flux<Object> observable, long startNanos) {
         return exception -> {
             if (retryState.canRetry(exception)) {
-                Flux retryObservable = observable.onErrorResume(retryFlowable(context, retryState, observable));
+                Flux retryObservable = observable.onErrorResume(retryFlowable(context, retryState, observable, startNanos));
                 long delay = retryState.nextDelay();
                 if (eventPublisher != null) {
                     try {
@@ -211,23 +271,66 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Cannot retry anymore. Rethrowing original exception for method: {}", context);
                 }
-                retryState.close(exception);
                 return Flux.error(exception);
             }
         };
     }
 
-    private Object retrySync(MethodInvocationContext<Object, Object> context, MutableRetryState retryState, InterceptedMethod interceptedMethod) {
+    /**
+     * Closes the retry state exactly once per subscription, when the sequence completes, fails or is cancelled. A
+     * cancelled sequence is closed as a successful call.
+     *
+     * @param sequence   The sequence, including its retries
+     * @param retryState The retry state
+     * @param startNanos The {@link System#nanoTime()} when the call started
+     * @return The sequence
+     */
+    private Flux<Object> closeOnTermination(Flux<Object> sequence, MutableRetryState retryState, long startNanos) {
+        return Flux.defer(() -> {
+            AtomicBoolean closed = new AtomicBoolean();
+            return sequence
+                    .doOnComplete(() -> {
+                        if (closed.compareAndSet(false, true)) {
+                            retryState.close(null, startNanos);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (closed.compareAndSet(false, true)) {
+                            retryState.close(e, startNanos);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (closed.compareAndSet(false, true)) {
+                            retryState.close(null, startNanos);
+                        }
+                    });
+        });
+    }
+
+    private Object retrySync(MethodInvocationContext<Object, Object> context,
+                             RetryPlan plan,
+                             @Nullable MutableRetryState retryState,
+                             @Nullable InterceptedMethod interceptedMethod,
+                             long startNanos) {
         boolean firstCall = true;
         while (true) {
             try {
                 if (firstCall) {
                     firstCall = false;
-                    return interceptedMethod.interceptResult();
+                    return interceptedMethod == null ? context.proceed() : interceptedMethod.interceptResult();
                 }
-                return interceptedMethod.interceptResult(this);
+                return interceptedMethod == null ? context.proceed(this) : interceptedMethod.interceptResult(this);
             } catch (Throwable e) {
+                if (interceptedMethod == null) {
+                    // synchronous calls only set the retry attributes once they fail
+                    context.getAttributes().put(RetryState.class.getName(), plan.retryable());
+                    if (retryState == null) {
+                        retryState = plan.newRetryState();
+                    }
+                }
                 if (!retryState.getCapturedException().isAssignableFrom(e.getClass())) {
+                    // not retried, but a circuit breaker still has to record the outcome
+                    retryState.close(e, startNanos);
                     throw e;
                 }
 
@@ -235,7 +338,7 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Cannot retry anymore. Rethrowing original exception for method: {}", context);
                     }
-                    retryState.close(e);
+                    retryState.close(e, startNanos);
                     throw e;
                 } else {
                     long delayMillis = retryState.nextDelay();
@@ -253,6 +356,7 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                         Thread.sleep(delayMillis);
                     } catch (InterruptedException e1) {
                         Thread.currentThread().interrupt();
+                        retryState.close(e, startNanos);
                         throw e;
                     }
                 }
@@ -16,6 +16,7 @@
 package io.micronaut.retry.intercept;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.retry.RetryState;
 
 /**
@@ -29,4 +30,14 @@ interface MutableRetryState extends RetryState {
      * @return Return the milli second value for the next delay
      */
     long nextDelay();
+
+    /**
+     * Closes the state of a call.
+     *
+     * @param exception  An exception if an error occurred or null if the operation completed as expected
+     * @param startNanos The {@link System#nanoTime()} when the call started
+     */
+    default void close(@Nullable Throwable exception, long startNanos) {
+        close(exception);
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.InterceptedMethod;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.retry.annotation.RateLimited;
+import io.micronaut.retry.exception.RateLimitExceededException;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MethodInterceptor} that limits the rate of calls of a method according to the {@link RateLimited}
+ * annotation. It runs within the {@link DefaultRetryInterceptor}, so every attempt of a retried call takes its own
+ * token.
+ *
+ * @since 4.0.0
+ */
+@Singleton
+public class RateLimitInterceptor implements MethodInterceptor<Object, Object> {
+
+    /**
+     * The position of the interceptor, after retries and before bulkheads, so that a call waiting for a token does
+     * not hold a permit.
+     */
+    public static final int POSITION = InterceptPhase.RETRY.getPosition() + 10;
+
+    private final ConversionService conversionService;
+    private final ScheduledExecutorService executorService;
+    private final Map<ExecutableMethod<?, ?>, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> namedBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param conversionService The conversion service
+     * @param executorService   The executor service to delay the asynchronous calls waiting for a token
+     */
+    public RateLimitInterceptor(ConversionService conversionService,
+                                @Named(TaskExecutors.SCHEDULED) ExecutorService executorService) {
+        this.conversionService = conversionService;
+        this.executorService = (ScheduledExecutorService) executorService;
+    }
+
+    @Override
+    public int getOrder() {
+        return POSITION;
+    }
+
+    @Nullable
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        TokenBucket bucket = bucket(context);
+        if (bucket == null) {
+            return context.proceed();
+        }
+        InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
+        try {
+            switch (interceptedMethod.resultType()) {
+                case PUBLISHER -> {
+                    // the token is taken on subscription, every subscription being a call
+                    return interceptedMethod.handleResult(Flux.<Object>defer(() -> {
+                        long waitNanos = bucket.take();
+                        if (waitNanos == TokenBucket.REJECTED) {
+                            return Flux.error(exceeded(context));
+                        }
+                        Flux<Object> result = Flux.defer(() -> Flux.from(interceptedMethod.interceptResultAsPublisher(this)));
+                        return waitNanos == 0 ? result : result.delaySubscription(Duration.ofNanos(waitNanos));
+                    }));
+                }
+                case COMPLETION_STAGE -> {
+                    long waitNanos = bucket.take();
+                    if (waitNanos == TokenBucket.REJECTED) {
+                        return interceptedMethod.handleResult(CompletableFuture.failedFuture(exceeded(context)));
+                    }
+                    if (waitNanos == 0) {
+                        return interceptedMethod.handleResult(interceptedMethod.interceptResultAsCompletionStage(this));
+                    }
+                    CompletableFuture<Object> newFuture = new CompletableFuture<>();
+                    executorService.schedule(() -> {
+                        try {
+                            ((CompletionStage<Object>) interceptedMethod.interceptResultAsCompletionStage(this)).whenComplete((value, exception) -> {
+                                if (exception == null) {
+                                    newFuture.complete(value);
+                                } else {
+                                    newFuture.completeExceptionally(exception);
+                                }
+                            });
+                        } catch (Throwable e) {
+                            newFuture.completeExceptionally(e);
+                        }
+                    }, waitNanos, TimeUnit.NANOSECONDS);
+                    return interceptedMethod.handleResult(newFuture);
+                }
+                case SYNCHRONOUS -> {
+                    long waitNanos = bucket.take();
+                    if (waitNanos == TokenBucket.REJECTED) {
+                        throw exceeded(context);
+                    }
+                    if (waitNanos > 0) {
+                        try {
+                            TimeUnit.NANOSECONDS.sleep(waitNanos);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw exceeded(context);
+                        }
+                    }
+                    return context.proceed();
+                }
+                default -> {
+                    return interceptedMethod.unsupported();
+                }
+            }
+        } catch (Exception e) {
+            return interceptedMethod.handleException(e);
+        }
+    }
+
+    private static RateLimitExceededException exceeded(MethodInvocationContext<Object, Object> context) {
+        return new RateLimitExceededException("Rate limit of method [" + context.getExecutableMethod() + "] exceeded");
+    }
+
+    @Nullable
+    private TokenBucket bucket(MethodInvocationContext<Object, Object> context) {
+        TokenBucket bucket = buckets.get(context.getExecutableMethod());
+        if (bucket != null) {
+            return bucket;
+        }
+        AnnotationValue<RateLimited> annotation = context.findAnnotation(RateLimited.class).orElse(null);
+        if (annotation == null) {
+            return null;
+        }
+        String name = annotation.stringValue().orElse("");
+        // a named rate limiter is also cached by method, so the name is only resolved once per method
+        return buckets.computeIfAbsent(context.getExecutableMethod(), method -> name.isEmpty()
+                ? newBucket(annotation)
+                : namedBuckets.computeIfAbsent(name, n -> newBucket(annotation)));
+    }
+
+    private TokenBucket newBucket(AnnotationValue<RateLimited> annotation) {
+        int limit = annotation.intValue("limit").orElse(1);
+        int burst = annotation.intValue("burst").orElse(0);
+        Duration period = duration(annotation, "period", Duration.ofSeconds(1));
+        Duration maxWait = duration(annotation, "maxWaitDuration", Duration.ZERO);
+        return new TokenBucket(limit, period.toNanos(), burst > 0 ? burst : limit, maxWait.toNanos());
+    }
+
+    private Duration duration(AnnotationValue<RateLimited> annotation, String member, Duration defaultValue) {
+        return annotation.stringValue(member)
+                .flatMap(value -> conversionService.convert(value, Duration.class))
+                .orElse(defaultValue);
+    }
+}
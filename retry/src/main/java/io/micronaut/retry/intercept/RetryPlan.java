@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.aop.InterceptedMethod;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.retry.RetryStateBuilder;
+import io.micronaut.retry.annotation.Retryable;
+
+/**
+ * The retry settings of a method, resolved from its annotation metadata on the first call.
+ *
+ * @param retryable         The {@link Retryable} annotation, or {@code null} if the method is not retryable
+ * @param retryStateBuilder The builder of the retry state of a call
+ * @param resultType        The result type of the method, or {@code null} if it depends on the call
+ * @param circuitBreaker    The state of the circuit, if the method is a circuit breaker
+ * @since 4.0.0
+ */
+@Internal
+record RetryPlan(
+        @Nullable AnnotationValue<Retryable> retryable,
+        @Nullable RetryStateBuilder retryStateBuilder,
+        @Nullable InterceptedMethod.ResultType resultType,
+        @Nullable CircuitBreakerRetry circuitBreaker) {
+
+    /**
+     * The plan of a method that is not retryable.
+     */
+    static final RetryPlan NOT_RETRYABLE = new RetryPlan(null, null, null, null);
+
+    /**
+     * @return A new retry state, or the circuit breaker
+     */
+    MutableRetryState newRetryState() {
+        return circuitBreaker != null ? circuitBreaker : (MutableRetryState) retryStateBuilder.build();
+    }
+}
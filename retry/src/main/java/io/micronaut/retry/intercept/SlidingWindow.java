@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free sliding window of call outcomes. The number of calls, failed calls and slow calls are packed into a
+ * single {@code long}, so that the totals returned by {@link #record(long, long)} are consistent with each other.
+ *
+ * @since 4.0.0
+ */
+@Internal
+abstract class SlidingWindow {
+
+    /**
+     * The maximum number of calls of a count based window.
+     */
+    static final int MAX_SIZE = 1_000_000;
+
+    private static final int BITS = 21;
+    private static final long MASK = (1L << BITS) - 1;
+    private static final long CALL = 1L;
+    private static final long FAILURE = 1L << BITS;
+    private static final long SLOW = 1L << (2 * BITS);
+
+    /**
+     * Records the outcome of a call.
+     *
+     * @param outcome   The outcome, see {@link #outcome(boolean, boolean)}
+     * @param nowNanos  The current {@link System#nanoTime()}
+     * @return The totals of the window, including the given outcome
+     */
+    abstract long record(long outcome, long nowNanos);
+
+    /**
+     * @param failure Whether the call failed
+     * @param slow    Whether the call was slow
+     * @return The outcome of the call
+     */
+    static long outcome(boolean failure, boolean slow) {
+        return CALL | (failure ? FAILURE : 0) | (slow ? SLOW : 0);
+    }
+
+    /**
+     * @param totals The totals of a window
+     * @return The number of calls
+     */
+    static int calls(long totals) {
+        return (int) (totals & MASK);
+    }
+
+    /**
+     * @param totals The totals of a window
+     * @return The number of failed calls
+     */
+    static int failures(long totals) {
+        return (int) ((totals >>> BITS) & MASK);
+    }
+
+    /**
+     * @param totals The totals of a window
+     * @return The number of slow calls
+     */
+    static int slowCalls(long totals) {
+        return (int) ((totals >>> (2 * BITS)) & MASK);
+    }
+
+    /**
+     * @param size The number of calls of the window
+     * @return A window of the last calls
+     */
+    static SlidingWindow countBased(int size) {
+        return new CountBased(Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+
+    /**
+     * @param seconds The number of seconds of the window
+     * @return A window of the calls of the last seconds
+     */
+    static SlidingWindow timeBased(int seconds) {
+        return new TimeBased(Math.max(1, seconds));
+    }
+
+    /**
+     * Records the last calls in a ring buffer. The totals are incremented before an outcome is stored, and
+     * decremented once it is evicted, so that they never drop below zero.
+     */
+    private static final class CountBased extends SlidingWindow {
+        private final AtomicLongArray outcomes;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicLong totals = new AtomicLong();
+
+        CountBased(int size) {
+            this.outcomes = new AtomicLongArray(size);
+        }
+
+        @Override
+        long record(long outcome, long nowNanos) {
+            long recorded = totals.addAndGet(outcome);
+            int slot = (int) (cursor.getAndIncrement() % outcomes.length());
+            long evicted = outcomes.getAndSet(slot, outcome);
+            return evicted == 0 ? recorded : totals.addAndGet(-evicted);
+        }
+    }
+
+    /**
+     * Records the calls in one bucket per second. A bucket is reused once its second has left the window, which may
+     * lose the few calls recorded concurrently with the reuse.
+     */
+    private static final class TimeBased extends SlidingWindow {
+        private static final long SECOND = 1_000_000_000L;
+
+        private final long origin = System.nanoTime();
+        private final AtomicLongArray seconds;
+        private final AtomicLongArray buckets;
+
+        TimeBased(int size) {
+            this.seconds = new AtomicLongArray(size);
+            this.buckets = new AtomicLongArray(size);
+        }
+
+        @Override
+        long record(long outcome, long nowNanos) {
+            int size = buckets.length();
+            // second 0 is the initial value of the buckets
+            long second = (nowNanos - origin) / SECOND + 1;
+            int bucket = (int) (second % size);
+            long bucketSecond = seconds.get(bucket);
+            if (bucketSecond < second && seconds.compareAndSet(bucket, bucketSecond, second)) {
+                buckets.set(bucket, 0);
+            }
+            buckets.addAndGet(bucket, outcome);
+
+            long calls = 0;
+            long failures = 0;
+            long slowCalls = 0;
+            for (int i = 0; i < size; i++) {
+                if (seconds.get(i) > second - size) {
+                    long totals = buckets.get(i);
+                    calls += calls(totals);
+                    failures += failures(totals);
+                    slowCalls += slowCalls(totals);
+                }
+            }
+            if (calls > MASK) {
+                // scale down, preserving the rates
+                failures = failures * MASK / calls;
+                slowCalls = slowCalls * MASK / calls;
+                calls = MASK;
+            }
+            return calls | (failures << BITS) | (slowCalls << (2 * BITS));
+        }
+    }
+}
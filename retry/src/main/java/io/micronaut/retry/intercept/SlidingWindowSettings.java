@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.retry.annotation.SlidingWindowType;
+
+/**
+ * The sliding window settings of a {@link io.micronaut.retry.annotation.CircuitBreaker}.
+ *
+ * @param type                          The type of window
+ * @param size                          The number of calls or seconds of the window
+ * @param minimumNumberOfCalls          The number of calls to record before the rates are evaluated
+ * @param failureRateThreshold          The failure rate, in percent, from which the circuit opens
+ * @param slowCallDurationNanos         The duration from which a call is slow, or 0 if no call is slow
+ * @param slowCallRateThreshold         The slow call rate, in percent, from which the circuit opens
+ * @param permittedCallsInHalfOpenState The number of calls permitted to probe a half open circuit
+ * @since 4.0.0
+ */
+@Internal
+record SlidingWindowSettings(
+        SlidingWindowType type,
+        int size,
+        int minimumNumberOfCalls,
+        int failureRateThreshold,
+        long slowCallDurationNanos,
+        int slowCallRateThreshold,
+        int permittedCallsInHalfOpenState) {
+
+    /**
+     * @return A new window of the configured type
+     */
+    SlidingWindow newWindow() {
+        return type == SlidingWindowType.TIME_BASED ? SlidingWindow.timeBased(size) : SlidingWindow.countBased(size);
+    }
+
+    /**
+     * @return A new window recording the outcome of the probe calls of a half open circuit
+     */
+    SlidingWindow newProbeWindow() {
+        return SlidingWindow.countBased(permittedCallsInHalfOpenState);
+    }
+
+    /**
+     * @param durationNanos The duration of a call
+     * @return Whether the call was slow
+     */
+    boolean isSlow(long durationNanos) {
+        return slowCallDurationNanos > 0 && durationNanos >= slowCallDurationNanos;
+    }
+
+    /**
+     * @param totals The totals of a window
+     * @return Whether the failure rate of the window reaches the threshold
+     */
+    boolean isFailureRateExceeded(long totals) {
+        return SlidingWindow.failures(totals) * 100L >= (long) failureRateThreshold * SlidingWindow.calls(totals);
+    }
+
+    /**
+     * @param totals The totals of a window
+     * @return Whether the slow call rate of the window reaches the threshold
+     */
+    boolean isSlowCallRateExceeded(long totals) {
+        return slowCallDurationNanos > 0
+                && SlidingWindow.slowCalls(totals) * 100L >= (long) slowCallRateThreshold * SlidingWindow.calls(totals);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The token bucket of a {@link io.micronaut.retry.annotation.RateLimited} method, implemented as a generic cell rate
+ * algorithm. Instead of a token count refilled over time, the bucket stores the time at which it would be full again,
+ * so taking a token is a single compare and set, and no refill task is needed.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class TokenBucket {
+
+    /**
+     * The result of {@link #take()} when no token is available in time.
+     */
+    static final long REJECTED = -1;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long maxWaitNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param limit        The number of tokens per period
+     * @param periodNanos  The period
+     * @param burst        The capacity of the bucket
+     * @param maxWaitNanos The maximum time to wait for a token
+     */
+    TokenBucket(int limit, long periodNanos, int burst, long maxWaitNanos) {
+        this.intervalNanos = Math.max(1, periodNanos / Math.max(1, limit));
+        this.burstNanos = (Math.max(1, burst) - 1) * intervalNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Takes a token.
+     *
+     * @return The time to wait for the token in nanoseconds, or {@link #REJECTED} if it would exceed the maximum wait
+     */
+    long take() {
+        long now = System.nanoTime();
+        while (true) {
+            long current = fullAt.get();
+            long start = current - now > 0 ? current : now;
+            long wait = start - now - burstNanos;
+            if (wait > maxWaitNanos) {
+                return REJECTED;
+            }
+            if (fullAt.compareAndSet(current, start + intervalNanos)) {
+                return Math.max(wait, 0);
+            }
+        }
+    }
+}
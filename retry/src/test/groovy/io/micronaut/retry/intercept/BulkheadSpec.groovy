@@ -0,0 +1,220 @@
+package io.micronaut.retry.intercept
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.retry.annotation.Bulkhead
+import io.micronaut.retry.annotation.Fallback
+import io.micronaut.retry.annotation.Recoverable
+import io.micronaut.retry.exception.BulkheadFullException
+import jakarta.inject.Singleton
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import reactor.core.publisher.Sinks
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class BulkheadSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run()
+
+    void "test synchronous calls beyond the limit are rejected"() {
+        given:
+        BusyService busyService = context.getBean(BusyService)
+        CountDownLatch release = new CountDownLatch(1)
+        CountDownLatch started = new CountDownLatch(2)
+
+        when:
+        List<Thread> threads = (1..2).collect { Thread.start { busyService.sync(started, release) } }
+        started.await(5, TimeUnit.SECONDS)
+        busyService.sync(new CountDownLatch(1), release)
+
+        then:
+        thrown(BulkheadFullException)
+
+        when:
+        release.countDown()
+        threads*.join()
+
+        then:
+        busyService.sync(new CountDownLatch(1), release) == 2
+    }
+
+    void "test asynchronous calls wait for a permit without blocking the caller"() {
+        given:
+        BusyService busyService = context.getBean(BusyService)
+        List<CompletableFuture<Integer>> pending = (1..3).collect { new CompletableFuture<Integer>() }
+        busyService.calls.set(0)
+
+        when:
+        List<CompletableFuture<Integer>> results = pending.collect { busyService.async(it) }
+
+        then:
+        busyService.calls.get() == 2
+        results.every { !it.done }
+
+        when:
+        pending[0].complete(1)
+
+        then:
+        results[0].get() == 1
+        busyService.calls.get() == 3
+
+        when:
+        pending[1].complete(2)
+        pending[2].complete(3)
+
+        then:
+        results*.get() == [1, 2, 3]
+    }
+
+    void "test asynchronous calls are rejected once they have waited for the maximum duration"() {
+        given:
+        BusyService busyService = context.getBean(BusyService)
+        CompletableFuture<Integer> blocked = new CompletableFuture<>()
+
+        when:
+        CompletableFuture<Integer> first = busyService.waiting(blocked)
+        busyService.waiting(CompletableFuture.completedFuture(2)).get()
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof BulkheadFullException
+
+        when:
+        blocked.complete(1)
+
+        then:
+        first.get() == 1
+        busyService.waiting(CompletableFuture.completedFuture(2)).get() == 2
+    }
+
+    void "test a publisher holds its permit until it completes"() {
+        given:
+        BusyService busyService = context.getBean(BusyService)
+        Sinks.One<Integer> sink = Sinks.one()
+
+        when:
+        Flux<Integer> first = Flux.from(busyService.publisher(sink.asMono()))
+        Integer[] emitted = [null]
+        first.subscribe { emitted[0] = it }
+        Mono.from(busyService.publisher(Mono.just(2))).block()
+
+        then:
+        thrown(BulkheadFullException)
+
+        when:
+        sink.tryEmitValue(1)
+
+        then:
+        emitted[0] == 1
+        Mono.from(busyService.publisher(Mono.just(2))).block() == 2
+    }
+
+    void "test methods of a named bulkhead share their permits"() {
+        given:
+        BusyService busyService = context.getBean(BusyService)
+        CompletableFuture<Integer> blocked = new CompletableFuture<>()
+
+        when:
+        busyService.shared(blocked)
+        busyService.alsoShared(CompletableFuture.completedFuture(2)).get()
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof BulkheadFullException
+
+        cleanup:
+        blocked.complete(1)
+    }
+
+    void "test a full bulkhead falls back"() {
+        given:
+        Greeter greeter = context.getBean(Greeter)
+        CountDownLatch release = new CountDownLatch(1)
+        CountDownLatch started = new CountDownLatch(1)
+
+        when:
+        Thread thread = Thread.start { greeter.greet(started, release) }
+        started.await(5, TimeUnit.SECONDS)
+
+        then:
+        greeter.greet(new CountDownLatch(1), release) == 'busy'
+
+        cleanup:
+        release.countDown()
+        thread.join()
+    }
+
+    @Singleton
+    static class BusyService {
+        AtomicInteger calls = new AtomicInteger()
+
+        @Bulkhead(maxConcurrentCalls = 2)
+        int sync(CountDownLatch started, CountDownLatch release) {
+            started.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            return 2
+        }
+
+        @Bulkhead(maxConcurrentCalls = 2, maxWaitDuration = '5s')
+        CompletableFuture<Integer> async(CompletableFuture<Integer> result) {
+            calls.incrementAndGet()
+            return result
+        }
+
+        @Bulkhead(maxConcurrentCalls = 1, maxWaitDuration = '10ms')
+        CompletableFuture<Integer> waiting(CompletableFuture<Integer> result) {
+            return result
+        }
+
+        @Bulkhead(maxConcurrentCalls = 1)
+        Flux<Integer> publisher(Mono<Integer> result) {
+            return Flux.from(result)
+        }
+
+        @Bulkhead(value = 'shared', maxConcurrentCalls = 1)
+        CompletableFuture<Integer> shared(CompletableFuture<Integer> result) {
+            return result
+        }
+
+        @Bulkhead(value = 'shared', maxConcurrentCalls = 1)
+        CompletableFuture<Integer> alsoShared(CompletableFuture<Integer> result) {
+            return result
+        }
+    }
+
+    static interface Greeter {
+        String greet(CountDownLatch started, CountDownLatch release)
+    }
+
+    @Singleton
+    @Recoverable
+    static class BusyGreeter implements Greeter {
+
+        @Bulkhead(maxConcurrentCalls = 1)
+        @Override
+        String greet(CountDownLatch started, CountDownLatch release) {
+            started.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            return 'hello'
+        }
+    }
+
+    @Fallback
+    @Singleton
+    static class GreeterFallback implements Greeter {
+
+        @Override
+        String greet(CountDownLatch started, CountDownLatch release) {
+            return 'busy'
+        }
+    }
+}
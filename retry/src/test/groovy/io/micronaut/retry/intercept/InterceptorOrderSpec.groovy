@@ -44,4 +44,18 @@ class InterceptorOrderSpec extends Specification {
         interceptors[0] instanceof RecoveryInterceptor
         interceptors[1] instanceof DefaultRetryInterceptor
     }
+
+    void "test bulkheads and rate limiters run within retries"() {
+        given:
+        List interceptors = [
+                new BulkheadInterceptor(ConversionService.SHARED, null),
+                new RateLimitInterceptor(ConversionService.SHARED, null),
+                new DefaultRetryInterceptor(ConversionService.SHARED, null, null),
+                new RecoveryInterceptor()
+        ]
+        OrderUtil.sort(interceptors)
+
+        expect:
+        interceptors*.class == [RecoveryInterceptor, DefaultRetryInterceptor, RateLimitInterceptor, BulkheadInterceptor]
+    }
 }
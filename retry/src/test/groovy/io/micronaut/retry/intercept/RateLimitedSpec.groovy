@@ -0,0 +1,183 @@
+package io.micronaut.retry.intercept
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.retry.annotation.Fallback
+import io.micronaut.retry.annotation.RateLimited
+import io.micronaut.retry.annotation.Recoverable
+import io.micronaut.retry.exception.RateLimitExceededException
+import jakarta.inject.Singleton
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.atomic.AtomicInteger
+
+class RateLimitedSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run()
+
+    void "test calls beyond the burst are rejected"() {
+        given:
+        LimitedService limitedService = context.getBean(LimitedService)
+
+        expect:
+        (1..3).collect { limitedService.sync() } == [1, 2, 3]
+
+        when:
+        limitedService.sync()
+
+        then:
+        thrown(RateLimitExceededException)
+        limitedService.calls.get() == 3
+    }
+
+    void "test a synchronous call waits for a token up to the maximum duration"() {
+        given:
+        LimitedService limitedService = context.getBean(LimitedService)
+
+        when:
+        limitedService.waiting()
+        long start = System.nanoTime()
+        limitedService.waiting()
+        long waited = System.nanoTime() - start
+
+        then:
+        waited >= 40_000_000
+    }
+
+    void "test an asynchronous call is delayed without blocking the caller"() {
+        given:
+        LimitedService limitedService = context.getBean(LimitedService)
+
+        when:
+        CompletableFuture<Integer> first = limitedService.async(1)
+        CompletableFuture<Integer> second = limitedService.async(2)
+
+        then:
+        first.get() == 1
+        !second.done
+        second.get() == 2
+
+        when:
+        limitedService.async(3)
+        limitedService.async(4).get()
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof RateLimitExceededException
+    }
+
+    void "test every subscription to a publisher takes a token"() {
+        given:
+        LimitedService limitedService = context.getBean(LimitedService)
+        Flux<Integer> publisher = Flux.from(limitedService.publisher())
+
+        expect:
+        publisher.blockLast() == 1
+
+        when:
+        publisher.blockLast()
+
+        then:
+        thrown(RateLimitExceededException)
+    }
+
+    void "test methods of a named rate limiter share their tokens"() {
+        given:
+        LimitedService limitedService = context.getBean(LimitedService)
+
+        when:
+        limitedService.shared()
+        limitedService.alsoShared()
+
+        then:
+        thrown(RateLimitExceededException)
+    }
+
+    void "test an exceeded rate limit falls back"() {
+        given:
+        Greeter greeter = context.getBean(Greeter)
+
+        expect:
+        greeter.greet() == 'hello'
+        greeter.greet() == 'later'
+        Mono.from(greeter.greetLater()).block() == 'hello'
+        Mono.from(greeter.greetLater()).block() == 'later'
+    }
+
+    @Singleton
+    static class LimitedService {
+        AtomicInteger calls = new AtomicInteger()
+
+        @RateLimited(limit = 3, period = '1h')
+        int sync() {
+            return calls.incrementAndGet()
+        }
+
+        @RateLimited(limit = 20, burst = 1, maxWaitDuration = '60ms')
+        void waiting() {
+        }
+
+        @RateLimited(limit = 20, burst = 1, maxWaitDuration = '60ms')
+        CompletableFuture<Integer> async(int value) {
+            return CompletableFuture.completedFuture(value)
+        }
+
+        @RateLimited(limit = 1, period = '1h')
+        Flux<Integer> publisher() {
+            return Flux.just(1)
+        }
+
+        @RateLimited(value = 'shared', limit = 1, period = '1h')
+        void shared() {
+        }
+
+        @RateLimited(value = 'shared', limit = 1, period = '1h')
+        void alsoShared() {
+        }
+    }
+
+    static interface Greeter {
+        String greet()
+
+        Mono<String> greetLater()
+    }
+
+    @Singleton
+    @Recoverable
+    static class LimitedGreeter implements Greeter {
+
+        @RateLimited(limit = 1, period = '1h')
+        @Override
+        String greet() {
+            return 'hello'
+        }
+
+        @RateLimited(limit = 1, period = '1h')
+        @Override
+        Mono<String> greetLater() {
+            return Mono.just('hello')
+        }
+    }
+
+    @Fallback
+    @Singleton
+    static class GreeterFallback implements Greeter {
+
+        @Override
+        String greet() {
+            return 'later'
+        }
+
+        @Override
+        Mono<String> greetLater() {
+            return Mono.just('later')
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.micronaut.retry.intercept
+
+import io.micronaut.aop.InterceptedMethod
+import io.micronaut.context.ApplicationContext
+import io.micronaut.retry.annotation.CircuitBreaker
+import io.micronaut.retry.annotation.Retryable
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicInteger
+
+class RetryPlanSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run()
+
+    void "test the retry plan of a method is resolved on the first call"() {
+        given:
+        DefaultRetryInterceptor interceptor = context.getBean(DefaultRetryInterceptor)
+        FlakyService flakyService = context.getBean(FlakyService)
+
+        when:
+        flakyService.sync(0)
+        Map<Object, RetryPlan> plans = new HashMap<>(interceptor.retryPlans)
+        flakyService.sync(0)
+
+        then:
+        plans.size() == 1
+        interceptor.retryPlans.size() == 1
+        interceptor.retryPlans.values().first().is(plans.values().first())
+
+        when:
+        flakyService.circuit()
+        flakyService.async(0).get()
+        Collection<RetryPlan> resolved = interceptor.retryPlans.values()
+
+        then:
+        resolved.size() == 3
+        resolved*.resultType() as Set == [InterceptedMethod.ResultType.SYNCHRONOUS, InterceptedMethod.ResultType.COMPLETION_STAGE] as Set
+        resolved.count { it.circuitBreaker() != null } == 1
+    }
+
+    void "test every synchronous call gets its own retry attempts"() {
+        given:
+        FlakyService flakyService = context.getBean(FlakyService)
+
+        expect:
+        flakyService.sync(2) == 3
+        flakyService.sync(2) == 3
+
+        when:
+        flakyService.sync(3)
+
+        then:
+        thrown(IllegalStateException)
+        flakyService.calls.get() == 3
+    }
+
+    void "test asynchronous calls are retried"() {
+        given:
+        FlakyService flakyService = context.getBean(FlakyService)
+        flakyService.calls.set(0)
+
+        expect:
+        flakyService.async(2).get() == 3
+    }
+
+    @Singleton
+    static class FlakyService {
+
+        @Retryable(attempts = '2', delay = '1ms')
+        int sync(int failures) {
+            return attempt(failures)
+        }
+
+        @Retryable(attempts = '2', delay = '1ms')
+        CompletableFuture<Integer> async(int failures) {
+            return CompletableFuture.supplyAsync { attempt(failures) }
+        }
+
+        @CircuitBreaker
+        void circuit() {
+        }
+
+        final AtomicInteger calls = new AtomicInteger()
+
+        private int attempt(int failures) {
+            int call = calls.incrementAndGet()
+            if (call <= failures) {
+                throw new IllegalStateException("Bad attempt " + call)
+            }
+            calls.set(0)
+            return call
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package io.micronaut.retry.intercept
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.ExecutableMethod
+import io.micronaut.retry.CircuitState
+import io.micronaut.retry.annotation.CircuitBreaker
+import io.micronaut.retry.annotation.SlidingWindowType
+import io.micronaut.retry.exception.CircuitOpenException
+import jakarta.inject.Singleton
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+
+class SlidingWindowCircuitBreakerSpec extends Specification {
+
+    void "test the circuit opens once the failure rate reaches the threshold"() {
+        given:
+        CircuitBreakerRetry retry = circuitBreaker(new SlidingWindowSettings(SlidingWindowType.COUNT_BASED, 10, 5, 50, 0, 100, 2))
+
+        when:
+        20.times { call(retry, null) }
+        4.times { call(retry, new RuntimeException("bad")) }
+
+        then: "4 failures out of the last 10 calls"
+        retry.currentState() == CircuitState.CLOSED
+
+        when:
+        call(retry, new RuntimeException("worse"))
+
+        then:
+        retry.currentState() == CircuitState.OPEN
+
+        when:
+        retry.open()
+
+        then:
+        def e = thrown(RuntimeException)
+        e.message == "worse"
+    }
+
+    void "test the minimum number of calls"() {
+        given:
+        CircuitBreakerRetry retry = circuitBreaker(new SlidingWindowSettings(SlidingWindowType.COUNT_BASED, 10, 5, 50, 0, 100, 1))
+
+        when:
+        4.times { call(retry, new RuntimeException("bad")) }
+
+        then:
+        retry.currentState() == CircuitState.CLOSED
+
+        when:
+        call(retry, new RuntimeException("bad"))
+
+        then:
+        retry.currentState() == CircuitState.OPEN
+    }
+
+    void "test the half open circuit permits a limited number of probes"() {
+        given:
+        CircuitBreakerRetry retry = circuitBreaker(new SlidingWindowSettings(SlidingWindowType.COUNT_BASED, 10, 1, 50, 0, 100, 2))
+        call(retry, new RuntimeException("bad"))
+        PollingConditions conditions = new PollingConditions(timeout: 3)
+
+        expect:
+        conditions.eventually {
+            assert retry.currentState() == CircuitState.HALF_OPEN
+        }
+
+        when:
+        retry.open()
+        retry.open()
+        retry.open()
+
+        then: "the third call is rejected"
+        def e = thrown(RuntimeException)
+        e.message == "bad"
+
+        when:
+        retry.close(null)
+
+        then:
+        retry.currentState() == CircuitState.HALF_OPEN
+        !retry.canRetry(new RuntimeException("probes are not retried"))
+
+        when:
+        retry.close(new RuntimeException("still bad"))
+
+        then: "one of the two probes failed"
+        retry.currentState() == CircuitState.OPEN
+        conditions.eventually {
+            assert retry.currentState() == CircuitState.HALF_OPEN
+        }
+
+        when:
+        2.times { call(retry, null) }
+
+        then:
+        retry.currentState() == CircuitState.CLOSED
+    }
+
+    void "test the circuit opens once the slow call rate reaches the threshold"() {
+        given:
+        CircuitBreakerRetry retry = circuitBreaker(new SlidingWindowSettings(SlidingWindowType.TIME_BASED, 10, 4, 50, Duration.ofMillis(100).toNanos(), 50, 1))
+        long slowStart = System.nanoTime() - Duration.ofSeconds(1).toNanos()
+
+        when:
+        2.times { call(retry, null) }
+        retry.open()
+        retry.close(null, slowStart)
+
+        then:
+        retry.currentState() == CircuitState.CLOSED
+
+        when:
+        retry.open()
+        retry.close(null, slowStart)
+        retry.open()
+
+        then:
+        thrown(CircuitOpenException)
+        retry.currentState() == CircuitState.OPEN
+    }
+
+    void "test isolated errors do not open a sliding window circuit"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        FlakyService flakyService = context.getBean(FlakyService)
+
+        when: "one call out of five fails"
+        int failures = (0..<20).count { !succeeds(flakyService, it % 5 == 0) }
+
+        then:
+        failures == 4
+        flakyService.calls == 20
+
+        when: "half of the last 10 calls fail"
+        4.times { succeeds(flakyService, true) }
+        flakyService.call(false)
+
+        then: "the circuit is open"
+        thrown(IllegalStateException)
+        flakyService.calls == 24
+
+        cleanup:
+        context.close()
+    }
+
+    void "test an empty publisher is recorded as a successful call"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        ReactiveService service = context.getBean(ReactiveService)
+
+        when: "2 out of 5 calls fail"
+        3.times { service.empty(false).block() }
+        2.times { succeeds { service.empty(true).block() } }
+
+        then:
+        circuit(context, 'empty').currentState() == CircuitState.CLOSED
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a publisher of several items is recorded as a single call"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        ReactiveService service = context.getBean(ReactiveService)
+
+        when: "1 out of 2 calls fails"
+        List<Integer> items = service.many(false).collectList().block()
+        succeeds { service.many(true).collectList().block() }
+
+        then:
+        items == [1, 2, 3, 4]
+        circuit(context, 'many').currentState() == CircuitState.OPEN
+        !succeeds { service.many(false).collectList().block() }
+        service.manyCalls == 2
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a cancelled publisher is recorded as a successful call"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        ReactiveService service = context.getBean(ReactiveService)
+
+        when: "2 out of 5 calls fail"
+        3.times { service.cancelled(false).subscribe().dispose() }
+        2.times { succeeds { service.cancelled(true).blockFirst() } }
+
+        then:
+        circuit(context, 'cancelled').currentState() == CircuitState.CLOSED
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the probe of a half open circuit is recorded when a publisher completes"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        ReactiveService service = context.getBean(ReactiveService)
+        PollingConditions conditions = new PollingConditions(timeout: 3)
+
+        when:
+        2.times { succeeds { service.probe(true).block() } }
+        CircuitBreakerRetry retry = circuit(context, 'probe')
+
+        then:
+        retry.currentState() == CircuitState.OPEN
+        conditions.eventually {
+            assert retry.currentState() == CircuitState.HALF_OPEN
+        }
+
+        when: "the probe completes without an item"
+        service.probe(false).block()
+
+        then:
+        retry.currentState() == CircuitState.CLOSED
+        succeeds { service.probe(false).block() }
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a probe that fails with an exception that is not captured is recorded"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        ProbeService service = context.getBean(ProbeService)
+        PollingConditions conditions = new PollingConditions(timeout: 3)
+
+        when:
+        2.times { succeeds { service.check(new IllegalStateException("Bad call")) } }
+        CircuitBreakerRetry retry = circuit(context, 'check')
+
+        then:
+        retry.currentState() == CircuitState.OPEN
+        conditions.eventually {
+            assert retry.currentState() == CircuitState.HALF_OPEN
+        }
+
+        when: "the probe fails with a checked exception"
+        service.check(new IOException("Bad probe"))
+
+        then: "the probe is recorded instead of holding the only permit"
+        thrown(IOException)
+        retry.currentState() == CircuitState.OPEN
+        conditions.eventually {
+            assert retry.currentState() == CircuitState.HALF_OPEN
+        }
+
+        when:
+        service.check(null)
+
+        then:
+        retry.currentState() == CircuitState.CLOSED
+        service.calls == 4
+
+        cleanup:
+        context.close()
+    }
+
+    private static CircuitBreakerRetry circuit(ApplicationContext context, String methodName) {
+        Map<ExecutableMethod<?, ?>, RetryPlan> plans = context.getBean(DefaultRetryInterceptor).retryPlans
+        plans.find { it.key.methodName == methodName }.value.circuitBreaker()
+    }
+
+    private static boolean succeeds(Closure<?> call) {
+        try {
+            call.call()
+            return true
+        } catch (IllegalStateException ignored) {
+            return false
+        }
+    }
+
+    private static CircuitBreakerRetry circuitBreaker(SlidingWindowSettings settings) {
+        new CircuitBreakerRetry(200, { -> new SimpleRetry(3, 2.0d, Duration.ofMillis(1)) }, null, null, false, settings)
+    }
+
+    private static boolean succeeds(FlakyService flakyService, boolean fail) {
+        try {
+            flakyService.call(fail)
+            return true
+        } catch (IllegalStateException ignored) {
+            return false
+        }
+    }
+
+    private static void call(CircuitBreakerRetry retry, Throwable exception) {
+        retry.open()
+        retry.close(exception)
+    }
+
+    @Singleton
+    static class FlakyService {
+        int calls
+
+        @CircuitBreaker(attempts = '0', slidingWindowType = SlidingWindowType.COUNT_BASED, slidingWindowSize = 10, minimumNumberOfCalls = 5)
+        void call(boolean fail) {
+            calls++
+            if (fail) {
+                throw new IllegalStateException("Bad call")
+            }
+        }
+    }
+
+    @Singleton
+    static class ProbeService {
+        int calls
+
+        @CircuitBreaker(attempts = '0', reset = '200ms', slidingWindowType = SlidingWindowType.COUNT_BASED, slidingWindowSize = 10, minimumNumberOfCalls = 2)
+        void check(Throwable failure) throws Throwable {
+            calls++
+            if (failure != null) {
+                throw failure
+            }
+        }
+    }
+
+    @Singleton
+    static class ReactiveService {
+        int manyCalls
+
+        @CircuitBreaker(attempts = '0', slidingWindowType = SlidingWindowType.COUNT_BASED, slidingWindowSize = 10, minimumNumberOfCalls = 2)
+        Mono<Integer> empty(boolean fail) {
+            fail ? Mono.error(new IllegalStateException("Bad call")) : Mono.empty()
+        }
+
+        @CircuitBreaker(attempts = '0', slidingWindowType = SlidingWindowType.COUNT_BASED, slidingWindowSize = 10, minimumNumberOfCalls = 2)
+        Flux<Integer> many(boolean fail) {
+            manyCalls++
+            fail ? Flux.error(new IllegalStateException("Bad call")) : Flux.just(1, 2, 3, 4)
+        }
+
+        @CircuitBreaker(attempts = '0', slidingWindowType = SlidingWindowType.COUNT_BASED, slidingWindowSize = 10, minimumNumberOfCalls = 2)
+        Flux<Integer> cancelled(boolean fail) {
+            fail ? Flux.error(new IllegalStateException("Bad call")) : Flux.never()
+        }
+
+        @CircuitBreaker(attempts = '0', reset = '200ms', slidingWindowType = SlidingWindowType.COUNT_BASED, slidingWindowSize = 10, minimumNumberOfCalls = 2)
+        Mono<Integer> probe(boolean fail) {
+            fail ? Mono.error(new IllegalStateException("Bad call")) : Mono.empty()
+        }
+    }
+}
@@ -40,10 +40,12 @@ import jakarta.inject.Singleton;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -55,8 +57,8 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
- * <p>The default {@link Router} implementation. This implementation does not perform any additional caching of
- * route discovery.</p>
+ * <p>The default {@link Router} implementation. Route discovery is only cached if enabled with the
+ * {@link RouteCacheConfiguration}.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -65,11 +67,16 @@ import java.util.stream.Stream;
 public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatch<?>> {
 
     private final Map<String, List<UriRoute>> routesByMethod = new HashMap<>();
+    private final Map<String, UriRouteIndex> routeIndexByMethod = new HashMap<>();
     private final List<StatusRoute> statusRoutes = new ArrayList<>();
     private final List<ErrorRoute> errorRoutes = new ArrayList<>();
     private final Set<Integer> exposedPorts;
     private final List<FilterRoute> alwaysMatchesFilterRoutes = new ArrayList<>();
     private final List<FilterRoute> preconditionFilterRoutes = new ArrayList<>();
+    // routes are compared by identity, the map is replaced when a plan is added
+    private volatile Map<UriRoute, RouteFilterPlan> routeFilterPlans = Collections.emptyMap();
+    @Nullable
+    private final RouteMatchCache routeMatchCache;
     private final Supplier<List<HttpFilter>> alwaysMatchesHttpFilters = SupplierUtil.memoized(() -> {
         if (alwaysMatchesFilterRoutes.isEmpty()) {
             return Collections.emptyList();
@@ -96,8 +103,24 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
      *
      * @param builders The builders
      */
-    @Inject
     public DefaultRouter(Collection<RouteBuilder> builders) {
+        this(builders, null);
+    }
+
+    /**
+     * Construct a new router for the given route builders.
+     *
+     * @param builders                The builders
+     * @param routeCacheConfiguration The route cache configuration
+     * @since 4.0.0
+     */
+    @Inject
+    public DefaultRouter(Collection<RouteBuilder> builders, @Nullable RouteCacheConfiguration routeCacheConfiguration) {
+        if (routeCacheConfiguration != null && routeCacheConfiguration.isEnabled() && routeCacheConfiguration.getMaxSize() > 0) {
+            this.routeMatchCache = new RouteMatchCache(routeCacheConfiguration.getMaxSize());
+        } else {
+            this.routeMatchCache = null;
+        }
         Set<Integer> exposedPorts = new HashSet<>(5);
         List<FilterRoute> filterRoutes = new ArrayList<>();
         for (RouteBuilder builder : builders) {
@@ -132,6 +155,7 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         }
 
         routesByMethod.values().forEach(this::finalizeRoutes);
+        routesByMethod.forEach((method, routes) -> routeIndexByMethod.put(method, new UriRouteIndex(routes)));
         for (FilterRoute filterRoute : filterRoutes) {
             if (isMatchesAll(filterRoute)) {
                 alwaysMatchesFilterRoutes.add(filterRoute);
@@ -174,6 +198,25 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
                 }
             }
         }
+        if (routeMatchCache != null) {
+            routeMatchCache.clear();
+        }
+    }
+
+    /**
+     * @return The number of {@link #findAllClosest(HttpRequest)} calls answered by the route cache
+     * @since 4.0.0
+     */
+    public long getRouteCacheHits() {
+        return routeMatchCache != null ? routeMatchCache.getHits() : 0;
+    }
+
+    /**
+     * @return The number of {@link #findAllClosest(HttpRequest)} calls not answered by the route cache
+     * @since 4.0.0
+     */
+    public long getRouteCacheMisses() {
+        return routeMatchCache != null ? routeMatchCache.getMisses() : 0;
     }
 
     @NonNull
@@ -209,11 +252,42 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         final MediaType contentType = request.getContentType().orElse(null);
         boolean permitsBody = HttpMethod.permitsRequestBody(httpMethod);
         final Collection<MediaType> acceptedProducedTypes = request.accept();
-        List<UriRouteMatch<T, R>> uriRoutes = this.find(
-                request.getMethodName(),
-                request.getPath(),
-                routeMatch -> routeMatch.test(request) && (!permitsBody || routeMatch.doesConsume(contentType)) && routeMatch.doesProduce(acceptedProducedTypes)
-        );
+        Predicate<UriRouteMatch> predicate = routeMatch -> routeMatch.test(request) && (!permitsBody || routeMatch.doesConsume(contentType)) && routeMatch.doesProduce(acceptedProducedTypes);
+        if (routeMatchCache == null) {
+            return findClosest(this.find(request.getMethodName(), request.getPath(), predicate), contentType, permitsBody, acceptedProducedTypes);
+        }
+        RouteMatchCache.Key key = new RouteMatchCache.Key(request.getMethodName(), request.getPath(), contentType, acceptedProducedTypes);
+        List<UriRouteMatch<?, ?>> cached = routeMatchCache.get(key);
+        if (cached != null) {
+            return (List) cached;
+        }
+        List<UriRouteMatch<T, R>> pathMatches = this.find(request.getMethodName(), request.getPath(), null);
+        // the result only depends on the key if no matching route has variables or conditions
+        boolean cacheable = !pathMatches.isEmpty();
+        List<UriRouteMatch<T, R>> uriRoutes = new ArrayList<>(pathMatches.size());
+        for (UriRouteMatch<T, R> match : pathMatches) {
+            cacheable &= isCacheable(match);
+            if (predicate.test(match)) {
+                uriRoutes.add(match);
+            }
+        }
+        uriRoutes = findClosest(uriRoutes, contentType, permitsBody, acceptedProducedTypes);
+        if (cacheable) {
+            routeMatchCache.put(key, new ArrayList<>(uriRoutes));
+        }
+        return uriRoutes;
+    }
+
+    private boolean isCacheable(UriRouteMatch<?, ?> match) {
+        return match instanceof AbstractRouteMatch
+                && ((AbstractRouteMatch<?, ?>) match).abstractRoute.conditions.isEmpty()
+                && match.getRoute().getUriMatchTemplate().getVariableNames().isEmpty();
+    }
+
+    private <T, R> List<UriRouteMatch<T, R>> findClosest(List<UriRouteMatch<T, R>> uriRoutes,
+                                                         @Nullable MediaType contentType,
+                                                         boolean permitsBody,
+                                                         Collection<MediaType> acceptedProducedTypes) {
         int routeCount = uriRoutes.size();
         if (routeCount <= 1) {
             return uriRoutes;
@@ -284,9 +358,14 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
     @NonNull
     @Override
     public <T, R> Optional<UriRouteMatch<T, R>> route(@NonNull HttpMethod httpMethod, @NonNull CharSequence uri) {
-        List<UriRoute> routes = routesByMethod.getOrDefault(httpMethod.name(), Collections.emptyList());
-        for (UriRoute uriRoute : routes) {
-            Optional<UriRouteMatch> match = uriRoute.match(uri.toString());
+        List<UriRoute> routes = routesByMethod.get(httpMethod.name());
+        if (routes == null) {
+            return Optional.empty();
+        }
+        final String uriStr = uri.toString();
+        BitSet candidates = routeIndexByMethod.get(httpMethod.name()).candidates(uriStr);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            Optional<UriRouteMatch> match = routes.get(i).match(uriStr);
             if (match.isPresent()) {
                 return (Optional) match;
             }
@@ -450,10 +529,20 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         if (preconditionFilterRoutes.isEmpty()) {
             return alwaysMatchesHttpFilters.get();
         }
-        List<HttpFilter> httpFilters = new ArrayList<>(alwaysMatchesFilterRoutes.size() + preconditionFilterRoutes.size());
-        httpFilters.addAll(alwaysMatchesHttpFilters.get());
         RouteMatch routeMatch = (RouteMatch) request.getAttribute(HttpAttributes.ROUTE_MATCH).filter(o -> o instanceof RouteMatch).orElse(null);
         HttpMethod method = request.getMethod();
+        if (routeMatch instanceof UriRouteMatch) {
+            UriRoute route = ((UriRouteMatch<?, ?>) routeMatch).getRoute();
+            if (route.getHttpMethod() == method) {
+                RouteFilterPlan plan = routeFilterPlans.get(route);
+                if (plan == null) {
+                    plan = addRouteFilterPlan(route, routeMatch);
+                }
+                return plan.resolve(request);
+            }
+        }
+        List<HttpFilter> httpFilters = new ArrayList<>(alwaysMatchesFilterRoutes.size() + preconditionFilterRoutes.size());
+        httpFilters.addAll(alwaysMatchesHttpFilters.get());
         URI uri = request.getUri();
         for (FilterRoute filterRoute : preconditionFilterRoutes) {
             if (routeMatch != null) {
@@ -467,6 +556,23 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         return Collections.unmodifiableList(httpFilters);
     }
 
+    private synchronized RouteFilterPlan addRouteFilterPlan(UriRoute route, RouteMatch<?> routeMatch) {
+        RouteFilterPlan plan = routeFilterPlans.get(route);
+        if (plan == null) {
+            plan = new RouteFilterPlan(
+                    route,
+                    routeMatch,
+                    alwaysMatchesHttpFilters.get(),
+                    preconditionFilterRoutes,
+                    this::matchesFilterMatcher
+            );
+            Map<UriRoute, RouteFilterPlan> plans = new IdentityHashMap<>(routeFilterPlans);
+            plans.put(route, plan);
+            routeFilterPlans = plans;
+        }
+        return plan;
+    }
+
     @SuppressWarnings("unchecked")
     @NonNull
     @Override
@@ -489,8 +595,10 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         if (CollectionUtils.isNotEmpty(routes)) {
             final String uriStr = uri.toString();
             List<UriRouteMatch<T, R>> routeMatches = new LinkedList<>();
-            for (UriRoute route : routes) {
-                Optional<UriRouteMatch> match = route.match(uriStr);
+            // the index narrows the routes down to those that could match, preserving their order
+            BitSet candidates = routeIndexByMethod.get(httpMethodName).candidates(uriStr);
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                Optional<UriRouteMatch> match = routes.get(i).match(uriStr);
                 if (predicate != null) {
                     match = match.filter(predicate);
                 }
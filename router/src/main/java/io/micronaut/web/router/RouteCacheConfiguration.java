@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+
+import static io.micronaut.web.router.RouteCacheConfiguration.PREFIX;
+
+/**
+ * Configuration of the cache of route matches used by the {@link DefaultRouter}. When enabled the routes
+ * resolved for a request to a route without variables or conditions are cached by HTTP method, path, content
+ * type and accepted types.
+ *
+ * @since 4.0.0
+ */
+@ConfigurationProperties(PREFIX)
+public class RouteCacheConfiguration implements Toggleable {
+
+    /**
+     * The configuration property.
+     */
+    public static final String PREFIX = "micronaut.server.route-cache";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default maximum number of cached entries.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private int maxSize = DEFAULT_MAX_SIZE;
+
+    /**
+     * @return Whether the route cache is enabled
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the route cache is enabled. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled True if the route cache is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The maximum number of cached entries
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of cached entries. Default value ({@value #DEFAULT_MAX_SIZE}).
+     *
+     * @param maxSize The maximum number of cached entries
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+}
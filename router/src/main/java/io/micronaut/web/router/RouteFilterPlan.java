@@ -0,0 +1,223 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.order.OrderUtil;
+import io.micronaut.core.util.PathMatcher;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.Toggleable;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.filter.FilterPatternStyle;
+import io.micronaut.http.filter.HttpFilter;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * <p>The filters that apply to a {@link UriRoute}, resolved once per route.</p>
+ *
+ * <p>For every filter route the plan records whether it always matches requests for the route, never matches them
+ * or has to be evaluated against the request path. Filter matchers and HTTP methods only depend on the route. Path
+ * patterns are resolved statically when the template has no variables, in which case the possible request paths
+ * are known, or when an Ant style pattern can be compared with the leading raw segments of the template.</p>
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class RouteFilterPlan {
+
+    private static final byte NO_MATCH = 0;
+    private static final byte MATCH = 1;
+    private static final byte DYNAMIC = 2;
+
+    private static final String SLASH = "/";
+    private static final String ANY_PATH = "**";
+
+    private final HttpMethod httpMethod;
+    private final List<HttpFilter> alwaysMatchesFilters;
+    private final FilterRoute[] filterRoutes;
+    private final byte[] decisions;
+    private final List<HttpFilter> staticFilters;
+
+    /**
+     * @param route                The route
+     * @param routeMatch           A match of the route, used to evaluate filter matchers
+     * @param alwaysMatchesFilters The filters that match every request
+     * @param filterRoutes         The filter routes that have preconditions
+     * @param filterMatcher        Evaluates the filter matchers of a filter route against the route match
+     */
+    RouteFilterPlan(UriRoute route,
+                    RouteMatch<?> routeMatch,
+                    List<HttpFilter> alwaysMatchesFilters,
+                    List<FilterRoute> filterRoutes,
+                    BiPredicate<FilterRoute, RouteMatch<?>> filterMatcher) {
+        this.httpMethod = route.getHttpMethod();
+        this.alwaysMatchesFilters = alwaysMatchesFilters;
+        this.filterRoutes = filterRoutes.toArray(new FilterRoute[0]);
+        this.decisions = new byte[this.filterRoutes.length];
+        String template = route.getUriMatchTemplate().toString();
+        boolean isStatic = true;
+        for (int i = 0; i < this.filterRoutes.length; i++) {
+            FilterRoute filterRoute = this.filterRoutes[i];
+            byte decision = filterMatcher.test(filterRoute, routeMatch) ? decide(filterRoute, template) : NO_MATCH;
+            if (decision == DYNAMIC || (decision == MATCH && filterRoute.getFilter() instanceof Toggleable)) {
+                isStatic = false;
+            }
+            decisions[i] = decision;
+        }
+        this.staticFilters = isStatic ? collect(null, null) : null;
+    }
+
+    /**
+     * Resolves the filters for the given request.
+     *
+     * @param request The request, which must have been routed to the route of this plan
+     * @return The filters
+     */
+    @NonNull
+    List<HttpFilter> resolve(@NonNull HttpRequest<?> request) {
+        if (staticFilters != null) {
+            return staticFilters;
+        }
+        return collect(request.getMethod(), request.getUri());
+    }
+
+    private List<HttpFilter> collect(HttpMethod method, URI uri) {
+        List<HttpFilter> httpFilters = new ArrayList<>(alwaysMatchesFilters.size() + filterRoutes.length);
+        httpFilters.addAll(alwaysMatchesFilters);
+        for (int i = 0; i < filterRoutes.length; i++) {
+            switch (decisions[i]) {
+                case MATCH:
+                    HttpFilter filter = filterRoutes[i].getFilter();
+                    if (!(filter instanceof Toggleable) || ((Toggleable) filter).isEnabled()) {
+                        httpFilters.add(filter);
+                    }
+                    break;
+                case DYNAMIC:
+                    filterRoutes[i].match(method, uri).ifPresent(httpFilters::add);
+                    break;
+                default:
+                    // no match
+            }
+        }
+        httpFilters.sort(OrderUtil.COMPARATOR);
+        return Collections.unmodifiableList(httpFilters);
+    }
+
+    private byte decide(FilterRoute filterRoute, String template) {
+        if (!(filterRoute instanceof DefaultFilterRoute)) {
+            return DYNAMIC;
+        }
+        Set<HttpMethod> methods = filterRoute.getFilterMethods();
+        if (methods != null && !methods.contains(httpMethod)) {
+            return NO_MATCH;
+        }
+        FilterPatternStyle patternStyle = filterRoute.getPatternStyle();
+        byte result = NO_MATCH;
+        for (String pattern : filterRoute.getPatterns()) {
+            byte decision = decide(pattern, patternStyle, template);
+            if (decision == MATCH) {
+                return MATCH;
+            } else if (decision == DYNAMIC) {
+                result = DYNAMIC;
+            }
+        }
+        return result;
+    }
+
+    private static byte decide(String pattern, FilterPatternStyle patternStyle, String template) {
+        if (template.indexOf('%') > -1 || template.indexOf('?') > -1 || template.indexOf('#') > -1) {
+            return DYNAMIC;
+        }
+        int variableIndex = template.indexOf('{');
+        if (variableIndex == -1) {
+            return decideExact(pattern, patternStyle.getPathMatcher(), template);
+        }
+        if (patternStyle != FilterPatternStyle.ANT) {
+            return DYNAMIC;
+        }
+        return decidePrefix(pattern, template.substring(0, template.lastIndexOf('/', variableIndex) + 1));
+    }
+
+    /**
+     * A template without variables only matches the raw template followed by up to two forward slashes.
+     */
+    private static byte decideExact(String pattern, PathMatcher pathMatcher, String template) {
+        if (template.length() <= 1) {
+            // root templates also match the empty path
+            return DYNAMIC;
+        }
+        try {
+            boolean matches = pathMatcher.matches(pattern, template);
+            if (matches != pathMatcher.matches(pattern, template + SLASH)
+                    || matches != pathMatcher.matches(pattern, template + SLASH + SLASH)) {
+                return DYNAMIC;
+            }
+            return matches ? MATCH : NO_MATCH;
+        } catch (RuntimeException e) {
+            // let request time matching report invalid patterns
+            return DYNAMIC;
+        }
+    }
+
+    /**
+     * Every path matching a template starts with the raw text before the first variable, so the directories of
+     * that text are known. An Ant pattern whose leading literal directories differ can never match, and a pattern
+     * made of the leading directories followed by {@code **} always matches.
+     */
+    private static byte decidePrefix(String pattern, String prefix) {
+        if (prefix.isEmpty()) {
+            return DYNAMIC;
+        }
+        if (pattern.startsWith(SLASH) != prefix.startsWith(SLASH)) {
+            return NO_MATCH;
+        }
+        String[] prefixDirs = StringUtils.tokenizeToStringArray(prefix, SLASH);
+        String[] patternDirs = StringUtils.tokenizeToStringArray(pattern, SLASH);
+        int count = Math.min(prefixDirs.length, patternDirs.length);
+        for (int i = 0; i < count; i++) {
+            String patternDir = patternDirs[i];
+            if (!isLiteral(patternDir)) {
+                if (ANY_PATH.equals(patternDir) && i == patternDirs.length - 1) {
+                    return MATCH;
+                }
+                return DYNAMIC;
+            }
+            if (!patternDir.equals(prefixDirs[i])) {
+                return NO_MATCH;
+            }
+        }
+        if (patternDirs.length < prefixDirs.length) {
+            // the path has more directories than the pattern
+            return NO_MATCH;
+        }
+        if (patternDirs.length == count + 1 && ANY_PATH.equals(patternDirs[count])) {
+            return MATCH;
+        }
+        return DYNAMIC;
+    }
+
+    private static boolean isLiteral(String patternDir) {
+        return patternDir.indexOf('*') == -1 && patternDir.indexOf('?') == -1 && patternDir.indexOf('{') == -1;
+    }
+}
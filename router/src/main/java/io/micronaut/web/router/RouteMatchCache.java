@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.http.MediaType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of the closest route matches of requests, see {@link DefaultRouter#findAllClosest(io.micronaut.http.HttpRequest)}.
+ *
+ * <p>Only results that do not depend on the request beyond the cache key may be stored, which is the case when
+ * every route matching the path has no variables and no conditions.</p>
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class RouteMatchCache {
+
+    private final Map<Key, List<UriRouteMatch<?, ?>>> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxSize The maximum number of entries
+     */
+    RouteMatchCache(int maxSize) {
+        this.cache = new ConcurrentLinkedHashMap.Builder<Key, List<UriRouteMatch<?, ?>>>()
+                .maximumWeightedCapacity(maxSize)
+                .build();
+    }
+
+    /**
+     * @param key The key
+     * @return The cached matches or {@code null}
+     */
+    @Nullable
+    List<UriRouteMatch<?, ?>> get(@NonNull Key key) {
+        List<UriRouteMatch<?, ?>> matches = cache.get(key);
+        if (matches != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return matches;
+    }
+
+    /**
+     * @param key     The key
+     * @param matches The matches to cache
+     */
+    void put(@NonNull Key key, @NonNull List<? extends UriRouteMatch<?, ?>> matches) {
+        cache.put(key, Collections.unmodifiableList(matches));
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @return The number of lookups that found an entry
+     */
+    long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that did not find an entry
+     */
+    long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * The cache key.
+     */
+    static final class Key {
+        private final String httpMethodName;
+        private final String path;
+        private final MediaType contentType;
+        private final Collection<MediaType> accept;
+        private final int hashCode;
+
+        /**
+         * @param httpMethodName The HTTP method name
+         * @param path           The request path
+         * @param contentType    The content type
+         * @param accept         The accepted types
+         */
+        Key(String httpMethodName, String path, @Nullable MediaType contentType, Collection<MediaType> accept) {
+            this.httpMethodName = httpMethodName;
+            this.path = path;
+            this.contentType = contentType;
+            this.accept = accept;
+            int result = httpMethodName.hashCode();
+            result = 31 * result + path.hashCode();
+            result = 31 * result + Objects.hashCode(contentType);
+            this.hashCode = 31 * result + accept.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hashCode == key.hashCode
+                    && path.equals(key.path)
+                    && httpMethodName.equals(key.httpMethodName)
+                    && Objects.equals(contentType, key.contentType)
+                    && accept.equals(key.accept);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * <p>A segment based index (a trie keyed by path segments) over a sorted list of {@link UriRoute} instances.</p>
+ *
+ * <p>The index is a conservative pre-filter: for a given URI it returns the positions of every route that could
+ * possibly match. Literal segments are resolved with a hash lookup, plain variables (ie. {@code {id}}) match any
+ * non-empty segment and constrained variables (ie. {@code {id:[0-9]+}}) are tested with the variable regex against
+ * a single segment only. Templates that cannot be split into segments safely (exploded, reserved or optional
+ * variables, variables that share a segment with raw text etc.) are registered on the deepest node that can be
+ * reached with their literal prefix and become candidates for any URI passing through that node.</p>
+ *
+ * <p>Candidates are returned in the order of the original route list, and callers are expected to run the full
+ * {@link io.micronaut.http.uri.UriMatchTemplate#match(String)} against each candidate, therefore the precedence and
+ * the result of matching is identical to testing every route.</p>
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class UriRouteIndex {
+
+    private static final char SLASH = '/';
+    private static final char VAR_START = '{';
+    private static final char VAR_END = '}';
+
+    private final Node root = new Node();
+    private final BitSet alwaysCandidates = new BitSet();
+    private final int size;
+
+    /**
+     * @param routes The routes, sorted in the order they should be matched
+     */
+    UriRouteIndex(@NonNull List<UriRoute> routes) {
+        this.size = routes.size();
+        for (int i = 0; i < size; i++) {
+            add(i, routes.get(i).getUriMatchTemplate().toString());
+        }
+    }
+
+    /**
+     * @return The number of indexed routes
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds the positions of all routes that can match the given URI.
+     *
+     * @param uri The URI
+     * @return The candidate positions, in ascending order
+     */
+    @NonNull
+    BitSet candidates(@NonNull String uri) {
+        BitSet result = (BitSet) alwaysCandidates.clone();
+        String path = normalize(uri);
+        int len = path.length();
+        if (len == 0 || (len == 1 && path.charAt(0) == SLASH)) {
+            // root paths are only matched by root templates which are always candidates
+            return result;
+        }
+        collect(root, path, 0, result);
+        return result;
+    }
+
+    private void add(int position, String template) {
+        List<Object> segments = parse(template);
+        if (segments == null) {
+            alwaysCandidates.set(position);
+            return;
+        }
+        Node node = root;
+        for (Object segment : segments) {
+            if (segment == Unindexed.INSTANCE) {
+                node.prefixRoutes.set(position);
+                return;
+            } else if (segment instanceof String) {
+                node = node.literals.computeIfAbsent((String) segment, s -> new Node());
+            } else if (segment == AnyVariable.INSTANCE) {
+                if (node.anyVariable == null) {
+                    node.anyVariable = new Node();
+                }
+                node = node.anyVariable;
+            } else {
+                String regex = ((RegexVariable) segment).regex;
+                Node child = node.patterns.get(regex);
+                if (child == null) {
+                    child = new Node();
+                    child.pattern = Pattern.compile(regex);
+                    node.patterns.put(regex, child);
+                }
+                node = child;
+            }
+        }
+        node.routes.set(position);
+    }
+
+    private void collect(Node node, String path, int start, BitSet result) {
+        result.or(node.prefixRoutes);
+        int len = path.length();
+        if (start > len) {
+            result.or(node.routes);
+            return;
+        }
+        int end = path.indexOf(SLASH, start);
+        if (end == -1) {
+            end = len;
+        }
+        int next = end + 1;
+        String segment = path.substring(start, end);
+        Node literal = node.literals.get(segment);
+        if (literal != null) {
+            collect(literal, path, next, result);
+        }
+        if (node.anyVariable != null && !segment.isEmpty()) {
+            collect(node.anyVariable, path, next, result);
+        }
+        if (!node.patterns.isEmpty()) {
+            for (Node child : node.patterns.values()) {
+                if (child.pattern.matcher(segment).matches()) {
+                    collect(child, path, next, result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the same normalization as {@link io.micronaut.http.uri.UriMatchTemplate#match(String)}.
+     *
+     * @param uri The URI
+     * @return The path to match
+     */
+    private static String normalize(String uri) {
+        int length = uri.length();
+        if (length > 1 && uri.charAt(length - 1) == SLASH) {
+            uri = uri.substring(0, length - 1);
+        }
+        int parameterIndex = uri.indexOf('?');
+        if (parameterIndex > -1) {
+            uri = uri.substring(0, parameterIndex);
+        }
+        if (uri.endsWith("/")) {
+            uri = uri.substring(0, uri.length() - 1);
+        }
+        return uri;
+    }
+
+    /**
+     * Splits a template into segments. Each segment is either a literal {@link String}, {@link AnyVariable},
+     * a {@link RegexVariable} or {@link Unindexed} which is always the last element.
+     *
+     * @param template The template
+     * @return The segments or {@code null} if the template can only be matched by testing it
+     */
+    @Nullable
+    private static List<Object> parse(String template) {
+        List<Object> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        Object variable = null;
+        boolean mixed = false;
+        int len = template.length();
+        int i = 0;
+        while (i < len) {
+            char c = template.charAt(i);
+            if (c == VAR_START) {
+                int end = findVariableEnd(template, i);
+                if (end == -1) {
+                    return null;
+                }
+                String expression = template.substring(i + 1, end);
+                i = end + 1;
+                char operator = expression.isEmpty() ? 0 : expression.charAt(0);
+                if (operator == '?' || operator == '&' || operator == '#' || operator == ';') {
+                    // these variables are not part of the path match
+                    continue;
+                }
+                if (variable != null || literal.length() > 0) {
+                    mixed = true;
+                } else {
+                    variable = toVariable(expression);
+                    if (variable == null) {
+                        mixed = true;
+                    }
+                }
+            } else if (c == SLASH) {
+                if (mixed) {
+                    segments.add(Unindexed.INSTANCE);
+                    return finish(segments);
+                }
+                segments.add(variable != null ? variable : literal.toString());
+                literal.setLength(0);
+                variable = null;
+                i++;
+            } else {
+                if (c == '?' || c == '#' || c == VAR_END) {
+                    mixed = true;
+                } else if (variable != null) {
+                    mixed = true;
+                }
+                literal.append(c);
+                i++;
+            }
+        }
+        if (mixed) {
+            segments.add(Unindexed.INSTANCE);
+        } else {
+            segments.add(variable != null ? variable : literal.toString());
+        }
+        return finish(segments);
+    }
+
+    @Nullable
+    private static List<Object> finish(List<Object> segments) {
+        int count = segments.size();
+        if (count == 0 || segments.get(0) == Unindexed.INSTANCE) {
+            return null;
+        }
+        // root templates match several representations of the root path
+        if (count <= 2 && "".equals(segments.get(0)) && (count == 1 || "".equals(segments.get(1)))) {
+            return null;
+        }
+        return segments;
+    }
+
+    private static int findVariableEnd(String template, int start) {
+        int depth = 0;
+        for (int i = start; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c == VAR_START) {
+                depth++;
+            } else if (c == VAR_END) {
+                depth--;
+                if (depth == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param expression The variable expression without braces
+     * @return The variable segment or {@code null} if the variable cannot be restricted to a single segment
+     */
+    @Nullable
+    private static Object toVariable(String expression) {
+        if (expression.indexOf(',') > -1) {
+            // the string form of a template merges adjacent variables into one expression
+            return null;
+        }
+        int modifierIndex = expression.indexOf(':');
+        String name = modifierIndex == -1 ? expression : expression.substring(0, modifierIndex);
+        if (name.isEmpty() || !isVariableName(name)) {
+            return null;
+        }
+        if (modifierIndex == -1) {
+            return AnyVariable.INSTANCE;
+        }
+        String modifier = expression.substring(modifierIndex + 1);
+        if (modifier.isEmpty()) {
+            return AnyVariable.INSTANCE;
+        }
+        if (modifier.chars().allMatch(Character::isDigit)) {
+            // a maximum length is applied to the default variable pattern
+            return AnyVariable.INSTANCE;
+        }
+        if (modifier.charAt(0) == '?') {
+            return null;
+        }
+        if (modifier.charAt(0) == '^') {
+            modifier = modifier.substring(1);
+        }
+        if (!isSingleSegmentRegex(modifier)) {
+            return null;
+        }
+        try {
+            Pattern.compile(modifier);
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+        return new RegexVariable(modifier);
+    }
+
+    private static boolean isVariableName(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the given regex can never match a forward slash, which guarantees that a match of the variable
+     * is confined to a single path segment.
+     *
+     * @param regex The regex
+     * @return True if the regex can only match within a segment
+     */
+    private static boolean isSingleSegmentRegex(String regex) {
+        int len = regex.length();
+        for (int i = 0; i < len; i++) {
+            char c = regex.charAt(i);
+            switch (c) {
+                case '\\':
+                    if (i + 1 >= len) {
+                        return false;
+                    }
+                    char escaped = regex.charAt(++i);
+                    if (Character.isLetter(escaped) && escaped != 'd' && escaped != 'w' && escaped != 's') {
+                        return false;
+                    }
+                    if (escaped == SLASH) {
+                        return false;
+                    }
+                    break;
+                case '[':
+                    i = findCharacterClassEnd(regex, i);
+                    if (i == -1) {
+                        return false;
+                    }
+                    break;
+                case '.':
+                case '$':
+                case SLASH:
+                    return false;
+                default:
+                    // continue
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the end of a character class that cannot match a forward slash. Negated classes, nested classes and
+     * intersections are rejected.
+     *
+     * @param regex The regex
+     * @param start The index of the opening bracket
+     * @return The index of the closing bracket or {@code -1} if the class can match a forward slash
+     */
+    private static int findCharacterClassEnd(String regex, int start) {
+        int len = regex.length();
+        int i = start + 1;
+        if (i >= len || regex.charAt(i) == '^' || regex.charAt(i) == ']') {
+            return -1;
+        }
+        // the last character of the class, which can start a range
+        int previous = -1;
+        while (i < len) {
+            char c = regex.charAt(i);
+            int current;
+            if (c == ']') {
+                return i;
+            } else if (c == '[' || (c == '&' && i + 1 < len && regex.charAt(i + 1) == '&')) {
+                return -1;
+            } else if (c == '\\') {
+                if (i + 1 >= len) {
+                    return -1;
+                }
+                char escaped = regex.charAt(++i);
+                if (escaped == 'd' || escaped == 'w' || escaped == 's') {
+                    previous = -1;
+                    i++;
+                    continue;
+                }
+                if (Character.isLetterOrDigit(escaped)) {
+                    return -1;
+                }
+                current = escaped;
+            } else if (c == '-' && previous != -1 && i + 1 < len && regex.charAt(i + 1) != ']') {
+                char to = regex.charAt(++i);
+                if (to == '\\') {
+                    if (i + 1 >= len || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                        return -1;
+                    }
+                    to = regex.charAt(++i);
+                } else if (to == '[') {
+                    return -1;
+                }
+                if (previous <= SLASH && SLASH <= to) {
+                    return -1;
+                }
+                previous = -1;
+                i++;
+                continue;
+            } else {
+                current = c;
+            }
+            if (current == SLASH) {
+                return -1;
+            }
+            previous = current;
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * A node of the index.
+     */
+    private static final class Node {
+        final Map<String, Node> literals = new HashMap<>(4);
+        final Map<String, Node> patterns = new HashMap<>(2);
+        final BitSet routes = new BitSet();
+        final BitSet prefixRoutes = new BitSet();
+        Node anyVariable;
+        Pattern pattern;
+    }
+
+    /**
+     * A variable that matches any non-empty segment.
+     */
+    private enum AnyVariable {
+        INSTANCE
+    }
+
+    /**
+     * A segment that cannot be indexed, the remaining path must be matched by the template.
+     */
+    private enum Unindexed {
+        INSTANCE
+    }
+
+    /**
+     * A variable constrained by a regular expression.
+     */
+    private static final class RegexVariable {
+        final String regex;
+
+        RegexVariable(String regex) {
+            this.regex = regex;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.micronaut.web.router
+
+import io.micronaut.http.filter.FilterPatternStyle
+import io.micronaut.http.uri.UriMatchTemplate
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class RouteFilterPlanSpec extends Specification {
+
+    static final byte NO_MATCH = 0
+    static final byte MATCH = 1
+    static final byte DYNAMIC = 2
+
+    @Unroll
+    void "test the filter pattern #pattern is resolved as #expected for template #template"() {
+        given:
+        String str = UriMatchTemplate.of(template).toString()
+
+        expect:
+        RouteFilterPlan.decide(pattern, style, str) == expected
+
+        where:
+        template             | pattern           | style                    | expected
+        '/api/v1/books'      | '/**'             | FilterPatternStyle.ANT   | MATCH
+        '/api/v1/books'      | '/api/**'         | FilterPatternStyle.ANT   | MATCH
+        '/api/v1/books'      | '/other/**'       | FilterPatternStyle.ANT   | NO_MATCH
+        '/api/v1/books'      | '/api/v1/books'   | FilterPatternStyle.ANT   | DYNAMIC
+        '/api/v1/books'      | '/api/v1/.*'      | FilterPatternStyle.REGEX | MATCH
+        '/api/v1/books'      | '/other/.*'       | FilterPatternStyle.REGEX | NO_MATCH
+        '/api/v1/books/{id}' | '/api/**'         | FilterPatternStyle.ANT   | MATCH
+        '/api/v1/books/{id}' | '/api/v1/books/*' | FilterPatternStyle.ANT   | DYNAMIC
+        '/api/v1/books/{id}' | '/api/v2/**'      | FilterPatternStyle.ANT   | NO_MATCH
+        '/api/v1/books/{id}' | '/api'            | FilterPatternStyle.ANT   | NO_MATCH
+        '/api/v1/books/{id}' | 'api/**'          | FilterPatternStyle.ANT   | NO_MATCH
+        '/api/v1/books/{id}' | '/**/books'       | FilterPatternStyle.ANT   | DYNAMIC
+        '/api/v1/books/{id}' | '/api/v1/.*'      | FilterPatternStyle.REGEX | DYNAMIC
+        '/{version}/books'   | '/api/**'         | FilterPatternStyle.ANT   | DYNAMIC
+        '/'                  | '/**'             | FilterPatternStyle.ANT   | DYNAMIC
+    }
+}
@@ -0,0 +1,97 @@
+package io.micronaut.web.router
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import spock.lang.Specification
+
+class RouteMatchCacheSpec extends Specification {
+
+    void "test the closest matches of routes without variables are cached"() {
+        given:
+        ApplicationContext context = ApplicationContext.run([
+                'spec.name': 'RouteMatchCacheSpec',
+                'micronaut.server.route-cache.enabled': true
+        ])
+        DefaultRouter router = context.getBean(DefaultRouter)
+
+        when:
+        List<UriRouteMatch> first = router.findAllClosest(HttpRequest.GET('/route-cache/static'))
+        List<UriRouteMatch> second = router.findAllClosest(HttpRequest.GET('/route-cache/static'))
+
+        then:
+        first.size() == 1
+        second.size() == 1
+        first[0].is(second[0])
+        router.routeCacheMisses == 1
+        router.routeCacheHits == 1
+
+        when:
+        List<UriRouteMatch> text = router.findAllClosest(HttpRequest.GET('/route-cache/static').accept(MediaType.TEXT_PLAIN_TYPE))
+
+        then:
+        text.isEmpty()
+        router.routeCacheMisses == 2
+        router.routeCacheHits == 1
+
+        cleanup:
+        context.close()
+    }
+
+    void "test routes with variables are not cached"() {
+        given:
+        ApplicationContext context = ApplicationContext.run([
+                'spec.name': 'RouteMatchCacheSpec',
+                'micronaut.server.route-cache.enabled': true
+        ])
+        DefaultRouter router = context.getBean(DefaultRouter)
+
+        when:
+        router.findAllClosest(HttpRequest.GET('/route-cache/items/1'))
+        List<UriRouteMatch> matches = router.findAllClosest(HttpRequest.GET('/route-cache/items/2'))
+
+        then:
+        matches.size() == 1
+        matches[0].variableValues == [id: '2']
+        router.routeCacheMisses == 2
+        router.routeCacheHits == 0
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the route cache is disabled by default"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['spec.name': 'RouteMatchCacheSpec'])
+        DefaultRouter router = context.getBean(DefaultRouter)
+
+        when:
+        router.findAllClosest(HttpRequest.GET('/route-cache/static'))
+        router.findAllClosest(HttpRequest.GET('/route-cache/static'))
+
+        then:
+        router.routeCacheMisses == 0
+        router.routeCacheHits == 0
+
+        cleanup:
+        context.close()
+    }
+
+    @Controller('/route-cache')
+    @Requires(property = 'spec.name', value = 'RouteMatchCacheSpec')
+    static class RouteCacheController {
+
+        @Get('/static')
+        String json() {
+            'json'
+        }
+
+        @Get('/items/{id}')
+        String show(String id) {
+            id
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.micronaut.web.router
+
+import io.micronaut.http.uri.UriMatchTemplate
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class UriRouteIndexSpec extends Specification {
+
+    static final List<String> TEMPLATES = [
+            '/',
+            '/books',
+            '/books/{id}',
+            '/books/{id:[0-9]+}',
+            '/books/{id}/authors',
+            '/books/{id}/authors/{name:4}',
+            '/books/list{?max,offset}',
+            '/books{.format}',
+            '/books/{id}.json',
+            '/static{/path:.*}',
+            '/files/{+path}',
+            '/optional/{name:?}',
+            '/any/{path:.*}',
+            '/case/{value:(?i)abc|def}',
+            '/nested/{a}/{b}/{c}',
+            '/x/{a:[a-z]+}{b:[0-9]+}',
+            '/range/{p:[!-0]+}',
+            '{+everything}'
+    ]
+
+    @Unroll
+    void "test the index returns every route that matches #uri"() {
+        given:
+        List<UriRoute> routes = TEMPLATES.collect { t -> Stub(UriRoute) { getUriMatchTemplate() >> UriMatchTemplate.of(t) } }
+        UriRouteIndex index = new UriRouteIndex(routes)
+
+        when:
+        BitSet candidates = index.candidates(uri)
+
+        then:
+        routes.eachWithIndex { UriRoute route, int i ->
+            if (route.uriMatchTemplate.match(uri).isPresent()) {
+                assert candidates.get(i): "Route ${route.uriMatchTemplate} matches $uri but is not a candidate"
+            }
+        }
+
+        where:
+        uri << [
+                '', '/', '/books', '/books/', '/books?max=10', '/books/1', '/books/abc', '/books/1/authors',
+                '/books/1/authors/bob', '/books/1/authors/robert', '/books/list', '/books/list?max=1',
+                '/books.json', '/books/1.json', '/static', '/static/a/b/c', '/files/a/b', '/optional',
+                '/optional/x', '/any', '/any/a/b', '/case/ABC', '/case/def', '/nested/1/2/3', '/nested/1/2',
+                '/nothing/here', '/books//', '/books/1/', '/x/ab12', '/range/!/0'
+        ]
+    }
+
+    void "test literal misses do not produce literal candidates"() {
+        given:
+        List<UriRoute> routes = ['/a/b', '/a/{id}', '/a/{id:[0-9]+}/c', '/x/y'].collect { t ->
+            Stub(UriRoute) { getUriMatchTemplate() >> UriMatchTemplate.of(t) }
+        }
+        UriRouteIndex index = new UriRouteIndex(routes)
+
+        expect:
+        index.candidates('/a/b') == bits(0, 1)
+        index.candidates('/a/z') == bits(1)
+        index.candidates('/a/12/c') == bits(2)
+        index.candidates('/a/zz/c').isEmpty()
+        index.candidates('/x/y') == bits(3)
+        index.candidates('/x/z').isEmpty()
+        index.candidates('/other').isEmpty()
+    }
+
+    @Unroll
+    void "test the index keeps #template as a candidate for #uri"() {
+        given:
+        UriMatchTemplate matchTemplate = UriMatchTemplate.of(template)
+        UriRoute route = Stub(UriRoute) { getUriMatchTemplate() >> matchTemplate }
+        UriRouteIndex index = new UriRouteIndex([route])
+
+        expect:
+        matchTemplate.match(uri).isPresent()
+        index.candidates(uri) == bits(0)
+
+        where:
+        template                   | uri
+        '/x/{a:[a-z]+}{b:[0-9]+}'  | '/x/ab12'
+        '/y/{id:[0-9]+}{id:4}'     | '/y/12ab'
+        '/range/{p:[!-0]+}'        | '/range/!/0'
+        '/range/{p:[a-z/]+}'       | '/range/a/b'
+        '/range/{p:[\\w\\--/]+}'   | '/range/a/b'
+    }
+
+    private static BitSet bits(int... positions) {
+        BitSet bitSet = new BitSet()
+        positions.each { bitSet.set(it) }
+        return bitSet
+    }
+}
@@ -24,10 +24,15 @@ import io.micronaut.inject.qualifiers.Qualifiers
 import io.micronaut.runtime.context.scope.refresh.RefreshEvent
 import io.micronaut.runtime.context.scope.refresh.RefreshScope
 import io.micronaut.scheduling.TaskExecutors
+import jakarta.annotation.PreDestroy
 import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
 import spock.util.environment.RestoreSystemProperties
 
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
 
 /**
  * @author Graeme Rocher
@@ -90,7 +95,7 @@ class RefreshScopeSpec extends Specification {
         bean.testValue() == 'test'
         bean.testConfigProps() == 'test'
         refreshScope.refreshableBeans.size() == 1
-        refreshScope.locks.size() == 1
+        refreshScope.generations.size() == 1
 
         when:
         System.setProperty("foo.bar", "bar")
@@ -102,7 +107,7 @@ class RefreshScopeSpec extends Specification {
         bean.testValue() == 'bar'
         bean.testConfigProps() == 'bar'
         refreshScope.refreshableBeans.size() == 1
-        refreshScope.locks.size() == 1
+        refreshScope.generations.size() == 1
 
         cleanup:
         beanContext?.stop()
@@ -218,6 +223,46 @@ class RefreshScopeSpec extends Specification {
         file.delete()
     }
 
+    void "test refresh defers the destruction of a bean until its calls in flight complete"() {
+        given:
+        ApplicationContext beanContext = ApplicationContext.run()
+        RefreshScope refreshScope = beanContext.getBean(RefreshScope)
+        BlockingRefreshBean bean = beanContext.getBean(BlockingRefreshBean)
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:
+        CompletableFuture<Object> call = CompletableFuture.supplyAsync { bean.await(release) }
+        new PollingConditions(timeout: 5).eventually {
+            assert BlockingRefreshBean.entered.count == 0
+        }
+        refreshScope.onRefreshEvent(new RefreshEvent())
+
+        then: "the refresh neither waits for the call nor destroys the bean it runs on"
+        !call.isDone()
+        BlockingRefreshBean.destroyed.count == 1
+        refreshScope.refreshableBeans.isEmpty()
+
+        when:
+        release.countDown()
+        def instance = call.get(5, TimeUnit.SECONDS)
+
+        then: "the bean is destroyed once the call completes"
+        BlockingRefreshBean.destroyed.count == 0
+        refreshScope.generations.isEmpty()
+
+        when: "the next call runs on a new bean"
+        BlockingRefreshBean.entered = new CountDownLatch(1)
+        BlockingRefreshBean.destroyed = new CountDownLatch(1)
+
+        then:
+        !bean.await(new CountDownLatch(0)).is(instance)
+        BlockingRefreshBean.destroyed.count == 1
+
+        cleanup:
+        release.countDown()
+        beanContext?.stop()
+    }
+
     @Refreshable
     static class RefreshBean {
 
@@ -270,6 +315,23 @@ class RefreshScopeSpec extends Specification {
         }
     }
 
+    @Refreshable
+    static class BlockingRefreshBean {
+        static CountDownLatch entered = new CountDownLatch(1)
+        static CountDownLatch destroyed = new CountDownLatch(1)
+
+        Object await(CountDownLatch release) {
+            entered.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            return this
+        }
+
+        @PreDestroy
+        void destroy() {
+            destroyed.countDown()
+        }
+    }
+
     @ConfigurationProperties('foo')
     static class MyConfig {
         String bar
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.validation.validator;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.validation.validator.constraints.ConstraintValidator;
+import io.micronaut.validation.validator.constraints.ConstraintValidatorContext;
+import io.micronaut.validation.validator.constraints.ConstraintValidatorRegistry;
+import io.micronaut.validation.validator.extractors.ValueExtractorRegistry;
+
+import javax.validation.ClockProvider;
+import javax.validation.Constraint;
+import javax.validation.Valid;
+import javax.validation.groups.Default;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The constraints of an introspected bean, resolved from its annotation metadata on the first validation. When the
+ * bean only has constraints on its properties, a validation of the default group runs the constraint validators of
+ * the properties directly and allocates nothing if the bean is valid. Otherwise, or if a constraint fails, the bean
+ * is validated by {@link DefaultValidator} as usual, which creates the violations.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class BeanValidationPlan {
+
+    private static final PropertyCheck[] NO_CHECKS = new PropertyCheck[0];
+
+    /**
+     * The plan of a bean that needs a full validation.
+     */
+    private static final BeanValidationPlan FULL_VALIDATION = new BeanValidationPlan(null);
+
+    @Nullable
+    private final PropertyCheck[] propertyChecks;
+
+    private BeanValidationPlan(@Nullable PropertyCheck[] propertyChecks) {
+        this.propertyChecks = propertyChecks;
+    }
+
+    /**
+     * Resolves the plan of a bean.
+     *
+     * @param introspection               The introspection of the bean
+     * @param constraintValidatorRegistry The constraint validator registry
+     * @return The plan
+     */
+    @NonNull
+    static BeanValidationPlan of(@NonNull BeanIntrospection<Object> introspection,
+                                 @NonNull ConstraintValidatorRegistry constraintValidatorRegistry) {
+        if (!introspection.getAnnotationTypesByStereotype(Constraint.class).isEmpty()
+                || !introspection.getIndexedProperties(Valid.class).isEmpty()) {
+            return FULL_VALIDATION;
+        }
+        Collection<BeanProperty<Object, Object>> constrainedProperties = introspection.getIndexedProperties(Constraint.class);
+        List<PropertyCheck> propertyChecks = new ArrayList<>(constrainedProperties.size());
+        for (BeanProperty<Object, Object> property : constrainedProperties) {
+            AnnotationMetadata annotationMetadata = property.getAnnotationMetadata();
+            if (annotationMetadata.hasAnnotation(Valid.class)) {
+                return FULL_VALIDATION;
+            }
+            List<ConstraintCheck> constraintChecks = new ArrayList<>();
+            for (Class<? extends Annotation> constraintType : annotationMetadata.getAnnotationTypesByStereotype(Constraint.class)) {
+                Set<AnnotationValue<? extends Annotation>> defaultGroupValues = new LinkedHashSet<>();
+                for (AnnotationValue<? extends Annotation> annotationValue : annotationMetadata.getAnnotationValuesByType(constraintType)) {
+                    Class<?>[] groups = annotationValue.classValues("groups");
+                    if (ArrayUtils.isEmpty(groups) || Arrays.asList(groups).contains(Default.class)) {
+                        defaultGroupValues.add(annotationValue);
+                    }
+                }
+                if (!defaultGroupValues.isEmpty()) {
+                    constraintChecks.add(new ConstraintCheck(
+                            constraintType,
+                            defaultGroupValues.toArray(new AnnotationValue[0]),
+                            constraintValidatorRegistry
+                    ));
+                }
+            }
+            if (!constraintChecks.isEmpty()) {
+                propertyChecks.add(new PropertyCheck(property, constraintChecks.toArray(new ConstraintCheck[0])));
+            }
+        }
+        return new BeanValidationPlan(propertyChecks.isEmpty() ? NO_CHECKS : propertyChecks.toArray(NO_CHECKS));
+    }
+
+    /**
+     * Checks the constraints of the default group on the properties of a bean.
+     *
+     * @param bean                   The bean
+     * @param context                The context passed to the constraint validators, reset for every validation
+     * @param valueExtractorRegistry The value extractor registry
+     * @return {@code true} if the bean is valid, {@code false} if it has to be validated by {@link DefaultValidator}
+     */
+    boolean isValid(@NonNull Object bean, @NonNull FastValidationContext context, @NonNull ValueExtractorRegistry valueExtractorRegistry) {
+        if (propertyChecks == null) {
+            return false;
+        }
+        if (propertyChecks.length == 0) {
+            return true;
+        }
+        if (context.rootBean != null) {
+            // the context is in use by an enclosing validation on this thread
+            return false;
+        }
+        context.rootBean = bean;
+        try {
+            for (PropertyCheck propertyCheck : propertyChecks) {
+                BeanProperty<Object, Object> property = propertyCheck.property;
+                Object value = property.get(bean);
+                Class<?> targetType;
+                if (value != null) {
+                    targetType = value.getClass();
+                    if (valueExtractorRegistry.findUnwrapValueExtractor(targetType).isPresent()) {
+                        return false;
+                    }
+                } else {
+                    targetType = property.getType();
+                }
+                for (ConstraintCheck constraintCheck : propertyCheck.constraintChecks) {
+                    if (!constraintCheck.isValid(value, targetType, context)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } finally {
+            context.rootBean = null;
+        }
+    }
+
+    /**
+     * The constraints of a property.
+     */
+    private static final class PropertyCheck {
+        final BeanProperty<Object, Object> property;
+        final ConstraintCheck[] constraintChecks;
+
+        PropertyCheck(BeanProperty<Object, Object> property, ConstraintCheck[] constraintChecks) {
+            this.property = property;
+            this.constraintChecks = constraintChecks;
+        }
+    }
+
+    /**
+     * The annotations of a constraint type on a property. The validator of the last value type is kept, since the
+     * values of a property usually have the same type.
+     */
+    private static final class ConstraintCheck {
+        final Class<? extends Annotation> constraintType;
+        final AnnotationValue<? extends Annotation>[] annotationValues;
+        final ConstraintValidatorRegistry constraintValidatorRegistry;
+        volatile ResolvedValidator resolvedValidator;
+
+        ConstraintCheck(Class<? extends Annotation> constraintType,
+                        AnnotationValue<? extends Annotation>[] annotationValues,
+                        ConstraintValidatorRegistry constraintValidatorRegistry) {
+            this.constraintType = constraintType;
+            this.annotationValues = annotationValues;
+            this.constraintValidatorRegistry = constraintValidatorRegistry;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        boolean isValid(@Nullable Object value, Class<?> targetType, ConstraintValidatorContext context) {
+            ConstraintValidator validator = validator(targetType);
+            if (validator == null) {
+                return true;
+            }
+            for (AnnotationValue annotationValue : annotationValues) {
+                if (!validator.isValid(value, annotationValue, context)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Nullable
+        @SuppressWarnings("unchecked")
+        private ConstraintValidator<? extends Annotation, Object> validator(Class<?> targetType) {
+            ResolvedValidator resolved = resolvedValidator;
+            if (resolved == null || resolved.targetType != targetType) {
+                resolved = new ResolvedValidator(
+                        targetType,
+                        constraintValidatorRegistry.findConstraintValidator(constraintType, (Class<Object>) targetType).orElse(null)
+                );
+                resolvedValidator = resolved;
+            }
+            return resolved.validator;
+        }
+    }
+
+    /**
+     * A constraint validator, and the value type it was resolved for.
+     */
+    private static final class ResolvedValidator {
+        final Class<?> targetType;
+        @Nullable
+        final ConstraintValidator<? extends Annotation, Object> validator;
+
+        ResolvedValidator(Class<?> targetType, @Nullable ConstraintValidator<? extends Annotation, Object> validator) {
+            this.targetType = targetType;
+            this.validator = validator;
+        }
+    }
+
+    /**
+     * The context of the constraint validators of a plan. It is reused by the validations of a thread. A message
+     * template set by a validator is ignored, since a failed constraint is validated again by {@link DefaultValidator}.
+     */
+    static final class FastValidationContext implements ConstraintValidatorContext {
+        private final ClockProvider clockProvider;
+        @Nullable
+        private Object rootBean;
+
+        /**
+         * @param clockProvider The clock provider
+         */
+        FastValidationContext(ClockProvider clockProvider) {
+            this.clockProvider = clockProvider;
+        }
+
+        @NonNull
+        @Override
+        public ClockProvider getClockProvider() {
+            return clockProvider;
+        }
+
+        @Nullable
+        @Override
+        public Object getRootBean() {
+            return rootBean;
+        }
+
+        @Override
+        public void messageTemplate(@Nullable String messageTemplate) {
+        }
+    }
+}
@@ -97,6 +97,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -119,6 +120,8 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
     private final ExecutionHandleLocator executionHandleLocator;
     private final MessageSource messageSource;
     private final ConversionService conversionService;
+    private final Map<BeanIntrospection<?>, BeanValidationPlan> beanValidationPlans = new ConcurrentHashMap<>();
+    private final ThreadLocal<BeanValidationPlan.FastValidationContext> fastValidationContext;
 
     /**
      * Default constructor.
@@ -135,6 +138,7 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
         this.traversableResolver = configuration.getTraversableResolver();
         this.executionHandleLocator = configuration.getExecutionHandleLocator();
         this.messageSource = configuration.getMessageSource();
+        this.fastValidationContext = ThreadLocal.withInitial(() -> new BeanValidationPlan.FastValidationContext(clockProvider));
     }
 
     @SuppressWarnings("unchecked")
@@ -164,6 +168,10 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
         if (introspection == null) {
             throw new ValidationException("Passed object [" + object + "] cannot be introspected. Please annotate with @Introspected");
         }
+        if (ArrayUtils.isEmpty(groups)
+                && beanValidationPlan(introspection).isValid(object, fastValidationContext.get(), valueExtractorRegistry)) {
+            return Collections.emptySet();
+        }
         @SuppressWarnings("unchecked")
         final Collection<? extends BeanProperty<Object, Object>> constrainedProperties =
                 ((BeanIntrospection<Object>) introspection).getIndexedProperties(Constraint.class);
@@ -193,6 +201,27 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
         return Collections.emptySet();
     }
 
+    /**
+     * Resolves the validation plan of an introspected bean on its first validation.
+     *
+     * @param introspection The introspection
+     * @return The plan
+     */
+    @NonNull
+    private BeanValidationPlan beanValidationPlan(@NonNull BeanIntrospection<?> introspection) {
+        BeanValidationPlan plan = beanValidationPlans.get(introspection);
+        if (plan == null) {
+            plan = beanValidationPlans.computeIfAbsent(introspection, this::newBeanValidationPlan);
+        }
+        return plan;
+    }
+
+    @SuppressWarnings("unchecked")
+    @NonNull
+    private BeanValidationPlan newBeanValidationPlan(@NonNull BeanIntrospection<?> introspection) {
+        return BeanValidationPlan.of((BeanIntrospection<Object>) introspection, constraintValidatorRegistry);
+    }
+
     @NonNull
     @Override
     public <T> Set<ConstraintViolation<T>> validateProperty(
@@ -0,0 +1,113 @@
+package io.micronaut.validation.validator
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.core.beans.BeanIntrospection
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.validation.Valid
+import javax.validation.constraints.Max
+import javax.validation.constraints.Min
+import javax.validation.constraints.NotBlank
+import javax.validation.constraints.Size
+
+class BeanValidationPlanSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run()
+
+    @Shared
+    DefaultValidator validator = applicationContext.getBean(DefaultValidator)
+
+    void 'test the plan of a bean is resolved on the first validation'() {
+        given:
+        BeanIntrospection<PlanBook> introspection = BeanIntrospection.getIntrospection(PlanBook)
+
+        when:
+        validator.validate(new PlanBook(title: 'Title', pages: 10))
+        BeanValidationPlan plan = validator.beanValidationPlans.get(introspection)
+        validator.validate(new PlanBook(title: 'Other', pages: 20))
+
+        then:
+        plan != null
+        validator.beanValidationPlans.get(introspection).is(plan)
+    }
+
+    void 'test a valid bean has no violations'() {
+        expect:
+        validator.validate(new PlanBook(title: 'Title', pages: 10)).isEmpty()
+        validator.validate(new PlanBook(title: 'Title', pages: 10)).is(Collections.emptySet())
+    }
+
+    void 'test an invalid bean is validated with its messages'() {
+        when:
+        def violations = validator.validate(new PlanBook(title: '', pages: 200)).sort { it.propertyPath.toString() }
+
+        then:
+        violations.size() == 2
+        violations[0].propertyPath.toString() == 'pages'
+        violations[0].message == 'must be less than or equal to 100'
+        violations[1].propertyPath.toString() == 'title'
+        violations[1].message == 'must not be blank'
+    }
+
+    void 'test the constraints of other groups are only validated with their group'() {
+        given:
+        def book = new PlanBook(title: 'Title', pages: 10, isbn: '123')
+
+        expect:
+        validator.validate(book).isEmpty()
+        validator.validate(book, Isbn)*.propertyPath*.toString() == ['isbn']
+    }
+
+    void 'test cascaded beans are validated'() {
+        when:
+        def violations = validator.validate(new PlanLibrary(name: 'Library', book: new PlanBook(title: '', pages: 10)))
+
+        then:
+        violations*.propertyPath*.toString() == ['book.title']
+
+        and:
+        validator.validate(new PlanLibrary(name: 'Library', book: new PlanBook(title: 'Title', pages: 10))).isEmpty()
+    }
+
+    void 'test optional values are unwrapped'() {
+        expect:
+        validator.validate(new PlanAuthor(name: Optional.of(''))).size() == 1
+        validator.validate(new PlanAuthor(name: Optional.of('Author'))).isEmpty()
+    }
+
+    static interface Isbn {
+    }
+
+    @Introspected
+    static class PlanBook {
+        @NotBlank
+        String title
+
+        @Min(1L)
+        @Max(100L)
+        int pages
+
+        @Size(min = 10, groups = Isbn)
+        String isbn
+    }
+
+    @Introspected
+    static class PlanLibrary {
+        @NotBlank
+        String name
+
+        @Valid
+        PlanBook book
+    }
+
+    @Introspected
+    static class PlanAuthor {
+        @NotBlank
+        Optional<String> name
+    }
+}
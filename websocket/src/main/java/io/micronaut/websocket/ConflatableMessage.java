@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.websocket;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * A message that supersedes any older message with the same key that is still waiting to be sent, for sessions with
+ * the {@link WebSocketOverflowPolicy#CONFLATE} policy. A typical key is the id of the entity the message describes
+ * the latest state of.
+ *
+ * @since 4.0.0
+ */
+@FunctionalInterface
+public interface ConflatableMessage {
+
+    /**
+     * @return The key identifying which queued messages this message supersedes
+     */
+    @NonNull
+    Object getConflationKey();
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.websocket;
+
+/**
+ * What a server WebSocket session does with outgoing messages while the remote reads slower than messages are
+ * sent. Messages are queued once the channel is no longer writable, that is once the outbound buffer went above its
+ * high water mark, and the queue is drained when the buffer went below its low water mark again. The policy applies
+ * when the queue would exceed its maximum size.
+ *
+ * @since 4.0.0
+ */
+public enum WebSocketOverflowPolicy {
+
+    /**
+     * The queue is unbounded. This is the historical behaviour.
+     */
+    BUFFER,
+
+    /**
+     * The oldest queued messages are dropped to make room for the new message.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new message is dropped.
+     */
+    DROP_NEWEST,
+
+    /**
+     * A queued message with the same {@link ConflatableMessage#getConflationKey() conflation key} as the new message
+     * is replaced by the new message. If that is not enough, the oldest queued messages are dropped.
+     */
+    CONFLATE,
+
+    /**
+     * The session is closed with {@link CloseReason#POLICY_VIOLATION} (1008).
+     */
+    CLOSE
+}
@@ -213,6 +213,27 @@ public interface WebSocketSession extends MutableConvertibleValues<Object>, Auto
         return Optional.empty();
     }
 
+    /**
+     * The number of bytes of outgoing messages waiting for the remote to catch up, see {@link WebSocketOverflowPolicy}.
+     *
+     * @return The queued bytes
+     * @since 4.0.0
+     */
+    default long getQueuedBytes() {
+        return 0;
+    }
+
+    /**
+     * The number of outgoing messages dropped or conflated because the remote did not keep up, see
+     * {@link WebSocketOverflowPolicy}.
+     *
+     * @return The dropped messages
+     * @since 4.0.0
+     */
+    default long getDroppedMessages() {
+        return 0;
+    }
+
     @Override
     void close();
 
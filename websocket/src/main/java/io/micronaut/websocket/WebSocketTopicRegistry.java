@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.websocket;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.http.MediaType;
+import io.micronaut.websocket.exceptions.WebSocketSessionException;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A registry of topics (or rooms) that server WebSocket sessions subscribe to. Unlike the filter of a
+ * {@link WebSocketBroadcaster}, broadcasting to a topic only visits the sessions subscribed to it. A session is
+ * unsubscribed from all of its topics when it closes.
+ *
+ * @since 4.0.0
+ */
+public interface WebSocketTopicRegistry {
+
+    /**
+     * Subscribes the given session to a topic. Subscribing a session twice to the same topic has no effect.
+     *
+     * @param session The session
+     * @param topic The topic
+     */
+    void subscribe(@NonNull WebSocketSession session, @NonNull String topic);
+
+    /**
+     * Unsubscribes the given session from a topic.
+     *
+     * @param session The session
+     * @param topic The topic
+     */
+    void unsubscribe(@NonNull WebSocketSession session, @NonNull String topic);
+
+    /**
+     * Broadcasts a message to all open sessions subscribed to the given topic. The message is encoded once, whatever
+     * the number of subscribers.
+     * The resulting {@link Publisher} does not start sending until subscribed to.
+     *
+     * @param topic The topic
+     * @param message The message
+     * @param mediaType The media type of the message. Used to lookup an appropriate codec via the {@link io.micronaut.http.codec.MediaTypeCodecRegistry}.
+     * @param <T> The message type
+     * @return A {@link Publisher} that either emits an error or emits the message once it has been published successfully.
+     */
+    @NonNull
+    <T> Publisher<T> broadcast(@NonNull String topic, @NonNull T message, @NonNull MediaType mediaType);
+
+    /**
+     * Broadcasts a message as JSON to all open sessions subscribed to the given topic.
+     * The resulting {@link Publisher} does not start sending until subscribed to.
+     *
+     * @param topic The topic
+     * @param message The message
+     * @param <T> The message type
+     * @return A {@link Publisher} that either emits an error or emits the message once it has been published successfully.
+     */
+    @NonNull
+    default <T> Publisher<T> broadcast(@NonNull String topic, @NonNull T message) {
+        return broadcast(topic, message, MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    /**
+     * Broadcasts a message to all open sessions subscribed to the given topic.
+     *
+     * @param topic The topic
+     * @param message The message
+     * @param mediaType The media type of the message. Used to lookup an appropriate codec via the {@link io.micronaut.http.codec.MediaTypeCodecRegistry}.
+     * @param <T> The message type
+     * @return A {@link CompletableFuture} that tracks the execution. {@link CompletableFuture#get()} and related methods will return the message on success, on error throw the underlying Exception.
+     */
+    @NonNull
+    default <T> CompletableFuture<T> broadcastAsync(@NonNull String topic, @NonNull T message, @NonNull MediaType mediaType) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Flux.from(broadcast(topic, message, mediaType)).subscribe(
+                o -> { },
+                future::completeExceptionally,
+                () -> future.complete(message)
+        );
+        return future;
+    }
+
+    /**
+     * Broadcasts a message as JSON to all open sessions subscribed to the given topic.
+     *
+     * @param topic The topic
+     * @param message The message
+     * @param <T> The message type
+     * @return A {@link CompletableFuture} that tracks the execution. {@link CompletableFuture#get()} and related methods will return the message on success, on error throw the underlying Exception.
+     */
+    @NonNull
+    default <T> CompletableFuture<T> broadcastAsync(@NonNull String topic, @NonNull T message) {
+        return broadcastAsync(topic, message, MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    /**
+     * Broadcasts a message to all open sessions subscribed to the given topic and waits until it has been written.
+     *
+     * @param topic The topic
+     * @param message The message
+     * @param mediaType The media type of the message. Used to lookup an appropriate codec via the {@link io.micronaut.http.codec.MediaTypeCodecRegistry}.
+     * @param <T> The message type
+     */
+    default <T> void broadcastSync(@NonNull String topic, @NonNull T message, @NonNull MediaType mediaType) {
+        try {
+            broadcastAsync(topic, message, mediaType).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebSocketSessionException("Broadcast Interrupted");
+        } catch (ExecutionException e) {
+            throw new WebSocketSessionException("Broadcast Failure: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Broadcasts a message as JSON to all open sessions subscribed to the given topic and waits until it has been
+     * written.
+     *
+     * @param topic The topic
+     * @param message The message
+     * @param <T> The message type
+     */
+    default <T> void broadcastSync(@NonNull String topic, @NonNull T message) {
+        broadcastSync(topic, message, MediaType.APPLICATION_JSON_TYPE);
+    }
+}
@@ -18,6 +18,7 @@ package io.micronaut.websocket.annotation;
 import io.micronaut.context.annotation.AliasFor;
 import io.micronaut.context.annotation.DefaultScope;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.websocket.WebSocketOverflowPolicy;
 import io.micronaut.websocket.WebSocketVersion;
 import jakarta.inject.Singleton;
 
@@ -68,4 +69,30 @@ public @interface ServerWebSocket {
      * @return A csv of the supported subprotocols
      */
     String subprotocols() default StringUtils.EMPTY_STRING;
+
+    /**
+     * @return What to do with outgoing messages when the remote does not keep up
+     * @since 4.0.0
+     */
+    WebSocketOverflowPolicy overflowPolicy() default WebSocketOverflowPolicy.BUFFER;
+
+    /**
+     * @return The maximum size in bytes of the queued outgoing messages, before the {@link #overflowPolicy()} applies
+     * @since 4.0.0
+     */
+    int maxQueuedBytes() default 1024 * 1024;
+
+    /**
+     * @return The size in bytes of the outbound buffer above which outgoing messages are queued, or -1 to use the
+     * default of the channel
+     * @since 4.0.0
+     */
+    int writeBufferHighWaterMark() default -1;
+
+    /**
+     * @return The size in bytes of the outbound buffer below which queued messages are sent again, or -1 to use the
+     * default of the channel
+     * @since 4.0.0
+     */
+    int writeBufferLowWaterMark() default -1;
 }